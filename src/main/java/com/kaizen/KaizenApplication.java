@@ -1,8 +1,8 @@
 package com.kaizen;
 
+import com.kaizen.security.jwt.CachedJWKSource;
 import com.kaizen.security.jwt.JwtConfiguration;
 import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
@@ -10,13 +10,20 @@ import com.nimbusds.jose.util.DefaultResourceRetriever;
 import com.nimbusds.jose.util.ResourceRetriever;
 import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
 import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
 
 
 import static com.nimbusds.jose.JWSAlgorithm.RS256;
@@ -29,7 +36,13 @@ import static com.nimbusds.jose.JWSAlgorithm.RS256;
  * @since 2021-10-15
  */
 @SpringBootApplication
+@EnableScheduling
 public class KaizenApplication {
+	/**
+	 * The logger of the application's start up.
+	 */
+	private static final Logger LOGGER = LoggerFactory.getLogger(KaizenApplication.class);
+
 	/**
 	 * Represents the JWT configuration used by the application.
 	 */
@@ -46,17 +59,37 @@ public class KaizenApplication {
 	}
 
 	/**
-	 * Create a configurable JWT Processor.
+	 * Create the source of the JWK set that signs the id tokens, loading the JWK
+	 * set at the start of application. If it could not be loaded, the
+	 * application still starts and the JWK set is loaded in the background once
+	 * a token is verified.
 	 * 
 	 * @throws MalformedURLException if malformed URL has occurred.
-	 * @return a configurable JWT Processor
+	 * @return a JWK source
 	 */
 	@Bean
-	public ConfigurableJWTProcessor<SecurityContext> configurableJWTProcessor() throws MalformedURLException {
+	public CachedJWKSource jwkSource() throws MalformedURLException {
 		ResourceRetriever resourceRetriever = new DefaultResourceRetriever(jwtConfiguration.getConnectionTimeout(),
 				jwtConfiguration.getReadTimeout());
 		URL jwkSetURL = new URL(jwtConfiguration.getJwkUrl());
-		JWKSource<SecurityContext> keySource = new RemoteJWKSet<>(jwkSetURL, resourceRetriever);
+		CachedJWKSource keySource = new CachedJWKSource(jwkSetURL, resourceRetriever,
+				Duration.ofMillis(jwtConfiguration.getJwkMinRefreshIntervalMillis()), Clock.systemUTC());
+		try {
+			keySource.refresh();
+		} catch (IOException | ParseException e) {
+			LOGGER.warn("Failed to load the JWK set from {}", jwkSetURL, e);
+		}
+		return keySource;
+	}
+
+	/**
+	 * Create a configurable JWT Processor.
+	 * 
+	 * @param keySource the source of the JWK set that signs the id tokens.
+	 * @return a configurable JWT Processor
+	 */
+	@Bean
+	public ConfigurableJWTProcessor<SecurityContext> configurableJWTProcessor(JWKSource<SecurityContext> keySource) {
 		ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
 		JWSKeySelector<SecurityContext> keySelector = new JWSVerificationKeySelector<>(RS256, keySource);
 		jwtProcessor.setJWSKeySelector(keySelector);
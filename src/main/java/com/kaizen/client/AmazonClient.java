@@ -6,19 +6,39 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.beans.factory.annotation.Value;
 
 import javax.annotation.PostConstruct;
-import java.io.File;
-import java.io.FileOutputStream;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
-import java.util.Date;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * {@code AmazonClient} is the {@link ObjectStore} that keeps the files in an S3
+ * bucket with public read access.
+ *
+ * <p>
+ * Uploads are streamed from the multipart file's input stream with its known
+ * length, so no temporary file is written. Files above the multipart
+ * threshold are uploaded in parts, and uploads run on a bounded pool of
+ * threads so that request threads are not held for the round trip to S3.
  *
  * @author Tan Jie En
  * @version 1.0
@@ -26,10 +46,15 @@ import java.util.Date;
  */
 
 @Component
-public class AmazonClient {
+@ConditionalOnProperty(name = "objectStore.type", havingValue = "s3", matchIfMissing = true)
+public class AmazonClient implements ObjectStore {
 
     private AmazonS3 s3client;
 
+    private TransferManager transferManager;
+
+    private ThreadPoolExecutor uploadExecutor;
+
     @Value("${amazonPropertiesImage.endpointUrl}")
     private String endpointUrl;
     @Value("${amazonPropertiesImage.bucketName}")
@@ -38,48 +63,96 @@ public class AmazonClient {
     private String accessKey;
     @Value("${amazonPropertiesImage.secretKey}")
     private String secretKey;
+    @Value("${amazonPropertiesImage.uploadThreads:4}")
+    private int uploadThreads;
+    @Value("${amazonPropertiesImage.uploadQueueCapacity:64}")
+    private int uploadQueueCapacity;
+    @Value("${amazonPropertiesImage.multipartThresholdBytes:16777216}")
+    private long multipartThresholdBytes;
 
     @PostConstruct
     private void initializeAmazon() {
         BasicAWSCredentials creds = new BasicAWSCredentials(accessKey, secretKey);
         this.s3client = AmazonS3Client.builder().withRegion("ap-southeast-1")
                 .withCredentials(new AWSStaticCredentialsProvider(creds)).build();
+        this.transferManager = TransferManagerBuilder.standard().withS3Client(s3client)
+                .withMultipartUploadThreshold(multipartThresholdBytes)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads)).build();
+        this.uploadExecutor = new ThreadPoolExecutor(uploadThreads, uploadThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(uploadQueueCapacity));
     }
 
-    public String uploadFile(MultipartFile multipartFile) {
-        String fileUrl = "";
+    @PreDestroy
+    private void shutdown() {
+        uploadExecutor.shutdownNow();
+        transferManager.shutdownNow(false);
+    }
+
+    /**
+     * Upload the specific file to the bucket on the upload threads, failing if
+     * too many uploads are queued.
+     *
+     * @param multipartFile the file to upload, which must stay readable until
+     *                      the upload completes.
+     * @return the URL of the uploaded file once uploaded.
+     */
+    @Override
+    public CompletableFuture<String> uploadFileAsync(MultipartFile multipartFile) {
+        String fileName = ObjectStore.generateFileName(multipartFile);
         try {
-            File file = convertMultiPartToFile(multipartFile);
-            String fileName = generateFileName(multipartFile);
-            fileUrl = endpointUrl + "/" + bucketName + "/" + fileName;
-            uploadFileTos3bucket(fileName, file);
-            file.delete();
-        } catch (Exception e) {
-            e.printStackTrace();
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    uploadFileTos3bucket(fileName, multipartFile);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+                return endpointUrl + "/" + bucketName + "/" + fileName;
+            }, uploadExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return fileUrl;
     }
 
-    private File convertMultiPartToFile(MultipartFile file) throws IOException {
-        File convFile = new File(file.getOriginalFilename());
-        FileOutputStream fos = new FileOutputStream(convFile);
-        fos.write(file.getBytes());
-        fos.close();
-        return convFile;
+    @Override
+    public String putFile(String fileName, InputStream inputStream, long contentLength, String contentType)
+            throws IOException {
+        try {
+            uploadStreamTos3bucket(fileName, inputStream, contentLength, contentType);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        }
+        return endpointUrl + "/" + bucketName + "/" + fileName;
     }
 
-    private String generateFileName(MultipartFile multiPart) {
-        return new Date().getTime() + "-" + multiPart.getOriginalFilename().replace(" ", "_");
+    @Override
+    public InputStream openFile(String fileUrl) throws IOException {
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+        return s3client.getObject(bucketName, fileName).getObjectContent();
+    }
+
+    private void uploadFileTos3bucket(String fileName, MultipartFile multipartFile)
+            throws IOException, InterruptedException {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            uploadStreamTos3bucket(fileName, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        }
     }
 
-    private void uploadFileTos3bucket(String fileName, File file) {
-        s3client.putObject(
-                new PutObjectRequest(bucketName, fileName, file).withCannedAcl(CannedAccessControlList.PublicRead));
+    private void uploadStreamTos3bucket(String fileName, InputStream inputStream, long contentLength,
+            String contentType) throws InterruptedException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        transferManager.upload(new PutObjectRequest(bucketName, fileName, inputStream, metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead)).waitForUploadResult();
     }
 
-    public String deleteFileFromS3Bucket(String fileUrl) {
+    @Override
+    public void deleteFile(String fileUrl) {
         String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
         s3client.deleteObject(new DeleteObjectRequest(bucketName, fileName));
-        return "Successfully deleted";
     }
 }
@@ -0,0 +1,169 @@
+package com.kaizen.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * {@code LocalObjectStore} is the {@link ObjectStore} that keeps the files in a
+ * directory of the local filesystem, served by
+ * {@link com.kaizen.controller.LocalObjectController}. It needs no credentials,
+ * so it is used by development, on-premise deployments and load tests.
+ *
+ * <p>
+ * Uploads are moved into the directory from the multipart's temporary file
+ * when possible, and are written to a temporary name first so that a file is
+ * never served half written.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-19
+ */
+@Component
+@ConditionalOnProperty(name = "objectStore.type", havingValue = "local")
+public class LocalObjectStore implements ObjectStore {
+    /**
+     * The logger of the failed uploads.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(LocalObjectStore.class);
+
+    /**
+     * Represents the names that files can have in the store, so that a name
+     * cannot escape the directory.
+     */
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    /**
+     * Represents the directory of the files.
+     */
+    private final Path directory;
+
+    /**
+     * Represents the URL that the files are served under.
+     */
+    private final String baseUrl;
+
+    /**
+     * Create a local object store with the specific directory and base URL,
+     * creating the directory if it does not exist.
+     *
+     * @param directory the directory of the files.
+     * @param baseUrl   the URL that the files are served under.
+     * @throws IOException if the directory could not be created.
+     */
+    public LocalObjectStore(@Value("${objectStore.local.directory:objects}") String directory,
+            @Value("${objectStore.local.baseUrl:/objects}") String baseUrl) throws IOException {
+        this.directory = Files.createDirectories(Paths.get(directory)).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Upload the specific file to the directory on the calling thread, as
+     * writing to the local disk does not wait for the network.
+     *
+     * @param multipartFile the file to upload.
+     * @return the URL of the uploaded file, or a failed future if the file could
+     *         not be stored.
+     */
+    @Override
+    public CompletableFuture<String> uploadFileAsync(MultipartFile multipartFile) {
+        try {
+            return CompletableFuture.completedFuture(store(multipartFile));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to store {} in {}", multipartFile.getOriginalFilename(), directory, e);
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+    }
+
+    @Override
+    public String putFile(String fileName, InputStream inputStream, long contentLength, String contentType)
+            throws IOException {
+        Path path = resolve(fileName).orElseThrow(() -> new IOException("Invalid file name: " + fileName));
+        Path temporary = directory.resolve("." + fileName + ".tmp");
+        try {
+            Files.copy(inputStream, temporary, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return baseUrl + "/" + fileName;
+    }
+
+    @Override
+    public InputStream openFile(String fileUrl) throws IOException {
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+        Path path = find(fileName).orElseThrow(() -> new NoSuchFileException(fileName));
+        return Files.newInputStream(path);
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
+        try {
+            Optional<Path> path = resolve(fileName);
+            if (path.isPresent()) {
+                Files.deleteIfExists(path.get());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the path of the file with the specific name, if it is in the store.
+     *
+     * @param fileName the name of the file.
+     * @return the path of the file, or empty if the name is invalid or the file
+     *         does not exist.
+     */
+    public Optional<Path> find(String fileName) {
+        return resolve(fileName).filter(Files::isRegularFile);
+    }
+
+    /**
+     * Move the specific file into the directory under a unique name.
+     *
+     * @param multipartFile the file to store.
+     * @return the URL of the stored file.
+     * @throws IOException if the file could not be stored.
+     */
+    private String store(MultipartFile multipartFile) throws IOException {
+        String fileName = ObjectStore.generateFileName(multipartFile);
+        Path temporary = directory.resolve("." + fileName + ".tmp");
+        try {
+            multipartFile.transferTo(temporary);
+            Files.move(temporary, directory.resolve(fileName), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return baseUrl + "/" + fileName;
+    }
+
+    /**
+     * Resolve the path of the file with the specific name in the directory.
+     *
+     * @param fileName the name of the file.
+     * @return the path of the file, or empty if the name is invalid.
+     */
+    private Optional<Path> resolve(String fileName) {
+        if (!FILE_NAME.matcher(fileName).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(directory.resolve(fileName));
+    }
+}
@@ -0,0 +1,95 @@
+package com.kaizen.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.kaizen.util.Sha256;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * {@code ObjectStore} is a store of the files uploaded to the application, such
+ * as the employees' profile images. The store is chosen by the
+ * {@code objectStore.type} property, {@code s3} by default or {@code local}.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-19
+ */
+public interface ObjectStore {
+    /**
+     * Upload the specific file to the store without holding the calling thread.
+     *
+     * @param multipartFile the file to upload, which must stay readable until
+     *                      the upload completes.
+     * @return the URL of the uploaded file once uploaded, or a failed future if
+     *         the upload failed.
+     */
+    CompletableFuture<String> uploadFileAsync(MultipartFile multipartFile);
+
+    /**
+     * Write the specific content to the store under the specific name, waiting
+     * for the write.
+     *
+     * @param fileName      the name of the file, which must be unique.
+     * @param inputStream   the content of the file.
+     * @param contentLength the length of the content in bytes.
+     * @param contentType   the media type of the content.
+     * @return the URL of the written file.
+     * @throws IOException if the file could not be written.
+     */
+    String putFile(String fileName, InputStream inputStream, long contentLength, String contentType)
+            throws IOException;
+
+    /**
+     * Open the content of the file with the specific URL in the store.
+     *
+     * @param fileUrl the URL of the file.
+     * @return the content of the file, which the caller must close.
+     * @throws IOException if the file could not be opened.
+     */
+    InputStream openFile(String fileUrl) throws IOException;
+
+    /**
+     * Delete the file with the specific URL from the store.
+     *
+     * @param fileUrl the URL of the file to delete.
+     */
+    void deleteFile(String fileUrl);
+
+    /**
+     * Generate a unique name in the store for the specific file, keeping its
+     * original name so that the URL is readable.
+     *
+     * @param multipartFile the file to name.
+     * @return the unique name of the file.
+     */
+    static String generateFileName(MultipartFile multipartFile) {
+        String originalFilename = multipartFile.getOriginalFilename();
+        String name = originalFilename == null ? "" : originalFilename.replaceAll("[^A-Za-z0-9._-]", "_");
+        return System.currentTimeMillis() + "-" + UUID.randomUUID() + "-" + name;
+    }
+
+    /**
+     * Hash the content of the specific file, reading it once from the copy
+     * spooled by the servlet container so that nothing is sent to the store.
+     *
+     * @param multipartFile the file to hash.
+     * @return the SHA-256 hash of the file's content, in hexadecimal.
+     * @throws IOException if the file could not be read.
+     */
+    static String hashContent(MultipartFile multipartFile) throws IOException {
+        MessageDigest digest = Sha256.newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return Sha256.toHex(digest.digest());
+    }
+}
@@ -3,19 +3,26 @@ package com.kaizen.controller;
 import com.kaizen.exceptions.NullValueException;
 import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
+import com.kaizen.model.dto.ArtBulkErrorDTO;
+import com.kaizen.model.dto.ArtBulkResultDTO;
 import com.kaizen.model.dto.ArtDTO;
 import com.kaizen.model.entity.Art;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
+import com.kaizen.service.art.ArtBulkResult;
 import com.kaizen.service.art.ArtService;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.employee.EmployeeService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import javax.validation.Valid;
@@ -81,17 +88,15 @@ public class ArtController {
      * through Art's service.
      * 
      * @param compId the Company's Id to search for.
+     * @exception NullValueException       If the compId is null.
+     * @exception ObjectNotExistsException If the company with the specific id is
+     *                                     not in the repository.
      * @return the list of latest ART DTOs.
      */
     @GetMapping(value = "/latest", params = { "compId" })
-    public List<ArtDTO> getlatestArts(@RequestParam String compId) {
-        List<ArtDTO> artDTOs = new ArrayList<>();
-        for (Art art : artService.listLatestArts()) {
-            if (!art.getCompany().getUEN().equals(compId))
-                continue;
-            artDTOs.add(convertToDTO(art));
-        }
-        return artDTOs;
+    public List<ArtDTO> getlatestArts(@RequestParam String compId)
+            throws NullValueException, ObjectNotExistsException {
+        return artService.listLatestArtDTOsByCompany(compId);
     }
 
     /**
@@ -115,6 +120,62 @@ public class ArtController {
         return convertToDTO(artService.addArt(art));
     }
 
+    /**
+     * Create the ARTs of the specific DTOs done within the specific company through
+     * ART's service. The rows that are not valid are returned with the reason and
+     * do not stop the other rows.
+     * 
+     * @param compId  the id of company to set in the ARTs.
+     * @param artDTOs the ART DTOs to create from.
+     * @exception NullValueException       If the compId is null.
+     * @exception ObjectNotExistsException If the company with the specific id is
+     *                                     not in the repository.
+     * @return the created ART DTOs and the rows that were not created.
+     */
+    @PostMapping(value = "/bulk", params = { "compId" }, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ArtBulkResultDTO createArts(@RequestParam String compId, @RequestBody List<ArtDTO> artDTOs)
+            throws NullValueException, ObjectNotExistsException {
+        return convertToDTO(artService.addArts(compId, artDTOs), new ArrayList<>(), null);
+    }
+
+    /**
+     * Create the ARTs of the specific CSV done within the specific company through
+     * ART's service. Each line is {@code employeeWP,dateOfTest,result}, with an
+     * optional header line, the date in ISO format and the result as
+     * {@code true}/{@code false} or {@code positive}/{@code negative}. The rows
+     * that cannot be read or are not valid are returned with the reason and do
+     * not stop the other rows.
+     * 
+     * @param compId the id of company to set in the ARTs.
+     * @param csv    the CSV of the ARTs to create from.
+     * @exception NullValueException       If the compId is null.
+     * @exception ObjectNotExistsException If the company with the specific id is
+     *                                     not in the repository.
+     * @return the created ART DTOs and the rows that were not created.
+     */
+    @PostMapping(value = "/bulk", params = { "compId" }, consumes = "text/csv")
+    public ArtBulkResultDTO createArtsFromCsv(@RequestParam String compId, @RequestBody String csv)
+            throws NullValueException, ObjectNotExistsException {
+        List<ArtDTO> artDTOs = new ArrayList<>();
+        List<Integer> rows = new ArrayList<>();
+        List<ArtBulkErrorDTO> errors = new ArrayList<>();
+        String[] lines = csv.split("\\r?\\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || (i == 0 && line.toLowerCase().startsWith("employeewp"))) {
+                continue;
+            }
+            String[] values = line.split(",", -1);
+            try {
+                artDTOs.add(parseCsvRow(values));
+                rows.add(i + 1);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                errors.add(new ArtBulkErrorDTO(i + 1, values[0].trim(), e.getMessage()));
+            }
+        }
+        return convertToDTO(artService.addArts(compId, artDTOs), errors, rows);
+    }
+
     /**
      * Delete the ART with the specific id through ART's service.
      * 
@@ -139,6 +200,60 @@ public class ArtController {
                 employee.getWorkPermitNumber(), employee.getName(), art.getCompany().getUEN());
     }
 
+    /**
+     * Create a bulk result's DTO from the specific bulk result, together with the
+     * specific rows that were not read.
+     * 
+     * @param result     the result of the bulk creation.
+     * @param readErrors the rows that were not read.
+     * @param rows       the row of each DTO that was read, or null if the DTOs
+     *                   are the rows.
+     * @return the DTO of the specific bulk result, with the errors ordered by row.
+     */
+    private ArtBulkResultDTO convertToDTO(ArtBulkResult result, List<ArtBulkErrorDTO> readErrors,
+            List<Integer> rows) {
+        List<ArtDTO> created = new ArrayList<>();
+        for (Art art : result.getCreated()) {
+            created.add(convertToDTO(art));
+        }
+        List<ArtBulkErrorDTO> errors = new ArrayList<>(readErrors);
+        for (ArtBulkErrorDTO error : result.getErrors()) {
+            if (rows != null) {
+                error.setRow(rows.get(error.getRow() - 1));
+            }
+            errors.add(error);
+        }
+        errors.sort(Comparator.comparingInt(ArtBulkErrorDTO::getRow));
+        return new ArtBulkResultDTO(created, errors);
+    }
+
+    /**
+     * Create an ART DTO from the specific values of a CSV row.
+     * 
+     * @param values the values of the row.
+     * @exception IllegalArgumentException If the row does not have 3 values or the
+     *                                     result is not valid.
+     * @exception DateTimeParseException   If the date of test is not valid.
+     * @return the ART DTO of the row.
+     */
+    private ArtDTO parseCsvRow(String[] values) throws IllegalArgumentException, DateTimeParseException {
+        if (values.length != 3) {
+            throw new IllegalArgumentException("Row should have 3 values but has " + values.length);
+        }
+        ArtDTO artDTO = new ArtDTO();
+        artDTO.setEmployeeWP(values[0].trim());
+        artDTO.setDateOfTest(LocalDate.parse(values[1].trim()));
+        String result = values[2].trim().toLowerCase();
+        if (result.equals("true") || result.equals("positive")) {
+            artDTO.setResult(true);
+        } else if (result.equals("false") || result.equals("negative")) {
+            artDTO.setResult(false);
+        } else {
+            throw new IllegalArgumentException("ART's Result is not valid: " + values[2].trim());
+        }
+        return artDTO;
+    }
+
     /**
      * Create an ART from the specific ART DTO.
      * 
@@ -148,7 +263,7 @@ public class ArtController {
     private Art convertToEntity(ArtDTO artDTO) {
         Art art = new Art();
         art.setDateOfTest(artDTO.getDateOfTest());
-        art.setExpiryDate(artDTO.getDateOfTest().plusDays(7));
+        art.setExpiryDate(artDTO.getDateOfTest().plusDays(ArtService.ART_VALID_DAYS));
         art.setResult(artDTO.isResult());
         return art;
     }
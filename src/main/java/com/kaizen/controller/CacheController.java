@@ -0,0 +1,66 @@
+package com.kaizen.controller;
+
+import com.kaizen.security.jwt.AwsCognitoIdTokenProcessor;
+import com.kaizen.security.jwt.VerifiedTokenCacheStats;
+import com.kaizen.service.company.CompanyCacheStats;
+import com.kaizen.service.company.CompanyService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * {@code CacheController} is a rest controller for the counters of the
+ * application's in-memory caches, so that their hit rates can be monitored.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-17
+ */
+@RestController
+@RequestMapping("/api/caches")
+public class CacheController {
+    /**
+     * The AWS Cognito id token's processor that caches the verified tokens.
+     */
+    private final AwsCognitoIdTokenProcessor awsCognitoIdTokenProcessor;
+
+    /**
+     * The company's service that caches the companies.
+     */
+    private final CompanyService companyService;
+
+    /**
+     * Create a cache's controller with the specific id token's processor and
+     * company's service.
+     * 
+     * @param awsCognitoIdTokenProcessor the id token's processor used by the
+     *                                   application.
+     * @param companyService             the company's service used by the
+     *                                   application.
+     */
+    @Autowired
+    public CacheController(AwsCognitoIdTokenProcessor awsCognitoIdTokenProcessor, CompanyService companyService) {
+        this.awsCognitoIdTokenProcessor = awsCognitoIdTokenProcessor;
+        this.companyService = companyService;
+    }
+
+    /**
+     * Get the counters of the cache of the verified id tokens.
+     * 
+     * @return the counters of the cache, including its hit rate.
+     */
+    @GetMapping("/tokens")
+    public VerifiedTokenCacheStats getTokenCacheStats() {
+        return awsCognitoIdTokenProcessor.getCacheStats();
+    }
+
+    /**
+     * Get the counters of the cache of the companies.
+     * 
+     * @return the counters of the cache, including its hit rate.
+     */
+    @GetMapping("/companies")
+    public CompanyCacheStats getCompanyCacheStats() {
+        return companyService.getCacheStats();
+    }
+}
@@ -1,13 +1,13 @@
 package com.kaizen.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
-import com.kaizen.model.entity.News;
-import com.kaizen.model.entity.Updates;
 import com.kaizen.service.datascraper.NewsService;
+import com.kaizen.service.datascraper.ScrapBoxSnapshot;
 import com.kaizen.service.updates.UpdatesService;
 
 /**
@@ -47,22 +47,38 @@ public class DashboardController {
    }
 
    /**
-    * Get the latest construction's updates on COVID-19.
+    * Get the latest construction's updates on COVID-19 from their published
+    * snapshot. A request whose {@code If-None-Match} matches the snapshot's ETag
+    * gets Http Status Not Modified(304) without a body.
     * 
-    * @return the list of construction's updates for COVID-19.
+    * @return the list of construction's updates for COVID-19 as JSON.
     */
    @GetMapping
-   public List<Updates> getUpdates() {
-      return updatesService.getUpdates();
+   public ResponseEntity<byte[]> getUpdates() {
+      return toResponse(updatesService.getSnapshot());
    }
 
    /**
-    * Get the latest news on COVID-19.
+    * Get the latest news on COVID-19 from their published snapshot. A request
+    * whose {@code If-None-Match} matches the snapshot's ETag gets Http Status Not
+    * Modified(304) without a body.
     * 
-    * @return the list of COVID-19's news.
+    * @return the list of COVID-19's news as JSON.
     */
    @GetMapping("/news")
-   public List<News> getNews() {
-      return newsService.getNews();
+   public ResponseEntity<byte[]> getNews() {
+      return toResponse(newsService.getSnapshot());
+   }
+
+   /**
+    * Create the response of the specific snapshot, with its JSON and ETag. The
+    * conditional request is answered by Spring from the ETag.
+    * 
+    * @param snapshot the snapshot to respond with.
+    * @return the response of the snapshot.
+    */
+   private ResponseEntity<byte[]> toResponse(ScrapBoxSnapshot<?> snapshot) {
+      return ResponseEntity.ok().eTag(snapshot.getEtag()).cacheControl(CacheControl.noCache())
+            .contentType(MediaType.APPLICATION_JSON).body(snapshot.getJson());
    }
 }
\ No newline at end of file
@@ -6,12 +6,14 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.validation.Valid;
 
 import com.kaizen.exceptions.NullValueException;
 import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
+import com.kaizen.model.ImageSize;
 import com.kaizen.model.dto.EmployeeDTO;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.service.company.CompanyService;
@@ -63,14 +65,18 @@ public class EmployeeController {
 
     /**
      * Get all employees through employee's service.
-     * @param compId the company's id.
+     * @param compId    the company's id.
+     * @param imageSize the size of the profile images, the original if not given.
      * @return the list of all employees by company.
      */
     @GetMapping(params = { "compId" })
-    public List<EmployeeDTO> getEmployees(@RequestParam String compId) {
+    public List<EmployeeDTO> getEmployees(@RequestParam String compId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageSize imageSize) {
         List<EmployeeDTO> employeeList = new ArrayList<>();
-        for(Employee em : employeeService.listEmployeesByCompany(compId)){
-            employeeList.add(convertToDTO(em));
+        List<Employee> employees = employeeService.listEmployeesByCompany(compId);
+        Map<String, String> profileImageURLs = imageService.getProfileImageURLs(employees, imageSize);
+        for(Employee em : employees){
+            employeeList.add(convertToDTO(em, profileImageURLs));
         }
         return employeeList;
     }
@@ -142,15 +148,16 @@ public class EmployeeController {
      /**
      * Create an Employee DTO from the specific Employee.
      * 
-     * @param employee the Employee to to create Employee DTO.
+     * @param employee         the Employee to to create Employee DTO.
+     * @param profileImageURLs the profile image's URLs keyed by employee's id.
      * @return the DTO of the specific Employee.
      */
-    private EmployeeDTO convertToDTO(Employee employee) {
+    private EmployeeDTO convertToDTO(Employee employee, Map<String, String> profileImageURLs) {
         return new EmployeeDTO(employee.getWorkPermitNumber(), employee.getName(), employee.getPassportNumber(),
                 employee.getWorkId(), employee.getEmployeeRole(), employee.getLevy(),
                 employee.getWorkPermitDateOfIssue(), employee.getWorkPermitExpiryDate(),
                 employee.getWorkContactNumber(), employee.getWorkSiteLocation(), employee.getSingaporeAddress(),
                 employee.isVaccStatus(), employee.isForSharing(), employee.isShared(),
-                employee.getCompany().getName(), imageService.getProfileImageURL(employee), employee.getDescription());
+                employee.getCompany().getName(), profileImageURLs.get(employee.getWorkPermitNumber()), employee.getDescription());
     }
 }
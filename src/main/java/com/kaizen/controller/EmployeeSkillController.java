@@ -3,14 +3,19 @@ package com.kaizen.controller;
 import com.kaizen.exceptions.NullValueException;
 import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
+import com.kaizen.model.ImageSize;
 import com.kaizen.model.dto.EmployeeSkillDTO;
+import com.kaizen.model.dto.SkillSupplyDTO;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.entity.EmployeeSkill;
+import com.kaizen.model.entity.EmployeeSkillKey;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.company.CompanyServiceImpl;
 import com.kaizen.service.employee.EmployeeService;
 import com.kaizen.service.employeeSkill.EmployeeSkillService;
+import com.kaizen.service.employeeSkill.EmployeeSkillSortOrder;
+import com.kaizen.service.employeeSkill.SkillSupply;
 import com.kaizen.service.image.ImageService;
 import com.kaizen.service.skill.SkillService;
 
@@ -87,32 +92,84 @@ public class EmployeeSkillController {
      * Get all employee's skills that do not belong to a certain company through employee's skill's service.
      *
      *  @param compId the company's id.
+     * @param imageSize the size of the profile images, the original if not given.
      * @return the list of all employee's skills not from the specified company.
      */
     @GetMapping(value = "/all", params = { "compId" } )
-    public List<EmployeeSkillDTO> getAllEmployeeSkillsNotFromCompany(@RequestParam String compId) {
-        List<EmployeeSkillDTO> employeeSkillList = new ArrayList<>();
-        for(EmployeeSkill em : employeeSkillService.listEmployeeSkills()){
-            if(em.getCompany().getUEN().equals(compId)) continue;
-            employeeSkillList.add(convertToDTO(em));
+    public List<EmployeeSkillDTO> getAllEmployeeSkillsNotFromCompany(@RequestParam String compId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageSize imageSize) {
+        return convertToDTOs(employeeSkillService.listEmployeeSkillsNotFromCompany(compId), imageSize);
+    }
+
+    /**
+     * Get a page of employee's skills that do not belong to a certain company through employee's skill's service.
+     * The next page is requested with the skill's id and employee's id of the last employee's skill of the page.
+     *
+     * @param compId      the company's id.
+     * @param size        the maximum number of employee's skills in the page.
+     * @param sortBy      the sort order of the employee's skills, by cost if not given.
+     * @param afterSkillId the skill's id of the last employee's skill of the previous page.
+     * @param afterEmpId  the employee's id of the last employee's skill of the previous page.
+     * @param imageSize   the size of the profile images, the original if not given.
+     * @exception NullValueException       If only one of the cursor's ids is given.
+     * @exception ObjectNotExistsException If the employee's skill of the cursor is not in the repository.
+     * @return the page of employee's skills not from the specified company.
+     */
+    @GetMapping(value = "/all", params = { "compId", "size" } )
+    public List<EmployeeSkillDTO> getEmployeeSkillsPageNotFromCompany(@RequestParam String compId,
+            @RequestParam int size, @RequestParam(defaultValue = "COST") EmployeeSkillSortOrder sortBy,
+            @RequestParam(required = false) String afterSkillId, @RequestParam(required = false) String afterEmpId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageSize imageSize) throws NullValueException, ObjectNotExistsException {
+        EmployeeSkillKey after = null;
+        if (afterSkillId != null || afterEmpId != null) {
+            if (afterSkillId == null) {
+                throw new NullValueException("Skill's Id");
+            } else if (afterEmpId == null) {
+                throw new NullValueException("Employee's Id");
+            }
+            after = new EmployeeSkillKey(afterEmpId, afterSkillId);
         }
+        return convertToDTOs(employeeSkillService.listEmployeeSkillsNotFromCompany(compId, sortBy, after, size),
+                imageSize);
+    }
 
-        return employeeSkillList;
+    /**
+     * Search the employee's skills of a skill that do not belong to a certain company and are within the specific
+     * rating, cost and experience through employee's skill's service.
+     *
+     * @param skillId       the id of the skill.
+     * @param compId        the company's id.
+     * @param minRating     the minimum rating.
+     * @param maxCost       the maximum cost.
+     * @param minExperience the minimum experience.
+     * @param sortBy        the sort order of the employee's skills, by cost if not given.
+     * @param limit         the maximum number of employee's skills to return, 20 if not given.
+     * @param imageSize     the size of the profile images, the original if not given.
+     * @exception NullValueException If the id of the skill or the company is null.
+     * @return the list of matching employee's skills not from the specified company.
+     */
+    @GetMapping(value = "/search", params = { "skillId", "compId" })
+    public List<EmployeeSkillDTO> searchEmployeeSkills(@RequestParam String skillId, @RequestParam String compId,
+            @RequestParam(required = false) Double minRating, @RequestParam(required = false) Double maxCost,
+            @RequestParam(required = false) Integer minExperience,
+            @RequestParam(defaultValue = "COST") EmployeeSkillSortOrder sortBy,
+            @RequestParam(defaultValue = "20") int limit, @RequestParam(defaultValue = "ORIGINAL") ImageSize imageSize)
+            throws NullValueException {
+        return convertToDTOs(employeeSkillService.searchEmployeeSkills(skillId, compId, minRating, maxCost,
+                minExperience, sortBy, limit), imageSize);
     }
 
     /**
      * Get all employee's skills that belongs to a certain company through employee's skill's service.
      * 
      * @param compId the company's id.
+     * @param imageSize the size of the profile images, the original if not given.
      * @return the list of all employee's skills from the specified company.
      */
     @GetMapping(params = { "compId" })
-    public List<EmployeeSkillDTO> getEmployeeSkillsByCompany(@RequestParam String compId) {
-        List<EmployeeSkillDTO> employeeSkillList = new ArrayList<>();
-        for(EmployeeSkill em : employeeSkillService.listEmployeeSkillsByCompany(compId)){
-            employeeSkillList.add(convertToDTO(em));
-        }
-        return employeeSkillList;
+    public List<EmployeeSkillDTO> getEmployeeSkillsByCompany(@RequestParam String compId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageSize imageSize) {
+        return convertToDTOs(employeeSkillService.listEmployeeSkillsByCompany(compId), imageSize);
     }
 
     /**
@@ -134,18 +191,20 @@ public class EmployeeSkillController {
      * 
      * @param compId the company's id.
      * @param skillId the id of the skill.
+     * @param imageSize the size of the profile images, the original if not given.
      * @exception NullValueException If the id of the employee is null.
      * @return the list of all employee's skills of the skill.
      */
     @GetMapping(params = { "skillId" , "compId" })
-    public List<EmployeeSkillDTO> getEmployeeSkillsBySkill(@RequestParam String skillId, @RequestParam String compId) throws NullValueException {
-        List<EmployeeSkillDTO> employeeSkillList = new ArrayList<>();
+    public List<EmployeeSkillDTO> getEmployeeSkillsBySkill(@RequestParam String skillId, @RequestParam String compId,
+            @RequestParam(defaultValue = "ORIGINAL") ImageSize imageSize) throws NullValueException {
+        List<EmployeeSkill> employeeSkills = new ArrayList<>();
         for(EmployeeSkill em : employeeSkillService.getEmployeeSkillsBySkill(skillId)){
             if(em.getCompany().getUEN().equals(compId)) continue;
-            employeeSkillList.add(convertToDTO(em));
+            employeeSkills.add(em);
         }
 
-        return employeeSkillList;
+        return convertToDTOs(employeeSkills, imageSize);
     }
 
     /**
@@ -224,43 +283,57 @@ public class EmployeeSkillController {
     }
 
     /**
-     * Get the collated list of details; namely the name of the Skill, Number of Employees within the category
-     * and the lowest cost at which they can hire within a hashmap 
-     * for each Skills present within the database
+     * Get the supply of each skill that does not belong to a company; the name of
+     * the skill, the number of employee's skills, and the spread of their costs
+     * and ratings.
      * 
-     * @return the collated details of each category of skills
+     * @param compId the id of the company to exclude.
+     * @return the supply of each skill not from the company.
      */
     @RequestMapping(value = "/collate" , params= {"compId"} , method =  RequestMethod.GET)
-    public List<HashMap<String, String>> collate(@RequestParam String compId) {
-        List<List<String>> result = employeeSkillService.collate(compId);
-
-        List<HashMap<String, String>> res = null;
-
-        if(result != null && !result.isEmpty()){
-            res = new ArrayList<HashMap<String,String>>();
-
-            for (List<String> object : result) {
-                HashMap<String, String> toAdd = new HashMap<>();
-                toAdd.put("name", object.get(0));
-                toAdd.put("pax", object.get(1));
-                toAdd.put("min", object.get(2));
-                res.add(toAdd);
-            }
+    public List<SkillSupplyDTO> collate(@RequestParam String compId) {
+        List<SkillSupplyDTO> skillSupplyDTOs = new ArrayList<>();
+        for (SkillSupply skillSupply : employeeSkillService.collate(compId)) {
+            skillSupplyDTOs.add(new SkillSupplyDTO(skillSupply.getSkillId(), skillSupply.getCount(),
+                    skillSupply.getMinCost(), skillSupply.getMaxCost(), skillSupply.getMeanCost(),
+                    skillSupply.getMeanRating()));
         }
-
-        return res;
+        return skillSupplyDTOs;
     }
       
+    /**
+     * Create EmployeeSkill DTOs from the specific EmployeeSkills, resolving the
+     * profile images of all their employees through image's service at once.
+     * 
+     * @param employeeSkills the EmployeeSkills to create EmployeeSkill DTOs.
+     * @param imageSize      the size of the profile images.
+     * @return the DTOs of the specific EmployeeSkills.
+     */
+    private List<EmployeeSkillDTO> convertToDTOs(List<EmployeeSkill> employeeSkills, ImageSize imageSize) {
+        Set<Employee> employees = new HashSet<>();
+        for (EmployeeSkill emp : employeeSkills) {
+            employees.add(emp.getEmployee());
+        }
+        Map<String, String> profileImageURLs = imageService.getProfileImageURLs(employees, imageSize);
+
+        List<EmployeeSkillDTO> employeeSkillDTOs = new ArrayList<>();
+        for (EmployeeSkill emp : employeeSkills) {
+            employeeSkillDTOs.add(convertToDTO(emp, profileImageURLs));
+        }
+        return employeeSkillDTOs;
+    }
+
     /**
      * Create an EmployeeSkill DTO from the specific EmployeeSkill.
      * 
-     * @param emp the EmployeeSkill to to create EmployeeSkill DTO.
+     * @param emp              the EmployeeSkill to to create EmployeeSkill DTO.
+     * @param profileImageURLs the profile image's URLs keyed by employee's id.
      * @return the DTO of the specific EmployeeSkill.
      */
-    private EmployeeSkillDTO convertToDTO(EmployeeSkill emp) {
+    private EmployeeSkillDTO convertToDTO(EmployeeSkill emp, Map<String, String> profileImageURLs) {
         Employee em = emp.getEmployee();
         return new EmployeeSkillDTO(em.getWorkPermitNumber(), em.getName(), em.getDescription(), em.getEmployeeRole(),
                 emp.getSkill().getSkill(), emp.getExperience(), emp.getCost(), emp.getRating(),
-                imageService.getProfileImageURL(em), em.getCompany().getName(), em.getCompany().getUEN());
+                profileImageURLs.get(em.getWorkPermitNumber()), em.getCompany().getName(), em.getCompany().getUEN());
     }
 }
\ No newline at end of file
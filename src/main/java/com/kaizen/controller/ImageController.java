@@ -5,6 +5,7 @@ import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
 import com.kaizen.service.employee.EmployeeService;
 import com.kaizen.service.image.ImageService;
+import com.kaizen.service.image.ImageUploader;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
@@ -12,9 +13,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import org.springframework.http.HttpStatus;
 
-import com.kaizen.client.AmazonClient;
+import java.util.concurrent.CompletableFuture;
+
 import com.kaizen.model.entity.Employee;
-import com.kaizen.model.entity.Image;
 
 /**
  *
@@ -29,9 +30,9 @@ import com.kaizen.model.entity.Image;
 public class ImageController {
 
     /**
-     * The AmazonClient used to connect service to AmazonS3 for image persistence.
+     * The image's uploader used for image persistence.
      */
-    private AmazonClient amazonClient;
+    private final ImageUploader imageUploader;
 
     /**
      * The Image's service used to do the image's logic for Image.
@@ -49,31 +50,32 @@ public class ImageController {
      * 
      * @param employeeService the employee's service used by the application.
      * @param imageService    the image's service used by the application.
-     * @param amazonclient    the amazonclient service used by the application.
+     * @param imageUploader   the image's uploader used by the application.
      */
     @Autowired
-    ImageController(AmazonClient amazonClient, ImageService imageService, EmployeeService employeeService) {
+    ImageController(ImageUploader imageUploader, ImageService imageService, EmployeeService employeeService) {
         this.employeeService = employeeService;
         this.imageService = imageService;
-        this.amazonClient = amazonClient;
+        this.imageUploader = imageUploader;
     }
 
     /**
-     * Create an Image's controller with the specific Image's service and employee's
-     * service.
+     * Upload the specific image file of the employee with the specific id. The
+     * file is uploaded off the request thread unless its content is already
+     * stored, and the image is added once the upload completes.
      * 
-     * @param empid the employee id used by the application.
+     * @param empId the employee id used by the application.
      * @param file  the image file sent through by the application.
+     * @return the completion of the upload.
      */
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping(params = { "empId" })
-    public void uploadFile(@RequestParam String empId, @RequestPart(value = "file") MultipartFile file)
-            throws NullPointerException {
-        String imageURL = this.amazonClient.uploadFile(file);
+    public CompletableFuture<Void> uploadFile(@RequestParam String empId,
+            @RequestPart(value = "file") MultipartFile file) throws NullPointerException {
         Employee emp = employeeService.getEmployee(empId);
-        Image image = new Image(imageURL, emp);
-        imageService.addImage(image);
-        System.out.println(imageURL);
+        return this.imageUploader.upload(emp, file).thenAccept(image -> {
+            // the created image is not sent back
+        });
     }
 
     // @DeleteMapping(params = { "empId" })
@@ -81,9 +83,8 @@ public class ImageController {
     // throws NullValueException, ObjectNotExistsException, NumberFormatException {
     // Employee emp = employeeService.getEmployee(empId);
     // Long imageId = Long.parseLong(imageService.getImageId(emp));
+    // // also deletes the file from the object store
     // imageService.deleteImage(imageId);
-    // // delete based on URL
-    // this.amazonClient.deleteFileFromS3Bucket(imageService.getProfileImageURL(emp));
     // }
 
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.kaizen.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import com.kaizen.client.LocalObjectStore;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@code LocalObjectController} is a rest controller that serves the files of
+ * the {@link LocalObjectStore}.
+ *
+ * <p>
+ * The files are sent by the servlet container with sendfile when it supports
+ * it, or else with {@link FileChannel#transferTo}, so their content is not
+ * copied through the heap. A single byte range can be requested, and as the
+ * names of the files are unique the files are cached for a year.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-19
+ */
+@RestController
+@RequestMapping("/objects")
+@ConditionalOnProperty(name = "objectStore.type", havingValue = "local")
+public class LocalObjectController {
+    /**
+     * Represents the request attribute set by Tomcat when it supports sendfile.
+     */
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+
+    /**
+     * Represents the request attribute prefix that asks Tomcat to sendfile.
+     */
+    private static final String SENDFILE_PREFIX = "org.apache.tomcat.sendfile.";
+
+    /**
+     * Represents a single byte range of the Range header.
+     */
+    private static final Pattern BYTE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    /**
+     * Represents the cache control of the files.
+     */
+    private static final String CACHE_CONTROL = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic()
+            .getHeaderValue() + ", immutable";
+
+    /**
+     * The local object store that keeps the files.
+     */
+    private final LocalObjectStore localObjectStore;
+
+    /**
+     * Create a local object's controller with the specific local object store.
+     *
+     * @param localObjectStore the local object store used by the application.
+     */
+    @Autowired
+    public LocalObjectController(LocalObjectStore localObjectStore) {
+        this.localObjectStore = localObjectStore;
+    }
+
+    /**
+     * Send the file with the specific name, or the byte range of it asked by the
+     * Range header. Return Http Status Not Modified(304) if If-None-Match lists
+     * the file's ETag, weakly compared, or is {@code *}, Partial Content(206) for
+     * a byte range, Range Not Satisfiable(416) for a range that starts outside
+     * the file and Not Found(404) if the file is not in the store.
+     *
+     * @param fileName the name of the file.
+     * @param request  the request for the file.
+     * @param response the response to send the file with.
+     * @throws IOException if the file could not be sent.
+     */
+    @GetMapping("/{fileName:.+}")
+    public void getObject(@PathVariable String fileName, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Optional<Path> found = localObjectStore.find(fileName);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Path path = found.get();
+        long length = Files.size(path);
+        String eTag = "\"" + fileName + "-" + length + "\"";
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, Files.getLastModifiedTime(path).toMillis());
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        String contentType = Files.probeContentType(path);
+        response.setContentType(contentType == null ? "application/octet-stream" : contentType);
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null) {
+            Matcher matcher = BYTE_RANGE.matcher(range);
+            if (matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+                if (matcher.group(1).isEmpty()) {
+                    start = Math.max(0, length - parseRangeBound(matcher.group(2)));
+                } else {
+                    start = parseRangeBound(matcher.group(1));
+                    if (!matcher.group(2).isEmpty()) {
+                        end = Math.min(end, parseRangeBound(matcher.group(2)));
+                    }
+                }
+                if (start > end) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count == 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_PREFIX + "filename", path.toString());
+            request.setAttribute(SENDFILE_PREFIX + "start", start);
+            request.setAttribute(SENDFILE_PREFIX + "end", end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                long transferred = channel.transferTo(position, end + 1 - position, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+
+    /**
+     * Parse the specific bound of a byte range. A bound with too many digits for
+     * a long is beyond any file, so it is read as the largest long.
+     *
+     * @param bound the digits of the bound.
+     * @return the bound, or {@link Long#MAX_VALUE} if it does not fit a long.
+     */
+    private static long parseRangeBound(String bound) {
+        try {
+            return Long.parseLong(bound);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Check if the specific If-None-Match header matches the specific ETag. The
+     * header matches if it is {@code *} or lists the ETag, comparing the weak
+     * ETags by their opaque value.
+     *
+     * @param ifNoneMatch the If-None-Match header, or null if it was not sent.
+     * @param eTag        the ETag of the file.
+     * @return true if the header matches the ETag.
+     */
+    private static boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
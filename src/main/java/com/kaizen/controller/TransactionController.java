@@ -1,5 +1,6 @@
 package com.kaizen.controller;
 
+import com.kaizen.exceptions.InvalidStatusException;
 import com.kaizen.exceptions.NullValueException;
 import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
@@ -8,11 +9,13 @@ import com.kaizen.model.entity.TransactionKey;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.dto.TransactionDTO;
+import com.kaizen.model.dto.TransactionStatusDTO;
 import com.kaizen.service.employee.EmployeeService;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.transaction.TransactionService;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import java.time.LocalDate;
@@ -65,35 +68,47 @@ public class TransactionController {
     }
 
     /**
-     * Get all Incoming Transaction DTOs through Transaction's service.
+     * Get the Incoming Transaction DTOs of a company through Transaction's
+     * service, optionally filtered by status and period and paged.
      *
-     * @return the list of all Transaction DTOs.
+     * @param compId the id of the loan company.
+     * @param status the status of the Transactions, or null for any status.
+     * @param from   the start date of the period, or null for no start.
+     * @param to     the end date of the period, or null for no end.
+     * @param page   the index of the page, or null for the first page.
+     * @param size   the maximum number of Transactions in the page, or null for
+     *               all Transactions.
+     * @return the list of the company's Transaction DTOs.
      */
     @GetMapping("incoming")
-    public List<TransactionDTO> getIncomingTransactions(@RequestParam(name = "compId") String compId) {
-        List<TransactionDTO> TransactionDTOs = new ArrayList<>();
-        for (Transaction transaction : transactionService.listTransactions()) {
-            if (transaction.getLoanCompany().getUEN().equals(compId)) {
-                TransactionDTOs.add(convertToDTO(transaction));
-            }
-        }
-        return TransactionDTOs;
+    public List<TransactionDTO> getIncomingTransactions(@RequestParam(name = "compId") String compId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        return transactionService.listTransactionDTOsByLoanCompany(compId, status, from, to, page, size);
     }
 
     /**
-     * Get all Outgoing Transaction DTOs through Transaction's service.
+     * Get the Outgoing Transaction DTOs of a company through Transaction's
+     * service, optionally filtered by status and period and paged.
      *
-     * @return the list of all Transaction DTOs.
+     * @param compId the id of the borrowing company.
+     * @param status the status of the Transactions, or null for any status.
+     * @param from   the start date of the period, or null for no start.
+     * @param to     the end date of the period, or null for no end.
+     * @param page   the index of the page, or null for the first page.
+     * @param size   the maximum number of Transactions in the page, or null for
+     *               all Transactions.
+     * @return the list of the company's Transaction DTOs.
      */
     @GetMapping("outgoing")
-    public List<TransactionDTO> getOutgoingTransactions(@RequestParam(name = "compId") String compId) {
-        List<TransactionDTO> TransactionDTOs = new ArrayList<>();
-        for (Transaction transaction : transactionService.listTransactions()) {
-            if (transaction.getBorrowingCompany().getUEN().equals(compId)) {
-                TransactionDTOs.add(convertToDTO(transaction));
-            }
-        }
-        return TransactionDTOs;
+    public List<TransactionDTO> getOutgoingTransactions(@RequestParam(name = "compId") String compId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer page, @RequestParam(required = false) Integer size) {
+        return transactionService.listTransactionDTOsByBorrowingCompany(compId, status, from, to, page, size);
     }
 
     /**
@@ -115,18 +130,48 @@ public class TransactionController {
         return convertToDTO(updatedTransaction);
     }
 
-    // New method to update status
+    /**
+     * Change the status of the employee's Transaction with the specific start
+     * date through Transaction's service.
+     *
+     * @param empId  the id of the employee.
+     * @param date   the start date of the Transaction.
+     * @param status the status to change to.
+     * @exception NullValueException       If any parameter is null.
+     * @exception ObjectNotExistsException If the Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If the Transaction cannot change to the
+     *                                     status.
+     * @return the updated Transaction DTO.
+     */
     @PutMapping(params = { "empId", "date", "status" })
     public TransactionDTO updateTransactionStatus(@RequestParam String empId, @RequestParam String date,
-            @RequestParam String status) throws NullValueException, ObjectExistsException {
-        LocalDate ldate = LocalDate.parse(date);
-        Transaction transaction = transactionService.getTransactionByEmployeeAndStartDate(empId, ldate);
-        transaction.setStatus(status);
-        Transaction updatedTransaction = transactionService.updateTransaction(transaction);
+            @RequestParam String status) throws NullValueException, ObjectNotExistsException, InvalidStatusException {
+        Transaction updatedTransaction = transactionService.updateTransactionStatus(empId, LocalDate.parse(date),
+                status);
 
         return convertToDTO(updatedTransaction);
     }
 
+    /**
+     * Change the status of each of the specific Transactions through
+     * Transaction's service, either all of them or none of them.
+     *
+     * @param transactionStatusDTOs the Transactions and the status to change each
+     *                              to.
+     * @exception NullValueException       If any field is null.
+     * @exception ObjectNotExistsException If any Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If any Transaction cannot change to its
+     *                                     status.
+     */
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PutMapping("status")
+    public void updateTransactionStatuses(@RequestBody List<TransactionStatusDTO> transactionStatusDTOs)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException {
+        transactionService.updateTransactionStatuses(transactionStatusDTOs);
+    }
+
     /**
      * Update the specific Transaction through Transaction's service.
      *
@@ -0,0 +1,52 @@
+package com.kaizen.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import java.io.Serializable;
+
+/**
+ * {@code InvalidStatusException} is the subclass of {@code RuntimeException}
+ * that can be thrown when an object cannot change from its current status to
+ * the requested one, marked with status code 409 Conflict.
+ *
+ * <p>
+ * {@code InvalidStatusException} and its subclasses are <em>unchecked
+ * exceptions</em>. Unchecked exceptions do <em>not</em> need to be declared in
+ * a method or constructor's {@code throws} clause if they can be thrown by the
+ * execution of the method or constructor and propagate outside the method or
+ * constructor boundary.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class InvalidStatusException extends RuntimeException implements Serializable {
+
+    static final long serialVersionUID = 3L;
+
+    /**
+     * Constructs an invalid status exception with {@code null} as its detail
+     * message. The cause is not initialized, and may subsequently be initialized by
+     * a call to {@link #initCause}.
+     */
+    public InvalidStatusException() {
+        super();
+    }
+
+    /**
+     * Constructs a new invalid status exception with the current and requested
+     * status of the object. The cause is not initialized, and may subsequently be
+     * initialized by a call to {@link #initCause}.
+     *
+     * @param currentStatus   the current status of the object. To append to a
+     *                        custom message that will be saved for later
+     *                        retrieval by the {@link #getMessage()} method.
+     * @param requestedStatus the requested status of the object. To append to a
+     *                        custom message that will be saved for later
+     *                        retrieval by the {@link #getMessage()} method.
+     */
+    public InvalidStatusException(String currentStatus, String requestedStatus) {
+        super("Status cannot change from " + currentStatus + " to " + requestedStatus + ".");
+    }
+}
@@ -2,6 +2,7 @@ package com.kaizen.exceptions;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.servlet.http.HttpServletResponse;
 
@@ -28,6 +29,12 @@ import org.springframework.web.servlet.mvc.annotation.*;
  */
 @ControllerAdvice
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
+    /**
+     * Represents the seconds a client should wait before retrying a request that
+     * was rejected because the application is busy.
+     */
+    private static final String RETRY_AFTER_SECONDS = "5";
+
     /**
      * Customize the response for MethodArgumentNotValidException.
      * <p>
@@ -95,4 +102,18 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
     public void handleTypeNotFound(HttpServletResponse response) throws IOException {
         response.sendError(HttpStatus.NOT_FOUND.value());
     }
+
+    /**
+     * Sends an error response of 503 to the client, asking it to retry later,
+     * when a RejectedExecutionException is thrown because too many uploads are
+     * queued.
+     *
+     * @param response the response that send the error status code.
+     * @exception IOException If an input or output exception occurs.
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public void handleTypeServiceUnavailable(HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
 }
@@ -20,10 +20,15 @@ import lombok.*;
 @NoArgsConstructor
 public abstract class AbstractEntity implements Serializable {
     /**
-     * Represents the abstarct entity's id.
+     * Represents the abstarct entity's id, allocated from the shared
+     * {@code hibernate_sequence} in blocks of 50 by the {@code pooled_id}
+     * generator declared in {@code package-info.java}, so that inserts can be
+     * batched. The pooled-lo optimizer hands out ids from the stored value
+     * upwards, so the ids allocated before the block size was raised are never
+     * reused.
      */
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = "pooled_id")
     private Long id;
 
     /**
@@ -0,0 +1,53 @@
+package com.kaizen.model;
+
+/**
+ * Sizes that the profile images can be returned in. Every image except the
+ * original is resized in the background after the upload, to fit a square of
+ * its maximum dimension.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-20
+ */
+public enum ImageSize {
+    /**
+     * The uploaded image, unresized.
+     */
+    ORIGINAL(0),
+    /**
+     * Fits 64 by 64 pixels, for avatars in lists.
+     */
+    SMALL(64),
+    /**
+     * Fits 256 by 256 pixels, for the cards of the marketplace.
+     */
+    MEDIUM(256),
+    /**
+     * Fits 640 by 640 pixels, for the profile pages.
+     */
+    LARGE(640);
+
+    /**
+     * Represents the maximum width and height of the image in pixels, or 0 for
+     * the original.
+     */
+    private final int maxDimension;
+
+    /**
+     * Create an image's size that fits the specific maximum width and height.
+     * 
+     * @param maxDimension the maximum width and height in pixels.
+     */
+    ImageSize(int maxDimension) {
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * Get the maximum width and height of the image in pixels.
+     * 
+     * @return the maximum width and height, or 0 for the original.
+     */
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+}
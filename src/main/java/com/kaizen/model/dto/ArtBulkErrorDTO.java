@@ -0,0 +1,30 @@
+package com.kaizen.model.dto;
+
+import lombok.*;
+
+/**
+ * Represents a row of a bulk ART upload that was not created, and why.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArtBulkErrorDTO {
+    /**
+     * Represents the position of the row in the upload, starting from 1.
+     */
+    private int row;
+
+    /**
+     * Represents the work permit number of the employee of the row, if any.
+     */
+    private String employeeWP;
+
+    /**
+     * Represents why the row was not created.
+     */
+    private String message;
+}
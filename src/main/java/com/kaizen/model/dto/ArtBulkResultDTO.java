@@ -0,0 +1,28 @@
+package com.kaizen.model.dto;
+
+import java.util.List;
+
+import lombok.*;
+
+/**
+ * Represents the outcome of a bulk ART upload; the created ARTs and the rows
+ * that were not created.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArtBulkResultDTO {
+    /**
+     * Represents the DTOs of the created ARTs.
+     */
+    private List<ArtDTO> created;
+
+    /**
+     * Represents the rows that were not created, ordered by row.
+     */
+    private List<ArtBulkErrorDTO> errors;
+}
@@ -0,0 +1,74 @@
+package com.kaizen.model.dto;
+
+import java.time.LocalDate;
+
+import com.kaizen.model.entity.Art;
+
+import lombok.*;
+
+/**
+ * Represents the latest ART of an employee held by
+ * {@link com.kaizen.service.art.ArtDueDateTracker}.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ArtDueEntry {
+    /**
+     * Represents the id of the ART.
+     */
+    private final Long artId;
+
+    /**
+     * Represents the work permit number of the employee of the ART.
+     */
+    private final String employeeId;
+
+    /**
+     * Represents the name of the employee of the ART.
+     */
+    private final String employeeName;
+
+    /**
+     * Represents the id of the company of the ART.
+     */
+    private final String companyId;
+
+    /**
+     * Represents the date of the ART.
+     */
+    private final LocalDate dateOfTest;
+
+    /**
+     * Represents the date that the ART expires.
+     */
+    private final LocalDate expiryDate;
+
+    /**
+     * Create an entry from the specific ART.
+     * 
+     * @param art the ART to create the entry from.
+     */
+    public ArtDueEntry(Art art) {
+        this(art.getId(), art.getEmployee().getWorkPermitNumber(), art.getEmployee().getName(),
+                art.getCompany() == null ? null : art.getCompany().getUEN(), art.getDateOfTest(),
+                art.getExpiryDate());
+    }
+
+    /**
+     * Check if this entry is a later ART than the specific entry, by date of test
+     * and then by id.
+     * 
+     * @param other the entry to compare with.
+     * @return true if this entry is later than the other entry.
+     */
+    public boolean isLaterThan(ArtDueEntry other) {
+        int compared = dateOfTest.compareTo(other.dateOfTest);
+        return compared > 0 || (compared == 0 && artId > other.artId);
+    }
+}
@@ -0,0 +1,70 @@
+package com.kaizen.model.dto;
+
+import com.kaizen.model.entity.EmployeeSkill;
+import com.kaizen.model.entity.EmployeeSkillKey;
+
+import lombok.*;
+
+/**
+ * Represents the searchable fields of an employee's skill held by
+ * {@link com.kaizen.service.employeeSkill.EmployeeSkillIndex}.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class EmployeeSkillEntry {
+    /**
+     * Represents the id of the employee of the employee's skill.
+     */
+    private final String employeeId;
+
+    /**
+     * Represents the id of the skill of the employee's skill.
+     */
+    private final String skillId;
+
+    /**
+     * Represents the id of the company of the employee's skill.
+     */
+    private final String companyId;
+
+    /**
+     * Represents the cost of the employee's skill.
+     */
+    private final double cost;
+
+    /**
+     * Represents the rating of the employee's skill.
+     */
+    private final double rating;
+
+    /**
+     * Represents the experience(years) of the employee's skill.
+     */
+    private final int experience;
+
+    /**
+     * Create an entry from the specific employee's skill.
+     * 
+     * @param employeeSkill the employee's skill to create the entry from.
+     */
+    public EmployeeSkillEntry(EmployeeSkill employeeSkill) {
+        this(employeeSkill.getId().getEmployee(), employeeSkill.getId().getSkill(),
+                employeeSkill.getCompany() == null ? null : employeeSkill.getCompany().getUEN(),
+                employeeSkill.getCost(), employeeSkill.getRating(), employeeSkill.getExperience());
+    }
+
+    /**
+     * Get the id of the employee's skill of the entry.
+     * 
+     * @return the id of the employee's skill.
+     */
+    public EmployeeSkillKey getId() {
+        return new EmployeeSkillKey(employeeId, skillId);
+    }
+}
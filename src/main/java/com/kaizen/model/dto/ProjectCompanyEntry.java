@@ -0,0 +1,42 @@
+package com.kaizen.model.dto;
+
+import lombok.*;
+
+/**
+ * Represents a company involved in a project, loaded together with the
+ * companies of other projects and grouped by
+ * {@link com.kaizen.service.project.ProjectServiceImpl}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProjectCompanyEntry {
+    /**
+     * Represents the id of the project.
+     */
+    private final Long projectId;
+
+    /**
+     * Represents the company's UEN.
+     */
+    private final String uen;
+
+    /**
+     * Represents the name of the company.
+     */
+    private final String name;
+
+    /**
+     * Create the project's company DTO of the entry.
+     * 
+     * @return the project's company DTO.
+     */
+    public ProjectCompanyDTO toDTO() {
+        return new ProjectCompanyDTO(uen, name);
+    }
+}
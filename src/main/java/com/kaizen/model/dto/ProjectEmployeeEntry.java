@@ -0,0 +1,47 @@
+package com.kaizen.model.dto;
+
+import lombok.*;
+
+/**
+ * Represents an employee of a project, loaded together with the employees of
+ * other projects and grouped by
+ * {@link com.kaizen.service.project.ProjectServiceImpl}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProjectEmployeeEntry {
+    /**
+     * Represents the id of the project.
+     */
+    private final Long projectId;
+
+    /**
+     * Represents the employee's work permit number(id).
+     */
+    private final String workPermitNumber;
+
+    /**
+     * Represents the name of the employee.
+     */
+    private final String name;
+
+    /**
+     * Represents the image's URL of the employee.
+     */
+    private final String imageUrl;
+
+    /**
+     * Create the project's employee DTO of the entry.
+     * 
+     * @return the project's employee DTO.
+     */
+    public ProjectEmployeeDTO toDTO() {
+        return new ProjectEmployeeDTO(workPermitNumber, name, imageUrl);
+    }
+}
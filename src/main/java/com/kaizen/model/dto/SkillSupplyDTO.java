@@ -0,0 +1,45 @@
+package com.kaizen.model.dto;
+
+import lombok.*;
+
+/**
+ * Represents a skill's supply DTO.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SkillSupplyDTO {
+    /**
+     * Represents the name of the skill.
+     */
+    private String name;
+
+    /**
+     * Represents the number of employee's skills of the skill.
+     */
+    private long pax;
+
+    /**
+     * Represents the minimum cost of the employee's skills.
+     */
+    private double min;
+
+    /**
+     * Represents the maximum cost of the employee's skills.
+     */
+    private double max;
+
+    /**
+     * Represents the mean cost of the employee's skills.
+     */
+    private double meanCost;
+
+    /**
+     * Represents the mean rating of the employee's skills.
+     */
+    private double meanRating;
+}
@@ -0,0 +1,37 @@
+package com.kaizen.model.dto;
+
+import lombok.*;
+
+import javax.validation.constraints.*;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a Transaction's status change DTO.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionStatusDTO {
+    /**
+     * Represents the id of the employee of the Transaction.
+     */
+    @NotNull
+    private String employeeId;
+
+    /**
+     * Represents the start date of the Transaction.
+     */
+    @NotNull
+    private LocalDate startDate;
+
+    /**
+     * Represents the status to change the Transaction to.
+     */
+    @NotNull
+    private String status;
+}
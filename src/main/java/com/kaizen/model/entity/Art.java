@@ -26,7 +26,9 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "covidtest")
+@Table(name = "covidtest", indexes = {
+    @Index(name = "idx_covidtest_employee_date", columnList = "employee_id, dateOfTest"),
+    @Index(name = "idx_covidtest_company_date", columnList = "company_uen, dateOfTest") })
 public class Art extends AbstractEntity {
     /**
      * Represents the date when the ART is taken.
@@ -177,6 +177,14 @@ public class Employee {
     @JsonIgnore
     private Set<Image> images;
 
+    /**
+     * Represents the current profile image of the employee, or null if the
+     * employee has no image.
+     */
+    @Embedded
+    @JsonIgnore
+    private ProfileImage profileImage;
+
     /**
      * Represents the transactions of the employee.
      */
@@ -20,7 +20,8 @@ import javax.validation.constraints.Min;
 @ToString
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "employeeSkill")
+@Table(name = "employeeSkill", indexes = { @Index(columnList = "cost, skill_id, employee_id"),
+        @Index(columnList = "rating, skill_id, employee_id"), @Index(columnList = "experience, skill_id, employee_id") })
 public class EmployeeSkill {
     /**
      * Represents the id of the employee's skill.
@@ -2,6 +2,7 @@ package com.kaizen.model.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.kaizen.model.AbstractEntity;
+import com.kaizen.model.ImageSize;
 
 import lombok.*;
 
@@ -26,7 +27,7 @@ import javax.validation.constraints.*;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(callSuper = true)
-@Table(name = "employeeimage")
+@Table(name = "employeeimage", indexes = @Index(name = "employeeimage_content_hash", columnList = "content_hash"))
 public class Image extends AbstractEntity {
 
   /**
@@ -36,6 +37,35 @@ public class Image extends AbstractEntity {
   @Column(name = "profile_url")
   private String profileURL;
 
+  /**
+   * Represents the URL of the small variant of the image, or null until it is
+   * resized
+   */
+  @Column(name = "small_url")
+  private String smallURL;
+
+  /**
+   * Represents the URL of the medium variant of the image, or null until it is
+   * resized
+   */
+  @Column(name = "medium_url")
+  private String mediumURL;
+
+  /**
+   * Represents the URL of the large variant of the image, or null until it is
+   * resized
+   */
+  @Column(name = "large_url")
+  private String largeURL;
+
+  /**
+   * Represents the SHA-256 hash of the image's content in hexadecimal, which
+   * references its {@link ImageFile}, or null if the image was uploaded before
+   * identical content was stored once
+   */
+  @Column(name = "content_hash", length = 64)
+  private String contentHash;
+
   /**
    * Represents the employee to which the image belong to
    */
@@ -44,4 +74,57 @@ public class Image extends AbstractEntity {
   @JoinColumn(name = "employee_id")
   private Employee employee;
 
+  /**
+   * Create an image of the specific employee with the specific URL, whose
+   * variants are not resized yet.
+   *
+   * @param profileURL the URL of the image.
+   * @param employee   the employee to which the image belong to.
+   */
+  public Image(String profileURL, Employee employee) {
+    this.profileURL = profileURL;
+    this.employee = employee;
+  }
+
+  /**
+   * Create an image of the specific employee with the URLs of the specific
+   * stored file.
+   *
+   * @param imageFile the file that stores the image's content.
+   * @param employee  the employee to which the image belong to.
+   */
+  public Image(ImageFile imageFile, Employee employee) {
+    this.profileURL = imageFile.getUrl();
+    this.smallURL = imageFile.getSmallURL();
+    this.mediumURL = imageFile.getMediumURL();
+    this.largeURL = imageFile.getLargeURL();
+    this.contentHash = imageFile.getContentHash();
+    this.employee = employee;
+  }
+
+  /**
+   * Get the URL of the specific size of the image, falling back to the
+   * original until the size is resized.
+   *
+   * @param size the size of the image.
+   * @return the URL of the size of the image.
+   */
+  public String getURL(ImageSize size) {
+    String url = null;
+    switch (size) {
+      case SMALL:
+        url = smallURL;
+        break;
+      case MEDIUM:
+        url = mediumURL;
+        break;
+      case LARGE:
+        url = largeURL;
+        break;
+      default:
+        break;
+    }
+    return url == null ? profileURL : url;
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.kaizen.model.entity;
+
+import com.kaizen.model.AbstractEntity;
+
+import lombok.*;
+
+import javax.persistence.*;
+import javax.validation.constraints.*;
+
+/**
+ * Represents a file stored once for every {@link Image} with the same content,
+ * counting the Images that reference it so that it is deleted with the last
+ * of them.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-22
+ */
+@Entity
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@Table(name = "image_file")
+public class ImageFile extends AbstractEntity {
+    /**
+     * Represents the SHA-256 hash of the file's content in hexadecimal, unique so
+     * that concurrent uploads of the same content store it once.
+     */
+    @NotNull(message = "Image file's content hash should not be null")
+    @Column(name = "content_hash", unique = true, length = 64)
+    private String contentHash;
+
+    /**
+     * Represents the URL of the file.
+     */
+    @NotNull(message = "Image file's URL should not be null")
+    @Column(name = "url")
+    private String url;
+
+    /**
+     * Represents the URL of the small variant of the file, or null until it is
+     * resized.
+     */
+    @Column(name = "small_url")
+    private String smallURL;
+
+    /**
+     * Represents the URL of the medium variant of the file, or null until it is
+     * resized.
+     */
+    @Column(name = "medium_url")
+    private String mediumURL;
+
+    /**
+     * Represents the URL of the large variant of the file, or null until it is
+     * resized.
+     */
+    @Column(name = "large_url")
+    private String largeURL;
+
+    /**
+     * Represents the number of Images that reference the file.
+     */
+    @Column(name = "reference_count")
+    private int referenceCount;
+
+    /**
+     * Create a file with the specific content hash and URL, referenced by the
+     * Image it is stored for.
+     *
+     * @param contentHash the SHA-256 hash of the file's content in hexadecimal.
+     * @param url         the URL of the file.
+     */
+    public ImageFile(String contentHash, String url) {
+        this.contentHash = contentHash;
+        this.url = url;
+        this.referenceCount = 1;
+    }
+}
@@ -1,5 +1,7 @@
 package com.kaizen.model.entity;
 
+import java.util.List;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -48,4 +50,21 @@ public class News extends ScrapBox {
         this.excerpt = excerpt;
         this.imageUrl = imageUrl;
     }
+
+    @Override
+    public List<Object> scrapedContent() {
+        List<Object> content = super.scrapedContent();
+        content.add(excerpt);
+        content.add(imageUrl);
+        return content;
+    }
+
+    @Override
+    public void copyScrapedContent(ScrapBox scrapBox) {
+        super.copyScrapedContent(scrapBox);
+        if (scrapBox instanceof News) {
+            excerpt = ((News) scrapBox).excerpt;
+            imageUrl = ((News) scrapBox).imageUrl;
+        }
+    }
 }
\ No newline at end of file
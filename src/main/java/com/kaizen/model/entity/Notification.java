@@ -4,7 +4,6 @@ import java.util.Date;
 
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 
@@ -22,7 +21,8 @@ import javax.persistence.ManyToOne;
 public class Notification {
 
 	@Id
-	@GeneratedValue(strategy=GenerationType.AUTO)
+	// shares the pooled_id generator of com.kaizen.model with AbstractEntity
+	@GeneratedValue(generator = "pooled_id")
 	private Integer notificationId;
 	
 	private String message;
@@ -0,0 +1,89 @@
+package com.kaizen.model.entity;
+
+import com.kaizen.model.ImageSize;
+
+import lombok.*;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/**
+ * Represents the current profile image of an employee, copied from its
+ * {@link Image} so that the employee's listings need no query on the images.
+ *
+ * <p>
+ * The columns are not updatable through the employee, as an employee saved
+ * from a request body has no profile image. They are only written by the
+ * profile image's updates of
+ * {@link com.kaizen.repository.EmployeeRepository}.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-21
+ */
+@Embeddable
+@Getter
+@Setter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+public class ProfileImage {
+    /**
+     * Represents the id of the current image.
+     */
+    @Column(name = "profile_image_id", updatable = false)
+    private Long imageId;
+
+    /**
+     * Represents the URL of the current image.
+     */
+    @Column(name = "profile_image_url", updatable = false)
+    private String url;
+
+    /**
+     * Represents the URL of the small variant of the current image, or null
+     * until it is resized.
+     */
+    @Column(name = "profile_image_small_url", updatable = false)
+    private String smallURL;
+
+    /**
+     * Represents the URL of the medium variant of the current image, or null
+     * until it is resized.
+     */
+    @Column(name = "profile_image_medium_url", updatable = false)
+    private String mediumURL;
+
+    /**
+     * Represents the URL of the large variant of the current image, or null
+     * until it is resized.
+     */
+    @Column(name = "profile_image_large_url", updatable = false)
+    private String largeURL;
+
+    /**
+     * Get the URL of the specific size of the current image, falling back to the
+     * original until the size is resized.
+     *
+     * @param size the size of the image.
+     * @return the URL of the size of the image.
+     */
+    public String getURL(ImageSize size) {
+        String sizeURL = null;
+        switch (size) {
+            case SMALL:
+                sizeURL = smallURL;
+                break;
+            case MEDIUM:
+                sizeURL = mediumURL;
+                break;
+            case LARGE:
+                sizeURL = largeURL;
+                break;
+            default:
+                break;
+        }
+        return sizeURL == null ? url : sizeURL;
+    }
+}
@@ -5,7 +5,9 @@ import lombok.*;
 import javax.persistence.*;
 
 import com.kaizen.model.AbstractEntity;
+import com.kaizen.model.dto.ProjectCompanyEntry;
 import com.kaizen.model.dto.ProjectCompanyDTO;
+import com.kaizen.model.dto.ProjectEmployeeEntry;
 import com.kaizen.model.dto.ProjectEmployeeDTO;
 
 import java.time.LocalDate;
@@ -25,6 +27,13 @@ import java.util.Set;
 @NamedNativeQuery(name = "Project.getProjectCompanyDTOs", query = "SELECT e.company_id AS id, c.company_name AS name FROM employee e, project_employee pe, company c WHERE pe.project_id = :projectId AND pe.employee_id = e.work_permit_number AND e.company_id = c.uen GROUP BY e.company_id", resultSetMapping = "Mapping.ProjectCompanyDTO")
 @SqlResultSetMapping(name = "Mapping.ProjectCompanyDTO", classes = @ConstructorResult(targetClass = ProjectCompanyDTO.class, columns = {
         @ColumnResult(name = "id"), @ColumnResult(name = "name") }))
+@NamedNativeQuery(name = "Project.getProjectEmployeeEntries", query = "SELECT DISTINCT pe.project_id AS project_id, e.work_permit_number AS id, e.employee_name AS name, i.profile_url AS profile_url FROM project_employee pe JOIN employee e ON pe.employee_id = e.work_permit_number LEFT JOIN employeeimage i ON i.id = (SELECT MAX(li.id) FROM employeeimage li WHERE li.employee_id = e.work_permit_number) WHERE pe.project_id IN (:projectIds) ORDER BY project_id, id", resultSetMapping = "Mapping.ProjectEmployeeEntry")
+@SqlResultSetMapping(name = "Mapping.ProjectEmployeeEntry", classes = @ConstructorResult(targetClass = ProjectEmployeeEntry.class, columns = {
+        @ColumnResult(name = "project_id", type = Long.class), @ColumnResult(name = "id"), @ColumnResult(name = "name"),
+        @ColumnResult(name = "profile_url") }))
+@NamedNativeQuery(name = "Project.getProjectCompanyEntries", query = "SELECT DISTINCT pe.project_id AS project_id, c.uen AS id, c.company_name AS name FROM project_employee pe JOIN employee e ON pe.employee_id = e.work_permit_number JOIN company c ON e.company_id = c.uen WHERE pe.project_id IN (:projectIds) ORDER BY project_id, id", resultSetMapping = "Mapping.ProjectCompanyEntry")
+@SqlResultSetMapping(name = "Mapping.ProjectCompanyEntry", classes = @ConstructorResult(targetClass = ProjectCompanyEntry.class, columns = {
+        @ColumnResult(name = "project_id", type = Long.class), @ColumnResult(name = "id"), @ColumnResult(name = "name") }))
 @Entity
 @Getter
 @Setter
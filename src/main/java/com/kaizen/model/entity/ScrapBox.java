@@ -1,13 +1,16 @@
 package com.kaizen.model.entity;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.persistence.Column;
 import javax.persistence.MappedSuperclass;
 
 import com.kaizen.model.AbstractEntity;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * Represents a scrap box.
@@ -21,7 +24,6 @@ import lombok.NoArgsConstructor;
  */
 @MappedSuperclass
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 public class ScrapBox extends AbstractEntity {
     /**
@@ -35,4 +37,47 @@ public class ScrapBox extends AbstractEntity {
      */
     @Column(name = "url")
     private String url;
+
+    /**
+     * Represents the scrap box's position on the scraped webpage, starting from 0.
+     */
+    @Setter
+    @Column(name = "list_position")
+    private int position;
+
+    /**
+     * Create a scrap box with the specific header and url.
+     * 
+     * @param header the header of the scrap box.
+     * @param url    the url of the scrap box.
+     */
+    public ScrapBox(String header, String url) {
+        this.header = header;
+        this.url = url;
+    }
+
+    /**
+     * Get the content of the scrap box that is scraped from the webpage, to find
+     * the scrap boxes that changed since the last scrape.
+     * 
+     * @return the scraped content of the scrap box.
+     */
+    public List<Object> scrapedContent() {
+        List<Object> content = new ArrayList<>();
+        content.add(header);
+        content.add(url);
+        content.add(position);
+        return content;
+    }
+
+    /**
+     * Copy the scraped content of the specific scrap box into the scrap box.
+     * 
+     * @param scrapBox the scrap box to copy from.
+     */
+    public void copyScrapedContent(ScrapBox scrapBox) {
+        header = scrapBox.header;
+        url = scrapBox.url;
+        position = scrapBox.position;
+    }
 }
\ No newline at end of file
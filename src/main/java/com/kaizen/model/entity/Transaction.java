@@ -24,7 +24,11 @@ import java.time.LocalDate;
 @ToString
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+    @Index(name = "idx_transactions_employee_dates", columnList = "employee_id, loan_start_date, loan_end_date"),
+    @Index(name = "idx_transactions_loan_status", columnList = "loan_company_id, loan_status, loan_start_date"),
+    @Index(name = "idx_transactions_borrowing_status",
+        columnList = "borrowing_company_id, loan_status, loan_start_date") })
 public class Transaction {
 
   /**
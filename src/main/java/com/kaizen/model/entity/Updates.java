@@ -1,5 +1,7 @@
 package com.kaizen.model.entity;
 
+import java.util.List;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -40,4 +42,19 @@ public class Updates extends ScrapBox {
         super(header, url);
         this.date = date;
     }
+
+    @Override
+    public List<Object> scrapedContent() {
+        List<Object> content = super.scrapedContent();
+        content.add(date);
+        return content;
+    }
+
+    @Override
+    public void copyScrapedContent(ScrapBox scrapBox) {
+        super.copyScrapedContent(scrapBox);
+        if (scrapBox instanceof Updates) {
+            date = ((Updates) scrapBox).date;
+        }
+    }
 }
\ No newline at end of file
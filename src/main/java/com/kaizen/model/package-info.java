@@ -0,0 +1,21 @@
+/**
+ * The entities and data transfer objects of the application.
+ *
+ * <p>
+ * Declares the {@code pooled_id} generator shared by the entities, which
+ * allocates ids from the shared {@code hibernate_sequence} in blocks of 50 so
+ * that inserts can be batched. Every entity that uses the sequence references
+ * this generator, so that they all allocate with the same block size.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-10-15
+ */
+@GenericGenerator(name = "pooled_id", strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator", parameters = {
+        @Parameter(name = "sequence_name", value = "hibernate_sequence"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled-lo") })
+package com.kaizen.model;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
@@ -2,11 +2,14 @@ package com.kaizen.repository;
 
 import java.util.List;
 
+import com.kaizen.model.dto.ArtDueEntry;
+import com.kaizen.model.dto.ArtDTO;
 import com.kaizen.model.entity.Art;
 import com.kaizen.model.entity.Company;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * ART specific extension of
@@ -28,9 +31,44 @@ public interface ArtRepository extends JpaRepository<Art, Long> {
      * 
      * @return a list of latest ARTs
      */
-    @Query(value = "SELECT * FROM covidtest WHERE concat(employee_id, date_of_test) IN (SELECT concat(employee_id, max(date_of_test)) FROM covidtest GROUP BY employee_id)", nativeQuery = true)
+    @Query("SELECT a FROM Art a WHERE NOT EXISTS (SELECT l.id FROM Art l WHERE l.employee = a.employee AND l.dateOfTest > a.dateOfTest)")
     List<Art> findLatestResultsforAllEmployee();
 
+    /**
+     * Find the DTOs of the latest ARTs of each employee that are done within the
+     * specific company. An employee whose latest ART is done in another company is
+     * not included.
+     *
+     * @param companyId the id of the company to which the ARTs are done in.
+     * @return the DTOs of the latest ARTs, ordered by employee's id.
+     */
+    @Query("SELECT new com.kaizen.model.dto.ArtDTO(a.id, a.dateOfTest, a.expiryDate, a.result, e.workPermitNumber, e.name, c.UEN) "
+            + "FROM Art a JOIN a.employee e JOIN a.company c WHERE c.UEN = :companyId "
+            + "AND NOT EXISTS (SELECT l.id FROM Art l WHERE l.employee = a.employee AND l.dateOfTest > a.dateOfTest) "
+            + "ORDER BY e.workPermitNumber, a.id")
+    List<ArtDTO> findLatestArtDTOsByCompany(@Param("companyId") String companyId);
+
+    /**
+     * Find the due date's fields of the latest ARTs of each employee.
+     *
+     * @return the entries of the latest ARTs.
+     */
+    @Query("SELECT new com.kaizen.model.dto.ArtDueEntry(a.id, e.workPermitNumber, e.name, c.UEN, a.dateOfTest, a.expiryDate) "
+            + "FROM Art a JOIN a.employee e LEFT JOIN a.company c "
+            + "WHERE NOT EXISTS (SELECT l.id FROM Art l WHERE l.employee = a.employee AND l.dateOfTest > a.dateOfTest)")
+    List<ArtDueEntry> findLatestDueEntries();
+
+    /**
+     * Find the due date's fields of the latest ARTs of the specific employee.
+     *
+     * @param employeeId the id of the employee.
+     * @return the entries of the latest ARTs of the employee.
+     */
+    @Query("SELECT new com.kaizen.model.dto.ArtDueEntry(a.id, e.workPermitNumber, e.name, c.UEN, a.dateOfTest, a.expiryDate) "
+            + "FROM Art a JOIN a.employee e LEFT JOIN a.company c WHERE e.workPermitNumber = :employeeId "
+            + "AND NOT EXISTS (SELECT l.id FROM Art l WHERE l.employee = a.employee AND l.dateOfTest > a.dateOfTest)")
+    List<ArtDueEntry> findLatestDueEntriesByEmployee(@Param("employeeId") String employeeId);
+
      /**
       * Find the List of ARTs done within a specific company.
       *
@@ -6,6 +6,10 @@ import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 
 /**
@@ -25,4 +29,88 @@ public interface EmployeeRepository extends JpaRepository<Employee, String> {
      * @return a list of employees in the company
      */
     List<Employee> findByCompany(Company company);
-}
\ No newline at end of file
+
+    /**
+     * Point the specific employee's profile image to the specific image, unless
+     * it already points to a newer one.
+     *
+     * @param employeeId the work permit number of the employee.
+     * @param imageId    the id of the image.
+     * @param url        the URL of the image.
+     * @param smallURL   the URL of the small variant, or null until it is
+     *                   resized.
+     * @param mediumURL  the URL of the medium variant, or null until it is
+     *                   resized.
+     * @param largeURL   the URL of the large variant, or null until it is
+     *                   resized.
+     * @return the number of employees updated, 0 or 1.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.profileImage.imageId = :imageId, e.profileImage.url = :url, "
+            + "e.profileImage.smallURL = :smallURL, e.profileImage.mediumURL = :mediumURL, "
+            + "e.profileImage.largeURL = :largeURL WHERE e.workPermitNumber = :employeeId "
+            + "AND (e.profileImage.imageId IS NULL OR e.profileImage.imageId < :imageId)")
+    int updateProfileImage(@Param("employeeId") String employeeId, @Param("imageId") Long imageId,
+            @Param("url") String url, @Param("smallURL") String smallURL, @Param("mediumURL") String mediumURL,
+            @Param("largeURL") String largeURL);
+
+    /**
+     * Set the URLs of the resized variants of the profile images that point to
+     * the image with the specific id.
+     *
+     * @param imageId   the id of the image.
+     * @param smallURL  the URL of the small variant.
+     * @param mediumURL the URL of the medium variant.
+     * @param largeURL  the URL of the large variant.
+     * @return the number of employees updated.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.profileImage.smallURL = :smallURL, e.profileImage.mediumURL = :mediumURL, "
+            + "e.profileImage.largeURL = :largeURL WHERE e.profileImage.imageId = :imageId")
+    int updateProfileImageVariantURLs(@Param("imageId") Long imageId, @Param("smallURL") String smallURL,
+            @Param("mediumURL") String mediumURL, @Param("largeURL") String largeURL);
+
+    /**
+     * Clear the profile images that point to the image with the specific id.
+     *
+     * @param imageId the id of the image.
+     * @return the number of employees updated.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.profileImage.imageId = NULL, e.profileImage.url = NULL, "
+            + "e.profileImage.smallURL = NULL, e.profileImage.mediumURL = NULL, e.profileImage.largeURL = NULL "
+            + "WHERE e.profileImage.imageId = :imageId")
+    int clearProfileImage(@Param("imageId") Long imageId);
+
+    /**
+     * Point the profile image of each employee without one to the newest of its
+     * images, for the employees whose images were added before the profile image
+     * was kept.
+     *
+     * @return the number of employees updated.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.profileImage.imageId = (SELECT MAX(i.id) FROM Image i "
+            + "WHERE i.employee.workPermitNumber = e.workPermitNumber) WHERE e.profileImage.imageId IS NULL")
+    int backfillProfileImageIds();
+
+    /**
+     * Copy the URLs of the images that the profile images point to, for the
+     * profile images filled by {@link #backfillProfileImageIds()}.
+     *
+     * @return the number of employees updated.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET "
+            + "e.profileImage.url = (SELECT i.profileURL FROM Image i WHERE i.id = e.profileImage.imageId), "
+            + "e.profileImage.smallURL = (SELECT i.smallURL FROM Image i WHERE i.id = e.profileImage.imageId), "
+            + "e.profileImage.mediumURL = (SELECT i.mediumURL FROM Image i WHERE i.id = e.profileImage.imageId), "
+            + "e.profileImage.largeURL = (SELECT i.largeURL FROM Image i WHERE i.id = e.profileImage.imageId) "
+            + "WHERE e.profileImage.imageId IS NOT NULL AND e.profileImage.url IS NULL")
+    int backfillProfileImageURLs();
+}
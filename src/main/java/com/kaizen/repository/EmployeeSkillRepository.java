@@ -1,10 +1,14 @@
 package com.kaizen.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.kaizen.model.dto.EmployeeSkillEntry;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.EmployeeSkill;
 import com.kaizen.model.entity.EmployeeSkillKey;
@@ -46,18 +50,94 @@ public interface EmployeeSkillRepository extends JpaRepository<EmployeeSkill, Em
     /**
      * Find the employee's skills of an employee and a skill.
      *
-     * @return a list of list of strings for every skill the skill name , count of employee with the skill 
-     * and minimum cost of the skill  
+     * 
+     * @return a list of employee skills under a company
      */
-    @Query(value = "select skill_id, count(0), min(cost) from (select * from employee_skill where company_uen != ?1) as t1 group by skill_id" ,nativeQuery = true)
-    public List<List<String>> findEmployeeSkillCountAndMinCost(String companyUEN);
+    List<EmployeeSkill> findByCompany(Company company);
 
+    /**
+     * Find the employee's skills that do not belong to a company, with their
+     * employee, employee's company and skill fetched in the same query.
+     *
+     * @param companyId the id of the company to exclude.
+     * @param pageable  the page size and sort order of the employee's skills.
+     * @return the list of employee's skills not from the company.
+     */
+    @Query("SELECT es FROM EmployeeSkill es JOIN FETCH es.employee e JOIN FETCH e.company JOIN FETCH es.skill WHERE es.company.UEN <> :companyId")
+    List<EmployeeSkill> findNotFromCompany(@Param("companyId") String companyId, Pageable pageable);
 
     /**
-     * Find the employee's skills of an employee and a skill.
+     * Find the next page of employee's skills that do not belong to a company,
+     * ordered by cost (cheapest first), skill's id and employee's id, after the
+     * specific cursor.
      *
-     * 
-     * @return a list of employee skills under a company
+     * @param companyId  the id of the company to exclude.
+     * @param cost       the cost of the employee's skill at the cursor.
+     * @param skillId    the skill's id of the employee's skill at the cursor.
+     * @param employeeId the employee's id of the employee's skill at the cursor.
+     * @param pageable   the page size of the employee's skills.
+     * @return the list of employee's skills not from the company after the cursor.
      */
-    List<EmployeeSkill> findByCompany(Company company);
+    @Query("SELECT es FROM EmployeeSkill es JOIN FETCH es.employee e JOIN FETCH e.company JOIN FETCH es.skill WHERE es.company.UEN <> :companyId"
+            + " AND (es.cost > :cost OR (es.cost = :cost AND (es.id.skill > :skillId OR (es.id.skill = :skillId AND es.id.employee > :employeeId))))"
+            + " ORDER BY es.cost ASC, es.id.skill ASC, es.id.employee ASC")
+    List<EmployeeSkill> findNotFromCompanyAfterCost(@Param("companyId") String companyId, @Param("cost") double cost,
+            @Param("skillId") String skillId, @Param("employeeId") String employeeId, Pageable pageable);
+
+    /**
+     * Find the next page of employee's skills that do not belong to a company,
+     * ordered by rating (highest first), skill's id and employee's id, after the
+     * specific cursor.
+     *
+     * @param companyId  the id of the company to exclude.
+     * @param rating     the rating of the employee's skill at the cursor.
+     * @param skillId    the skill's id of the employee's skill at the cursor.
+     * @param employeeId the employee's id of the employee's skill at the cursor.
+     * @param pageable   the page size of the employee's skills.
+     * @return the list of employee's skills not from the company after the cursor.
+     */
+    @Query("SELECT es FROM EmployeeSkill es JOIN FETCH es.employee e JOIN FETCH e.company JOIN FETCH es.skill WHERE es.company.UEN <> :companyId"
+            + " AND (es.rating < :rating OR (es.rating = :rating AND (es.id.skill > :skillId OR (es.id.skill = :skillId AND es.id.employee > :employeeId))))"
+            + " ORDER BY es.rating DESC, es.id.skill ASC, es.id.employee ASC")
+    List<EmployeeSkill> findNotFromCompanyAfterRating(@Param("companyId") String companyId, @Param("rating") double rating,
+            @Param("skillId") String skillId, @Param("employeeId") String employeeId, Pageable pageable);
+
+    /**
+     * Find the next page of employee's skills that do not belong to a company,
+     * ordered by experience (most first), skill's id and employee's id, after the
+     * specific cursor.
+     *
+     * @param companyId  the id of the company to exclude.
+     * @param experience the experience of the employee's skill at the cursor.
+     * @param skillId    the skill's id of the employee's skill at the cursor.
+     * @param employeeId the employee's id of the employee's skill at the cursor.
+     * @param pageable   the page size of the employee's skills.
+     * @return the list of employee's skills not from the company after the cursor.
+     */
+    @Query("SELECT es FROM EmployeeSkill es JOIN FETCH es.employee e JOIN FETCH e.company JOIN FETCH es.skill WHERE es.company.UEN <> :companyId"
+            + " AND (es.experience < :experience OR (es.experience = :experience AND (es.id.skill > :skillId OR (es.id.skill = :skillId AND es.id.employee > :employeeId))))"
+            + " ORDER BY es.experience DESC, es.id.skill ASC, es.id.employee ASC")
+    List<EmployeeSkill> findNotFromCompanyAfterExperience(@Param("companyId") String companyId,
+            @Param("experience") int experience, @Param("skillId") String skillId,
+            @Param("employeeId") String employeeId, Pageable pageable);
+
+    /**
+     * Find the searchable fields of all employee's skills.
+     *
+     * @return the list of entries of all employee's skills.
+     */
+    @Query("SELECT new com.kaizen.model.dto.EmployeeSkillEntry(es.id.employee, es.id.skill, c.UEN, es.cost, es.rating, es.experience) FROM EmployeeSkill es LEFT JOIN es.company c")
+    List<EmployeeSkillEntry> findAllEntries();
+
+    /**
+     * Find the employee's skills of a skill and the specific employees, with their
+     * employee, employee's company and skill fetched in the same query.
+     *
+     * @param skillId     the id of the skill.
+     * @param employeeIds the ids of the employees.
+     * @return the list of employee's skills of the skill and employees.
+     */
+    @Query("SELECT es FROM EmployeeSkill es JOIN FETCH es.employee e JOIN FETCH e.company JOIN FETCH es.skill WHERE es.id.skill = :skillId AND es.id.employee IN :employeeIds")
+    List<EmployeeSkill> findBySkillAndEmployeeIds(@Param("skillId") String skillId,
+            @Param("employeeIds") Collection<String> employeeIds);
 }
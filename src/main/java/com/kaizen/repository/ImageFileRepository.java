@@ -0,0 +1,97 @@
+package com.kaizen.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.kaizen.model.entity.ImageFile;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ImageFile specific extension of
+ * {@link org.springframework.data.jpa.repository.JpaRepository}.
+ *
+ * <p>
+ * The reference count is only changed by single update statements, so that
+ * concurrent uploads and deletes of the same content never lose a reference.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-22
+ */
+public interface ImageFileRepository extends JpaRepository<ImageFile, Long> {
+    /**
+     * Find the file with the specific content hash.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @return the file, or empty if the content is not stored.
+     */
+    Optional<ImageFile> findByContentHash(String contentHash);
+
+    /**
+     * Find the files that are no longer referenced by any Image, such as those
+     * whose last Image was deleted without deleting them.
+     *
+     * @param pageable the maximum number of files to find.
+     * @return the unreferenced files.
+     */
+    @Query("SELECT f FROM ImageFile f WHERE f.referenceCount <= 0 ORDER BY f.id")
+    List<ImageFile> findUnreferenced(Pageable pageable);
+
+    /**
+     * Add a reference to the file with the specific content hash.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @return the number of files referenced, 0 if the content is not stored.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImageFile f SET f.referenceCount = f.referenceCount + 1 WHERE f.contentHash = :contentHash")
+    int acquire(@Param("contentHash") String contentHash);
+
+    /**
+     * Remove a reference to the file with the specific content hash.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @return the number of files released, 0 if the content is not stored.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImageFile f SET f.referenceCount = f.referenceCount - 1 "
+            + "WHERE f.contentHash = :contentHash AND f.referenceCount > 0")
+    int release(@Param("contentHash") String contentHash);
+
+    /**
+     * Delete the file with the specific content hash if it is no longer
+     * referenced. A file referenced again since it was released is kept.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @return the number of files deleted, 0 or 1.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ImageFile f WHERE f.contentHash = :contentHash AND f.referenceCount <= 0")
+    int deleteUnreferenced(@Param("contentHash") String contentHash);
+
+    /**
+     * Set the URLs of the resized variants of the file with the specific content
+     * hash.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @param smallURL    the URL of the small variant.
+     * @param mediumURL   the URL of the medium variant.
+     * @param largeURL    the URL of the large variant.
+     * @return the number of files updated, 0 or 1.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ImageFile f SET f.smallURL = :smallURL, f.mediumURL = :mediumURL, f.largeURL = :largeURL "
+            + "WHERE f.contentHash = :contentHash")
+    int updateVariantURLs(@Param("contentHash") String contentHash, @Param("smallURL") String smallURL,
+            @Param("mediumURL") String mediumURL, @Param("largeURL") String largeURL);
+}
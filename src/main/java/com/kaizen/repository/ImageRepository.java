@@ -5,7 +5,12 @@ import java.util.List;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.entity.Image;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * News specific extension of
@@ -26,4 +31,70 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
       * @return the list of Images that belongs to the Employee.
       */
     List<Image> findByEmployee(Employee emp);
+
+    /**
+      * Find the ids of the Images whose variants are not resized yet, oldest
+      * first.
+      *
+      * @param pageable the maximum number of ids to find.
+      * @return the ids of the Images without variants.
+      */
+    @Query("SELECT i.id FROM Image i WHERE i.largeURL IS NULL ORDER BY i.id")
+    List<Long> findIdsWithoutVariants(Pageable pageable);
+
+    /**
+      * Set the URLs of the resized variants of the Image with the specific id,
+      * without loading it.
+      *
+      * @param id        the id of the Image.
+      * @param smallURL  the URL of the small variant.
+      * @param mediumURL the URL of the medium variant.
+      * @param largeURL  the URL of the large variant.
+      * @return the number of Images updated, 0 or 1.
+      */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Image i SET i.smallURL = :smallURL, i.mediumURL = :mediumURL, i.largeURL = :largeURL "
+            + "WHERE i.id = :id")
+    int updateVariantURLs(@Param("id") Long id, @Param("smallURL") String smallURL,
+            @Param("mediumURL") String mediumURL, @Param("largeURL") String largeURL);
+
+    /**
+      * Find the Images that are older than the current profile image of their
+      * Employee, oldest first.
+      *
+      * @param pageable the maximum number of Images to find.
+      * @return the Images replaced by a newer profile image.
+      */
+    @Query("SELECT i FROM Image i JOIN i.employee e WHERE e.profileImage.imageId > i.id ORDER BY i.id")
+    List<Image> findReplaced(Pageable pageable);
+
+    /**
+      * Find the Images of the specific Employee that are older than its current
+      * profile image.
+      *
+      * @param employeeId the work permit number of the Employee.
+      * @return the Images of the Employee replaced by a newer profile image.
+      */
+    @Query("SELECT i FROM Image i JOIN i.employee e WHERE e.workPermitNumber = :employeeId "
+            + "AND e.profileImage.imageId > i.id")
+    List<Image> findReplacedByEmployeeId(@Param("employeeId") String employeeId);
+
+    /**
+      * Find the Images of the specific Employee.
+      *
+      * @param employeeId the work permit number of the Employee.
+      * @return the Images of the Employee.
+      */
+    @Query("SELECT i FROM Image i WHERE i.employee.workPermitNumber = :employeeId")
+    List<Image> findByEmployeeId(@Param("employeeId") String employeeId);
+
+    /**
+      * Find the Images of the Employees of the specific Company.
+      *
+      * @param companyId the UEN of the Company.
+      * @return the Images of the Company's Employees.
+      */
+    @Query("SELECT i FROM Image i JOIN i.employee e WHERE e.company.UEN = :companyId")
+    List<Image> findByCompanyId(@Param("companyId") String companyId);
 }
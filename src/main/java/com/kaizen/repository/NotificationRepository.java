@@ -0,0 +1,16 @@
+package com.kaizen.repository;
+
+import com.kaizen.model.entity.Notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Notification specific extension of
+ * {@link org.springframework.data.jpa.repository.JpaRepository}.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+public interface NotificationRepository extends JpaRepository<Notification, Integer> {
+}
@@ -1,11 +1,14 @@
 package com.kaizen.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import javax.transaction.Transactional;
 
+import com.kaizen.model.dto.ProjectCompanyEntry;
 import com.kaizen.model.dto.ProjectCompanyDTO;
+import com.kaizen.model.dto.ProjectEmployeeEntry;
 import com.kaizen.model.dto.ProjectEmployeeDTO;
 import com.kaizen.model.entity.Project;
 
@@ -36,6 +39,20 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query(value = "INSERT INTO project_employee (project_id, employee_id) VALUES (:projectId, :employeeId)", nativeQuery = true)
     public void addProjectEmployee(@Param("projectId") Long projectId, @Param("employeeId") String employeeId);
 
+    /**
+     * Map the specific project and employees, with one statement for all the
+     * employees.
+     *
+     * @param projectId   the id of the project to map.
+     * @param employeeIds the ids of the employees to map.
+     * @return the number of mappings added.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO project_employee (project_id, employee_id) SELECT :projectId, e.work_permit_number FROM employee e WHERE e.work_permit_number IN (:employeeIds)", nativeQuery = true)
+    public int addProjectEmployees(@Param("projectId") Long projectId,
+            @Param("employeeIds") Collection<String> employeeIds);
+
     /**
      * Update the project with specific field's values.
      *
@@ -65,6 +82,29 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query(value = "DELETE FROM project_employee pe WHERE pe.project_id = :projectId", nativeQuery = true)
     public void deleteProjectEmployees(@Param("projectId") Long projectId);
 
+    /**
+     * Delete the specific employees involved in the specific project, with one
+     * statement for all the employees.
+     *
+     * @param projectId   the id of the project to unmap.
+     * @param employeeIds the ids of the employees to unmap.
+     * @return the number of mappings deleted.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM project_employee WHERE project_id = :projectId AND employee_id IN (:employeeIds)", nativeQuery = true)
+    public int deleteProjectEmployees(@Param("projectId") Long projectId,
+            @Param("employeeIds") Collection<String> employeeIds);
+
+    /**
+     * Get the ids of the employees involved in the specific project.
+     *
+     * @param projectId the id of the project that the employees involved in.
+     * @return the ids of the employees involved in the specific project.
+     */
+    @Query(value = "SELECT pe.employee_id FROM project_employee pe WHERE pe.project_id = :projectId", nativeQuery = true)
+    public List<String> getProjectEmployeeIds(@Param("projectId") Long projectId);
+
     /**
      * Get project ids that the specific company involved in.
      *
@@ -91,4 +131,24 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
      */
     @Query(nativeQuery = true)
     public List<ProjectCompanyDTO> getProjectCompanyDTOs(@Param("projectId") Long projectId);
-}
\ No newline at end of file
+
+    /**
+     * Get the employees involved in each of the specific projects, with one
+     * query for all the projects.
+     *
+     * @param projectIds the ids of the projects that the employees involved in.
+     * @return the employees of the projects, ordered by project's id.
+     */
+    @Query(nativeQuery = true)
+    public List<ProjectEmployeeEntry> getProjectEmployeeEntries(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * Get the companies involved in each of the specific projects, with one
+     * query for all the projects.
+     *
+     * @param projectIds the ids of the projects that the companies involved in.
+     * @return the companies of the projects, ordered by project's id.
+     */
+    @Query(nativeQuery = true)
+    public List<ProjectCompanyEntry> getProjectCompanyEntries(@Param("projectIds") Collection<Long> projectIds);
+}
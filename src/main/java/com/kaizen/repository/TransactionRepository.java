@@ -2,14 +2,20 @@
 
  import java.util.List;
 
- import com.kaizen.model.entity.EmployeeSkill;
+ import com.kaizen.model.dto.TransactionDTO;
  import com.kaizen.model.entity.Transaction;
 
  import com.kaizen.model.entity.TransactionKey;
+ import org.springframework.data.domain.Pageable;
  import org.springframework.data.jpa.repository.JpaRepository;
+ import org.springframework.data.jpa.repository.Modifying;
+ import org.springframework.data.jpa.repository.Query;
+ import org.springframework.data.repository.query.Param;
 
  import java.time.LocalDate;
 
+ import javax.transaction.Transactional;
+
  /**
   * Transaction specific extension of
   * {@link org.springframework.data.jpa.repository.JpaRepository}.
@@ -53,5 +59,80 @@
       * @return the employee's transactions.
       */
      List<Transaction> findTransactionsByIdEmployee(String employeeId);
- }
 
+     /**
+      * Check whether an employee has a transaction that collides with the loan
+      * period from the start date to the end date. A loan may start on the day
+      * another loan of the employee ends; any other shared day, including one
+      * period containing the other, is a collision.
+      *
+      * @param employeeId the id of the employee.
+      * @param startDate  the start date of the loan period.
+      * @param endDate    the end date of the loan period.
+      * @return true if the employee has a colliding transaction.
+      */
+     @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Transaction t "
+             + "WHERE t.id.employee = :employeeId AND (t.id.startDate = :startDate "
+             + "OR (t.id.startDate < :endDate AND t.endDate > :startDate))")
+     boolean existsOverlappingTransaction(@Param("employeeId") String employeeId,
+             @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+ 
+     /**
+      * Find the transaction DTOs where the company is the loan company, with the
+      * specific status and overlapping the period from the start date to the end
+      * date, latest start date first.
+      *
+      * @param companyId the id of the loan company.
+      * @param status    the status of the transactions, or null for any status.
+      * @param from      the start date of the period, or null for no start.
+      * @param to        the end date of the period, or null for no end.
+      * @param pageable  the page of transactions to find.
+      * @return the page of the loan company's transaction DTOs.
+      */
+     @Query("SELECT new com.kaizen.model.dto.TransactionDTO(t.id.startDate, t.endDate, t.totalCost, "
+             + "t.id.loanCompany, t.id.borrowingCompany, t.id.employee, t.status) FROM Transaction t "
+             + "WHERE t.id.loanCompany = :companyId AND (:status IS NULL OR t.status = :status) "
+             + "AND (:from IS NULL OR t.endDate >= :from) AND (:to IS NULL OR t.id.startDate <= :to) "
+             + "ORDER BY t.id.startDate DESC, t.id.employee ASC")
+     List<TransactionDTO> findTransactionDTOsByLoanCompany(@Param("companyId") String companyId,
+             @Param("status") String status, @Param("from") LocalDate from, @Param("to") LocalDate to,
+             Pageable pageable);
+
+     /**
+      * Find the transaction DTOs where the company is the borrowing company, with
+      * the specific status and overlapping the period from the start date to the
+      * end date, latest start date first.
+      *
+      * @param companyId the id of the borrowing company.
+      * @param status    the status of the transactions, or null for any status.
+      * @param from      the start date of the period, or null for no start.
+      * @param to        the end date of the period, or null for no end.
+      * @param pageable  the page of transactions to find.
+      * @return the page of the borrowing company's transaction DTOs.
+      */
+     @Query("SELECT new com.kaizen.model.dto.TransactionDTO(t.id.startDate, t.endDate, t.totalCost, "
+             + "t.id.loanCompany, t.id.borrowingCompany, t.id.employee, t.status) FROM Transaction t "
+             + "WHERE t.id.borrowingCompany = :companyId AND (:status IS NULL OR t.status = :status) "
+             + "AND (:from IS NULL OR t.endDate >= :from) AND (:to IS NULL OR t.id.startDate <= :to) "
+             + "ORDER BY t.id.startDate DESC, t.id.employee ASC")
+     List<TransactionDTO> findTransactionDTOsByBorrowingCompany(@Param("companyId") String companyId,
+             @Param("status") String status, @Param("from") LocalDate from, @Param("to") LocalDate to,
+             Pageable pageable);
+ 
+     /**
+      * Change the status of the employee's transaction of the specific start date,
+      * only if it is currently in the expected status.
+      *
+      * @param employeeId     the id of the employee of the transaction.
+      * @param startDate      the start date of the transaction.
+      * @param expectedStatus the status the transaction must currently be in.
+      * @param status         the status to change the transaction to.
+      * @return the number of transactions changed, 0 or 1.
+      */
+     @Transactional
+     @Modifying(clearAutomatically = true)
+     @Query("UPDATE Transaction t SET t.status = :status WHERE t.id.employee = :employeeId "
+             + "AND t.id.startDate = :startDate AND t.status = :expectedStatus")
+     int updateStatus(@Param("employeeId") String employeeId, @Param("startDate") LocalDate startDate,
+             @Param("expectedStatus") String expectedStatus, @Param("status") String status);
+ }
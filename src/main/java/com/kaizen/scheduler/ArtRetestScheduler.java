@@ -0,0 +1,43 @@
+package com.kaizen.scheduler;
+
+import java.time.LocalDate;
+
+import com.kaizen.service.art.ArtService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code ArtRetestScheduler} is a scheduler for the ART's retest notifications.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@Component
+public class ArtRetestScheduler {
+    /**
+     * The ART's service used to do the business's logic for ART.
+     */
+    private final ArtService artService;
+
+    /**
+     * Create an ART's retest scheduler with the specific ART's service.
+     * 
+     * @param artService the ART's service used by the application.
+     */
+    @Autowired
+    public ArtRetestScheduler(ArtService artService) {
+        this.artService = artService;
+    }
+
+    /**
+     * Notify the retests that become due or overdue every hour e.g. 1.05am,
+     * 2.05am, 3.05am, ...etc.
+     */
+    @Scheduled(cron = "0 5 0/1 * * *")
+    public void notifyRetests() {
+        artService.notifyRetests(LocalDate.now());
+    }
+}
@@ -0,0 +1,58 @@
+package com.kaizen.scheduler;
+
+import com.kaizen.service.image.ImagePruner;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code ImagePruneScheduler} is a scheduler for the profile images and the
+ * images they replaced.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-21
+ */
+@Component
+public class ImagePruneScheduler {
+    /**
+     * The image's pruner that deletes the replaced images.
+     */
+    private final ImagePruner imagePruner;
+
+    /**
+     * Create an image's prune scheduler with the specific image's pruner.
+     *
+     * @param imagePruner the image's pruner used by the application.
+     */
+    @Autowired
+    public ImagePruneScheduler(ImagePruner imagePruner) {
+        this.imagePruner = imagePruner;
+    }
+
+    /**
+     * Point the employees without a profile image to their newest image when the
+     * application starts, such as those with images uploaded before the profile
+     * image was kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillProfileImages() {
+        imagePruner.backfillProfileImages();
+    }
+
+    /**
+     * Point the employees without a profile image to their newest image, delete
+     * the replaced images, such as those of employees that did not fit the
+     * queue, and delete the stored files that no image references, every hour
+     * e.g. 1.20am, 2.20am, 3.20am, ...etc.
+     */
+    @Scheduled(cron = "0 20 0/1 * * *")
+    public void pruneReplacedImages() {
+        imagePruner.backfillProfileImages();
+        imagePruner.pruneReplaced();
+        imagePruner.pruneUnreferenced();
+    }
+}
@@ -0,0 +1,42 @@
+package com.kaizen.scheduler;
+
+import com.kaizen.service.image.ImageThumbnailer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code ImageThumbnailScheduler} is a scheduler for the variants of the
+ * profile images.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-20
+ */
+@Component
+public class ImageThumbnailScheduler {
+    /**
+     * The image's thumbnailer that resizes the images.
+     */
+    private final ImageThumbnailer imageThumbnailer;
+
+    /**
+     * Create an image's thumbnail scheduler with the specific image's thumbnailer.
+     * 
+     * @param imageThumbnailer the image's thumbnailer used by the application.
+     */
+    @Autowired
+    public ImageThumbnailScheduler(ImageThumbnailer imageThumbnailer) {
+        this.imageThumbnailer = imageThumbnailer;
+    }
+
+    /**
+     * Queue the images that have no variants yet, such as those uploaded while
+     * the queue was full, every hour e.g. 1.10am, 2.10am, 3.10am, ...etc.
+     */
+    @Scheduled(cron = "0 10 0/1 * * *")
+    public void resizeMissingVariants() {
+        imageThumbnailer.enqueueMissing();
+    }
+}
@@ -0,0 +1,43 @@
+package com.kaizen.scheduler;
+
+import com.kaizen.security.jwt.CachedJWKSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code JwkSetScheduler} is a scheduler for the JWK set that signs the id
+ * tokens.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-18
+ */
+@Component
+public class JwkSetScheduler {
+    /**
+     * The source of the JWK set that signs the id tokens.
+     */
+    private final CachedJWKSource jwkSource;
+
+    /**
+     * Create a JWK set's scheduler with the specific JWK source.
+     * 
+     * @param jwkSource the JWK source used by the application.
+     */
+    @Autowired
+    public JwkSetScheduler(CachedJWKSource jwkSource) {
+        this.jwkSource = jwkSource;
+    }
+
+    /**
+     * Refresh the JWK set in the background every refresh interval of the JWT
+     * configuration, while the last loaded JWK set keeps being served.
+     */
+    @Scheduled(fixedDelayString = "${jwt.aws.jwkRefreshIntervalMillis:3600000}",
+            initialDelayString = "${jwt.aws.jwkRefreshIntervalMillis:3600000}")
+    public void refreshJwkSet() {
+        jwkSource.refreshInBackground();
+    }
+}
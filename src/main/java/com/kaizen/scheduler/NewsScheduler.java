@@ -32,13 +32,14 @@ public class NewsScheduler {
     }
 
     /**
-     * Update the news in repository at the start of application and every hour e.g.
-     * 1am, 2am, 3am, ...etc.
+     * Update the news in repository and publish their snapshot at the start of
+     * application and every hour e.g. 1am, 2am, 3am, ...etc.
      */
     @Bean(initMethod = "init")
     @Scheduled(cron = "0 0 0/1 * * *")
     public void updateNewsRepository() {
         newsService.updateRepository();
+        newsService.publishSnapshot();
     }
 
 }
@@ -32,13 +32,14 @@ public class UpdatesScheduler {
     }
 
     /**
-     * Update the updates in repository at the start of application and every hour e.g.
-     * 1am, 2am, 3am, ...etc.
+     * Update the updates in repository and publish their snapshot at the start of
+     * application and every hour e.g. 1am, 2am, 3am, ...etc.
      */
     @Bean(initMethod = "init")
     @Scheduled(cron = "0 0 0/1 * * *")
     public void updateUpdatesRepository() {
         updatesService.updateRepository();
+        updatesService.publishSnapshot();
     }
 
 }
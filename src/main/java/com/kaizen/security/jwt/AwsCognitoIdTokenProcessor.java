@@ -1,8 +1,13 @@
 package com.kaizen.security.jwt;
 
 import com.kaizen.security.UserRole;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -12,13 +17,17 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletRequest;
+import java.time.Clock;
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.List.of;
 
 /**
  * {@code AwsCognitoIdTokenProcessor} is the AWS Cognito Id Token Processor for
- * the application.
+ * the application. The claims of a verified token are cached until the token
+ * expires, so that the signature of a token sent again is not verified again.
+ * Each request gets its own authentication built from the claims.
  *
  * @author Gregory Koh
  * @version 1.0
@@ -26,6 +35,11 @@ import static java.util.List.of;
  */
 @Component
 public class AwsCognitoIdTokenProcessor {
+    /**
+     * Represents the maximum number of verified tokens in the cache.
+     */
+    private static final int CACHE_MAXIMUM_SIZE = 10000;
+
     /**
      * Represents the JWT configuration used by the application.
      */
@@ -38,6 +52,18 @@ public class AwsCognitoIdTokenProcessor {
     @Autowired
     private ConfigurableJWTProcessor<SecurityContext> configurableJWTProcessor;
 
+    /**
+     * Represents the source of the JWK set that signs the id tokens.
+     */
+    @Autowired
+    private JWKSource<SecurityContext> jwkSource;
+
+    /**
+     * The cache of the claims of the verified tokens.
+     */
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(CACHE_MAXIMUM_SIZE,
+            Clock.systemUTC());
+
     /**
      * Get authentication from the specific http servlet request.
      * 
@@ -48,19 +74,67 @@ public class AwsCognitoIdTokenProcessor {
     public Authentication authenticate(HttpServletRequest request) throws Exception {
         String idToken = request.getHeader(jwtConfiguration.getHttpHeader());
         if (idToken != null) {
-            JWTClaimsSet claims = configurableJWTProcessor.process(getBearerToken(idToken), null);
+            String token = getBearerToken(idToken);
+            Optional<JWTClaimsSet> cached = verifiedTokenCache.get(token, this::isKeyActive);
+            if (cached.isPresent()) {
+                return createAuthentication(cached.get());
+            }
+            SignedJWT signedJWT = SignedJWT.parse(token);
+            JWTClaimsSet claims = configurableJWTProcessor.process(signedJWT, null);
             validateIssuer(claims);
             verifyIfIdToken(claims);
-            String username = getUserNameFrom(claims);
-            if (username != null) {
-                List<GrantedAuthority> grantedAuthorities = of(new SimpleGrantedAuthority(getRoleFrom(claims)));
-                User user = new User(username, "", of());
-                return new JwtAuthentication(user, claims, grantedAuthorities);
+            JwtAuthentication authentication = createAuthentication(claims);
+            if (authentication != null && claims.getExpirationTime() != null) {
+                verifiedTokenCache.put(token, claims, signedJWT.getHeader().getKeyID(),
+                        claims.getExpirationTime().toInstant());
             }
+            return authentication;
         }
         return null;
     }
 
+    /**
+     * Get the counters of the cache of the verified tokens.
+     * 
+     * @return the counters of the cache.
+     */
+    public VerifiedTokenCacheStats getCacheStats() {
+        return verifiedTokenCache.getStats();
+    }
+
+    /**
+     * Create a new authentication from the specific verified claims.
+     * 
+     * @param claims the verified claims of the id token.
+     * @return a jwt authentication of the claims' user, or null if the claims
+     *         have no user name.
+     */
+    private JwtAuthentication createAuthentication(JWTClaimsSet claims) {
+        String username = getUserNameFrom(claims);
+        if (username == null) {
+            return null;
+        }
+        List<GrantedAuthority> grantedAuthorities = of(new SimpleGrantedAuthority(getRoleFrom(claims)));
+        User user = new User(username, "", of());
+        return new JwtAuthentication(user, claims, grantedAuthorities);
+    }
+
+    /**
+     * Check if the key with the specific id is still in the JWK set, so that the
+     * tokens it signed can still be served from the cache.
+     * 
+     * @param keyId the id of the key.
+     * @return true if the key is in the JWK set.
+     */
+    private boolean isKeyActive(String keyId) {
+        try {
+            JWKSelector selector = new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+            return !jwkSource.get(selector, null).isEmpty();
+        } catch (KeySourceException e) {
+            return false;
+        }
+    }
+
     /**
      * Get role from the specific JWT Claims Set.
      * 
@@ -5,32 +5,59 @@ import org.apache.commons.logging.LogFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.*;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * {@code AwsCognitoJwtAuthFilter} is the AWS Cognito JWT authentication filter for the
- * application.
+ * application. Only the api endpoints are authenticated, so the static
+ * frontend assets are served without processing the id token.
  *
  * @author Gregory Koh
  * @version 1.0
  * @since 2021-10-15
  */
 @Component
-public class AwsCognitoJwtAuthFilter extends GenericFilter {
+public class AwsCognitoJwtAuthFilter extends OncePerRequestFilter {
     /**
      * A logger to print error message for {@code AwsCognitoJwtAuthFilter}.
      */
     private static final Log logger = LogFactory.getLog(AwsCognitoJwtAuthFilter.class);
 
+    /**
+     * Represents the prefix of the paths of the api endpoints.
+     */
+    private static final String API_PATH_PREFIX = "/api/";
+
+    /**
+     * Represents the minimum interval in nanoseconds between two logs of the id
+     * token's processing errors.
+     */
+    private static final long LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
     /**
      * Represents the cognito id token processor of the AWS Cognito JWT
      * authentication filter.
      */
     private AwsCognitoIdTokenProcessor cognitoIdTokenProcessor;
 
+    /**
+     * Represents the number of id token's processing errors since the last log.
+     */
+    private final AtomicLong suppressedErrors = new AtomicLong();
+
+    /**
+     * Represents when in nanoseconds the next id token's processing error can be
+     * logged.
+     */
+    private final AtomicLong nextLogNanos = new AtomicLong(System.nanoTime());
+
     /**
      * Create a AWS Cognito JWT authentication filter with the specific cognito id
      * token processor.
@@ -42,35 +69,66 @@ public class AwsCognitoJwtAuthFilter extends GenericFilter {
     }
 
     /**
-     * The <code>doFilter</code> method of the Filter is called by the container
-     * each time a request/response pair is passed through the chain due to a client
-     * request for a resource at the end of the chain. The FilterChain passed in to
-     * this method allows the Filter to pass on the request and response to the next
-     * entity in the chain.
+     * Check if the specific request is not for an api endpoint, so that it is not
+     * authenticated.
+     * 
+     * @param request the request to check.
+     * @return true if the request is not for an api endpoint.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(API_PATH_PREFIX);
+    }
+
+    /**
+     * Authenticate the request with its id token, then pass on the request and
+     * response to the next entity in the chain.
      *
-     * @param request  The request to process
-     * @param response The response associated with the request
-     * @param chain    Provides access to the next filter in the chain for this
-     *                 filter to pass the request and response to for further
-     *                 processing
+     * @param request     The request to process
+     * @param response    The response associated with the request
+     * @param filterChain Provides access to the next filter in the chain for this
+     *                    filter to pass the request and response to for further
+     *                    processing
      *
      * @throws IOException      if an I/O error occurs during this filter's
      *                          processing of the request
      * @throws ServletException if the processing fails for any other reason
      */
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain filterChain)
-            throws IOException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws IOException, ServletException {
         try {
-            Authentication authentication = cognitoIdTokenProcessor.authenticate((HttpServletRequest) request);
+            Authentication authentication = cognitoIdTokenProcessor.authenticate(request);
             if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
-        } catch (Exception var6) {
-            logger.error("Cognito id Token processing error", var6);
+        } catch (Exception e) {
+            logError(e);
             SecurityContextHolder.clearContext();
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Log the specific id token's processing error without its stack trace, at
+     * most once per log interval with the number of errors suppressed since the
+     * last log.
+     * 
+     * @param e the id token's processing error.
+     */
+    private void logError(Exception e) {
+        long suppressed = suppressedErrors.incrementAndGet();
+        long next = nextLogNanos.get();
+        long now = System.nanoTime();
+        if (now - next < 0 || !nextLogNanos.compareAndSet(next, now + LOG_INTERVAL_NANOS)) {
+            return;
+        }
+        suppressedErrors.addAndGet(-suppressed);
+        if (logger.isWarnEnabled()) {
+            logger.warn("Cognito id Token processing error: " + e + " (" + suppressed
+                    + " errors since last log)");
+        }
+    }
 }
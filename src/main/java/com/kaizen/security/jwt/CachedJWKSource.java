@@ -0,0 +1,218 @@
+package com.kaizen.security.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.ResourceRetriever;
+
+import javax.annotation.PreDestroy;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code CachedJWKSource} is a source of the JWK set that signs the id tokens,
+ * served from memory so that verifying a token never waits for the JWK set to
+ * be fetched.
+ *
+ * <p>
+ * The JWK set is loaded when the application starts and refreshed in the
+ * background, on a schedule and when a token is signed by an unknown key. The
+ * last loaded JWK set keeps being served while it is refreshed or if a refresh
+ * fails. Refreshes triggered by unknown keys are at most once per minimum
+ * interval, so that tokens with made up keys cannot flood the JWK set's host.
+ *
+ * <p>
+ * The JWK set is read from a {@code file:} URL or fetched from any other URL,
+ * so that it can be served by a local file or a local HTTP server.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-18
+ */
+public class CachedJWKSource implements JWKSource<SecurityContext> {
+    /**
+     * Represents the URL of the JWK set.
+     */
+    private final URL jwkSetUrl;
+
+    /**
+     * The retriever used to fetch the JWK set from a URL that is not a file.
+     */
+    private final ResourceRetriever resourceRetriever;
+
+    /**
+     * Represents the minimum interval between two refreshes triggered by unknown
+     * keys.
+     */
+    private final Duration minRefreshInterval;
+
+    /**
+     * The clock used to space the refreshes triggered by unknown keys.
+     */
+    private final Clock clock;
+
+    /**
+     * The thread that refreshes the JWK set in the background.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "jwk-set-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Represents if a background refresh is queued or running.
+     */
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    /**
+     * Represents the last loaded JWK set, or null if it was never loaded.
+     */
+    private volatile JWKSet jwkSet;
+
+    /**
+     * Represents when the last refresh triggered by an unknown key was started.
+     */
+    private Instant lastTriggeredRefresh = Instant.MIN;
+
+    /**
+     * Create a JWK source with the specific URL, retriever and minimum interval.
+     *
+     * @param jwkSetUrl          the URL of the JWK set.
+     * @param resourceRetriever  the retriever used to fetch the JWK set.
+     * @param minRefreshInterval the minimum interval between two refreshes
+     *                           triggered by unknown keys.
+     * @param clock              the clock used to space the refreshes.
+     */
+    public CachedJWKSource(URL jwkSetUrl, ResourceRetriever resourceRetriever, Duration minRefreshInterval,
+            Clock clock) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.resourceRetriever = resourceRetriever;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the keys of the JWK set that match the specific selector, without ever
+     * fetching the JWK set on the calling thread. A selector that asks for an
+     * unknown key, or any selector before the JWK set is first loaded, triggers
+     * a background refresh and gets no keys until the refresh has loaded it.
+     *
+     * @param jwkSelector the selector of the keys.
+     * @param context     the security context, unused.
+     * @return the matching keys.
+     */
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        JWKSet current = jwkSet;
+        if (current == null) {
+            refreshInBackground();
+            return List.of();
+        }
+        List<JWK> keys = jwkSelector.select(current);
+        if (keys.isEmpty() && isRefreshDue()) {
+            refreshInBackground();
+        }
+        return keys;
+    }
+
+    /**
+     * Load the JWK set and serve it from now on. The last loaded JWK set is kept
+     * if it could not be loaded.
+     *
+     * @throws IOException    if the JWK set could not be read or fetched.
+     * @throws ParseException if the JWK set is malformed.
+     */
+    public void refresh() throws IOException, ParseException {
+        jwkSet = load();
+    }
+
+    /**
+     * Load the JWK set in the background, unless a background refresh is already
+     * queued or running.
+     */
+    public void refreshInBackground() {
+        if (refreshing.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    refreshQuietly();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the last loaded JWK set.
+     *
+     * @return the last loaded JWK set, or null if it was never loaded.
+     */
+    public JWKSet getJWKSet() {
+        return jwkSet;
+    }
+
+    /**
+     * Stop the background refreshes when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Load the JWK set, keeping the last loaded one if it could not be loaded.
+     */
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (IOException | ParseException e) {
+            // keep serving the last loaded JWK set until a refresh succeeds
+        }
+    }
+
+    /**
+     * Check if a refresh triggered by an unknown key can start now, and record
+     * it as started if so.
+     *
+     * @return true if the refresh can start.
+     */
+    private synchronized boolean isRefreshDue() {
+        Instant now = clock.instant();
+        if (now.isBefore(lastTriggeredRefresh.plus(minRefreshInterval))) {
+            return false;
+        }
+        lastTriggeredRefresh = now;
+        return true;
+    }
+
+    /**
+     * Read or fetch the JWK set from its URL.
+     *
+     * @return the JWK set.
+     * @throws IOException    if the JWK set could not be read or fetched.
+     * @throws ParseException if the JWK set is malformed.
+     */
+    private JWKSet load() throws IOException, ParseException {
+        if ("file".equals(jwkSetUrl.getProtocol())) {
+            try {
+                return JWKSet.load(new File(jwkSetUrl.toURI()));
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        return JWKSet.parse(resourceRetriever.retrieveResource(jwkSetUrl).getContent());
+    }
+}
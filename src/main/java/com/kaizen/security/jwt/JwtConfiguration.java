@@ -53,6 +53,24 @@ public class JwtConfiguration {
      */
     private String httpHeader;
 
+    /**
+     * Represents the URL of the JWK set of the JWT configuration, which overrides
+     * the URL of the user pool e.g. a local file or a local HTTP server.
+     */
+    private String jwkSetUrl;
+
+    /**
+     * Represents the interval in milliseconds between two scheduled refreshes of
+     * the JWK set of the JWT configuration.
+     */
+    private long jwkRefreshIntervalMillis = 3600000;
+
+    /**
+     * Represents the minimum interval in milliseconds between two refreshes of
+     * the JWK set triggered by unknown keys of the JWT configuration.
+     */
+    private long jwkMinRefreshIntervalMillis = 60000;
+
     /**
      * Create a JWT configuration.
      */
@@ -60,11 +78,15 @@ public class JwtConfiguration {
     }
 
     /**
-     * Gets the JWK URL of the JWT configuration.
+     * Gets the JWK URL of the JWT configuration, which is the URL of the JWK set
+     * if set or else the URL of the user pool's JWK set.
      * 
      * @return a string representing the JWK URL.
      */
     public String getJwkUrl() {
+        if (jwkSetUrl != null && !jwkSetUrl.isBlank()) {
+            return jwkSetUrl;
+        }
         return String.format("https://cognito-idp.%s.amazonaws.com/%s/.well-known/jwks.json", region, userPoolId);
     }
 
@@ -220,4 +242,64 @@ public class JwtConfiguration {
     public void setHttpHeader(String httpHeader) {
         this.httpHeader = httpHeader;
     }
+
+    /**
+     * Gets the URL of the JWK set that overrides the URL of the user pool.
+     * 
+     * @return a string representing the URL of the JWK set.
+     */
+    public String getJwkSetUrl() {
+        return jwkSetUrl;
+    }
+
+    /**
+     * Sets the URL of the JWK set that overrides the URL of the user pool.
+     * 
+     * @param jwkSetUrl a string containing the URL of the JWK set.
+     */
+    public void setJwkSetUrl(String jwkSetUrl) {
+        this.jwkSetUrl = jwkSetUrl;
+    }
+
+    /**
+     * Gets the interval in milliseconds between two scheduled refreshes of the
+     * JWK set.
+     * 
+     * @return a long representing the interval in milliseconds.
+     */
+    public long getJwkRefreshIntervalMillis() {
+        return jwkRefreshIntervalMillis;
+    }
+
+    /**
+     * Sets the interval in milliseconds between two scheduled refreshes of the
+     * JWK set.
+     * 
+     * @param jwkRefreshIntervalMillis a long containing the interval in
+     *                                 milliseconds.
+     */
+    public void setJwkRefreshIntervalMillis(long jwkRefreshIntervalMillis) {
+        this.jwkRefreshIntervalMillis = jwkRefreshIntervalMillis;
+    }
+
+    /**
+     * Gets the minimum interval in milliseconds between two refreshes of the JWK
+     * set triggered by unknown keys.
+     * 
+     * @return a long representing the minimum interval in milliseconds.
+     */
+    public long getJwkMinRefreshIntervalMillis() {
+        return jwkMinRefreshIntervalMillis;
+    }
+
+    /**
+     * Sets the minimum interval in milliseconds between two refreshes of the JWK
+     * set triggered by unknown keys.
+     * 
+     * @param jwkMinRefreshIntervalMillis a long containing the minimum interval in
+     *                                    milliseconds.
+     */
+    public void setJwkMinRefreshIntervalMillis(long jwkMinRefreshIntervalMillis) {
+        this.jwkMinRefreshIntervalMillis = jwkMinRefreshIntervalMillis;
+    }
 }
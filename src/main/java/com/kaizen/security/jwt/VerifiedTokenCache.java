@@ -0,0 +1,220 @@
+package com.kaizen.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import com.kaizen.util.Sha256;
+import com.nimbusds.jwt.JWTClaimsSet;
+
+/**
+ * {@code VerifiedTokenCache} is a bounded cache of the claims of verified id
+ * tokens, so that a token sent again is not verified again.
+ *
+ * <p>
+ * Tokens are keyed by their SHA-256 digest, so the cache does not hold the
+ * tokens themselves. The claims are kept until their token expires, and only
+ * while the key that signed the token is still in the JWK set, so a key removed
+ * by rotation stops its tokens from being served. The least recently used
+ * claims are evicted when the cache is full. Only the immutable claims are
+ * cached, so that each request builds its own authentication from them.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-17
+ */
+public class VerifiedTokenCache {
+    /**
+     * Represents the maximum number of tokens in the cache.
+     */
+    private final int maximumSize;
+
+    /**
+     * The clock used to expire the tokens.
+     */
+    private final Clock clock;
+
+    /**
+     * Represents the cached tokens keyed by token's digest, in least recently
+     * used order.
+     */
+    private final LinkedHashMap<String, CachedToken> tokens = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Represents the number of lookups answered by the cache.
+     */
+    private long hitCount;
+
+    /**
+     * Represents the number of lookups that were not answered by the cache.
+     */
+    private long missCount;
+
+    /**
+     * Represents the number of tokens removed because they expired, their key
+     * was rotated or the cache was full.
+     */
+    private long evictionCount;
+
+    /**
+     * Create a verified token's cache with the specific bounds.
+     *
+     * @param maximumSize the maximum number of tokens in the cache.
+     * @param clock       the clock used to expire the tokens.
+     */
+    public VerifiedTokenCache(int maximumSize, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the verified claims of the specific token from the cache, if the token
+     * has not expired and the key that signed it is still active.
+     *
+     * @param token       the id token.
+     * @param isKeyActive checks if the key with the specific id is still in the
+     *                    JWK set, called outside the cache's lock.
+     * @return the cached claims, or empty if the token has to be verified.
+     */
+    public Optional<JWTClaimsSet> get(String token, Predicate<String> isKeyActive) {
+        String digest = digest(token);
+        CachedToken cached;
+        synchronized (this) {
+            cached = tokens.get(digest);
+            if (cached != null && cached.isExpired(clock.instant())) {
+                tokens.remove(digest);
+                evictionCount++;
+                cached = null;
+            }
+            if (cached == null) {
+                missCount++;
+                return Optional.empty();
+            }
+        }
+        boolean keyActive = isKeyActive.test(cached.keyId);
+        synchronized (this) {
+            if (!keyActive) {
+                if (tokens.remove(digest, cached)) {
+                    evictionCount++;
+                }
+                missCount++;
+                return Optional.empty();
+            }
+            hitCount++;
+            return Optional.of(cached.claims);
+        }
+    }
+
+    /**
+     * Cache the claims of the specific verified token until the specific expiry,
+     * evicting the expired tokens and then the least recently used ones to make
+     * room.
+     *
+     * @param token     the verified id token.
+     * @param claims    the verified claims of the token.
+     * @param keyId     the id of the key that signed the token.
+     * @param expiresAt when the token expires.
+     */
+    public void put(String token, JWTClaimsSet claims, String keyId, Instant expiresAt) {
+        String digest = digest(token);
+        synchronized (this) {
+            Instant now = clock.instant();
+            if (keyId == null || !now.isBefore(expiresAt)) {
+                return;
+            }
+            tokens.put(digest, new CachedToken(claims, keyId, expiresAt));
+            if (tokens.size() <= maximumSize) {
+                return;
+            }
+            Iterator<CachedToken> iterator = tokens.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isExpired(now)) {
+                    iterator.remove();
+                    evictionCount++;
+                }
+            }
+            iterator = tokens.values().iterator();
+            while (tokens.size() > maximumSize) {
+                iterator.next();
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Remove all the tokens from the cache.
+     */
+    public synchronized void invalidateAll() {
+        tokens.clear();
+    }
+
+    /**
+     * Get the counters of the cache.
+     *
+     * @return the counters of the cache.
+     */
+    public synchronized VerifiedTokenCacheStats getStats() {
+        return new VerifiedTokenCacheStats(hitCount, missCount, evictionCount, tokens.size());
+    }
+
+    /**
+     * Get the SHA-256 digest of the specific token.
+     *
+     * @param token the token to digest.
+     * @return the digest of the token, in base64.
+     */
+    private static String digest(String token) {
+        byte[] digest = Sha256.newDigest().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    /**
+     * {@code CachedToken} is the claims of a token in the cache with the key that
+     * signed the token and its expiry.
+     */
+    private static class CachedToken {
+        /**
+         * Represents the verified claims of the token.
+         */
+        private final JWTClaimsSet claims;
+
+        /**
+         * Represents the id of the key that signed the token.
+         */
+        private final String keyId;
+
+        /**
+         * Represents when the token expires.
+         */
+        private final Instant expiresAt;
+
+        /**
+         * Create a cached token with the specific claims, key and expiry.
+         *
+         * @param claims    the verified claims of the token.
+         * @param keyId     the id of the key that signed the token.
+         * @param expiresAt when the token expires.
+         */
+        private CachedToken(JWTClaimsSet claims, String keyId, Instant expiresAt) {
+            this.claims = claims;
+            this.keyId = keyId;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Check if the token expired at the specific instant.
+         *
+         * @param now the instant to check.
+         * @return true if the token expired.
+         */
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.kaizen.security.jwt;
+
+import lombok.*;
+
+/**
+ * Represents the counters of {@link VerifiedTokenCache} at a point in time.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-17
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class VerifiedTokenCacheStats {
+    /**
+     * Represents the number of tokens answered by the cache.
+     */
+    private final long hitCount;
+
+    /**
+     * Represents the number of tokens that had to be verified.
+     */
+    private final long missCount;
+
+    /**
+     * Represents the number of tokens removed because they expired, their key
+     * was rotated or the cache was full.
+     */
+    private final long evictionCount;
+
+    /**
+     * Represents the number of tokens in the cache.
+     */
+    private final int size;
+
+    /**
+     * Get the share of the tokens answered by the cache.
+     *
+     * @return the hit rate between 0 and 1, or 0 if no token was looked up.
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+}
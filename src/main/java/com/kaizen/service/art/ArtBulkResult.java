@@ -0,0 +1,32 @@
+package com.kaizen.service.art;
+
+import java.util.List;
+
+import com.kaizen.model.dto.ArtBulkErrorDTO;
+import com.kaizen.model.entity.Art;
+
+import lombok.*;
+
+/**
+ * Represents the outcome of {@link ArtService#addArts(String, java.util.List)};
+ * the created ARTs and the rows that were not created.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ArtBulkResult {
+    /**
+     * Represents the created ARTs, in the order of their rows.
+     */
+    private final List<Art> created;
+
+    /**
+     * Represents the rows that were not created, ordered by row.
+     */
+    private final List<ArtBulkErrorDTO> errors;
+}
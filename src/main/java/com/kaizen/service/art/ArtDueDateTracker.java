@@ -0,0 +1,309 @@
+package com.kaizen.service.art;
+
+import com.kaizen.model.dto.ArtDueEntry;
+import com.kaizen.model.entity.Art;
+import com.kaizen.repository.ArtRepository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * {@code ArtDueDateTracker} keeps the latest ART of each employee in memory and
+ * queues the dates that its retest becomes due and overdue, so that a sweep
+ * only looks at the ARTs whose dates have come instead of all the ARTs.
+ *
+ * <p>
+ * A retest is due {@link #DUE_LEAD_DAYS} before the ART expires and overdue the
+ * day after it expires. Each is emitted once for the latest ART of an employee;
+ * a newer ART replaces the queued dates of the older one. The tracker is
+ * rebuilt from the repository on start up, and the dates before the day of the
+ * rebuild are treated as already emitted.
+ *
+ * <p>
+ * A sweep is taken in two steps: {@link #peek(LocalDate)} takes the retests
+ * whose dates have come, and they are only emitted once
+ * {@link #acknowledge(LocalDate)} is called after they are notified, or put back
+ * by {@link #restore()} if they could not be. The dates before the last
+ * acknowledged day are treated as already emitted, so tracking an older ART
+ * again does not queue its past dates. The queued dates of an ART that is no
+ * longer tracked, such as one of a deleted employee or company, are skipped.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@Component
+public class ArtDueDateTracker {
+    /**
+     * Represents how many days before the ART expires that its retest is due.
+     */
+    public static final int DUE_LEAD_DAYS = 1;
+
+    /**
+     * The ART's repository that the tracker is built from.
+     */
+    private final ArtRepository artRepository;
+
+    /**
+     * Represents the latest ART of each employee, keyed by employee's id.
+     */
+    private final Map<String, ArtDueEntry> latestEntries = new HashMap<>();
+
+    /**
+     * Represents the dates to check the latest ARTs, earliest first.
+     */
+    private final PriorityQueue<DueCheck> dueChecks = new PriorityQueue<>();
+
+    /**
+     * Represents the checks taken by the last peek that are not acknowledged.
+     */
+    private final List<DueCheck> takenChecks = new ArrayList<>();
+
+    /**
+     * Represents the day before which the dates are treated as already emitted.
+     */
+    private LocalDate emittedBefore = LocalDate.MIN;
+
+    /**
+     * Create an ART's due date tracker with the specific ART's repository.
+     *
+     * @param artRepository the ART's repository used by the application.
+     */
+    public ArtDueDateTracker(ArtRepository artRepository) {
+        this.artRepository = artRepository;
+    }
+
+    /**
+     * Rebuild the tracker from the latest ARTs in the repository once the
+     * application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuild(LocalDate.now());
+    }
+
+    /**
+     * Rebuild the tracker from the latest ARTs in the repository, only queuing
+     * the dates on or after the specific day.
+     *
+     * @param today the day of the rebuild.
+     */
+    public synchronized void rebuild(LocalDate today) {
+        latestEntries.clear();
+        dueChecks.clear();
+        takenChecks.clear();
+        emittedBefore = today;
+        for (ArtDueEntry entry : artRepository.findLatestDueEntries()) {
+            ArtDueEntry current = latestEntries.get(entry.getEmployeeId());
+            if (current == null || entry.isLaterThan(current)) {
+                latestEntries.put(entry.getEmployeeId(), entry);
+            }
+        }
+        for (ArtDueEntry entry : latestEntries.values()) {
+            queue(entry);
+        }
+    }
+
+    /**
+     * Track the specific ART if it is the latest ART of its employee.
+     *
+     * @param art the ART to track.
+     */
+    public synchronized void put(Art art) {
+        put(new ArtDueEntry(art));
+    }
+
+    /**
+     * Track the latest ART of the employee with the specific id again from the
+     * repository, after an ART of the employee is deleted.
+     *
+     * @param employeeId the id of the employee.
+     */
+    public synchronized void refresh(String employeeId) {
+        latestEntries.remove(employeeId);
+        for (ArtDueEntry entry : artRepository.findLatestDueEntriesByEmployee(employeeId)) {
+            put(entry);
+        }
+    }
+
+    /**
+     * Stop tracking the ARTs of the employee with the specific id, after the
+     * employee and its ARTs are deleted.
+     *
+     * @param employeeId the id of the employee.
+     */
+    public synchronized void removeEmployee(String employeeId) {
+        latestEntries.remove(employeeId);
+    }
+
+    /**
+     * Stop tracking the ARTs of the company with the specific id, after the
+     * company and its ARTs are deleted.
+     *
+     * @param companyId the id of the company.
+     */
+    public synchronized void removeCompany(String companyId) {
+        latestEntries.values().removeIf(entry -> Objects.equals(entry.getCompanyId(), companyId));
+    }
+
+    /**
+     * Get the latest ART of the employee with the specific id.
+     *
+     * @param employeeId the id of the employee.
+     * @return the latest ART of the employee, or empty if the employee has no ART.
+     */
+    public synchronized Optional<ArtDueEntry> getLatest(String employeeId) {
+        return Optional.ofNullable(latestEntries.get(employeeId));
+    }
+
+    /**
+     * Take the retests that become due or overdue on or before the specific day,
+     * without emitting them until they are acknowledged. The retests taken by a
+     * previous peek that are not acknowledged are taken again.
+     *
+     * @param today the day of the sweep.
+     * @return the due and overdue retests, in the order of their dates.
+     */
+    public synchronized List<RetestNotice> peek(LocalDate today) {
+        restore();
+        List<RetestNotice> notices = new ArrayList<>();
+        while (!dueChecks.isEmpty() && !dueChecks.peek().checkDate.isAfter(today)) {
+            DueCheck check = dueChecks.poll();
+            if (latestEntries.get(check.entry.getEmployeeId()) != check.entry) {
+                continue;
+            }
+            takenChecks.add(check);
+            boolean overdue = check.overdue || !DueCheck.overdue(check.entry).checkDate.isAfter(today);
+            notices.add(new RetestNotice(check.entry, overdue));
+        }
+        return notices;
+    }
+
+    /**
+     * Emit the retests taken by the last peek on the specific day, so that each
+     * is not taken again, and queue the overdue dates of the due retests.
+     *
+     * @param today the day of the sweep.
+     */
+    public synchronized void acknowledge(LocalDate today) {
+        for (DueCheck check : takenChecks) {
+            DueCheck overdueCheck = DueCheck.overdue(check.entry);
+            if (!check.overdue && overdueCheck.checkDate.isAfter(today)) {
+                dueChecks.add(overdueCheck);
+            }
+        }
+        takenChecks.clear();
+        if (!today.isBefore(emittedBefore)) {
+            emittedBefore = today.plusDays(1);
+        }
+    }
+
+    /**
+     * Put back the retests taken by the last peek that are not acknowledged, such
+     * as when they could not be notified, so that the next peek takes them again.
+     */
+    public synchronized void restore() {
+        dueChecks.addAll(takenChecks);
+        takenChecks.clear();
+    }
+
+    /**
+     * Track the specific entry if it is the latest ART of its employee, and queue
+     * the date that its retest becomes due or overdue.
+     *
+     * @param entry the entry to track.
+     */
+    private void put(ArtDueEntry entry) {
+        ArtDueEntry current = latestEntries.get(entry.getEmployeeId());
+        if (current != null && !entry.isLaterThan(current)) {
+            return;
+        }
+        latestEntries.put(entry.getEmployeeId(), entry);
+        queue(entry);
+    }
+
+    /**
+     * Queue the date that the retest of the specific entry becomes due, or
+     * overdue if the due date is already emitted. Nothing is queued if both
+     * dates are already emitted.
+     *
+     * @param entry the entry to queue.
+     */
+    private void queue(ArtDueEntry entry) {
+        if (entry.getExpiryDate() == null) {
+            return;
+        }
+        DueCheck dueCheck = DueCheck.due(entry);
+        if (!dueCheck.checkDate.isBefore(emittedBefore)) {
+            dueChecks.add(dueCheck);
+            return;
+        }
+        DueCheck overdueCheck = DueCheck.overdue(entry);
+        if (!overdueCheck.checkDate.isBefore(emittedBefore)) {
+            dueChecks.add(overdueCheck);
+        }
+    }
+
+    /**
+     * {@code DueCheck} is a date to check if the retest of an ART is due or
+     * overdue. Checks of an ART that is no longer the latest are skipped.
+     */
+    private static class DueCheck implements Comparable<DueCheck> {
+        /**
+         * Represents the ART to check.
+         */
+        private final ArtDueEntry entry;
+
+        /**
+         * Represents the date to check the ART.
+         */
+        private final LocalDate checkDate;
+
+        /**
+         * Represents if the check is for an overdue retest.
+         */
+        private final boolean overdue;
+
+        /**
+         * Create a check of the specific ART on the specific date.
+         *
+         * @param entry     the ART to check.
+         * @param checkDate the date to check the ART.
+         * @param overdue   if the check is for an overdue retest.
+         */
+        private DueCheck(ArtDueEntry entry, LocalDate checkDate, boolean overdue) {
+            this.entry = entry;
+            this.checkDate = checkDate;
+            this.overdue = overdue;
+        }
+
+        /**
+         * Create the check of the specific ART when its retest becomes due.
+         *
+         * @param entry the ART to check.
+         * @return the check of the due retest.
+         */
+        private static DueCheck due(ArtDueEntry entry) {
+            return new DueCheck(entry, entry.getExpiryDate().minusDays(DUE_LEAD_DAYS), false);
+        }
+
+        /**
+         * Create the check of the specific ART when its retest becomes overdue.
+         *
+         * @param entry the ART to check.
+         * @return the check of the overdue retest.
+         */
+        private static DueCheck overdue(ArtDueEntry entry) {
+            return new DueCheck(entry, entry.getExpiryDate().plusDays(1), true);
+        }
+
+        @Override
+        public int compareTo(DueCheck other) {
+            return checkDate.compareTo(other.checkDate);
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.kaizen.service.art;
 import com.kaizen.exceptions.NullValueException;
 import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
+import com.kaizen.model.dto.ArtDTO;
 import com.kaizen.model.entity.Art;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -16,6 +18,11 @@ import java.util.List;
  * @since 2021-10-15
  */
 public interface ArtService {
+    /**
+     * Represents the number of days that an ART is valid after the test.
+     */
+    int ART_VALID_DAYS = 7;
+
     /**
      * Get all ARTs stored in the repository.
      * 
@@ -30,6 +37,18 @@ public interface ArtService {
      */
     List<Art> listLatestArts();
 
+    /**
+     * Get the DTOs of the latest ART of each employee that are done within the
+     * specific company stored in the repository.
+     * 
+     * @param compId the id of the company.
+     * @exception NullValueException       If the id of the company is null.
+     * @exception ObjectNotExistsException If the company is not in the
+     *                                     repository.
+     * @return the list of latest ART DTOs of the company.
+     */
+    List<ArtDTO> listLatestArtDTOsByCompany(String compId) throws NullValueException, ObjectNotExistsException;
+
 
     /**
      * Get all Arts from a company stored in the repository.
@@ -57,4 +76,28 @@ public interface ArtService {
      * @exception ObjectNotExistsException If the Art is not in the repository.
      */
     void deleteArt(Long id) throws NullValueException, ObjectNotExistsException;
+
+    /**
+     * Create the ARTs of the specific DTOs done within the specific company in the
+     * repository, with one query for all the employees and batched inserts. A row
+     * that is not valid is reported and does not stop the other rows.
+     * 
+     * @param compId  the id of the company that the ARTs are done in.
+     * @param artDTOs the DTOs of the ARTs to create.
+     * @exception NullValueException       If the id of the company or the DTOs are
+     *                                     null.
+     * @exception ObjectNotExistsException If the company is not in the
+     *                                     repository.
+     * @return the created ARTs and the rows that were not created.
+     */
+    ArtBulkResult addArts(String compId, List<ArtDTO> artDTOs) throws NullValueException, ObjectNotExistsException;
+
+    /**
+     * Notify the company of each employee whose retest becomes due or overdue on
+     * or before the specific day. Each retest is only notified once.
+     * 
+     * @param today the day to notify the retests for.
+     * @return the number of notifications created.
+     */
+    int notifyRetests(LocalDate today);
 }
\ No newline at end of file
@@ -1,14 +1,28 @@
 package com.kaizen.service.art;
 
 import com.kaizen.exceptions.*;
+import com.kaizen.model.dto.ArtBulkErrorDTO;
+import com.kaizen.model.dto.ArtDTO;
+import com.kaizen.model.dto.ArtDueEntry;
 import com.kaizen.model.entity.Art;
 import com.kaizen.model.entity.Company;
+import com.kaizen.model.entity.Employee;
+import com.kaizen.model.entity.Notification;
 import com.kaizen.repository.ArtRepository;
 import com.kaizen.service.company.CompanyService;
+import com.kaizen.service.employee.EmployeeService;
+import com.kaizen.service.notification.NotificationService;
 
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code ArtServiceImpl} is an implementation of {@code ArtService}.
@@ -30,6 +44,21 @@ public class ArtServiceImpl implements ArtService {
      */
     private final CompanyService companyService;
 
+    /**
+     * The Employee's service that provides employees.
+     */
+    private final EmployeeService employeeService;
+
+    /**
+     * The tracker of the retest's due dates of the latest Arts.
+     */
+    private final ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * The Notification's service that notifies the companies of due retests.
+     */
+    private final NotificationService notificationService;
+
     /**
      * Represents the simple name of the Art's class.
      */
@@ -42,10 +71,20 @@ public class ArtServiceImpl implements ArtService {
      * 
      * @param ArtRepository the Art's repository used by the application.
      * @param CompanyService the Company's service used by the application.
+     * @param employeeService the Employee's service used by the application.
+     * @param artDueDateTracker the tracker of the retest's due dates used by the
+     *                          application.
+     * @param notificationService the Notification's service used by the
+     *                            application.
      */
-    public ArtServiceImpl(ArtRepository artRepository, CompanyService companyService) {
+    public ArtServiceImpl(ArtRepository artRepository, CompanyService companyService,
+            EmployeeService employeeService, ArtDueDateTracker artDueDateTracker,
+            NotificationService notificationService) {
         this.artRepository = artRepository;
         this.companyService = companyService;
+        this.employeeService = employeeService;
+        this.artDueDateTracker = artDueDateTracker;
+        this.notificationService = notificationService;
         Art_SIMPLE_NAME = Art.class.getSimpleName();
     }
 
@@ -69,6 +108,23 @@ public class ArtServiceImpl implements ArtService {
         return artRepository.findLatestResultsforAllEmployee();
     }
 
+    /**
+     * Get the DTOs of the latest ART of each employee that are done within the
+     * specific company stored in the repository.
+     * 
+     * @param compId the id of the company.
+     * @exception NullValueException       If the id of the company is null.
+     * @exception ObjectNotExistsException If the company is not in the
+     *                                     repository.
+     * @return the list of latest ART DTOs of the company.
+     */
+    @Override
+    public List<ArtDTO> listLatestArtDTOsByCompany(String compId)
+            throws NullValueException, ObjectNotExistsException {
+        Company com = companyService.getCompany(compId);
+        return artRepository.findLatestArtDTOsByCompany(com.getUEN());
+    }
+
     /**
      * Get all the list of Arts from each company stored in the repository.
      * 
@@ -90,7 +146,9 @@ public class ArtServiceImpl implements ArtService {
     @Override
     public Art addArt(Art Art) throws NullValueException {
         validateArtNotNull(Art);
-        return artRepository.save(Art);
+        Art saved = artRepository.save(Art);
+        artDueDateTracker.put(saved);
+        return saved;
     }
 
 
@@ -104,8 +162,134 @@ public class ArtServiceImpl implements ArtService {
     @Override
     public void deleteArt(Long id) throws NullValueException, ObjectNotExistsException {
         validateIdNotNull(id);
-        validateArtExists(id);
+        Art art = getExistingArt(id);
         artRepository.deleteById(id);
+        artDueDateTracker.refresh(art.getEmployee().getWorkPermitNumber());
+    }
+
+    /**
+     * Create the ARTs of the specific DTOs done within the specific company in the
+     * repository, with one query for all the employees and batched inserts. A row
+     * that is not valid is reported and does not stop the other rows.
+     * 
+     * @param compId  the id of the company that the ARTs are done in.
+     * @param artDTOs the DTOs of the ARTs to create.
+     * @exception NullValueException       If the id of the company or the DTOs are
+     *                                     null.
+     * @exception ObjectNotExistsException If the company is not in the
+     *                                     repository.
+     * @return the created ARTs and the rows that were not created.
+     */
+    @Override
+    public ArtBulkResult addArts(String compId, List<ArtDTO> artDTOs)
+            throws NullValueException, ObjectNotExistsException {
+        Company company = companyService.getCompany(compId);
+        if (artDTOs == null) {
+            throw new NullValueException(Art_SIMPLE_NAME + "s");
+        }
+        List<String> employeeIds = new ArrayList<>();
+        for (ArtDTO artDTO : artDTOs) {
+            if (artDTO != null) {
+                employeeIds.add(artDTO.getEmployeeWP());
+            }
+        }
+        Map<String, Employee> employees = new HashMap<>();
+        for (Employee employee : employeeService.findEmployees(employeeIds)) {
+            employees.put(employee.getWorkPermitNumber(), employee);
+        }
+        LocalDate today = LocalDate.now();
+        List<Art> arts = new ArrayList<>();
+        List<ArtBulkErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < artDTOs.size(); i++) {
+            ArtDTO artDTO = artDTOs.get(i);
+            String error = findArtError(artDTO, employees, today);
+            if (error != null) {
+                errors.add(new ArtBulkErrorDTO(i + 1, artDTO == null ? null : artDTO.getEmployeeWP(), error));
+                continue;
+            }
+            Art art = new Art();
+            art.setDateOfTest(artDTO.getDateOfTest());
+            art.setExpiryDate(artDTO.getDateOfTest().plusDays(ART_VALID_DAYS));
+            art.setResult(artDTO.isResult());
+            art.setEmployee(employees.get(artDTO.getEmployeeWP()));
+            art.setCompany(company);
+            arts.add(art);
+        }
+        List<Art> created = arts.isEmpty() ? arts : artRepository.saveAll(arts);
+        for (Art art : created) {
+            artDueDateTracker.put(art);
+        }
+        return new ArtBulkResult(created, errors);
+    }
+
+    /**
+     * Notify the company of each employee whose retest becomes due or overdue on
+     * or before the specific day. Each retest is only notified once; the retests
+     * are only acknowledged after their notifications are created, and are put
+     * back to be notified again if the notifications could not be created. The
+     * retests of an employee or company that was deleted since it was tracked
+     * are dropped instead of notified.
+     * 
+     * @param today the day to notify the retests for.
+     * @return the number of notifications created.
+     */
+    @Override
+    public int notifyRetests(LocalDate today) {
+        int notified;
+        try {
+            List<RetestNotice> notices = artDueDateTracker.peek(today);
+            Set<String> employeeIds = new HashSet<>();
+            for (RetestNotice notice : notices) {
+                employeeIds.add(notice.getEntry().getEmployeeId());
+            }
+            Set<String> existingEmployeeIds = new HashSet<>();
+            for (Employee employee : employeeService.findEmployees(employeeIds)) {
+                existingEmployeeIds.add(employee.getWorkPermitNumber());
+            }
+            Map<String, Company> companies = new HashMap<>();
+            List<Notification> notifications = new ArrayList<>();
+            Date createdAt = new Date();
+            for (RetestNotice notice : notices) {
+                ArtDueEntry entry = notice.getEntry();
+                if (entry.getCompanyId() == null) {
+                    continue;
+                }
+                if (!existingEmployeeIds.contains(entry.getEmployeeId())) {
+                    artDueDateTracker.removeEmployee(entry.getEmployeeId());
+                    continue;
+                }
+                Company company = findCompany(entry.getCompanyId(), companies);
+                if (company == null) {
+                    artDueDateTracker.removeCompany(entry.getCompanyId());
+                    continue;
+                }
+                notifications.add(new Notification(createRetestMessage(notice), createdAt, company));
+            }
+            notified = notificationService.addNotifications(notifications);
+        } catch (RuntimeException e) {
+            artDueDateTracker.restore();
+            throw e;
+        }
+        artDueDateTracker.acknowledge(today);
+        return notified;
+    }
+
+    /**
+     * Find the company with the specific id, looking it up once per sweep.
+     * 
+     * @param companyId the id of the company.
+     * @param companies the companies looked up by the sweep, keyed by id.
+     * @return the company, or null if it is no longer in the repository.
+     */
+    private Company findCompany(String companyId, Map<String, Company> companies) {
+        if (!companies.containsKey(companyId)) {
+            try {
+                companies.put(companyId, companyService.getCompany(companyId));
+            } catch (ObjectNotExistsException e) {
+                companies.put(companyId, null);
+            }
+        }
+        return companies.get(companyId);
     }
 
     /**
@@ -133,15 +317,56 @@ public class ArtServiceImpl implements ArtService {
     }
 
     /**
-     * Validate the Art with the specific id is in the repository.
+     * Get the Art with the specific id that is in the repository.
      * 
-     * @param id the id of the Art to validate.
+     * @param id the id of the Art to get.
      * @exception ObjectNotExistsException If the Art is not in the repository.
+     * @return the Art with that id.
+     */
+    private Art getExistingArt(Long id) throws ObjectNotExistsException {
+        return artRepository.findById(id).orElseThrow(() -> new ObjectNotExistsException(Art_SIMPLE_NAME, "" + id));
+    }
+
+    /**
+     * Find why the specific ART's DTO cannot be created.
+     * 
+     * @param artDTO    the ART's DTO to check.
+     * @param employees the employees that are in the repository, keyed by id.
+     * @param today     the day of the upload.
+     * @return why the ART cannot be created, or null if it can be created.
+     */
+    private String findArtError(ArtDTO artDTO, Map<String, Employee> employees, LocalDate today) {
+        if (artDTO == null) {
+            return new NullValueException(Art_SIMPLE_NAME).getMessage();
+        }
+        if (artDTO.getEmployeeWP() == null) {
+            return new NullValueException(Employee.class.getSimpleName() + "'s id").getMessage();
+        }
+        if (!employees.containsKey(artDTO.getEmployeeWP())) {
+            return new ObjectNotExistsException(Employee.class.getSimpleName(), artDTO.getEmployeeWP()).getMessage();
+        }
+        if (artDTO.getDateOfTest() == null) {
+            return "ART's Date Of Test should not be null";
+        }
+        if (artDTO.getDateOfTest().isAfter(today)) {
+            return "ART's Date Of Test should not be in the future";
+        }
+        return null;
+    }
+
+    /**
+     * Create the message of the specific retest's notice.
+     * 
+     * @param notice the retest's notice.
+     * @return the message of the notice.
      */
-    private void validateArtExists(Long id) throws ObjectNotExistsException {
-        if (artRepository.findById(id).isEmpty()) {
-            throw new ObjectNotExistsException(Art_SIMPLE_NAME, "" + id);
+    private String createRetestMessage(RetestNotice notice) {
+        ArtDueEntry entry = notice.getEntry();
+        String employee = entry.getEmployeeName() + " (" + entry.getEmployeeId() + ")";
+        if (notice.isOverdue()) {
+            return "ART retest overdue: " + employee + "'s ART expired on " + entry.getExpiryDate() + ".";
         }
+        return "ART retest due: " + employee + "'s ART expires on " + entry.getExpiryDate() + ".";
     }
 
 }
\ No newline at end of file
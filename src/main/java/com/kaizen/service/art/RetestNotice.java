@@ -0,0 +1,29 @@
+package com.kaizen.service.art;
+
+import com.kaizen.model.dto.ArtDueEntry;
+
+import lombok.*;
+
+/**
+ * Represents a retest that is due or overdue, taken by
+ * {@link ArtDueDateTracker#peek(java.time.LocalDate)}.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RetestNotice {
+    /**
+     * Represents the latest ART of the employee to retest.
+     */
+    private final ArtDueEntry entry;
+
+    /**
+     * Represents if the ART had expired, instead of expiring soon.
+     */
+    private final boolean overdue;
+}
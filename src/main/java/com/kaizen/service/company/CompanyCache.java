@@ -0,0 +1,229 @@
+package com.kaizen.service.company;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.kaizen.model.entity.Company;
+
+/**
+ * {@code CompanyCache} is a bounded read-through cache of companies keyed by
+ * UEN. Entries expire a fixed time after they are loaded, and the least
+ * recently used entry is evicted when the cache is full. Companies that are not
+ * found are not cached.
+ *
+ * <p>
+ * The cache holds a detached copy of each loaded company with only its UEN and
+ * name, and every hit returns a new copy of it, so that a managed company is
+ * never shared between persistence contexts and a caller that changes the
+ * returned company does not change the cached one. The copies have none of the
+ * company's collections.
+ *
+ * <p>
+ * A load runs outside the cache's lock. An invalidation during a load keeps the
+ * loaded company out of the cache, so a concurrent update is never hidden by a
+ * company read before it.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-14
+ */
+public class CompanyCache {
+    /**
+     * Represents the maximum number of companies in the cache.
+     */
+    private final int maximumSize;
+
+    /**
+     * Represents how long a company stays in the cache after it is loaded.
+     */
+    private final Duration timeToLive;
+
+    /**
+     * The clock used to expire the companies.
+     */
+    private final Clock clock;
+
+    /**
+     * Represents the cached companies, in least recently used order.
+     */
+    private final LinkedHashMap<String, CachedCompany> companies = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Represents the number of invalidations, used to discard the loads that
+     * overlapped an invalidation.
+     */
+    private long generation;
+
+    /**
+     * Represents the number of lookups answered by the cache.
+     */
+    private long hitCount;
+
+    /**
+     * Represents the number of lookups that went to the loader.
+     */
+    private long missCount;
+
+    /**
+     * Represents the number of companies removed because they expired or the
+     * cache was full.
+     */
+    private long evictionCount;
+
+    /**
+     * Create a company's cache with the specific bounds.
+     *
+     * @param maximumSize the maximum number of companies in the cache.
+     * @param timeToLive  how long a company stays in the cache after it is loaded.
+     * @param clock       the clock used to expire the companies.
+     */
+    public CompanyCache(int maximumSize, Duration timeToLive, Clock clock) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the company with the specific id from the cache, or load it with the
+     * specific loader and cache it when it is not cached.
+     *
+     * @param id     the id of the company.
+     * @param loader the loader of the company that is not cached.
+     * @return the company with that id, or empty if the loader did not find it.
+     */
+    public Optional<Company> get(String id, Function<String, Optional<Company>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            CachedCompany cached = companies.get(id);
+            if (cached != null && cached.isExpired(clock.instant())) {
+                companies.remove(id);
+                evictionCount++;
+                cached = null;
+            }
+            if (cached != null) {
+                hitCount++;
+                return Optional.of(copyOf(cached.company));
+            }
+            missCount++;
+            loadGeneration = generation;
+        }
+        Optional<Company> company = loader.apply(id);
+        company.ifPresent(loaded -> put(id, loaded, loadGeneration));
+        return company;
+    }
+
+    /**
+     * Remove the company with the specific id from the cache.
+     *
+     * @param id the id of the company to remove.
+     */
+    public synchronized void invalidate(String id) {
+        generation++;
+        companies.remove(id);
+    }
+
+    /**
+     * Remove all the companies from the cache.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        companies.clear();
+    }
+
+    /**
+     * Get the counters of the cache.
+     *
+     * @return the counters of the cache.
+     */
+    public synchronized CompanyCacheStats getStats() {
+        return new CompanyCacheStats(hitCount, missCount, evictionCount, companies.size());
+    }
+
+    /**
+     * Cache the specific company if no invalidation happened since it was loaded,
+     * evicting the expired companies and then the least recently used ones to
+     * make room.
+     *
+     * @param id             the id of the company.
+     * @param company        the loaded company.
+     * @param loadGeneration the generation when the load started.
+     */
+    private synchronized void put(String id, Company company, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        Instant now = clock.instant();
+        companies.put(id, new CachedCompany(copyOf(company), now.plus(timeToLive)));
+        if (companies.size() <= maximumSize) {
+            return;
+        }
+        Iterator<CachedCompany> iterator = companies.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired(now)) {
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+        iterator = companies.values().iterator();
+        while (companies.size() > maximumSize) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Copy the UEN and name of the specific company into a new company that is
+     * not managed by any persistence context.
+     *
+     * @param company the company to copy.
+     * @return the copy of the company.
+     */
+    private static Company copyOf(Company company) {
+        Company copy = new Company();
+        copy.setUEN(company.getUEN());
+        copy.setName(company.getName());
+        return copy;
+    }
+
+    /**
+     * {@code CachedCompany} is a company in the cache with its expiry.
+     */
+    private static class CachedCompany {
+        /**
+         * Represents the cached company.
+         */
+        private final Company company;
+
+        /**
+         * Represents when the company expires.
+         */
+        private final Instant expiresAt;
+
+        /**
+         * Create a cached company with the specific company and expiry.
+         *
+         * @param company   the cached company.
+         * @param expiresAt when the company expires.
+         */
+        private CachedCompany(Company company, Instant expiresAt) {
+            this.company = company;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Check if the company expired at the specific instant.
+         *
+         * @param now the instant to check.
+         * @return true if the company expired.
+         */
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kaizen.service.company;
+
+import lombok.*;
+
+/**
+ * Represents the counters of {@link CompanyCache} at a point in time.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-14
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class CompanyCacheStats {
+    /**
+     * Represents the number of lookups answered by the cache.
+     */
+    private final long hitCount;
+
+    /**
+     * Represents the number of lookups that went to the repository.
+     */
+    private final long missCount;
+
+    /**
+     * Represents the number of companies removed because they expired or the
+     * cache was full.
+     */
+    private final long evictionCount;
+
+    /**
+     * Represents the number of companies in the cache.
+     */
+    private final int size;
+}
@@ -73,4 +73,12 @@ public interface CompanyService {
    * @exception ObjectNotExistsException If the company is not in the repository.
    */
   void deleteCompany(String id) throws NullValueException, ObjectNotExistsException;
-}
\ No newline at end of file
+
+  /**
+   * Get the counters of the cache of companies used by
+   * {@link #getCompany(String)}.
+   * 
+   * @return the counters of the company's cache.
+   */
+  CompanyCacheStats getCacheStats();
+}
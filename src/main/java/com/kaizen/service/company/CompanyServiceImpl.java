@@ -1,12 +1,18 @@
 package com.kaizen.service.company;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 import com.kaizen.exceptions.*;
 import com.kaizen.model.entity.Company;
 import com.kaizen.repository.CompanyRepository;
+import com.kaizen.service.art.ArtDueDateTracker;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
+import com.kaizen.service.image.ImagePruner;
 
 /**
  * {@code CompanyServiceImpl} is an implementation of {@code CompanyService}.
@@ -27,16 +33,56 @@ public class CompanyServiceImpl implements CompanyService {
      */
     private final String COMPANY_SIMPLE_NAME;
 
+    /**
+     * Represents the maximum number of companies in the cache.
+     */
+    private static final int CACHE_MAXIMUM_SIZE = 1000;
+
+    /**
+     * Represents how long a company stays in the cache after it is loaded.
+     */
+    private static final Duration CACHE_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    /**
+     * The cache of companies looked up by id.
+     */
+    private final CompanyCache companyCache;
+
+    /**
+     * The tracker of the retest's due dates that holds the companies' ARTs.
+     */
+    private final ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * The index of the employee's skills that holds the companies' employees.
+     */
+    private final EmployeeSkillIndex employeeSkillIndex;
+
+    /**
+     * The image's pruner that deletes the images of the companies' employees.
+     */
+    private final ImagePruner imagePruner;
+
     /**
      * Create a company's service implementation with the specific company's
      * repository and set the {@code COMPANY_SIMPLE_NAME} with the simple name of
      * the Company's class
      * 
      * @param companyRepository the company's repository used by the application.
+     * @param artDueDateTracker the tracker of the retest's due dates used by the
+     *                          application.
+     * @param employeeSkillIndex the index of the employee's skills used by the
+     *                           application.
+     * @param imagePruner the image's pruner used by the application.
      */
-    public CompanyServiceImpl(CompanyRepository companyRepository) {
+    public CompanyServiceImpl(CompanyRepository companyRepository, ArtDueDateTracker artDueDateTracker,
+            EmployeeSkillIndex employeeSkillIndex, ImagePruner imagePruner) {
         this.companyRepository = companyRepository;
+        this.artDueDateTracker = artDueDateTracker;
+        this.employeeSkillIndex = employeeSkillIndex;
+        this.imagePruner = imagePruner;
         COMPANY_SIMPLE_NAME = Company.class.getSimpleName();
+        companyCache = new CompanyCache(CACHE_MAXIMUM_SIZE, CACHE_TIME_TO_LIVE, Clock.systemUTC());
     }
 
     /**
@@ -50,7 +96,8 @@ public class CompanyServiceImpl implements CompanyService {
     }
 
     /**
-     * Get the company with the specific id from the repository.
+     * Get the company with the specific id from the cache, or from the repository
+     * when it is not cached.
      * 
      * @param id the id of the company.
      * @exception NullValueException       If the id of the company is null.
@@ -60,7 +107,8 @@ public class CompanyServiceImpl implements CompanyService {
     @Override
     public Company getCompany(String id) throws NullValueException, ObjectNotExistsException {
         validateIdNotNull(id);
-        return companyRepository.findById(id).orElseThrow(() -> new ObjectNotExistsException(COMPANY_SIMPLE_NAME, id));
+        return companyCache.get(id, companyRepository::findById)
+                .orElseThrow(() -> new ObjectNotExistsException(COMPANY_SIMPLE_NAME, id));
     }
 
     /**
@@ -108,21 +156,48 @@ public class CompanyServiceImpl implements CompanyService {
         validateIdNotNull(id);
         validateCompanyNotNull(company);
         validateCompanyExists(id);
-        return companyRepository.save(company);
+        try {
+            return companyRepository.save(company);
+        } finally {
+            companyCache.invalidate(id);
+            companyCache.invalidate(company.getUEN());
+        }
     }
 
     /**
-     * Delete the company with the specific id in the repository.
+     * Delete the company with the specific id and the images of its employees in
+     * the repository in one transaction, releasing the stored files of the
+     * images, and remove its ARTs from the tracker of the retest's due dates and
+     * its employee's skills from the index of the employee's skills.
      * 
      * @param id the id of the company to delete.
      * @exception NullValueException       If the id of the company is null.
      * @exception ObjectNotExistsException If the company is not in the repository.
      */
     @Override
+    @Transactional
     public void deleteCompany(String id) throws NullValueException, ObjectNotExistsException {
         validateIdNotNull(id);
         validateCompanyExists(id);
-        companyRepository.deleteById(id);
+        imagePruner.deleteCompanyImages(id);
+        try {
+            companyRepository.deleteById(id);
+        } finally {
+            companyCache.invalidate(id);
+        }
+        artDueDateTracker.removeCompany(id);
+        employeeSkillIndex.removeCompany(id);
+    }
+
+    /**
+     * Get the counters of the cache of companies used by
+     * {@link #getCompany(String)}.
+     * 
+     * @return the counters of the company's cache.
+     */
+    @Override
+    public CompanyCacheStats getCacheStats() {
+        return companyCache.getStats();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.kaizen.service.datascraper;
 
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 
@@ -31,6 +32,11 @@ public abstract class JsoupService {
    */
   protected static final String ATTR_HREF = "href";
 
+  /**
+   * The default timeout in milliseconds to connect and read a webpage.
+   */
+  protected static final int DEFAULT_TIMEOUT_MILLIS = 10000;
+
   /**
    * The number of contents to store.
    */
@@ -44,6 +50,18 @@ public abstract class JsoupService {
    * @throws Exception if any exceptions occurs.
    */
   protected Document getWebpageContent(String url) throws Exception {
-    return Jsoup.connect(url).userAgent(USER_AGENT).data(DATA_NAME_KEY, DATA_NAME_VALUE).get();
+    return connect(url, DEFAULT_TIMEOUT_MILLIS).get();
+  }
+
+  /**
+   * Create a connection to the specific URL with the specific timeout.
+   * 
+   * @param url           the URL to connect.
+   * @param timeoutMillis the timeout in milliseconds to connect and read the
+   *                      webpage.
+   * @return the connection to the specific URL.
+   */
+  static Connection connect(String url, int timeoutMillis) {
+    return Jsoup.connect(url).userAgent(USER_AGENT).data(DATA_NAME_KEY, DATA_NAME_VALUE).timeout(timeoutMillis);
   }
 }
\ No newline at end of file
@@ -23,4 +23,18 @@ public interface NewsService {
    * Replace all of the news in the repository with the latest news.
    */
   public void updateRepository();
+
+  /**
+   * Get the latest snapshot of the news on COVID-19, publishing it from the
+   * repository if none is published yet.
+   * 
+   * @return the snapshot of COVID-19's news.
+   */
+  public ScrapBoxSnapshot<News> getSnapshot();
+
+  /**
+   * Publish a snapshot of the news in the repository to be served in place of
+   * the repository.
+   */
+  public void publishSnapshot();
 }
\ No newline at end of file
@@ -1,12 +1,19 @@
 package com.kaizen.service.datascraper;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.jsoup.nodes.*;
 import org.jsoup.select.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kaizen.model.entity.News;
 import com.kaizen.repository.NewsRepository;
 
@@ -20,86 +27,201 @@ import com.kaizen.repository.NewsRepository;
  */
 @Service
 public class NewsServiceImpl extends JsoupService implements NewsService {
+    /**
+     * The logger of the news pages that could not be scraped.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewsServiceImpl.class);
+
     /**
      * The news's repository that stored news.
      */
     private final NewsRepository newsRepository;
 
+    /**
+     * The fetcher that fetches the webpages of the news.
+     */
+    private final WebpageFetcher webpageFetcher;
+
+    /**
+     * The refresher that writes the changed news to the repository.
+     */
+    private final ScrapBoxRefresher scrapBoxRefresher;
+
+    /**
+     * The object mapper that serializes the snapshot of the news.
+     */
+    private final ObjectMapper objectMapper;
+
     /**
      * The URL of Channel News Asia(CNA).
      */
-    private final String CNA_URL = "https://www.channelnewsasia.com/";
+    private final String cnaUrl;
 
     /**
      * The URL to get latest COVID-19's news from Channel News Asia(CNA).
      */
-    private final String CNA_COVID19_URL = CNA_URL + "topic/covid-19";
+    private final String cnaCovid19Url;
 
     /**
-     * Create a news's service implementation with the specific news's repository.
+     * Represents the hash of the news that were last written to the repository.
+     */
+    private volatile String lastContentHash;
+
+    /**
+     * Represents the latest published snapshot of the news.
+     */
+    private volatile ScrapBoxSnapshot<News> snapshot;
+
+    /**
+     * Create a news's service implementation with the specific news's repository,
+     * webpage's fetcher, scrap box's refresher, object mapper and URL of CNA.
      * 
-     * @param newsRepository the news's repository used by the application.
+     * @param newsRepository    the news's repository used by the application.
+     * @param webpageFetcher    the webpage's fetcher used by the application.
+     * @param scrapBoxRefresher the scrap box's refresher used by the application.
+     * @param objectMapper      the object mapper used by the application.
+     * @param cnaUrl            the URL of CNA.
      */
-    public NewsServiceImpl(NewsRepository newsRepository) {
+    public NewsServiceImpl(NewsRepository newsRepository, WebpageFetcher webpageFetcher,
+            ScrapBoxRefresher scrapBoxRefresher, ObjectMapper objectMapper,
+            @Value("${scraper.cnaUrl:https://www.channelnewsasia.com/}") String cnaUrl) {
         this.newsRepository = newsRepository;
+        this.webpageFetcher = webpageFetcher;
+        this.scrapBoxRefresher = scrapBoxRefresher;
+        this.objectMapper = objectMapper;
+        this.cnaUrl = cnaUrl;
+        this.cnaCovid19Url = cnaUrl + "topic/covid-19";
     }
 
     /**
-     * Get the news on COVID-19 from news repository.
+     * Get the news on COVID-19 from news repository, in the order of the CNA
+     * COVID-19 news page.
      * 
      * @return the list of COVID-19's news.
      */
     @Override
     public List<News> getNews() {
-        return newsRepository.findAll();
+        return newsRepository.findAll(Sort.by("position"));
     }
 
     /**
      * Get the latest news on COVID-19 from CNA by scraping from the CNA COVID-19
-     * news page.
+     * news page. The news pages are fetched in parallel, with only as many
+     * fetches as the news still needed, and the news are kept in the order of the
+     * news page. A news page that could not be fetched or read is skipped.
      * 
      * @return the list of COVID-19's news from CNA.
      */
     public List<News> getNewsFromWebpage() {
-        ArrayList<News> listOfNews = new ArrayList<News>();
+        List<News> listOfNews = new ArrayList<News>();
+        Queue<Future<Document>> newsContents = new ArrayDeque<>();
         try {
-            Document webpageContent = getWebpageContent(CNA_COVID19_URL);
+            Document webpageContent = webpageFetcher.fetch(cnaCovid19Url);
 
             Elements newsBlock = webpageContent.select("div.views-element-container");
             Elements news = newsBlock.select("h6.h6--.list-object__heading");
-            int count = 0;
-
+            List<Element> titles = new ArrayList<>();
             for (Element item : news) {
-                Element title = item.select("a").first();
-                String header = title.text();
-                String newsLink = CNA_URL + title.attr(ATTR_HREF);
-                Document newsContent = getWebpageContent(newsLink);
+                titles.add(item.select("a").first());
+            }
+
+            Queue<Element> fetchedTitles = new ArrayDeque<>();
+            int next = 0;
+            while (listOfNews.size() < TO_STORE) {
+                while (next < titles.size() && listOfNews.size() + newsContents.size() < TO_STORE) {
+                    Element title = titles.get(next++);
+                    fetchedTitles.add(title);
+                    newsContents.add(webpageFetcher.submit(cnaUrl + title.attr(ATTR_HREF)));
+                }
+                if (newsContents.isEmpty()) {
+                    break;
+                }
+                Element title = fetchedTitles.poll();
                 try {
-                    Element image = newsContent.select("div.layout__region.layout__region--first")
-                            .select("img.image.image--").first();
-                    String imageUrl = image.attr("src");
-                    String text = newsContent.select("div.text-long").select("p").first().text();
-                    listOfNews.add(new News(header, newsLink, text, imageUrl));
-                    if (++count >= TO_STORE)
-                        break;
+                    Document newsContent = newsContents.poll().get();
+                    listOfNews.add(createNews(title, newsContent));
+                } catch (ExecutionException e) {
+                    LOGGER.warn("Failed to fetch the news page {}", title.attr(ATTR_HREF), e);
+                } catch (InterruptedException e) {
+                    throw e;
                 } catch (Exception e) {
-                    System.out.println(e.getMessage());
+                    LOGGER.warn("Failed to read the news page {}", title.attr(ATTR_HREF), e);
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
-            System.out.println(e.getMessage());
+            LOGGER.warn("Failed to scrape the news from {}", cnaCovid19Url, e);
+        } finally {
+            for (Future<Document> newsContent : newsContents) {
+                newsContent.cancel(true);
+            }
         }
-       
+
         return listOfNews;
     }
 
+    /**
+     * Create the news of the specific title from the specific news page.
+     * 
+     * @param title       the title of the news on the CNA COVID-19 news page.
+     * @param newsContent the news page.
+     * @return the news of the title.
+     */
+    private News createNews(Element title, Document newsContent) {
+        Element image = newsContent.select("div.layout__region.layout__region--first")
+                .select("img.image.image--").first();
+        String imageUrl = image.attr("src");
+        String text = newsContent.select("div.text-long").select("p").first().text();
+        return new News(title.text(), cnaUrl + title.attr(ATTR_HREF), text, imageUrl);
+    }
+
     /**
      * Replace all of the news in the repository with the news retrieved from
-     * webpage.
+     * webpage, writing only the news that changed. The repository is kept as it
+     * is when no news could be retrieved or the news did not change since the
+     * last update.
      */
     @Override
     public void updateRepository() {
-        newsRepository.deleteAll();
-        newsRepository.saveAllAndFlush(getNewsFromWebpage());
+        List<News> news = getNewsFromWebpage();
+        if (news.isEmpty()) {
+            return;
+        }
+        String contentHash = scrapBoxRefresher.hashContent(news);
+        if (contentHash.equals(lastContentHash)) {
+            return;
+        }
+        scrapBoxRefresher.refresh(newsRepository, news);
+        lastContentHash = contentHash;
+    }
+
+    /**
+     * Get the latest snapshot of the news on COVID-19, publishing it from the
+     * repository if none is published yet.
+     * 
+     * @return the snapshot of COVID-19's news.
+     */
+    @Override
+    public ScrapBoxSnapshot<News> getSnapshot() {
+        ScrapBoxSnapshot<News> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                publishSnapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Publish a snapshot of the news in the repository to be served in place
+     * of the repository.
+     */
+    @Override
+    public synchronized void publishSnapshot() {
+        snapshot = new ScrapBoxSnapshot<>(getNews(), objectMapper);
     }
-}
\ No newline at end of file
+}
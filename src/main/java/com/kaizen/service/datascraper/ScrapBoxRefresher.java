@@ -0,0 +1,90 @@
+package com.kaizen.service.datascraper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+
+import com.kaizen.model.entity.ScrapBox;
+import com.kaizen.util.Sha256;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@code ScrapBoxRefresher} replaces the scrap boxes in a repository with the
+ * scrap boxes scraped from a webpage, writing only the difference.
+ *
+ * <p>
+ * The scrap boxes are matched by url. A new url is inserted, a url whose
+ * content changed is updated in place, and a url that is no longer scraped is
+ * deleted. All of it happens in one transaction, so readers see either the old
+ * or the new scrap boxes and never an empty repository.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Component
+public class ScrapBoxRefresher {
+    /**
+     * Replace the scrap boxes in the specific repository with the specific scraped
+     * scrap boxes, in the order that they are scraped.
+     *
+     * @param <T>        the type of the scrap boxes.
+     * @param repository the repository of the scrap boxes.
+     * @param scraped    the scraped scrap boxes, in the order of the webpage.
+     * @return the number of scrap boxes inserted, updated or deleted.
+     */
+    @Transactional
+    public <T extends ScrapBox> int refresh(JpaRepository<T, Long> repository, List<T> scraped) {
+        Map<String, T> existingByUrl = new HashMap<>();
+        List<T> stale = new ArrayList<>();
+        for (T existing : repository.findAll()) {
+            if (existingByUrl.putIfAbsent(existing.getUrl(), existing) != null) {
+                stale.add(existing);
+            }
+        }
+        List<T> changed = new ArrayList<>();
+        Set<String> scrapedUrls = new HashSet<>();
+        for (T scrapBox : scraped) {
+            if (!scrapedUrls.add(scrapBox.getUrl())) {
+                continue;
+            }
+            scrapBox.setPosition(scrapedUrls.size() - 1);
+            T existing = existingByUrl.remove(scrapBox.getUrl());
+            if (existing == null) {
+                changed.add(scrapBox);
+            } else if (!existing.scrapedContent().equals(scrapBox.scrapedContent())) {
+                existing.copyScrapedContent(scrapBox);
+                changed.add(existing);
+            }
+        }
+        stale.addAll(existingByUrl.values());
+        if (!stale.isEmpty()) {
+            repository.deleteAllInBatch(stale);
+        }
+        if (!changed.isEmpty()) {
+            repository.saveAll(changed);
+        }
+        return changed.size() + stale.size();
+    }
+
+    /**
+     * Hash the scraped content of the specific scrap boxes, in their order.
+     *
+     * @param scrapBoxes the scrap boxes to hash.
+     * @return the SHA-256 hash of the scraped content, in hexadecimal.
+     */
+    public String hashContent(List<? extends ScrapBox> scrapBoxes) {
+        MessageDigest digest = Sha256.newDigest();
+        for (ScrapBox scrapBox : scrapBoxes) {
+            for (Object value : scrapBox.scrapedContent()) {
+                String text = String.valueOf(value);
+                digest.update((text.length() + ":" + text).getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+        }
+        return Sha256.toHex(digest.digest());
+    }
+}
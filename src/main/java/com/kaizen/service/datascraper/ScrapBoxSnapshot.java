@@ -0,0 +1,59 @@
+package com.kaizen.service.datascraper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kaizen.model.entity.ScrapBox;
+import com.kaizen.util.Sha256;
+
+import lombok.*;
+
+/**
+ * Represents the scrap boxes of a feed at a point in time, together with their
+ * JSON and its strong ETag, so that the feed can be served without the
+ * repository and without serializing it again.
+ *
+ * @param <T> the type of the scrap boxes.
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public class ScrapBoxSnapshot<T extends ScrapBox> {
+    /**
+     * Represents the scrap boxes of the feed, which cannot be modified.
+     */
+    private final List<T> items;
+
+    /**
+     * Represents the scrap boxes serialized as a JSON array.
+     */
+    private final byte[] json;
+
+    /**
+     * Represents the strong ETag of the JSON, with its quotes.
+     */
+    private final String etag;
+
+    /**
+     * Create a snapshot of the specific scrap boxes, serialized with the specific
+     * object mapper.
+     *
+     * @param items        the scrap boxes of the feed.
+     * @param objectMapper the object mapper used to serialize the scrap boxes.
+     */
+    public ScrapBoxSnapshot(List<T> items, ObjectMapper objectMapper) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        try {
+            this.json = objectMapper.writeValueAsBytes(this.items);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        this.etag = "\"" + Sha256.hash(json) + "\"";
+    }
+}
@@ -0,0 +1,238 @@
+package com.kaizen.service.datascraper;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
+
+import org.jsoup.HttpStatusException;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code WebpageFetcher} fetches webpages on a bounded pool of threads, so that
+ * the pages of a scrape are fetched in parallel without overloading the site.
+ *
+ * <p>
+ * Each host is limited to a number of concurrent requests and a minimum
+ * interval between the start of its requests. Each request has a timeout to
+ * connect and read, and a request that times out or gets a server error is
+ * retried with a backoff that doubles after each attempt.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Component
+public class WebpageFetcher {
+    /**
+     * Represents the number of concurrent requests to a host.
+     */
+    private final int perHostConcurrency;
+
+    /**
+     * Represents the minimum interval in milliseconds between the start of two
+     * requests to a host.
+     */
+    private final long perHostIntervalMillis;
+
+    /**
+     * Represents the timeout in milliseconds to connect and read a webpage.
+     */
+    private final int timeoutMillis;
+
+    /**
+     * Represents the number of attempts to fetch a webpage.
+     */
+    private final int maxAttempts;
+
+    /**
+     * Represents the wait in milliseconds before the first retry.
+     */
+    private final long backoffMillis;
+
+    /**
+     * The threads that fetch the webpages.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Represents the limit of each host, keyed by host.
+     */
+    private final Map<String, HostLimiter> hostLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a webpage's fetcher with the specific limits.
+     *
+     * @param threads               the number of threads that fetch the
+     *                              webpages.
+     * @param perHostConcurrency    the number of concurrent requests to a host.
+     * @param perHostIntervalMillis the minimum interval in milliseconds between
+     *                              the start of two requests to a host.
+     * @param timeoutMillis         the timeout in milliseconds to connect and read
+     *                              a webpage.
+     * @param maxAttempts           the number of attempts to fetch a webpage.
+     * @param backoffMillis         the wait in milliseconds before the first
+     *                              retry.
+     */
+    public WebpageFetcher(@Value("${scraper.threads:4}") int threads,
+            @Value("${scraper.perHostConcurrency:2}") int perHostConcurrency,
+            @Value("${scraper.perHostIntervalMillis:250}") long perHostIntervalMillis,
+            @Value("${scraper.timeoutMillis:10000}") int timeoutMillis,
+            @Value("${scraper.maxAttempts:3}") int maxAttempts,
+            @Value("${scraper.backoffMillis:500}") long backoffMillis) {
+        this.perHostConcurrency = perHostConcurrency;
+        this.perHostIntervalMillis = perHostIntervalMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "webpage-fetcher-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Fetch the webpage of the specific URL on the fetcher's threads.
+     *
+     * @param url the URL of the webpage.
+     * @return the future of the document of the webpage.
+     */
+    public Future<Document> submit(String url) {
+        return executor.submit(() -> fetch(url));
+    }
+
+    /**
+     * Fetch the webpage of the specific URL on the current thread, within the
+     * limits of its host and with retries.
+     *
+     * @param url the URL of the webpage.
+     * @exception IOException          If the webpage could not be fetched after
+     *                                 all the attempts.
+     * @exception InterruptedException If the thread is interrupted while waiting.
+     * @return the document of the webpage.
+     */
+    public Document fetch(String url) throws IOException, InterruptedException {
+        HostLimiter hostLimiter = hostLimiters.computeIfAbsent(getHost(url),
+                host -> new HostLimiter(perHostConcurrency));
+        long backoff = backoffMillis;
+        for (int attempt = 1;; attempt++) {
+            hostLimiter.acquire(perHostIntervalMillis);
+            try {
+                return JsoupService.connect(url, timeoutMillis).get();
+            } catch (IOException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+            } finally {
+                hostLimiter.release();
+            }
+            Thread.sleep(backoff);
+            backoff *= 2;
+        }
+    }
+
+    /**
+     * Stop the fetcher's threads when the application is closed.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Get the host of the specific URL.
+     *
+     * @param url the URL to get the host.
+     * @exception MalformedURLException If the URL is not valid.
+     * @return the host of the URL.
+     */
+    private static String getHost(String url) throws MalformedURLException {
+        return new URL(url).getHost();
+    }
+
+    /**
+     * Check if the request that failed with the specific exception should be
+     * retried. Client's errors other than too many requests are not retried.
+     *
+     * @param e the exception of the request.
+     * @return true if the request should be retried.
+     */
+    private static boolean isRetryable(IOException e) {
+        if (!(e instanceof HttpStatusException)) {
+            return true;
+        }
+        int statusCode = ((HttpStatusException) e).getStatusCode();
+        return statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * {@code HostLimiter} limits the concurrent requests to a host and spaces out
+     * the start of the requests.
+     */
+    private static class HostLimiter {
+        /**
+         * Represents the requests that can still be made to the host.
+         */
+        private final Semaphore permits;
+
+        /**
+         * Represents the earliest time in nanoseconds that the next request can
+         * start.
+         */
+        private long nextStartNanos = System.nanoTime();
+
+        /**
+         * Create a host's limiter with the specific number of concurrent requests.
+         *
+         * @param concurrency the number of concurrent requests to the host.
+         */
+        private HostLimiter(int concurrency) {
+            this.permits = new Semaphore(concurrency, true);
+        }
+
+        /**
+         * Wait until a request can be made to the host and reserve it.
+         *
+         * @param intervalMillis the minimum interval in milliseconds between the
+         *                       start of two requests.
+         * @exception InterruptedException If the thread is interrupted while
+         *                                 waiting.
+         */
+        private void acquire(long intervalMillis) throws InterruptedException {
+            permits.acquire();
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextStartNanos);
+                nextStartNanos = start + TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+                waitNanos = start - now;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Release the request reserved by {@link #acquire(long)}.
+         */
+        private void release() {
+            permits.release();
+        }
+    }
+}
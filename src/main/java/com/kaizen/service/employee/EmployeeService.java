@@ -1,5 +1,6 @@
 package com.kaizen.service.employee;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.kaizen.exceptions.NullValueException;
@@ -34,6 +35,28 @@ public interface EmployeeService {
    */
   Employee getEmployee(String id) throws NullValueException, ObjectNotExistsException;
 
+  /**
+   * Get the employees with the specific ids from the repository, with one query
+   * for all the ids.
+   * 
+   * @param ids the ids of the employees.
+   * @exception NullValueException       If any of the given ids is null.
+   * @exception ObjectNotExistsException If any of the employees is not in the
+   *                                     repository.
+   * @return the employees with those ids.
+   */
+  List<Employee> getEmployees(Collection<String> ids) throws NullValueException, ObjectNotExistsException;
+
+  /**
+   * Find the employees with the specific ids that are in the repository, with
+   * one query for all the ids. The ids that are null or not in the repository
+   * are left out.
+   * 
+   * @param ids the ids of the employees.
+   * @return the employees found with those ids.
+   */
+  List<Employee> findEmployees(Collection<String> ids);
+
   /**
    * Create the specific employee in the repository.
    * 
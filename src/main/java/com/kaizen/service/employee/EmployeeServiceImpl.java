@@ -1,15 +1,23 @@
 package com.kaizen.service.employee;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.kaizen.exceptions.*;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.repository.CompanyRepository;
 import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.service.art.ArtDueDateTracker;
 import com.kaizen.service.company.CompanyService;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
+import com.kaizen.service.image.ImagePruner;
 
 /**
  * {@code EmployeeServiceImpl} is an implementation of {@code EmployeeService}.
@@ -31,6 +39,21 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     private final CompanyService companyService;
 
+    /**
+     * The index of the employee's skills that holds the employees' skills.
+     */
+    private final EmployeeSkillIndex employeeSkillIndex;
+
+    /**
+     * The tracker of the retest's due dates that holds the employees' ARTs.
+     */
+    private final ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * The image's pruner that deletes the employees' images.
+     */
+    private final ImagePruner imagePruner;
+
     /**
      * Represents the simple name of the Employee's class.
      */
@@ -43,10 +66,20 @@ public class EmployeeServiceImpl implements EmployeeService {
      * 
      * @param employeeRepository the employee's repository used by the application.
      * @param companyService the company's repository used by the application.
+     * @param employeeSkillIndex the index of the employee's skills used by the
+     *                           application.
+     * @param artDueDateTracker  the tracker of the retest's due dates used by the
+     *                           application.
+     * @param imagePruner        the image's pruner used by the application.
      */
-    public EmployeeServiceImpl(EmployeeRepository employeeRepository, CompanyService companyService) {
+    public EmployeeServiceImpl(EmployeeRepository employeeRepository, CompanyService companyService,
+            EmployeeSkillIndex employeeSkillIndex, ArtDueDateTracker artDueDateTracker,
+            ImagePruner imagePruner) {
         this.employeeRepository = employeeRepository;
         this.companyService = companyService;
+        this.employeeSkillIndex = employeeSkillIndex;
+        this.artDueDateTracker = artDueDateTracker;
+        this.imagePruner = imagePruner;
         EMPLOYEE_SIMPLE_NAME = Employee.class.getSimpleName();
     }
 
@@ -76,6 +109,55 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .orElseThrow(() -> new ObjectNotExistsException(EMPLOYEE_SIMPLE_NAME, id));
     }
 
+    /**
+     * Get the employees with the specific ids from the repository, with one query
+     * for all the ids.
+     * 
+     * @param ids the ids of the employees.
+     * @exception NullValueException       If any of the given ids is null.
+     * @exception ObjectNotExistsException If any of the employees is not in the
+     *                                     repository.
+     * @return the employees with those ids.
+     */
+    @Override
+    public List<Employee> getEmployees(Collection<String> ids) throws NullValueException, ObjectNotExistsException {
+        Set<String> distinctIds = new HashSet<>();
+        for (String id : ids) {
+            validateIdNotNull(id);
+            distinctIds.add(id);
+        }
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Employee> employees = employeeRepository.findAllById(distinctIds);
+        Set<String> missingIds = new HashSet<>(distinctIds);
+        for (Employee employee : employees) {
+            missingIds.remove(employee.getWorkPermitNumber());
+        }
+        if (!missingIds.isEmpty()) {
+            throw new ObjectNotExistsException(EMPLOYEE_SIMPLE_NAME, missingIds.iterator().next());
+        }
+        return employees;
+    }
+
+    /**
+     * Find the employees with the specific ids that are in the repository, with
+     * one query for all the ids. The ids that are null or not in the repository
+     * are left out.
+     * 
+     * @param ids the ids of the employees.
+     * @return the employees found with those ids.
+     */
+    @Override
+    public List<Employee> findEmployees(Collection<String> ids) {
+        Set<String> distinctIds = new HashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return employeeRepository.findAllById(distinctIds);
+    }
+
     /**
      * Create the specific employee in the repository.
      * 
@@ -113,7 +195,10 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     /**
-     * Delete the employee with the specific id in the repository.
+     * Delete the employee with the specific id and its images in the repository
+     * in one transaction, releasing the stored files of the images, and remove
+     * its skills from the index of the employee's skills and its ARTs from the
+     * tracker of the retest's due dates.
      * 
      * @param id the id of the employee to delete.
      * @exception NullValueException       If the id of the employee is null or the
@@ -121,10 +206,14 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @exception ObjectNotExistsException If the employee is not in the repository.
      */
     @Override
+    @Transactional
     public void deleteEmployee(String id) throws NullValueException, ObjectExistsException {
         validateIdNotNull(id);
         validateEmployeeExists(id);
+        imagePruner.deleteEmployeeImages(id);
         employeeRepository.deleteById(id);
+        employeeSkillIndex.removeEmployee(id);
+        artDueDateTracker.removeEmployee(id);
     }
 
     /**
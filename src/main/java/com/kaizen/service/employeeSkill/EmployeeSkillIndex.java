@@ -0,0 +1,317 @@
+package com.kaizen.service.employeeSkill;
+
+import com.kaizen.model.dto.EmployeeSkillEntry;
+import com.kaizen.model.entity.EmployeeSkill;
+import com.kaizen.model.entity.EmployeeSkillKey;
+import com.kaizen.repository.EmployeeSkillRepository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * {@code EmployeeSkillIndex} is an in-memory index of the employee's skills,
+ * keyed by skill. Each skill holds its employee's skills sorted by cost, rating
+ * and experience so that range and top-k searches are answered without going
+ * to the repository. It also maintains the {@link SkillSupplySummary} of the
+ * indexed employee's skills.
+ *
+ * <p>
+ * Searches do not lock and see a weakly consistent view while an employee's
+ * skill is being changed; changes are serialized on the index.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Component
+public class EmployeeSkillIndex {
+    /**
+     * The employee's skill's repository that the index is built from.
+     */
+    private final EmployeeSkillRepository employeeSkillRepository;
+
+    /**
+     * Represents the indexed employee's skills of each skill, keyed by skill's id.
+     */
+    private volatile Map<String, SkillEntries> skillEntries = new ConcurrentHashMap<>();
+
+    /**
+     * Represents the supply of each skill, guarded by the index.
+     */
+    private SkillSupplySummary skillSupplySummary = new SkillSupplySummary();
+
+    /**
+     * Create an employee's skill's index with the specific employee's skill's
+     * repository.
+     * 
+     * @param employeeSkillRepository the employee's skill's repository used by the
+     *                                application.
+     */
+    public EmployeeSkillIndex(EmployeeSkillRepository employeeSkillRepository) {
+        this.employeeSkillRepository = employeeSkillRepository;
+    }
+
+    /**
+     * Rebuild the index from all employee's skills in the repository once the
+     * application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<String, SkillEntries> rebuilt = new ConcurrentHashMap<>();
+        SkillSupplySummary rebuiltSummary = new SkillSupplySummary();
+        for (EmployeeSkillEntry entry : employeeSkillRepository.findAllEntries()) {
+            EmployeeSkillEntry replaced = rebuilt.computeIfAbsent(entry.getSkillId(), skillId -> new SkillEntries())
+                    .put(entry);
+            if (replaced != null) {
+                rebuiltSummary.remove(replaced);
+            }
+            rebuiltSummary.add(entry);
+        }
+        skillEntries = rebuilt;
+        skillSupplySummary = rebuiltSummary;
+    }
+
+    /**
+     * Add or replace the specific employee's skill in the index.
+     * 
+     * @param employeeSkill the employee's skill to index.
+     */
+    public synchronized void put(EmployeeSkill employeeSkill) {
+        EmployeeSkillEntry entry = new EmployeeSkillEntry(employeeSkill);
+        EmployeeSkillEntry replaced = skillEntries.computeIfAbsent(entry.getSkillId(), skillId -> new SkillEntries())
+                .put(entry);
+        if (replaced != null) {
+            skillSupplySummary.remove(replaced);
+        }
+        skillSupplySummary.add(entry);
+    }
+
+    /**
+     * Remove the employee's skill with the specific id from the index.
+     * 
+     * @param id the id of the employee's skill to remove.
+     */
+    public synchronized void remove(EmployeeSkillKey id) {
+        SkillEntries entries = skillEntries.get(id.getSkill());
+        if (entries != null) {
+            EmployeeSkillEntry removed = entries.remove(id.getEmployee());
+            if (removed != null) {
+                skillSupplySummary.remove(removed);
+            }
+        }
+    }
+
+    /**
+     * Remove every employee's skill of the employee with the specific id from the
+     * index, after the employee is deleted.
+     * 
+     * @param employeeId the id of the employee to remove.
+     */
+    public synchronized void removeEmployee(String employeeId) {
+        for (SkillEntries entries : skillEntries.values()) {
+            EmployeeSkillEntry removed = entries.remove(employeeId);
+            if (removed != null) {
+                skillSupplySummary.remove(removed);
+            }
+        }
+    }
+
+    /**
+     * Remove every employee's skill of the skill with the specific id from the
+     * index, after the skill is deleted.
+     * 
+     * @param skillId the id of the skill to remove.
+     */
+    public synchronized void removeSkill(String skillId) {
+        skillEntries.remove(skillId);
+        skillSupplySummary.removeSkill(skillId);
+    }
+
+    /**
+     * Remove every employee's skill of the company with the specific id from the
+     * index, after the company is deleted.
+     * 
+     * @param companyId the id of the company to remove.
+     */
+    public synchronized void removeCompany(String companyId) {
+        for (SkillEntries entries : skillEntries.values()) {
+            for (EmployeeSkillEntry removed : entries.removeCompany(companyId)) {
+                skillSupplySummary.remove(removed);
+            }
+        }
+    }
+
+    /**
+     * Collate the supply of each skill that is not from the specific company.
+     * 
+     * @param excludedCompanyId the id of the company to exclude.
+     * @return the supply of each skill outside the company, ordered by skill's id.
+     */
+    public synchronized List<SkillSupply> collate(String excludedCompanyId) {
+        return skillSupplySummary.collate(excludedCompanyId);
+    }
+
+    /**
+     * Search the employee's skills of a skill that are not from a company and are
+     * within the specific rating, cost and experience, in the specific sort order.
+     * 
+     * @param skillId           the id of the skill.
+     * @param excludedCompanyId the id of the company to exclude, or null to
+     *                          exclude none.
+     * @param minRating         the minimum rating.
+     * @param maxCost           the maximum cost.
+     * @param minExperience     the minimum experience.
+     * @param sortOrder         the sort order of the employee's skills.
+     * @param limit             the maximum number of employee's skills to return.
+     * @return the matching entries, at most {@code limit} of them.
+     */
+    public List<EmployeeSkillEntry> search(String skillId, String excludedCompanyId, double minRating,
+            double maxCost, int minExperience, EmployeeSkillSortOrder sortOrder, int limit) {
+        List<EmployeeSkillEntry> found = new ArrayList<>();
+        SkillEntries entries = skillEntries.get(skillId);
+        if (entries == null || limit <= 0) {
+            return found;
+        }
+        Set<String> foundEmployeeIds = new HashSet<>();
+        for (EmployeeSkillEntry entry : entries.sortedBy(sortOrder)) {
+            if (isPastRange(entry, sortOrder, minRating, maxCost, minExperience)) {
+                break;
+            }
+            if (entry.getRating() < minRating || entry.getCost() > maxCost || entry.getExperience() < minExperience
+                    || Objects.equals(entry.getCompanyId(), excludedCompanyId)
+                    || !foundEmployeeIds.add(entry.getEmployeeId())) {
+                continue;
+            }
+            found.add(entry);
+            if (found.size() == limit) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Check whether the specific entry, and every entry after it in the sort
+     * order, is outside the range of the sorted field.
+     * 
+     * @param entry         the entry to check.
+     * @param sortOrder     the sort order being iterated.
+     * @param minRating     the minimum rating.
+     * @param maxCost       the maximum cost.
+     * @param minExperience the minimum experience.
+     * @return true if no later entry can match.
+     */
+    private static boolean isPastRange(EmployeeSkillEntry entry, EmployeeSkillSortOrder sortOrder, double minRating,
+            double maxCost, int minExperience) {
+        switch (sortOrder) {
+            case RATING:
+                return entry.getRating() < minRating;
+            case EXPERIENCE:
+                return entry.getExperience() < minExperience;
+            default:
+                return entry.getCost() > maxCost;
+        }
+    }
+
+    /**
+     * Represents the indexed employee's skills of a single skill.
+     */
+    private static class SkillEntries {
+        /**
+         * Represents the entries keyed by employee's id.
+         */
+        private final Map<String, EmployeeSkillEntry> byEmployee = new ConcurrentHashMap<>();
+
+        /**
+         * Represents the entries, cheapest first.
+         */
+        private final NavigableSet<EmployeeSkillEntry> byCost = new ConcurrentSkipListSet<>(Comparator
+                .comparingDouble(EmployeeSkillEntry::getCost).thenComparing(EmployeeSkillEntry::getEmployeeId));
+
+        /**
+         * Represents the entries, highest rating first.
+         */
+        private final NavigableSet<EmployeeSkillEntry> byRating = new ConcurrentSkipListSet<>(
+                Comparator.comparingDouble(EmployeeSkillEntry::getRating).reversed()
+                        .thenComparing(EmployeeSkillEntry::getEmployeeId));
+
+        /**
+         * Represents the entries, most experience first.
+         */
+        private final NavigableSet<EmployeeSkillEntry> byExperience = new ConcurrentSkipListSet<>(
+                Comparator.comparingInt(EmployeeSkillEntry::getExperience).reversed()
+                        .thenComparing(EmployeeSkillEntry::getEmployeeId));
+
+        /**
+         * Add or replace the specific entry.
+         * 
+         * @param entry the entry to add.
+         * @return the replaced entry, or null if there was none.
+         */
+        EmployeeSkillEntry put(EmployeeSkillEntry entry) {
+            EmployeeSkillEntry replaced = remove(entry.getEmployeeId());
+            byEmployee.put(entry.getEmployeeId(), entry);
+            byCost.add(entry);
+            byRating.add(entry);
+            byExperience.add(entry);
+            return replaced;
+        }
+
+        /**
+         * Remove the entry of the specific employee.
+         * 
+         * @param employeeId the id of the employee.
+         * @return the removed entry, or null if there was none.
+         */
+        EmployeeSkillEntry remove(String employeeId) {
+            EmployeeSkillEntry entry = byEmployee.remove(employeeId);
+            if (entry != null) {
+                byCost.remove(entry);
+                byRating.remove(entry);
+                byExperience.remove(entry);
+            }
+            return entry;
+        }
+
+        /**
+         * Remove the entries of the specific company.
+         * 
+         * @param companyId the id of the company.
+         * @return the removed entries.
+         */
+        List<EmployeeSkillEntry> removeCompany(String companyId) {
+            List<EmployeeSkillEntry> removed = new ArrayList<>();
+            for (EmployeeSkillEntry entry : byEmployee.values()) {
+                if (Objects.equals(entry.getCompanyId(), companyId)) {
+                    removed.add(entry);
+                }
+            }
+            for (EmployeeSkillEntry entry : removed) {
+                remove(entry.getEmployeeId());
+            }
+            return removed;
+        }
+
+        /**
+         * Get the entries in the specific sort order.
+         * 
+         * @param sortOrder the sort order.
+         * @return the sorted entries.
+         */
+        NavigableSet<EmployeeSkillEntry> sortedBy(EmployeeSkillSortOrder sortOrder) {
+            switch (sortOrder) {
+                case RATING:
+                    return byRating;
+                case EXPERIENCE:
+                    return byExperience;
+                default:
+                    return byCost;
+            }
+        }
+    }
+}
@@ -25,6 +25,34 @@ public interface EmployeeSkillService {
      */
     List<EmployeeSkill> listEmployeeSkills();
 
+    /**
+     * Get all employee's skills that do not belong to a company stored in the
+     * repository.
+     * 
+     * @param compId the id of the company to exclude.
+     * @exception NullValueException If the id of the company is null.
+     * @return the list of all employee's skills not from the company.
+     */
+    List<EmployeeSkill> listEmployeeSkillsNotFromCompany(String compId) throws NullValueException;
+
+    /**
+     * Get a page of employee's skills that do not belong to a company stored in
+     * the repository, in the specific sort order and after the specific cursor.
+     * 
+     * @param compId    the id of the company to exclude.
+     * @param sortOrder the sort order of the employee's skills.
+     * @param after     the id of the last employee's skill of the previous page, or
+     *                  null for the first page.
+     * @param size      the maximum number of employee's skills in the page.
+     * @exception NullValueException       If the id of the company or the sort
+     *                                     order is null.
+     * @exception ObjectNotExistsException If the employee's skill of the cursor is
+     *                                     not in the repository.
+     * @return the page of employee's skills not from the company.
+     */
+    List<EmployeeSkill> listEmployeeSkillsNotFromCompany(String compId, EmployeeSkillSortOrder sortOrder,
+            EmployeeSkillKey after, int size) throws NullValueException, ObjectNotExistsException;
+
     /**
      * Get all employee's skills from a company stored in the repository.
      * 
@@ -32,6 +60,25 @@ public interface EmployeeSkillService {
      */
     List<EmployeeSkill> listEmployeeSkillsByCompany(String compId);
 
+    /**
+     * Search the employee's skills of a skill that do not belong to a company and
+     * are within the specific rating, cost and experience, through the in-memory
+     * index of employee's skills.
+     * 
+     * @param skillId       the id of the skill.
+     * @param compId        the id of the company to exclude.
+     * @param minRating     the minimum rating, or null for no minimum.
+     * @param maxCost       the maximum cost, or null for no maximum.
+     * @param minExperience the minimum experience, or null for no minimum.
+     * @param sortOrder     the sort order of the employee's skills.
+     * @param limit         the maximum number of employee's skills to return.
+     * @exception NullValueException If the id of the skill, the id of the company
+     *                               or the sort order is null.
+     * @return the matching employee's skills in the sort order.
+     */
+    List<EmployeeSkill> searchEmployeeSkills(String skillId, String compId, Double minRating, Double maxCost,
+            Integer minExperience, EmployeeSkillSortOrder sortOrder, int limit) throws NullValueException;
+
     /**
      * Get the employee's skill with the specific id from the repository.
      * 
@@ -109,12 +156,12 @@ public interface EmployeeSkillService {
 
 
     /**
-     * Get the list of list of Strings of each skill name, count of Employee under the skill 
-     * and minimum cost of of the employee listed in the repository.
+     * Get the supply of each skill that does not belong to a company; the number
+     * of employee's skills and the spread of their costs and ratings.
      * 
-     * @return a List of records in a List of Strings of Skill Name, count of employees under the skill 
-     * and the minimum cost of the skill
-     * @param compId the id of the company.
+     * @param compId the id of the company to exclude.
+     * @exception NullValueException If the id of the company is null.
+     * @return the supply of each skill not from the company.
      */
-    public List<List<String>> collate(String compId);
+    List<SkillSupply> collate(String compId) throws NullValueException;
 }
\ No newline at end of file
@@ -1,12 +1,15 @@
 package com.kaizen.service.employeeSkill;
 
 import com.kaizen.exceptions.*;
+import com.kaizen.model.dto.EmployeeSkillEntry;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.EmployeeSkill;
 import com.kaizen.model.entity.EmployeeSkillKey;
 import com.kaizen.repository.EmployeeSkillRepository;
 import com.kaizen.service.company.CompanyService;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -23,12 +26,22 @@ import java.util.*;
  */
 @Service
 public class EmployeeSkillServiceImpl implements EmployeeSkillService {
+    /**
+     * Represents the maximum number of employee's skills in a page.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
     /**
      * The employee's skill's repository that stored skills.
      */
     private final EmployeeSkillRepository employeeSkillRepository;
     private final CompanyService companyService;
 
+    /**
+     * The in-memory index of employee's skills used for searching.
+     */
+    private final EmployeeSkillIndex employeeSkillIndex;
+
     /**
      * Represents the simple name of the EmployeeSkill's class.
      */
@@ -41,10 +54,15 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
      * 
      * @param employeeSkillRepository the employee's skill's repository used by the
      *                                application.
+     * @param companyService          the company's service used by the application.
+     * @param employeeSkillIndex      the employee's skill's index used by the
+     *                                application.
      */
-    public EmployeeSkillServiceImpl(EmployeeSkillRepository employeeSkillRepository, CompanyService companyService) {
+    public EmployeeSkillServiceImpl(EmployeeSkillRepository employeeSkillRepository, CompanyService companyService,
+            EmployeeSkillIndex employeeSkillIndex) {
         this.employeeSkillRepository = employeeSkillRepository;
         this.companyService = companyService;
+        this.employeeSkillIndex = employeeSkillIndex;
         EMPLOYEESKILL_SIMPLE_NAME = EmployeeSkill.class.getSimpleName();
     }
 
@@ -58,6 +76,120 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
         return employeeSkillRepository.findAll();
     }
 
+    /**
+     * Get all employee's skills that do not belong to a company stored in the
+     * repository.
+     * 
+     * @param compId the id of the company to exclude.
+     * @exception NullValueException If the id of the company is null.
+     * @return the list of all employee's skills not from the company.
+     */
+    @Override
+    public List<EmployeeSkill> listEmployeeSkillsNotFromCompany(String compId) throws NullValueException {
+        if (compId == null) {
+            throw new NullValueException("Company's Id");
+        }
+        return employeeSkillRepository.findNotFromCompany(compId, Pageable.unpaged());
+    }
+
+    /**
+     * Get a page of employee's skills that do not belong to a company stored in
+     * the repository, in the specific sort order and after the specific cursor.
+     * The size is clamped between 1 and {@code MAX_PAGE_SIZE}.
+     * 
+     * @param compId    the id of the company to exclude.
+     * @param sortOrder the sort order of the employee's skills.
+     * @param after     the id of the last employee's skill of the previous page, or
+     *                  null for the first page.
+     * @param size      the maximum number of employee's skills in the page.
+     * @exception NullValueException       If the id of the company or the sort
+     *                                     order is null.
+     * @exception ObjectNotExistsException If the employee's skill of the cursor is
+     *                                     not in the repository.
+     * @return the page of employee's skills not from the company.
+     */
+    @Override
+    public List<EmployeeSkill> listEmployeeSkillsNotFromCompany(String compId, EmployeeSkillSortOrder sortOrder,
+            EmployeeSkillKey after, int size) throws NullValueException, ObjectNotExistsException {
+        if (compId == null) {
+            throw new NullValueException("Company's Id");
+        } else if (sortOrder == null) {
+            throw new NullValueException("Sort Order");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        if (after == null) {
+            return employeeSkillRepository.findNotFromCompany(compId, PageRequest.of(0, pageSize, sortOrder.getSort()));
+        }
+        EmployeeSkill cursor = getEmployeeSkill(after);
+        Pageable pageable = PageRequest.of(0, pageSize);
+        switch (sortOrder) {
+            case RATING:
+                return employeeSkillRepository.findNotFromCompanyAfterRating(compId, cursor.getRating(),
+                        after.getSkill(), after.getEmployee(), pageable);
+            case EXPERIENCE:
+                return employeeSkillRepository.findNotFromCompanyAfterExperience(compId, cursor.getExperience(),
+                        after.getSkill(), after.getEmployee(), pageable);
+            default:
+                return employeeSkillRepository.findNotFromCompanyAfterCost(compId, cursor.getCost(),
+                        after.getSkill(), after.getEmployee(), pageable);
+        }
+    }
+
+    /**
+     * Search the employee's skills of a skill that do not belong to a company and
+     * are within the specific rating, cost and experience, through the in-memory
+     * index of employee's skills. Only the matching employee's skills are loaded
+     * from the repository. The limit is clamped between 1 and
+     * {@code MAX_PAGE_SIZE}.
+     * 
+     * @param skillId       the id of the skill.
+     * @param compId        the id of the company to exclude.
+     * @param minRating     the minimum rating, or null for no minimum.
+     * @param maxCost       the maximum cost, or null for no maximum.
+     * @param minExperience the minimum experience, or null for no minimum.
+     * @param sortOrder     the sort order of the employee's skills.
+     * @param limit         the maximum number of employee's skills to return.
+     * @exception NullValueException If the id of the skill, the id of the company
+     *                               or the sort order is null.
+     * @return the matching employee's skills in the sort order.
+     */
+    @Override
+    public List<EmployeeSkill> searchEmployeeSkills(String skillId, String compId, Double minRating, Double maxCost,
+            Integer minExperience, EmployeeSkillSortOrder sortOrder, int limit) throws NullValueException {
+        if (skillId == null) {
+            throw new NullValueException("Skill's Id");
+        } else if (compId == null) {
+            throw new NullValueException("Company's Id");
+        } else if (sortOrder == null) {
+            throw new NullValueException("Sort Order");
+        }
+        List<EmployeeSkillEntry> entries = employeeSkillIndex.search(skillId, compId,
+                minRating == null ? Double.NEGATIVE_INFINITY : minRating,
+                maxCost == null ? Double.POSITIVE_INFINITY : maxCost,
+                minExperience == null ? Integer.MIN_VALUE : minExperience, sortOrder,
+                Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> employeeIds = new ArrayList<>();
+        for (EmployeeSkillEntry entry : entries) {
+            employeeIds.add(entry.getEmployeeId());
+        }
+        Map<String, EmployeeSkill> employeeSkills = new HashMap<>();
+        for (EmployeeSkill employeeSkill : employeeSkillRepository.findBySkillAndEmployeeIds(skillId, employeeIds)) {
+            employeeSkills.put(employeeSkill.getId().getEmployee(), employeeSkill);
+        }
+        List<EmployeeSkill> found = new ArrayList<>();
+        for (String employeeId : employeeIds) {
+            EmployeeSkill employeeSkill = employeeSkills.get(employeeId);
+            if (employeeSkill != null) {
+                found.add(employeeSkill);
+            }
+        }
+        return found;
+    }
+
     /**
      * Get the employee's skill with the specific id from the repository.
      * 
@@ -148,7 +280,9 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
         if (employeeSkillRepository.findById(employeeSkill.getId()).isPresent()) {
             throw new ObjectExistsException(EMPLOYEESKILL_SIMPLE_NAME, employeeSkill.getId().toString());
         }
-        return employeeSkillRepository.save(employeeSkill);
+        EmployeeSkill savedEmployeeSkill = employeeSkillRepository.save(employeeSkill);
+        employeeSkillIndex.put(savedEmployeeSkill);
+        return savedEmployeeSkill;
     }
 
     /**
@@ -169,7 +303,9 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
         validateIdNotNull(id);
         validateEmployeeSkillNotNull(employeeSkill);
         validateEmployeeSkillExists(id);
-        return employeeSkillRepository.save(employeeSkill);
+        EmployeeSkill savedEmployeeSkill = employeeSkillRepository.save(employeeSkill);
+        employeeSkillIndex.put(savedEmployeeSkill);
+        return savedEmployeeSkill;
     }
 
     /**
@@ -186,6 +322,7 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
         validateIdNotNull(id);
         validateEmployeeSkillExists(id);
         employeeSkillRepository.deleteById(id);
+        employeeSkillIndex.remove(id);
     }
 
     /**
@@ -226,15 +363,19 @@ public class EmployeeSkillServiceImpl implements EmployeeSkillService {
     }
 
     /**
-     * Get the list of list of Strings of each skill name, count of Employee under the skill 
-     * and minimum cost of of the employee listed in the repository.
+     * Get the supply of each skill that does not belong to a company from the
+     * supply summary maintained by the in-memory index of employee's skills.
      * 
-     * @return a List of records in a List of Strings of Skill Name, count of employees under the skill 
-     * and the minimum cost of the skill
-     * @param compId the id of the company.
+     * @param compId the id of the company to exclude.
+     * @exception NullValueException If the id of the company is null.
+     * @return the supply of each skill not from the company.
      */
-    public List<List<String>> collate(String compId){
-        return employeeSkillRepository.findEmployeeSkillCountAndMinCost(compId);
+    @Override
+    public List<SkillSupply> collate(String compId) throws NullValueException {
+        if (compId == null) {
+            throw new NullValueException("Company's Id");
+        }
+        return employeeSkillIndex.collate(compId);
     }
     
 
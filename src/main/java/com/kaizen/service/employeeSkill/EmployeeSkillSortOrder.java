@@ -0,0 +1,51 @@
+package com.kaizen.service.employeeSkill;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Sort orders that can be used to page through employee's skills. Every sort
+ * order breaks ties by skill's id and then employee's id, so that the pair can
+ * be used as a keyset cursor.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+public enum EmployeeSkillSortOrder {
+    /**
+     * Cheapest first.
+     */
+    COST(Sort.Order.asc("cost")),
+    /**
+     * Highest rating first.
+     */
+    RATING(Sort.Order.desc("rating")),
+    /**
+     * Most experience first.
+     */
+    EXPERIENCE(Sort.Order.desc("experience"));
+
+    /**
+     * Represents the sort of the employee's skills, including the tie breakers.
+     */
+    private final Sort sort;
+
+    /**
+     * Create a sort order that sorts by the specific order and then by skill's id
+     * and employee's id.
+     * 
+     * @param order the order of the sorted field.
+     */
+    EmployeeSkillSortOrder(Sort.Order order) {
+        sort = Sort.by(order, Sort.Order.asc("id.skill"), Sort.Order.asc("id.employee"));
+    }
+
+    /**
+     * Get the sort of the employee's skills, including the tie breakers.
+     * 
+     * @return the sort of the employee's skills.
+     */
+    public Sort getSort() {
+        return sort;
+    }
+}
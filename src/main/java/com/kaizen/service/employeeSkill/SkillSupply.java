@@ -0,0 +1,48 @@
+package com.kaizen.service.employeeSkill;
+
+import lombok.*;
+
+/**
+ * Represents the supply of a skill collated by {@link SkillSupplySummary}; the
+ * number of employee's skills of the skill and the spread of their costs and
+ * ratings.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@EqualsAndHashCode
+public class SkillSupply {
+    /**
+     * Represents the id of the skill.
+     */
+    private final String skillId;
+
+    /**
+     * Represents the number of employee's skills of the skill.
+     */
+    private final long count;
+
+    /**
+     * Represents the minimum cost of the employee's skills.
+     */
+    private final double minCost;
+
+    /**
+     * Represents the maximum cost of the employee's skills.
+     */
+    private final double maxCost;
+
+    /**
+     * Represents the mean cost of the employee's skills.
+     */
+    private final double meanCost;
+
+    /**
+     * Represents the mean rating of the employee's skills.
+     */
+    private final double meanRating;
+}
@@ -0,0 +1,231 @@
+package com.kaizen.service.employeeSkill;
+
+import java.util.*;
+
+import com.kaizen.model.dto.EmployeeSkillEntry;
+
+/**
+ * {@code SkillSupplySummary} is an incrementally maintained aggregate of the
+ * employee's skills of each skill, broken down by company. The supply of a
+ * skill outside a company is answered by subtracting that company's count and
+ * sums from the skill's totals, and by taking the cost extremes of the other
+ * companies, without going through the employee's skills.
+ *
+ * <p>
+ * Employee's skills without a company are not counted. The summary is not
+ * thread-safe; {@link EmployeeSkillIndex} serializes access to it.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+class SkillSupplySummary {
+    /**
+     * Represents the supply of each skill, keyed and ordered by skill's id.
+     */
+    private final Map<String, SkillStats> skillStats = new TreeMap<>();
+
+    /**
+     * Add the specific entry to the summary.
+     * 
+     * @param entry the entry to add.
+     */
+    void add(EmployeeSkillEntry entry) {
+        if (entry.getCompanyId() == null) {
+            return;
+        }
+        skillStats.computeIfAbsent(entry.getSkillId(), skillId -> new SkillStats()).add(entry);
+    }
+
+    /**
+     * Remove the specific entry from the summary.
+     * 
+     * @param entry the entry to remove.
+     */
+    void remove(EmployeeSkillEntry entry) {
+        if (entry.getCompanyId() == null) {
+            return;
+        }
+        SkillStats stats = skillStats.get(entry.getSkillId());
+        if (stats != null && stats.remove(entry)) {
+            skillStats.remove(entry.getSkillId());
+        }
+    }
+
+    /**
+     * Remove every entry of the skill with the specific id from the summary.
+     * 
+     * @param skillId the id of the skill.
+     */
+    void removeSkill(String skillId) {
+        skillStats.remove(skillId);
+    }
+
+    /**
+     * Collate the supply of each skill that is not from the specific company.
+     * 
+     * @param excludedCompanyId the id of the company to exclude.
+     * @return the supply of each skill with at least one employee's skill outside
+     *         the company, ordered by skill's id.
+     */
+    List<SkillSupply> collate(String excludedCompanyId) {
+        List<SkillSupply> collated = new ArrayList<>();
+        for (Map.Entry<String, SkillStats> stats : skillStats.entrySet()) {
+            SkillSupply supply = stats.getValue().collate(stats.getKey(), excludedCompanyId);
+            if (supply != null) {
+                collated.add(supply);
+            }
+        }
+        return collated;
+    }
+
+    /**
+     * Represents the totals of a skill and the contribution of each company to
+     * them.
+     */
+    private static class SkillStats {
+        /**
+         * Represents the number of employee's skills of the skill.
+         */
+        private long count;
+
+        /**
+         * Represents the sum of the costs of the employee's skills.
+         */
+        private double costSum;
+
+        /**
+         * Represents the sum of the ratings of the employee's skills.
+         */
+        private double ratingSum;
+
+        /**
+         * Represents the contribution of each company, keyed by company's id.
+         */
+        private final Map<String, CompanyStats> companyStats = new HashMap<>();
+
+        /**
+         * Add the specific entry to the totals.
+         * 
+         * @param entry the entry to add.
+         */
+        void add(EmployeeSkillEntry entry) {
+            count++;
+            costSum += entry.getCost();
+            ratingSum += entry.getRating();
+            companyStats.computeIfAbsent(entry.getCompanyId(), companyId -> new CompanyStats()).add(entry);
+        }
+
+        /**
+         * Remove the specific entry from the totals.
+         * 
+         * @param entry the entry to remove.
+         * @return true if the skill has no employee's skill left.
+         */
+        boolean remove(EmployeeSkillEntry entry) {
+            CompanyStats stats = companyStats.get(entry.getCompanyId());
+            if (stats == null || !stats.remove(entry)) {
+                return false;
+            }
+            if (stats.count == 0) {
+                companyStats.remove(entry.getCompanyId());
+            }
+            count--;
+            costSum -= entry.getCost();
+            ratingSum -= entry.getRating();
+            return count == 0;
+        }
+
+        /**
+         * Collate the supply of the skill that is not from the specific company.
+         * 
+         * @param skillId           the id of the skill.
+         * @param excludedCompanyId the id of the company to exclude.
+         * @return the supply of the skill, or null if the company holds all of it.
+         */
+        SkillSupply collate(String skillId, String excludedCompanyId) {
+            long supplyCount = count;
+            double supplyCostSum = costSum;
+            double supplyRatingSum = ratingSum;
+            CompanyStats excluded = companyStats.get(excludedCompanyId);
+            if (excluded != null) {
+                supplyCount -= excluded.count;
+                supplyCostSum -= excluded.costSum;
+                supplyRatingSum -= excluded.ratingSum;
+            }
+            if (supplyCount == 0) {
+                return null;
+            }
+            double minCost = Double.POSITIVE_INFINITY;
+            double maxCost = Double.NEGATIVE_INFINITY;
+            for (Map.Entry<String, CompanyStats> stats : companyStats.entrySet()) {
+                if (!stats.getKey().equals(excludedCompanyId)) {
+                    minCost = Math.min(minCost, stats.getValue().costs.firstKey());
+                    maxCost = Math.max(maxCost, stats.getValue().costs.lastKey());
+                }
+            }
+            return new SkillSupply(skillId, supplyCount, minCost, maxCost, supplyCostSum / supplyCount,
+                    supplyRatingSum / supplyCount);
+        }
+    }
+
+    /**
+     * Represents the contribution of a company to the totals of a skill.
+     */
+    private static class CompanyStats {
+        /**
+         * Represents the number of employee's skills of the company.
+         */
+        private long count;
+
+        /**
+         * Represents the sum of the costs of the employee's skills.
+         */
+        private double costSum;
+
+        /**
+         * Represents the sum of the ratings of the employee's skills.
+         */
+        private double ratingSum;
+
+        /**
+         * Represents the number of employee's skills at each cost, so that the
+         * extremes survive removals.
+         */
+        private final NavigableMap<Double, Integer> costs = new TreeMap<>();
+
+        /**
+         * Add the specific entry to the contribution.
+         * 
+         * @param entry the entry to add.
+         */
+        void add(EmployeeSkillEntry entry) {
+            count++;
+            costSum += entry.getCost();
+            ratingSum += entry.getRating();
+            costs.merge(entry.getCost(), 1, Integer::sum);
+        }
+
+        /**
+         * Remove the specific entry from the contribution.
+         * 
+         * @param entry the entry to remove.
+         * @return true if the entry was counted in the contribution.
+         */
+        boolean remove(EmployeeSkillEntry entry) {
+            Integer costCount = costs.get(entry.getCost());
+            if (costCount == null) {
+                return false;
+            }
+            if (costCount == 1) {
+                costs.remove(entry.getCost());
+            } else {
+                costs.put(entry.getCost(), costCount - 1);
+            }
+            count--;
+            costSum -= entry.getCost();
+            ratingSum -= entry.getRating();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,353 @@
+package com.kaizen.service.image;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import com.kaizen.client.ObjectStore;
+import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ImageFile;
+import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.repository.ImageFileRepository;
+import com.kaizen.repository.ImageRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@code ImagePruner} deletes the images that were replaced by a newer profile
+ * image, from the repository and from the object store, on a background
+ * thread so that uploads do not wait for it.
+ *
+ * <p>
+ * An employee is not queued twice, and an employee that does not fit the queue
+ * is pruned by the next sweep of the replaced images. The rows of a batch are
+ * deleted and their stored files released in one transaction, and the files
+ * are deleted once it is committed, so a file is never missing for an image
+ * that is still in the repository, and a file that failed to be deleted is left
+ * behind rather than retried. The file of an image that shares its content with other
+ * images is only deleted with the last of them, and the files left
+ * unreferenced by an image that failed to be created are deleted by the sweep.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-21
+ */
+@Component
+public class ImagePruner {
+    /**
+     * The Image's repository that store Images.
+     */
+    private final ImageRepository imageRepository;
+
+    /**
+     * The Employee's repository that store the Employees' profile images.
+     */
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * The ImageFile's repository that store the files shared by Images with the
+     * same content.
+     */
+    private final ImageFileRepository imageFileRepository;
+
+    /**
+     * The object store that keeps the Images' files.
+     */
+    private final ObjectStore objectStore;
+
+    /**
+     * The template that deletes the rows of a batch in one transaction, as the
+     * pruner calls its own methods and so cannot go through its proxy.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Represents the maximum number of images deleted by a sweep.
+     */
+    private final int batchSize;
+
+    /**
+     * The thread that prunes the images.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Represents the work permit numbers of the employees queued or being
+     * pruned.
+     */
+    private final Set<String> pendingIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Create an image's pruner with the specific repositories, object store and
+     * bounds.
+     *
+     * @param imageRepository     the image's repository used by the
+     *                            application.
+     * @param employeeRepository  the employee's repository used by the
+     *                            application.
+     * @param imageFileRepository the image file's repository used by the
+     *                            application.
+     * @param objectStore         the object store used by the application.
+     * @param transactionManager  the transaction manager used by the
+     *                            application.
+     * @param queueCapacity       the maximum number of employees waiting to be
+     *                            pruned.
+     * @param batchSize           the maximum number of images deleted by a
+     *                            sweep.
+     */
+    public ImagePruner(ImageRepository imageRepository, EmployeeRepository employeeRepository,
+            ImageFileRepository imageFileRepository, ObjectStore objectStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${image.prune.queueCapacity:100}") int queueCapacity,
+            @Value("${image.prune.batchSize:500}") int batchSize) {
+        this.imageRepository = imageRepository;
+        this.employeeRepository = employeeRepository;
+        this.imageFileRepository = imageFileRepository;
+        this.objectStore = objectStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * Queue the replaced images of the employee with the specific work permit
+     * number to be pruned, unless it is already queued or the queue is full.
+     *
+     * @param employeeId the work permit number of the employee.
+     * @return true if the employee was queued.
+     */
+    public boolean enqueue(String employeeId) {
+        if (employeeId == null || !pendingIds.add(employeeId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    prune(employeeId);
+                } catch (RuntimeException e) {
+                    // left for the next sweep of the replaced images
+                } finally {
+                    pendingIds.remove(employeeId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingIds.remove(employeeId);
+            return false;
+        }
+    }
+
+    /**
+     * Delete the replaced images of the employee with the specific work permit
+     * number on the calling thread.
+     *
+     * @param employeeId the work permit number of the employee.
+     * @return the number of images deleted.
+     */
+    public int prune(String employeeId) {
+        return deleteImages(imageRepository.findReplacedByEmployeeId(employeeId));
+    }
+
+    /**
+     * Delete the oldest replaced images of every employee, up to the batch size,
+     * on the calling thread.
+     *
+     * @return the number of images deleted.
+     */
+    public int pruneReplaced() {
+        return deleteImages(imageRepository.findReplaced(PageRequest.of(0, batchSize)));
+    }
+
+    /**
+     * Delete the oldest stored files that no image references, up to the batch
+     * size, on the calling thread.
+     *
+     * @return the number of stored files deleted.
+     */
+    public int pruneUnreferenced() {
+        int deleted = 0;
+        for (ImageFile imageFile : imageFileRepository.findUnreferenced(PageRequest.of(0, batchSize))) {
+            if (imageFileRepository.deleteUnreferenced(imageFile.getContentHash()) > 0) {
+                deleteFiles(fileUrlsOf(imageFile));
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Delete every image of the employee with the specific work permit number on
+     * the calling thread, before the employee is deleted, so that the stored
+     * files they reference are released instead of cascade-deleted with them.
+     *
+     * @param employeeId the work permit number of the employee.
+     * @return the number of images deleted.
+     */
+    public int deleteEmployeeImages(String employeeId) {
+        return deleteImages(imageRepository.findByEmployeeId(employeeId));
+    }
+
+    /**
+     * Delete every image of the employees of the company with the specific UEN on
+     * the calling thread, before the company is deleted, so that the stored files
+     * they reference are released instead of cascade-deleted with them.
+     *
+     * @param companyId the UEN of the company.
+     * @return the number of images deleted.
+     */
+    public int deleteCompanyImages(String companyId) {
+        return deleteImages(imageRepository.findByCompanyId(companyId));
+    }
+
+    /**
+     * Point the profile image of each employee without one to its newest image,
+     * for the images uploaded before the profile image was kept or an employee
+     * whose profile image was deleted.
+     *
+     * @return the number of employees pointed to an image.
+     */
+    public int backfillProfileImages() {
+        employeeRepository.backfillProfileImageIds();
+        return employeeRepository.backfillProfileImageURLs();
+    }
+
+    /**
+     * Stop pruning the images when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Delete the specific images from the repository and release the stored files
+     * they reference in one transaction, joining the current one if any, and
+     * delete the files that are no longer referenced from the object store once
+     * that transaction is committed.
+     *
+     * @param images the images to delete.
+     * @return the number of images deleted.
+     */
+    public int deleteImages(List<Image> images) {
+        if (images.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> deleteRows(images));
+        return images.size();
+    }
+
+    /**
+     * Delete the specific images from the repository, releasing the stored files
+     * they reference, and delete their files that are no longer referenced once
+     * the current transaction is committed.
+     *
+     * @param images the images to delete.
+     */
+    private void deleteRows(List<Image> images) {
+        imageRepository.deleteAllInBatch(images);
+        Set<String> fileUrls = new LinkedHashSet<>();
+        Set<String> contentHashes = new LinkedHashSet<>();
+        for (Image image : images) {
+            if (image.getContentHash() == null) {
+                fileUrls.addAll(fileUrlsOf(image));
+            } else {
+                imageFileRepository.release(image.getContentHash());
+                contentHashes.add(image.getContentHash());
+            }
+        }
+        for (String contentHash : contentHashes) {
+            Optional<ImageFile> imageFile = imageFileRepository.findByContentHash(contentHash);
+            if (imageFile.isPresent() && imageFileRepository.deleteUnreferenced(contentHash) > 0) {
+                fileUrls.addAll(fileUrlsOf(imageFile.get()));
+            }
+        }
+        afterCommit(() -> deleteFiles(fileUrls));
+    }
+
+    /**
+     * Get the URLs of the original and the variants of the specific image.
+     *
+     * @param image the image.
+     * @return the distinct URLs of the image's files.
+     */
+    private static Set<String> fileUrlsOf(Image image) {
+        return fileUrlsOf(image.getProfileURL(), image.getSmallURL(), image.getMediumURL(), image.getLargeURL());
+    }
+
+    /**
+     * Get the URLs of the original and the variants of the specific stored file.
+     *
+     * @param imageFile the stored file.
+     * @return the distinct URLs of the stored file's files.
+     */
+    private static Set<String> fileUrlsOf(ImageFile imageFile) {
+        return fileUrlsOf(imageFile.getUrl(), imageFile.getSmallURL(), imageFile.getMediumURL(),
+                imageFile.getLargeURL());
+    }
+
+    /**
+     * Get the distinct URLs among the specific URLs, ignoring nulls.
+     *
+     * @param urls the URLs.
+     * @return the distinct URLs.
+     */
+    private static Set<String> fileUrlsOf(String... urls) {
+        Set<String> fileUrls = new LinkedHashSet<>();
+        for (String url : urls) {
+            if (url != null) {
+                fileUrls.add(url);
+            }
+        }
+        return fileUrls;
+    }
+
+    /**
+     * Run the specific task once the current transaction is committed, or now if
+     * there is no transaction, so that a rolled back delete keeps its files.
+     *
+     * @param task the task to run.
+     */
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * Delete the files with the specific URLs from the object store, leaving
+     * behind those that could not be deleted.
+     *
+     * @param fileUrls the URLs of the files.
+     */
+    private void deleteFiles(Set<String> fileUrls) {
+        for (String fileUrl : fileUrls) {
+            try {
+                objectStore.deleteFile(fileUrl);
+            } catch (RuntimeException e) {
+                // the row is gone, so the file is only left behind
+            }
+        }
+    }
+}
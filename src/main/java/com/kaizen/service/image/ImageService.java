@@ -3,10 +3,13 @@ package com.kaizen.service.image;
 import com.kaizen.exceptions.NullValueException;
 import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
+import com.kaizen.model.ImageSize;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.entity.Image;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Tan Jie En
@@ -54,4 +57,27 @@ public interface ImageService {
      */
     String getProfileImageURL(Employee emp);
 
+    /**
+     * Get the most recent Image URLs of the specific employees from their
+     * profile images.
+     * 
+     * @param employees the employees to get the most recent Image URLs for.
+     * @exception NullValueException If the employees passed in is null.
+     * @return the most recent Image URL of each employee, keyed by the employee's
+     *         work permit number.
+     */
+    Map<String, String> getProfileImageURLs(Collection<Employee> employees);
+
+    /**
+     * Get the URLs of the specific size of the most recent Images of the specific
+     * employees from their profile images.
+     * 
+     * @param employees the employees to get the most recent Image URLs for.
+     * @param size      the size of the Images.
+     * @exception NullValueException If the employees passed in is null.
+     * @return the most recent Image URL of each employee, keyed by the employee's
+     *         work permit number.
+     */
+    Map<String, String> getProfileImageURLs(Collection<Employee> employees, ImageSize size);
+
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.kaizen.service.image;
 
 import com.kaizen.exceptions.*;
+import com.kaizen.model.ImageSize;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ProfileImage;
+import com.kaizen.repository.EmployeeRepository;
 import com.kaizen.repository.ImageRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.*;
 
@@ -22,20 +28,48 @@ public class ImageServiceImpl implements ImageService {
      */
     private final ImageRepository imageRepository;
 
+    /**
+     * The Employee's repository that store the Employees' profile images.
+     */
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * The thumbnailer that resizes the Images in the background.
+     */
+    private final ImageThumbnailer imageThumbnailer;
+
+    /**
+     * The pruner that deletes the replaced Images in the background.
+     */
+    private final ImagePruner imagePruner;
+
+    /**
+     * Represents the image URL used when the employee has no image.
+     */
+    public static final String DEFAULT_PROFILE_IMAGE_URL = "https://s3.ap-southeast-1.amazonaws.com/kaizen-imagebucket/1634743589773-worker1.jpg";
+
     /**
      * Represents the simple name of the Image class.
      */
     private final String Image_SIMPLE_NAME;
 
     /**
-     * Create a Image's service implementation with the specific Image's repository
-     * and set the {@code image_SIMPLE_NAME} with the simple name of the Image's
-     * class
+     * Create a Image's service implementation with the specific Image's and
+     * Employee's repositories, thumbnailer and pruner and set the
+     * {@code image_SIMPLE_NAME} with the simple name of the Image's class
      * 
-     * @param ImageRepository the image's repository used by the application.
+     * @param ImageRepository    the image's repository used by the application.
+     * @param employeeRepository the employee's repository used by the
+     *                           application.
+     * @param imageThumbnailer   the image's thumbnailer used by the application.
+     * @param imagePruner        the image's pruner used by the application.
      */
-    public ImageServiceImpl(ImageRepository imageRepository) {
+    public ImageServiceImpl(ImageRepository imageRepository, EmployeeRepository employeeRepository,
+            ImageThumbnailer imageThumbnailer, ImagePruner imagePruner) {
         this.imageRepository = imageRepository;
+        this.employeeRepository = employeeRepository;
+        this.imageThumbnailer = imageThumbnailer;
+        this.imagePruner = imagePruner;
         Image_SIMPLE_NAME = Image.class.getSimpleName();
     }
 
@@ -50,7 +84,10 @@ public class ImageServiceImpl implements ImageService {
     }
 
     /**
-     * Create the specific Image in the repository.
+     * Create the specific Image in the repository and point its Employee's
+     * profile image to it in the same transaction. Once committed, the Image is
+     * queued to be resized unless its variants are already stored, and the
+     * Images it replaced are queued to be pruned.
      * 
      * @param Image the Image to create.
      * @exception NullValueException    If the id of the Image is null.
@@ -58,27 +95,50 @@ public class ImageServiceImpl implements ImageService {
      * @return the created Image.
      */
     @Override
+    @Transactional
     public Image addImage(Image image) throws NullValueException, ObjectExistsException {
         validateImageNotNull(image);
-        return imageRepository.save(image);
+        Image saved = imageRepository.save(image);
+        if (saved == null) {
+            return null;
+        }
+        String employeeId = saved.getEmployee() == null ? null : saved.getEmployee().getWorkPermitNumber();
+        if (employeeId != null) {
+            employeeRepository.updateProfileImage(employeeId, saved.getId(), saved.getProfileURL(),
+                    saved.getSmallURL(), saved.getMediumURL(), saved.getLargeURL());
+        }
+        afterCommit(() -> {
+            if (saved.getLargeURL() == null) {
+                imageThumbnailer.enqueue(saved.getId());
+            }
+            imagePruner.enqueue(employeeId);
+        });
+        return saved;
     }
 
     /**
-     * Delete the Image with the specific id in the repository.
+     * Delete the Image with the specific id in the repository and clear the
+     * profile image pointing to it in the same transaction. Once committed, its
+     * file is deleted from the object store, unless the file is still referenced
+     * by another Image. An Employee whose profile image was the Image is left
+     * without one until it is pointed to its newest remaining Image.
      * 
      * @param id the id of the Image to delete.
      * @exception NullValueException       If the id of the Image is null.
      * @exception ObjectNotExistsException If the Image is not in the repository.
      */
     @Override
+    @Transactional
     public void deleteImage(Long id) throws NullValueException, ObjectNotExistsException {
         validateIdNotNull(id);
-        validateImageExists(id);
-        imageRepository.deleteById(id);
+        Image image = validateImageExists(id);
+        employeeRepository.clearProfileImage(id);
+        imagePruner.deleteImages(List.of(image));
     }
 
     /**
-     * Get the most recent Image URL through the employee in the repository.
+     * Get the most recent Image URL from the employee's profile image, without
+     * querying the repository.
      * 
      * @param emp employee which we want to retrieve the profile image for.
      * @exception NullValueException If the employee passed in is null.
@@ -87,13 +147,86 @@ public class ImageServiceImpl implements ImageService {
     @Override
     public String getProfileImageURL(Employee emp) throws NullValueException {
         validateEmployeeNotNull(emp);
-        List<Image> imageList = imageRepository.findByEmployee(emp);
-        if (imageList.size() == 0)
-            return "https://s3.ap-southeast-1.amazonaws.com/kaizen-imagebucket/1634743589773-worker1.jpg";
-        return imageList.get(imageList.size() - 1).getProfileURL() + "";
+        return getProfileImageURL(emp, ImageSize.ORIGINAL);
+    }
+
+    /**
+     * Get the most recent Image URLs of the specific employees from their
+     * profile images. Employees without any image are mapped to the default
+     * Image URL.
+     * 
+     * @param employees the employees to get the most recent Image URLs for.
+     * @exception NullValueException If the employees passed in is null.
+     * @return the most recent Image URL of each employee, keyed by the employee's
+     *         work permit number.
+     */
+    @Override
+    public Map<String, String> getProfileImageURLs(Collection<Employee> employees) throws NullValueException {
+        return getProfileImageURLs(employees, ImageSize.ORIGINAL);
+    }
+
+    /**
+     * Get the URLs of the specific size of the most recent Images of the specific
+     * employees from their profile images, without querying the repository.
+     * Images not resized yet are mapped to their original URL, and employees
+     * without any image are mapped to the default Image URL.
+     * 
+     * @param employees the employees to get the most recent Image URLs for.
+     * @param size      the size of the Images.
+     * @exception NullValueException If the employees passed in is null.
+     * @return the most recent Image URL of each employee, keyed by the employee's
+     *         work permit number.
+     */
+    @Override
+    public Map<String, String> getProfileImageURLs(Collection<Employee> employees, ImageSize size)
+            throws NullValueException {
+        if (employees == null) {
+            throw new NullValueException("Employees");
+        }
+        Map<String, String> profileImageURLs = new HashMap<>();
+        for (Employee emp : employees) {
+            validateEmployeeNotNull(emp);
+            profileImageURLs.put(emp.getWorkPermitNumber(), getProfileImageURL(emp, size));
+        }
+        return profileImageURLs;
+    }
+
+    /**
+     * Get the URL of the specific size of the specific employee's profile image.
+     * 
+     * @param emp  the employee.
+     * @param size the size of the Image.
+     * @return the URL of the profile image, or the default Image URL if the
+     *         employee has none.
+     */
+    private String getProfileImageURL(Employee emp, ImageSize size) {
+        ProfileImage profileImage = emp.getProfileImage();
+        if (profileImage == null || profileImage.getUrl() == null) {
+            return DEFAULT_PROFILE_IMAGE_URL;
+        }
+        return profileImage.getURL(size);
+    }
+
+    /**
+     * Run the specific task once the current transaction is committed, or now if
+     * there is no transaction, so that the background threads see the committed
+     * Image.
+     * 
+     * @param task the task to run.
+     */
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
-    
 
     /**
      * Validate the specific id is not null.
@@ -124,11 +257,11 @@ public class ImageServiceImpl implements ImageService {
      * 
      * @param id the id of the Image to validate.
      * @exception ObjectNotExistsException If the Image is not in the repository.
+     * @return the Image with the specific id.
      */
-    private void validateImageExists(Long id) throws ObjectNotExistsException {
-        if (imageRepository.findById(id).isEmpty()) {
-            throw new ObjectNotExistsException(Image_SIMPLE_NAME, "" + id);
-        }
+    private Image validateImageExists(Long id) throws ObjectNotExistsException {
+        return imageRepository.findById(id)
+                .orElseThrow(() -> new ObjectNotExistsException(Image_SIMPLE_NAME, "" + id));
     }
 
 
@@ -0,0 +1,352 @@
+package com.kaizen.service.image;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import com.kaizen.client.ObjectStore;
+import com.kaizen.model.ImageSize;
+import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ImageFile;
+import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.repository.ImageFileRepository;
+import com.kaizen.repository.ImageRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code ImageThumbnailer} resizes the uploaded images into each
+ * {@link ImageSize} on a bounded pool of threads, so that listings can send
+ * small images instead of the originals.
+ *
+ * <p>
+ * The original is read back from the object store, so the queue only holds
+ * the ids of the images. An image is not queued twice, and an image that does
+ * not fit the queue is resized by the next sweep of the images without
+ * variants. A variant that would not be smaller than the original, or an
+ * original that is not a readable image, uses the URL of the original. So does
+ * an original larger than {@link #MAX_PIXELS}, whose size is read before it is
+ * decoded, and an image that failed to be resized {@link #MAX_RESIZE_ATTEMPTS}
+ * times, so that it does not hold back the newer images in the sweep. The
+ * URLs of the variants are also copied to the profile images that point to
+ * the image, and to the stored file of its content, so that an image with
+ * the same content reuses them instead of being resized again.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-20
+ */
+@Component
+public class ImageThumbnailer {
+    /**
+     * Represents the maximum number of pixels of an original that is decoded to
+     * be resized.
+     */
+    public static final long MAX_PIXELS = 40_000_000L;
+
+    /**
+     * Represents the number of times an image fails to be resized before its
+     * variants use the URL of the original.
+     */
+    public static final int MAX_RESIZE_ATTEMPTS = 3;
+
+    /**
+     * The Image's repository that store Images.
+     */
+    private final ImageRepository imageRepository;
+
+    /**
+     * The Employee's repository that store the Employees' profile images.
+     */
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * The ImageFile's repository that store the files shared by Images with the
+     * same content.
+     */
+    private final ImageFileRepository imageFileRepository;
+
+    /**
+     * The object store that keeps the Images' files.
+     */
+    private final ObjectStore objectStore;
+
+    /**
+     * Represents the maximum number of images waiting to be resized.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The threads that resize the images.
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Represents the ids of the images queued or being resized.
+     */
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Represents the number of times each image failed to be resized, keyed by
+     * the id of the image.
+     */
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * Create an image's thumbnailer with the specific repositories, object store
+     * and bounds.
+     *
+     * @param imageRepository     the image's repository used by the
+     *                            application.
+     * @param employeeRepository  the employee's repository used by the
+     *                            application.
+     * @param imageFileRepository the image file's repository used by the
+     *                            application.
+     * @param objectStore         the object store used by the application.
+     * @param threads             the number of threads that resize the images.
+     * @param queueCapacity       the maximum number of images waiting to be
+     *                            resized.
+     */
+    public ImageThumbnailer(ImageRepository imageRepository, EmployeeRepository employeeRepository,
+            ImageFileRepository imageFileRepository, ObjectStore objectStore,
+            @Value("${image.thumbnail.threads:2}") int threads,
+            @Value("${image.thumbnail.queueCapacity:100}") int queueCapacity) {
+        this.imageRepository = imageRepository;
+        this.employeeRepository = employeeRepository;
+        this.imageFileRepository = imageFileRepository;
+        this.objectStore = objectStore;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    /**
+     * Queue the image with the specific id to be resized, unless it is already
+     * queued or the queue is full.
+     *
+     * @param id the id of the image.
+     * @return true if the image was queued.
+     */
+    public boolean enqueue(Long id) {
+        if (id == null || !pendingIds.add(id)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    resize(id);
+                } finally {
+                    pendingIds.remove(id);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingIds.remove(id);
+            return false;
+        }
+    }
+
+    /**
+     * Queue the oldest images without variants, up to the capacity of the queue.
+     *
+     * @return the number of images queued.
+     */
+    public int enqueueMissing() {
+        int queued = 0;
+        for (Long id : imageRepository.findIdsWithoutVariants(PageRequest.of(0, queueCapacity))) {
+            if (enqueue(id)) {
+                queued++;
+            }
+        }
+        return queued;
+    }
+
+    /**
+     * Resize the image with the specific id into each size on the calling thread
+     * and record the URLs of the variants on the image, on the profile images
+     * that point to it and on the stored file of its content. The variants of
+     * the stored file are reused if it was already resized. An image that
+     * failed to be read or written is left without variants, to be retried by
+     * the next sweep.
+     *
+     * @param id the id of the image.
+     */
+    public void resize(Long id) {
+        Optional<Image> found = imageRepository.findById(id);
+        if (found.isEmpty()) {
+            return;
+        }
+        String contentHash = found.get().getContentHash();
+        Optional<ImageFile> imageFile = contentHash == null ? Optional.empty()
+                : imageFileRepository.findByContentHash(contentHash);
+        if (imageFile.isPresent() && imageFile.get().getLargeURL() != null) {
+            updateVariantURLs(id, null, imageFile.get().getSmallURL(), imageFile.get().getMediumURL(),
+                    imageFile.get().getLargeURL());
+            return;
+        }
+        String originalURL = found.get().getProfileURL();
+        try {
+            BufferedImage original;
+            try (InputStream inputStream = objectStore.openFile(originalURL)) {
+                original = readImage(inputStream);
+            }
+            Map<ImageSize, String> variantURLs = new EnumMap<>(ImageSize.class);
+            for (ImageSize size : ImageSize.values()) {
+                if (size != ImageSize.ORIGINAL) {
+                    variantURLs.put(size, original == null ? originalURL : writeVariant(originalURL, original, size));
+                }
+            }
+            updateVariantURLs(id, contentHash, variantURLs.get(ImageSize.SMALL), variantURLs.get(ImageSize.MEDIUM),
+                    variantURLs.get(ImageSize.LARGE));
+            failedAttempts.remove(id);
+        } catch (IOException | RuntimeException e) {
+            if (failedAttempts.merge(id, 1, Integer::sum) >= MAX_RESIZE_ATTEMPTS) {
+                failedAttempts.remove(id);
+                updateVariantURLs(id, null, originalURL, originalURL, originalURL);
+            }
+            // otherwise left without variants, so that the next sweep retries it
+        }
+    }
+
+    /**
+     * Stop resizing the images when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Record the specific URLs of the variants on the image with the specific id,
+     * on the profile images that point to it and on the stored file with the
+     * specific content hash.
+     *
+     * @param id          the id of the image.
+     * @param contentHash the content hash of the stored file, or null if it
+     *                    already has the variants.
+     * @param smallURL    the URL of the small variant.
+     * @param mediumURL   the URL of the medium variant.
+     * @param largeURL    the URL of the large variant.
+     */
+    private void updateVariantURLs(Long id, String contentHash, String smallURL, String mediumURL,
+            String largeURL) {
+        imageRepository.updateVariantURLs(id, smallURL, mediumURL, largeURL);
+        employeeRepository.updateProfileImageVariantURLs(id, smallURL, mediumURL, largeURL);
+        if (contentHash != null) {
+            imageFileRepository.updateVariantURLs(contentHash, smallURL, mediumURL, largeURL);
+        }
+    }
+
+    /**
+     * Read the image from the specific stream, checking its width and height
+     * before decoding it so that an original with too many pixels is not loaded
+     * into memory.
+     *
+     * @param inputStream the stream of the original.
+     * @return the image, or null if it is not a readable image or has more than
+     *         {@link #MAX_PIXELS} pixels.
+     * @throws IOException if the image could not be read.
+     */
+    private static BufferedImage readImage(InputStream inputStream) throws IOException {
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInputStream == null ? null
+                    : ImageIO.getImageReaders(imageInputStream);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInputStream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Resize the specific original to fit the specific size and write it to the
+     * object store next to the original.
+     *
+     * @param originalURL the URL of the original.
+     * @param original    the original image.
+     * @param size        the size of the variant.
+     * @return the URL of the variant, or of the original if it already fits.
+     * @throws IOException if the variant could not be written.
+     */
+    private String writeVariant(String originalURL, BufferedImage original, ImageSize size) throws IOException {
+        BufferedImage variant = scaleToFit(original, size.getMaxDimension());
+        if (variant == original) {
+            return originalURL;
+        }
+        boolean hasAlpha = original.getColorModel().hasAlpha();
+        String format = hasAlpha ? "png" : "jpg";
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ImageIO.write(variant, format, content);
+        String originalName = originalURL.substring(originalURL.lastIndexOf("/") + 1);
+        int extension = originalName.lastIndexOf('.');
+        String baseName = extension > 0 ? originalName.substring(0, extension) : originalName;
+        String fileName = baseName + "-" + size.name().toLowerCase() + "." + format;
+        return objectStore.putFile(fileName, new ByteArrayInputStream(content.toByteArray()), content.size(),
+                hasAlpha ? "image/png" : "image/jpeg");
+    }
+
+    /**
+     * Scale the specific image down to fit a square of the specific dimension,
+     * halving it first while it is more than twice as large so that the result
+     * stays smooth.
+     *
+     * @param image        the image to scale.
+     * @param maxDimension the maximum width and height in pixels.
+     * @return the scaled image, or the same image if it already fits.
+     */
+    public static BufferedImage scaleToFit(BufferedImage image, int maxDimension) {
+        int largest = Math.max(image.getWidth(), image.getHeight());
+        if (largest <= maxDimension) {
+            return image;
+        }
+        double scale = (double) maxDimension / largest;
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage scaled = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(scaled, 0, 0, width, height, null);
+            graphics.dispose();
+            scaled = step;
+        } while (width != targetWidth || height != targetHeight);
+        return scaled;
+    }
+}
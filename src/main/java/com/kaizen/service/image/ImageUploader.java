@@ -0,0 +1,163 @@
+package com.kaizen.service.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.kaizen.client.ObjectStore;
+import com.kaizen.model.entity.Employee;
+import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ImageFile;
+import com.kaizen.repository.ImageFileRepository;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * {@code ImageUploader} stores the uploaded images, storing each distinct
+ * content once so that a photo uploaded again is neither uploaded nor stored
+ * twice.
+ *
+ * <p>
+ * The file is hashed before it is uploaded, from the copy spooled by the
+ * servlet container. If its content is already stored, the new image
+ * references the stored file and its variants with no upload. Otherwise the
+ * file is uploaded under a unique name and recorded under its hash, and of
+ * concurrent uploads of the same content the first recorded is kept, the
+ * others being deleted.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-22
+ */
+@Component
+public class ImageUploader {
+    /**
+     * Represents the number of times an uploaded file is recorded when
+     * concurrent uploads and deletes of the same content keep conflicting.
+     */
+    private static final int MAX_RECORD_ATTEMPTS = 3;
+
+    /**
+     * The ImageFile's repository that store the files shared by Images with the
+     * same content.
+     */
+    private final ImageFileRepository imageFileRepository;
+
+    /**
+     * The object store that keeps the Images' files.
+     */
+    private final ObjectStore objectStore;
+
+    /**
+     * The Image's service that creates the Images.
+     */
+    private final ImageService imageService;
+
+    /**
+     * Create an image's uploader with the specific repository, object store and
+     * image's service.
+     *
+     * @param imageFileRepository the image file's repository used by the
+     *                            application.
+     * @param objectStore         the object store used by the application.
+     * @param imageService        the image's service used by the application.
+     */
+    public ImageUploader(ImageFileRepository imageFileRepository, ObjectStore objectStore,
+            ImageService imageService) {
+        this.imageFileRepository = imageFileRepository;
+        this.objectStore = objectStore;
+        this.imageService = imageService;
+    }
+
+    /**
+     * Store the specific file as an image of the specific employee, uploading it
+     * off the calling thread only if its content is not stored yet.
+     *
+     * @param emp  the employee of the image.
+     * @param file the image file, which must stay readable until the upload
+     *             completes.
+     * @return the created image once stored, or a failed future if the file
+     *         could not be read or uploaded.
+     */
+    public CompletableFuture<Image> upload(Employee emp, MultipartFile file) {
+        String contentHash;
+        try {
+            contentHash = ObjectStore.hashContent(file);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(e));
+        }
+        Optional<ImageFile> stored = acquire(contentHash);
+        if (stored.isPresent()) {
+            try {
+                return CompletableFuture.completedFuture(addImage(stored.get(), emp));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return objectStore.uploadFileAsync(file).thenApply(url -> addImage(record(contentHash, url), emp));
+    }
+
+    /**
+     * Add a reference to the stored file with the specific content hash.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @return the referenced file, or empty if the content is not stored.
+     */
+    private Optional<ImageFile> acquire(String contentHash) {
+        if (imageFileRepository.acquire(contentHash) == 0) {
+            return Optional.empty();
+        }
+        return imageFileRepository.findByContentHash(contentHash);
+    }
+
+    /**
+     * Record the uploaded file with the specific URL as the stored file of the
+     * specific content hash. If a concurrent upload of the same content was
+     * recorded first, the uploaded file is deleted and the recorded one is
+     * referenced instead.
+     *
+     * @param contentHash the SHA-256 hash of the content in hexadecimal.
+     * @param url         the URL of the uploaded file.
+     * @return the stored file of the content, referenced once for the image.
+     */
+    private ImageFile record(String contentHash, String url) {
+        DataIntegrityViolationException conflict = null;
+        for (int attempt = 0; attempt < MAX_RECORD_ATTEMPTS; attempt++) {
+            try {
+                return imageFileRepository.save(new ImageFile(contentHash, url));
+            } catch (DataIntegrityViolationException e) {
+                conflict = e;
+            }
+            Optional<ImageFile> stored = acquire(contentHash);
+            if (stored.isPresent()) {
+                try {
+                    objectStore.deleteFile(url);
+                } catch (RuntimeException e) {
+                    // nothing references the uploaded file, so it is only left behind
+                }
+                return stored.get();
+            }
+        }
+        throw conflict;
+    }
+
+    /**
+     * Create an image of the specific employee that references the specific
+     * stored file, releasing the reference if the image could not be created.
+     *
+     * @param imageFile the stored file, already referenced for the image.
+     * @param emp       the employee of the image.
+     * @return the created image.
+     */
+    private Image addImage(ImageFile imageFile, Employee emp) {
+        try {
+            return imageService.addImage(new Image(imageFile, emp));
+        } catch (RuntimeException e) {
+            imageFileRepository.release(imageFile.getContentHash());
+            throw e;
+        }
+    }
+}
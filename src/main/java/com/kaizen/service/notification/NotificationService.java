@@ -0,0 +1,23 @@
+package com.kaizen.service.notification;
+
+import java.util.List;
+
+import com.kaizen.model.entity.Notification;
+
+/**
+ * {@code NotificationService} captures what are needed for business's logic for
+ * notification.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+public interface NotificationService {
+  /**
+   * Create the specific notifications in the repository, in batches.
+   * 
+   * @param notifications the notifications to create.
+   * @return the number of created notifications.
+   */
+  int addNotifications(List<Notification> notifications);
+}
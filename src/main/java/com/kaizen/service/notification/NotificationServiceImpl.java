@@ -0,0 +1,61 @@
+package com.kaizen.service.notification;
+
+import java.util.List;
+
+import com.kaizen.model.entity.Notification;
+import com.kaizen.repository.NotificationRepository;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@code NotificationServiceImpl} is an implementation of
+ * {@code NotificationService}.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@Service
+public class NotificationServiceImpl implements NotificationService {
+    /**
+     * Represents the maximum number of notifications flushed to the database at
+     * once.
+     */
+    public static final int NOTIFICATION_BATCH_SIZE = 100;
+
+    /**
+     * The notification's repository that stored notifications.
+     */
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * Create a notification's service implementation with the specific
+     * notification's repository.
+     * 
+     * @param notificationRepository the notification's repository used by the
+     *                               application.
+     */
+    public NotificationServiceImpl(NotificationRepository notificationRepository) {
+        this.notificationRepository = notificationRepository;
+    }
+
+    /**
+     * Create the specific notifications in the repository, flushing at most
+     * {@link #NOTIFICATION_BATCH_SIZE} notifications at once. All the
+     * notifications are saved in one transaction, so either all or none of them
+     * are created.
+     * 
+     * @param notifications the notifications to create.
+     * @return the number of created notifications.
+     */
+    @Override
+    @Transactional
+    public int addNotifications(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += NOTIFICATION_BATCH_SIZE) {
+            int to = Math.min(from + NOTIFICATION_BATCH_SIZE, notifications.size());
+            notificationRepository.saveAllAndFlush(notifications.subList(from, to));
+        }
+        return notifications.size();
+    }
+}
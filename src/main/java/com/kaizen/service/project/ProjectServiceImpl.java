@@ -9,9 +9,9 @@ import com.kaizen.service.employee.EmployeeService;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * {@code ProjectServiceImpl} is an implementation of {@code ProjectService}.
@@ -69,12 +69,7 @@ public class ProjectServiceImpl implements ProjectService {
      */
     @Override
     public List<ProjectDTO> listProjects() {
-        List<ProjectDTO> projectDTOs = new ArrayList<>();
-        List<Project> projects = projectRepository.findAll();
-        for (Project project : projects) {
-            projectDTOs.add(convertToDTO(project));
-        }
-        return projectDTOs;
+        return convertToDTOs(projectRepository.findAll());
     }
 
     /**
@@ -89,12 +84,19 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public List<ProjectDTO> getCompanyProjects(String companyId) throws NullValueException, ObjectNotExistsException {
         validateCompanyId(companyId);
-        List<ProjectDTO> projectDTOs = new ArrayList<>();
-        for (Long projectId : projectRepository.getProjectIds(companyId)) {
-            Project project = projectRepository.getById(projectId);
-            projectDTOs.add(convertToDTO(project));
+        List<Long> projectIds = projectRepository.getProjectIds(companyId);
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
         }
-        return projectDTOs;
+        Map<Long, Project> projects = new HashMap<>();
+        for (Project project : projectRepository.findAllById(projectIds)) {
+            projects.put(project.getId(), project);
+        }
+        List<Project> companyProjects = new ArrayList<>();
+        for (Long projectId : projectIds) {
+            companyProjects.add(projects.get(projectId));
+        }
+        return convertToDTOs(companyProjects);
     }
 
     // /**
@@ -126,8 +128,8 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public ProjectDTO addProject(ProjectDTO projectDTO) throws NullValueException, ObjectNotExistsException {
         validateProjectDTONotNull(projectDTO);
-        validateEmployees(projectDTO.getEmployeeDTOs());
-        return saveToRepository(projectDTO);
+        Set<String> employeeIds = validateEmployees(projectDTO.getEmployeeDTOs());
+        return saveToRepository(projectDTO, employeeIds);
     }
 
     /**
@@ -140,14 +142,14 @@ public class ProjectServiceImpl implements ProjectService {
      * @return the updated project's DTO.
      */
     @Override
+    @Transactional
     public ProjectDTO updateProject(Long id, ProjectDTO projectDTO)
             throws NullValueException, ObjectNotExistsException {
         validateIdNotNull(id);
         validateProjectDTONotNull(projectDTO);
         validateProjectExists(id);
-        validateEmployees(projectDTO.getEmployeeDTOs());
-        projectRepository.deleteProjectEmployees(id);
-        return updateToRepository(id, projectDTO);
+        Set<String> employeeIds = validateEmployees(projectDTO.getEmployeeDTOs());
+        return updateToRepository(id, projectDTO, employeeIds);
     }
 
     /**
@@ -217,6 +219,42 @@ public class ProjectServiceImpl implements ProjectService {
                 project.getBudget(), project.getProgress(), companyDTOs, employeeDTOs);
     }
 
+    /**
+     * Create the project DTOs from the specific projects, loading the employees
+     * and the companies of all the projects with one query each.
+     * 
+     * @param projects the projects to create project's DTOs.
+     * @return the DTOs of the specific projects, in the same order.
+     * @exception NullValueException If any Project is null.
+     */
+    private List<ProjectDTO> convertToDTOs(List<Project> projects) throws NullValueException {
+        List<ProjectDTO> projectDTOs = new ArrayList<>();
+        if (projects.isEmpty()) {
+            return projectDTOs;
+        }
+        Set<Long> projectIds = new HashSet<>();
+        for (Project project : projects) {
+            validateProjectNotNull(project);
+            projectIds.add(project.getId());
+        }
+        Map<Long, List<ProjectEmployeeDTO>> employeeDTOs = new HashMap<>();
+        for (ProjectEmployeeEntry entry : projectRepository.getProjectEmployeeEntries(projectIds)) {
+            employeeDTOs.computeIfAbsent(entry.getProjectId(), projectId -> new ArrayList<>()).add(entry.toDTO());
+        }
+        Map<Long, List<ProjectCompanyDTO>> companyDTOs = new HashMap<>();
+        for (ProjectCompanyEntry entry : projectRepository.getProjectCompanyEntries(projectIds)) {
+            companyDTOs.computeIfAbsent(entry.getProjectId(), projectId -> new ArrayList<>()).add(entry.toDTO());
+        }
+        for (Project project : projects) {
+            Long projectId = project.getId();
+            projectDTOs.add(new ProjectDTO(projectId, project.getProjectName(), project.getStartDate(),
+                    project.getCompletionDate(), project.getBudget(), project.getProgress(),
+                    companyDTOs.getOrDefault(projectId, new ArrayList<>()),
+                    employeeDTOs.getOrDefault(projectId, new ArrayList<>())));
+        }
+        return projectDTOs;
+    }
+
     /**
      * Create a project from the specific project's DTO.
      * 
@@ -236,71 +274,64 @@ public class ProjectServiceImpl implements ProjectService {
     /**
      * Save a project from the specific project's DTO into the repository.
      * 
-     * @param projectDTO the project's DTO to save project.
+     * @param projectDTO  the project's DTO to save project.
+     * @param employeeIds the ids of the employees involved in the project.
      * @return the project's DTO of specific project.
      */
-    private ProjectDTO saveToRepository(ProjectDTO projectDTO) {
+    private ProjectDTO saveToRepository(ProjectDTO projectDTO, Set<String> employeeIds) {
         Project project = projectRepository.save(convertToEntity(projectDTO));
-        return addProjectEmployees(project.getId(), projectDTO);
+        if (!employeeIds.isEmpty()) {
+            projectRepository.addProjectEmployees(project.getId(), employeeIds);
+        }
+        return convertToDTO(projectRepository.findById(project.getId()).get());
     }
 
     /**
-     * Update a project from the specific project's DTO in the repository.
+     * Update a project from the specific project's DTO in the repository, only
+     * adding and removing the employees that changed.
      * 
-     * @param id         the id of the project.
-     * @param projectDTO the project's DTO to update project.
+     * @param id          the id of the project.
+     * @param projectDTO  the project's DTO to update project.
+     * @param employeeIds the ids of the employees involved in the project.
      * @return the project's DTO of specific project.
-     * @exception NullValueException If the Project is null.
      */
-    private ProjectDTO updateToRepository(Long id, ProjectDTO projectDTO) throws NullValueException {
-        validateProjectDTONotNull(projectDTO);
+    private ProjectDTO updateToRepository(Long id, ProjectDTO projectDTO, Set<String> employeeIds) {
         Project project = convertToEntity(projectDTO);
         projectRepository.updateProject(id, project.getVersion(), project.getProjectName(), project.getStartDate(),
                 project.getCompletionDate(), project.getBudget(), project.getProgress());
-        return addProjectEmployees(id, projectDTO);
-    }
-
-    /**
-     * Add the project emplloyees from the specific project's DTO into the
-     * repository.
-     * 
-     * @param id         the id of the project.
-     * @param projectDTO the project's DTO to save project.
-     * @return the project's DTO of specific project.
-     * @exception NullValueException If the Project is null.
-     */
-    private ProjectDTO addProjectEmployees(Long id, ProjectDTO projectDTO) throws NullValueException  {
-        validateProjectDTONotNull(projectDTO);
-        List<ProjectEmployeeDTO> employeeDTOs = projectDTO.getEmployeeDTOs();
-        for (ProjectEmployeeDTO employeeDTO : employeeDTOs) {
-            projectRepository.addProjectEmployee(id, employeeDTO.getWorkPermitNumber());
+        Set<String> removedIds = new HashSet<>(projectRepository.getProjectEmployeeIds(id));
+        Set<String> addedIds = new LinkedHashSet<>(employeeIds);
+        addedIds.removeAll(removedIds);
+        removedIds.removeAll(employeeIds);
+        if (!removedIds.isEmpty()) {
+            projectRepository.deleteProjectEmployees(id, removedIds);
+        }
+        if (!addedIds.isEmpty()) {
+            projectRepository.addProjectEmployees(id, addedIds);
         }
         return convertToDTO(projectRepository.findById(id).get());
     }
 
     /**
-     * Validate the employees is in the repository.
+     * Validate the employees is in the repository, with one query for all the
+     * employees.
      * 
      * @param employeeDTOs the DTOs of the employees to validate.
      * @exception NullValueException       If the given id is null.
      * @exception ObjectNotExistsException If the employee is not in the repository.
+     * @return the distinct ids of the employees, in the given order.
      */
-    private void validateEmployees(List<ProjectEmployeeDTO> employeeDTOs)
+    private Set<String> validateEmployees(List<ProjectEmployeeDTO> employeeDTOs)
             throws NullValueException, ObjectNotExistsException {
+        Set<String> employeeIds = new LinkedHashSet<>();
+        if (employeeDTOs == null) {
+            return employeeIds;
+        }
         for (ProjectEmployeeDTO employeeDTO : employeeDTOs) {
-            validateEmployeeId(employeeDTO.getWorkPermitNumber());
+            employeeIds.add(employeeDTO.getWorkPermitNumber());
         }
-    }
-
-    /**
-     * Validate the employee with the specific id is in the repository.
-     * 
-     * @param employeeId the id of the employee to validate.
-     * @exception NullValueException       If the given id is null.
-     * @exception ObjectNotExistsException If the employee is not in the repository.
-     */
-    private void validateEmployeeId(String employeeId) throws NullValueException, ObjectNotExistsException {
-        employeeService.getEmployee(employeeId);
+        employeeService.getEmployees(employeeIds);
+        return employeeIds;
     }
 
     /**
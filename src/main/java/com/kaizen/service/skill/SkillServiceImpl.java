@@ -3,6 +3,8 @@ package com.kaizen.service.skill;
 import com.kaizen.exceptions.*;
 import com.kaizen.model.entity.Skill;
 import com.kaizen.repository.SkillRepository;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
+
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,6 +24,11 @@ public class SkillServiceImpl implements SkillService {
      */
     private final SkillRepository skillRepository;
 
+    /**
+     * The index of the employee's skills that holds the skills' employees.
+     */
+    private final EmployeeSkillIndex employeeSkillIndex;
+
     /**
      * Represents the simple name of the Skill's class.
      */
@@ -32,10 +39,13 @@ public class SkillServiceImpl implements SkillService {
      * and set the {@code SKILL_SIMPLE_NAME} with the simple name of the Skill's
      * class
      * 
-     * @param skillRepository the skill's repository used by the application.
+     * @param skillRepository    the skill's repository used by the application.
+     * @param employeeSkillIndex the index of the employee's skills used by the
+     *                           application.
      */
-    public SkillServiceImpl(SkillRepository skillRepository) {
+    public SkillServiceImpl(SkillRepository skillRepository, EmployeeSkillIndex employeeSkillIndex) {
         this.skillRepository = skillRepository;
+        this.employeeSkillIndex = employeeSkillIndex;
         SKILL_SIMPLE_NAME = Skill.class.getSimpleName();
     }
 
@@ -100,7 +110,8 @@ public class SkillServiceImpl implements SkillService {
     }
 
     /**
-     * Delete the skill with the specific id in the repository.
+     * Delete the skill with the specific id in the repository, and remove its
+     * employee's skills from the index of the employee's skills.
      * 
      * @param id the id of the skill to delete.
      * @exception NullValueException       If the id of the skill is null.
@@ -111,6 +122,7 @@ public class SkillServiceImpl implements SkillService {
         validateIdNotNull(id);
         validateSkillExists(id);
         skillRepository.deleteById(id);
+        employeeSkillIndex.removeSkill(id);
     }
 
     /**
@@ -1,8 +1,11 @@
 package com.kaizen.service.transaction;
 
 import com.kaizen.exceptions.NullValueException;
-import com.kaizen.exceptions.ObjectExistsException;
+import com.kaizen.exceptions.InvalidDateException;
+import com.kaizen.exceptions.InvalidStatusException;
 import com.kaizen.exceptions.ObjectNotExistsException;
+import com.kaizen.model.dto.TransactionDTO;
+import com.kaizen.model.dto.TransactionStatusDTO;
 import com.kaizen.model.entity.Transaction;
 import com.kaizen.model.entity.TransactionKey;
 
@@ -31,24 +34,62 @@ public interface TransactionService {
      *
      * @param Transaction the Transaction to create.
      * @exception NullValueException    If the id of the Transaction is null.
-     * @exception ObjectExistsException If the Transaction is in the repository.
+     * @exception InvalidDateException  If the dates of the Transaction are not in
+     *                                  order or collide with another Transaction
+     *                                  of the employee.
      * @return the created Transaction.
      */
-    Transaction addTransaction(Transaction transaction) throws NullValueException, ObjectExistsException;
+    Transaction addTransaction(Transaction transaction) throws NullValueException, InvalidDateException;
 
      /**
-     * Update the Transaction with the specific id and Transaction in the
-     repository.
+     * Update the status of the Transaction with the specific Transaction's
+     * employee and start date in the repository.
      *
-     * @param id the id of the Transaction to update.
-     * @param Transaction the Transaction to update.
-     * @exception NullValueException If the id of the Transaction is null or the
-     * Transaction is null.
+     * @param Transaction the Transaction with the status to update to.
+     * @exception NullValueException If the Transaction is null.
      * @exception ObjectNotExistsException If the Transaction is not in the
-     repository.
+     * repository.
+     * @exception InvalidStatusException If the Transaction cannot change to the
+     * status.
+     * @return the updated Transaction.
+     */
+     Transaction updateTransaction(Transaction transaction)
+             throws NullValueException, ObjectNotExistsException, InvalidStatusException;
+
+    /**
+     * Change the status of the employee's Transaction with the specific start
+     * date in the repository. A Transaction can only change from Pending to
+     * Accepted or Rejected.
+     *
+     * @param empId     the id of the employee.
+     * @param startDate the start date of the Transaction.
+     * @param status    the status to change to.
+     * @exception NullValueException       If the id of the employee, the start
+     *                                     date or the status is null.
+     * @exception ObjectNotExistsException If the Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If the Transaction cannot change to the
+     *                                     status.
      * @return the updated Transaction.
      */
-     Transaction updateTransaction(Transaction transaction) throws NullValueException, ObjectNotExistsException;
+    Transaction updateTransactionStatus(String empId, LocalDate startDate, String status)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException;
+
+    /**
+     * Change the status of each of the specific Transactions in the repository,
+     * either all of them or none of them.
+     *
+     * @param transactionStatusDTOs the Transactions and the status to change
+     *                              each to.
+     * @exception NullValueException       If any id of the employee, start date
+     *                                     or status is null.
+     * @exception ObjectNotExistsException If any Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If any Transaction cannot change to its
+     *                                     status.
+     */
+    void updateTransactionStatuses(List<TransactionStatusDTO> transactionStatusDTOs)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException;
 
     /**
      * Delete the Transaction with the specific id in the repository.
@@ -80,6 +121,42 @@ public interface TransactionService {
      */
     List<Transaction> getTransactionsByBorrowingCompany(String companyId) throws NullValueException;
 
+    /**
+     * Get the transaction DTOs where the company is the loan company from the
+     * repository, with the specific status and overlapping the specific period,
+     * latest start date first.
+     *
+     * @param companyId the id of the company.
+     * @param status    the status of the transactions, or null for any status.
+     * @param from      the start date of the period, or null for no start.
+     * @param to        the end date of the period, or null for no end.
+     * @param page      the index of the page, or null for all transactions.
+     * @param size      the maximum number of transactions in the page, or null
+     *                  for all transactions.
+     * @exception NullValueException If the id of the company is null.
+     * @return the company's transaction DTOs.
+     */
+    List<TransactionDTO> listTransactionDTOsByLoanCompany(String companyId, String status, LocalDate from,
+            LocalDate to, Integer page, Integer size) throws NullValueException;
+
+    /**
+     * Get the transaction DTOs where the company is the hiring company from the
+     * repository, with the specific status and overlapping the specific period,
+     * latest start date first.
+     *
+     * @param companyId the id of the company.
+     * @param status    the status of the transactions, or null for any status.
+     * @param from      the start date of the period, or null for no start.
+     * @param to        the end date of the period, or null for no end.
+     * @param page      the index of the page, or null for all transactions.
+     * @param size      the maximum number of transactions in the page, or null
+     *                  for all transactions.
+     * @exception NullValueException If the id of the company is null.
+     * @return the company's transaction DTOs.
+     */
+    List<TransactionDTO> listTransactionDTOsByBorrowingCompany(String companyId, String status, LocalDate from,
+            LocalDate to, Integer page, Integer size) throws NullValueException;
+
     Transaction getTransactionByEmployeeAndStartDate(String empId, LocalDate date)
             throws NullValueException, ObjectNotExistsException;
 
@@ -1,13 +1,20 @@
 package com.kaizen.service.transaction;
 
 import com.kaizen.exceptions.*;
+import com.kaizen.model.dto.TransactionDTO;
+import com.kaizen.model.dto.TransactionStatusDTO;
 import com.kaizen.model.entity.Transaction;
 import com.kaizen.model.entity.TransactionKey;
 import com.kaizen.repository.TransactionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 
 import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * {@code TransactionServiceImpl} is an implementation of
@@ -21,11 +28,43 @@ import java.util.List;
  */
 @Service
 public class TransactionServiceImpl implements TransactionService {
+    /**
+     * Represents the maximum number of transactions in a page.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Represents the number of locks that bookings are striped across.
+     */
+    private static final int BOOKING_LOCK_STRIPES = 64;
+
+    /**
+     * Represents the locks that serialize bookings of the same employee, striped
+     * by the employee's work permit number so that bookings of other employees
+     * proceed in parallel.
+     */
+    private final Lock[] bookingLocks = new Lock[BOOKING_LOCK_STRIPES];
+
     /**
      * The Transaction's repository that stored Transactions.
      */
     private final TransactionRepository transactionRepository;
 
+    /**
+     * Represents the status of a Transaction awaiting the loan company.
+     */
+    private static final String PENDING = "Pending";
+
+    /**
+     * Represents the status of a Transaction accepted by the loan company.
+     */
+    private static final String ACCEPTED = "Accepted";
+
+    /**
+     * Represents the status of a Transaction rejected by the loan company.
+     */
+    private static final String REJECTED = "Rejected";
+
     /**
      * Represents the simple name of the Transaction's class.
      */
@@ -42,6 +81,9 @@ public class TransactionServiceImpl implements TransactionService {
     public TransactionServiceImpl(TransactionRepository transactionRepository) {
         this.transactionRepository = transactionRepository;
         TRANSACTION_SIMPLE_NAME = Transaction.class.getSimpleName();
+        for (int i = 0; i < BOOKING_LOCK_STRIPES; i++) {
+            bookingLocks[i] = new ReentrantLock();
+        }
     }
 
     /**
@@ -55,28 +97,29 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     /**
-     * Create the specific Transaction in the repository.
+     * Create the specific Transaction in the repository. The collision check and
+     * the save are done under the booking lock of the employee, so concurrent
+     * bookings of the same employee cannot both pass the check.
      *
      * @param Transaction the Transaction to create.
      * @exception NullValueException    If the id of the Transaction is null.
-     * @exception ObjectExistsException If the Transaction is in the repository.
+     * @exception InvalidDateException  If the dates of the Transaction are not in
+     *                                  order or collide with another Transaction
+     *                                  of the employee.
      * @return the created Transaction.
      */
     @Override
-    public Transaction addTransaction(Transaction transaction) throws NullValueException, ObjectExistsException {
+    public Transaction addTransaction(Transaction transaction) throws NullValueException, InvalidDateException {
         validateTransactionNotNull(transaction);
-
-        // Want to perform validation where transaction added cannot have dates that
-        // collide for the same employee
-        List<Transaction> transactionsToCompare = transactionRepository
-                .findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber());
-        for (Transaction transactionComp : transactionsToCompare) {
-            // start, end, comparestart, compareend
-
-            validateDateRange(transaction.getStartDate(), transaction.getEndDate(), transactionComp.getStartDate(),
-                    transactionComp.getEndDate());
+        String employeeId = transaction.getEmployee().getWorkPermitNumber();
+        Lock bookingLock = getBookingLock(employeeId);
+        bookingLock.lock();
+        try {
+            validateDateRange(employeeId, transaction.getStartDate(), transaction.getEndDate());
+            return transactionRepository.save(transaction);
+        } finally {
+            bookingLock.unlock();
         }
-        return transactionRepository.save(transaction);
     }
 
     /**
@@ -124,6 +167,74 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionRepository.findTransactionsByIdBorrowingCompany(companyId);
     }
 
+    /**
+     * Get the transaction DTOs where the company is the loan company from the
+     * repository, with the specific status and overlapping the specific period,
+     * latest start date first. The size is clamped between 1 and
+     * {@code MAX_PAGE_SIZE}.
+     *
+     * @param companyId the id of the company.
+     * @param status    the status of the transactions, or null for any status.
+     * @param from      the start date of the period, or null for no start.
+     * @param to        the end date of the period, or null for no end.
+     * @param page      the index of the page, or null for all transactions.
+     * @param size      the maximum number of transactions in the page, or null
+     *                  for all transactions.
+     * @exception NullValueException If the id of the company is null.
+     * @return the company's transaction DTOs.
+     */
+    @Override
+    public List<TransactionDTO> listTransactionDTOsByLoanCompany(String companyId, String status, LocalDate from,
+            LocalDate to, Integer page, Integer size) throws NullValueException {
+        if (companyId == null) {
+            throw new NullValueException("Company's Id");
+        }
+        return transactionRepository.findTransactionDTOsByLoanCompany(companyId, status, from, to,
+                toPageable(page, size));
+    }
+
+    /**
+     * Get the transaction DTOs where the company is the hiring company from the
+     * repository, with the specific status and overlapping the specific period,
+     * latest start date first. The size is clamped between 1 and
+     * {@code MAX_PAGE_SIZE}.
+     *
+     * @param companyId the id of the company.
+     * @param status    the status of the transactions, or null for any status.
+     * @param from      the start date of the period, or null for no start.
+     * @param to        the end date of the period, or null for no end.
+     * @param page      the index of the page, or null for all transactions.
+     * @param size      the maximum number of transactions in the page, or null
+     *                  for all transactions.
+     * @exception NullValueException If the id of the company is null.
+     * @return the company's transaction DTOs.
+     */
+    @Override
+    public List<TransactionDTO> listTransactionDTOsByBorrowingCompany(String companyId, String status,
+            LocalDate from, LocalDate to, Integer page, Integer size) throws NullValueException {
+        if (companyId == null) {
+            throw new NullValueException("Company's Id");
+        }
+        return transactionRepository.findTransactionDTOsByBorrowingCompany(companyId, status, from, to,
+                toPageable(page, size));
+    }
+
+    /**
+     * Create the pageable of the specific page and size, or an unpaged pageable
+     * when the size is null.
+     *
+     * @param page the index of the page, or null for the first page.
+     * @param size the maximum number of transactions in the page, or null for all
+     *             transactions.
+     * @return the pageable.
+     */
+    private static Pageable toPageable(Integer page, Integer size) {
+        if (size == null) {
+            return Pageable.unpaged();
+        }
+        return PageRequest.of(page == null ? 0 : Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
     /**
      * Validate the specific Transaction is not null.
      *
@@ -165,35 +276,128 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     /**
-     * Update the employee's transaction status with the specific employee's id and
-     * Date from the repository.
+     * Update the status of the Transaction with the specific Transaction's
+     * employee and start date in the repository.
      *
-     * @param empId  the id of the employee.
-     * @param date   the date of the transaction.
-     * @param status the status of the transaction
-     * @exception NullValueException       If the id of the employee or the date of
-     *                                     the transaction is null.
+     * @param transaction the Transaction with the status to update to.
+     * @exception NullValueException       If the Transaction is null.
      * @exception ObjectNotExistsException If the transaction is not in the
      *                                     repository.
-     * @return the Transaction with that employee and date
+     * @exception InvalidStatusException   If the Transaction cannot change to the
+     *                                     status.
+     * @return the updated Transaction.
      */
     @Override
-    public Transaction updateTransaction(Transaction transaction) throws NullValueException, ObjectNotExistsException {
+    public Transaction updateTransaction(Transaction transaction)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException {
         if (transaction == null) {
             throw new NullValueException("Transaction");
         }
-        Transaction employeeTransaction = transactionRepository.findTransactionByIdEmployeeAndStartDate(
-                transaction.getEmployee().getWorkPermitNumber(), transaction.getStartDate());
+        return updateTransactionStatus(transaction.getEmployee().getWorkPermitNumber(), transaction.getStartDate(),
+                transaction.getStatus());
+    }
+
+    /**
+     * Change the status of the employee's Transaction with the specific start
+     * date in the repository with a single conditional update. A Transaction can
+     * only change from Pending to Accepted or Rejected.
+     *
+     * @param empId     the id of the employee.
+     * @param startDate the start date of the Transaction.
+     * @param status    the status to change to.
+     * @exception NullValueException       If the id of the employee, the start
+     *                                     date or the status is null.
+     * @exception ObjectNotExistsException If the Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If the Transaction cannot change to the
+     *                                     status.
+     * @return the updated Transaction.
+     */
+    @Override
+    public Transaction updateTransactionStatus(String empId, LocalDate startDate, String status)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException {
+        changeStatus(empId, startDate, status);
+        return transactionRepository.findTransactionByIdEmployeeAndStartDate(empId, startDate);
+    }
 
+    /**
+     * Change the status of each of the specific Transactions in the repository
+     * in a single database transaction, so that either all of them or none of
+     * them change.
+     *
+     * @param transactionStatusDTOs the Transactions and the status to change
+     *                              each to.
+     * @exception NullValueException       If the list or any id of the employee,
+     *                                     start date or status is null.
+     * @exception ObjectNotExistsException If any Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If any Transaction cannot change to its
+     *                                     status.
+     */
+    @Override
+    @Transactional
+    public void updateTransactionStatuses(List<TransactionStatusDTO> transactionStatusDTOs)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException {
+        if (transactionStatusDTOs == null) {
+            throw new NullValueException("Transaction Statuses");
+        }
+        for (TransactionStatusDTO transactionStatusDTO : transactionStatusDTOs) {
+            if (transactionStatusDTO == null) {
+                throw new NullValueException("Transaction Status");
+            }
+            changeStatus(transactionStatusDTO.getEmployeeId(), transactionStatusDTO.getStartDate(),
+                    transactionStatusDTO.getStatus());
+        }
+    }
+
+    /**
+     * Change the status of the employee's Transaction with the specific start
+     * date from Pending to the specific status. When nothing changes, the
+     * Transaction is looked up to tell a missing Transaction from one that is no
+     * longer Pending.
+     *
+     * @param empId     the id of the employee.
+     * @param startDate the start date of the Transaction.
+     * @param status    the status to change to.
+     * @exception NullValueException       If the id of the employee, the start
+     *                                     date or the status is null.
+     * @exception ObjectNotExistsException If the Transaction is not in the
+     *                                     repository.
+     * @exception InvalidStatusException   If the Transaction cannot change to the
+     *                                     status.
+     */
+    private void changeStatus(String empId, LocalDate startDate, String status)
+            throws NullValueException, ObjectNotExistsException, InvalidStatusException {
+        if (empId == null) {
+            throw new NullValueException("Employee's Id");
+        } else if (startDate == null) {
+            throw new NullValueException("Start Date");
+        } else if (status == null) {
+            throw new NullValueException("Status");
+        }
+        if (!ACCEPTED.equals(status) && !REJECTED.equals(status)) {
+            throw new InvalidStatusException(PENDING, status);
+        }
+        if (transactionRepository.updateStatus(empId, startDate, PENDING, status) == 1) {
+            return;
+        }
+        Transaction employeeTransaction = transactionRepository.findTransactionByIdEmployeeAndStartDate(empId,
+                startDate);
         if (employeeTransaction == null) {
             throw new ObjectNotExistsException(TRANSACTION_SIMPLE_NAME,
-                    "(Employee's Id: " + transaction.getEmployee().getWorkPermitNumber() + ", date: " + transaction.getStartDate() + ")");
+                    "(Employee's Id: " + empId + ", date: " + startDate + ")");
         }
+        throw new InvalidStatusException(employeeTransaction.getStatus(), status);
+    }
 
-        employeeTransaction.setStatus(transaction.getStatus());
-        transactionRepository.deleteById(employeeTransaction.getId());
-        transactionRepository.save(employeeTransaction);
-        return employeeTransaction;
+    /**
+     * Get the booking lock of the employee with the specific id.
+     *
+     * @param employeeId the id of the employee.
+     * @return the lock that serializes the employee's bookings.
+     */
+    private Lock getBookingLock(String employeeId) {
+        return bookingLocks[Math.floorMod(employeeId == null ? 0 : employeeId.hashCode(), BOOKING_LOCK_STRIPES)];
     }
 
     /**
@@ -210,20 +414,26 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     /**
-     * Validate the Transaction to be inserted has valid date range.
+     * Validate the Transaction to be inserted has a valid date range that does not
+     * collide with another Transaction of the employee. The collision check is a
+     * single indexed query rather than a scan of the employee's Transactions.
      *
-     * @param startDate        the startDate of the Transaction to validate.
-     * @param endDate          the endDate of the Transaction to validate.
-     * @param compareStartDate the compareStartDate of the Transaction to validate.
-     * @param compareEndDate   the compareEndDate of the Transaction to validate.
-     * @exception ObjectNotExistsException If the Transaction is not in the
-     *                                     repository.
+     * @param employeeId the id of the employee of the Transaction to validate.
+     * @param startDate  the startDate of the Transaction to validate.
+     * @param endDate    the endDate of the Transaction to validate.
+     * @exception NullValueException   If the start date or the end date is null.
+     * @exception InvalidDateException If the end date is before the start date or
+     *                                 the dates collide with another Transaction.
      */
-    private void validateDateRange(LocalDate startDate, LocalDate endDate, LocalDate compareStartDate,
-            LocalDate compareEndDate) throws InvalidDateException {
-        if ((startDate.isAfter(compareStartDate) && startDate.isBefore(compareEndDate))
-                || (endDate.isAfter(compareStartDate) && endDate.isBefore(compareEndDate)) || startDate.isEqual(
-                        compareStartDate)) {
+    private void validateDateRange(String employeeId, LocalDate startDate, LocalDate endDate)
+            throws NullValueException, InvalidDateException {
+        if (startDate == null) {
+            throw new NullValueException("Start Date");
+        } else if (endDate == null) {
+            throw new NullValueException("End Date");
+        }
+        if (endDate.isBefore(startDate)
+                || transactionRepository.existsOverlappingTransaction(employeeId, startDate, endDate)) {
             throw new InvalidDateException(startDate, endDate);
         }
     }
@@ -3,6 +3,7 @@ package com.kaizen.service.updates;
 import java.util.List;
 
 import com.kaizen.model.entity.Updates;
+import com.kaizen.service.datascraper.ScrapBoxSnapshot;
 
 /**
  * {@code UpdatesService} captures what are needed for business's logic for
@@ -24,4 +25,18 @@ public interface UpdatesService {
    * Replace all of the updates in the repository with the latest updates.
    */
   public void updateRepository();
+
+  /**
+   * Get the latest snapshot of the construction's updates on COVID-19,
+   * publishing it from the repository if none is published yet.
+   * 
+   * @return the snapshot of construction's updates on COVID-19.
+   */
+  public ScrapBoxSnapshot<Updates> getSnapshot();
+
+  /**
+   * Publish a snapshot of the updates in the repository to be served in place of
+   * the repository.
+   */
+  public void publishSnapshot();
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.kaizen.service.updates;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -7,9 +8,12 @@ import java.util.*;
 import org.jsoup.nodes.*;
 import org.jsoup.select.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kaizen.model.entity.Updates;
 import com.kaizen.repository.UpdatesRepository;
 import com.kaizen.service.datascraper.JsoupService;
+import com.kaizen.service.datascraper.ScrapBoxRefresher;
+import com.kaizen.service.datascraper.ScrapBoxSnapshot;
 
 /**
  * {@code UpdatesServiceImpl} is an extension of JsoupService and implementation
@@ -26,6 +30,27 @@ public class UpdatesServiceImpl extends JsoupService implements UpdatesService {
      */
     private final UpdatesRepository updatesRepository;
 
+    /**
+     * The refresher that writes the changed updates to the repository.
+     */
+    private final ScrapBoxRefresher scrapBoxRefresher;
+
+    /**
+     * The object mapper that serializes the snapshot of the updates.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Represents the hash of the updates that were last written to the
+     * repository.
+     */
+    private volatile String lastContentHash;
+
+    /**
+     * Represents the latest published snapshot of the updates.
+     */
+    private volatile ScrapBoxSnapshot<Updates> snapshot;
+
     /**
      * The URL to get latest construction's updates for COVID-19 from Building and
      * Construction Authority(BCA).
@@ -34,22 +59,28 @@ public class UpdatesServiceImpl extends JsoupService implements UpdatesService {
 
     /**
      * Create an updates's service implementation with the specific updates's
-     * repository.
+     * repository, scrap box's refresher and object mapper.
      * 
      * @param updatesRepository the updates's repository used by the application.
+     * @param scrapBoxRefresher the scrap box's refresher used by the application.
+     * @param objectMapper      the object mapper used by the application.
      */
-    public UpdatesServiceImpl(UpdatesRepository updatesRepository) {
+    public UpdatesServiceImpl(UpdatesRepository updatesRepository, ScrapBoxRefresher scrapBoxRefresher,
+            ObjectMapper objectMapper) {
         this.updatesRepository = updatesRepository;
+        this.scrapBoxRefresher = scrapBoxRefresher;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Get the construction's updates on COVID-19 from news repository.
+     * Get the construction's updates on COVID-19 from news repository, in the
+     * order of the BCA COVID-19 construction updates page.
      * 
      * @return the list of construction's updates on COVID-19.
      */
     @Override
     public List<Updates> getUpdates() {
-        return updatesRepository.findAll();
+        return updatesRepository.findAll(Sort.by("position"));
     }
 
     /**
@@ -101,12 +132,51 @@ public class UpdatesServiceImpl extends JsoupService implements UpdatesService {
     }
 
     /**
-     * Replace all of the news in the repository with the news retrieved from
-     * webpage.
+     * Replace all of the updates in the repository with the updates retrieved from
+     * webpage, writing only the updates that changed. The repository is kept as
+     * it is when no updates could be retrieved or the updates did not change since
+     * the last update.
      */
     @Override
     public void updateRepository() {
-        updatesRepository.deleteAll();
-        updatesRepository.saveAllAndFlush(getUpdatesFromWebpage());
+        List<Updates> updates = getUpdatesFromWebpage();
+        if (updates.isEmpty()) {
+            return;
+        }
+        String contentHash = scrapBoxRefresher.hashContent(updates);
+        if (contentHash.equals(lastContentHash)) {
+            return;
+        }
+        scrapBoxRefresher.refresh(updatesRepository, updates);
+        lastContentHash = contentHash;
+    }
+
+    /**
+     * Get the latest snapshot of the construction's updates on COVID-19, publishing it from the
+     * repository if none is published yet.
+     * 
+     * @return the snapshot of construction's updates on COVID-19.
+     */
+    @Override
+    public ScrapBoxSnapshot<Updates> getSnapshot() {
+        ScrapBoxSnapshot<Updates> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                publishSnapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Publish a snapshot of the updates in the repository to be served in place
+     * of the repository.
+     */
+    @Override
+    public synchronized void publishSnapshot() {
+        snapshot = new ScrapBoxSnapshot<>(getUpdates(), objectMapper);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.kaizen.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * {@code Sha256} hashes content with SHA-256 and writes the hashes in
+ * hexadecimal, for the content hashes of the stored files and the ETags of the
+ * feeds.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-24
+ */
+public final class Sha256 {
+    /**
+     * Represents the hexadecimal digits.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private Sha256() {
+    }
+
+    /**
+     * Create a SHA-256 digest, which every Java platform provides.
+     *
+     * @return the digest.
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hash the specific bytes.
+     *
+     * @param bytes the bytes to hash.
+     * @return the hash of the bytes, in hexadecimal.
+     */
+    public static String hash(byte[] bytes) {
+        return toHex(newDigest().digest(bytes));
+    }
+
+    /**
+     * Write the specific bytes in lowercase hexadecimal.
+     *
+     * @param bytes the bytes to write.
+     * @return the bytes in hexadecimal.
+     */
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
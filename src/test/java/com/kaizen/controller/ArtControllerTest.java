@@ -4,12 +4,16 @@ import static org.mockito.Mockito.*;
 
 import com.kaizen.exceptions.ObjectNotExistsException;
 import com.kaizen.model.*;
+import com.kaizen.model.dto.ArtBulkErrorDTO;
+import com.kaizen.model.dto.ArtBulkResultDTO;
 import com.kaizen.model.dto.ArtDTO;
 import com.kaizen.model.entity.*;
+import com.kaizen.service.art.ArtBulkResult;
 import com.kaizen.service.art.ArtService;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.employee.EmployeeService;
 
+import java.time.LocalDate;
 import java.util.*;
 
 import org.junit.jupiter.api.Test;
@@ -138,24 +142,40 @@ class ArtControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isBadRequest());
     }
 
+    /**
+     * {@code getlatestArts_MissingCompany_ExpectNotFound} is a test on
+     * {@link ArtController#getlatestArts(String)} to verify if the method will call
+     * {@link ArtService#listLatestArtDTOsByCompany(String)} and return Http Status
+     * Not Found(404) when the company with the specific id is not found.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getlatestArts_MissingCompany_ExpectNotFound() throws Exception {
+        when(artService.listLatestArtDTOsByCompany(any(String.class))).thenThrow(new ObjectNotExistsException());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestArt.URL_EXTENSION_LATEST)
+                .param(TestArt.COMP_ID_KEY, TestCompany.TEST_ID);
+
+        MockMvcBuilders.standaloneSetup(artController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        verify(artService).listLatestArtDTOsByCompany(any(String.class));
+    }
+
     /**
      * {@code getlatestArts_Found_ExpectOKFound} is a test on
      * {@link ArtController#getlatestArts(String)} to verify if the method will call
-     * {@link ArtService#listLatestArts()} and return the list of all ART DTOs of a
-     * company with Http Status Ok(200) and content type of application/json.
+     * {@link ArtService#listLatestArtDTOsByCompany(String)} and return the list of
+     * latest ART DTOs of a company with Http Status Ok(200) and content type of
+     * application/json.
      * 
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void getlatestArts_Found_ExpectOKFound() throws Exception {
-        String companyId = TestCompany.TEST_ID + "1";
-        List<Art> arts = new ArrayList<>();
-        arts.add(TestArt.createArt());
-        arts.add(TestArt.createArt());
-        arts.get(1).getCompany().setUEN(companyId);
         List<ArtDTO> artDTOs = new ArrayList<>();
         artDTOs.add(TestArt.createArtDTO());
-        when(artService.listLatestArts()).thenReturn(arts);
+        when(artService.listLatestArtDTOsByCompany(TestCompany.TEST_ID)).thenReturn(artDTOs);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestArt.URL_EXTENSION_LATEST)
                 .param(TestArt.COMP_ID_KEY, TestCompany.TEST_ID);
 
@@ -164,7 +184,7 @@ class ArtControllerTest {
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(artDTOs)));
 
-        verify(artService).listLatestArts();
+        verify(artService).listLatestArtDTOsByCompany(TestCompany.TEST_ID);
     }
 
     /**
@@ -327,6 +347,89 @@ class ArtControllerTest {
         verify(artService).addArt(any(Art.class));
     }
 
+    /**
+     * {@code createArts_MissingCompany_ExpectNotFound} is a test on
+     * {@link ArtController#createArts(String, List)} to verify if the method will
+     * call {@link ArtService#addArts(String, List)} and return Http Status Not
+     * Found(404) when the company with the specific id is not found.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void createArts_MissingCompany_ExpectNotFound() throws Exception {
+        when(artService.addArts(eq(TestCompany.TEST_ID), anyList())).thenThrow(new ObjectNotExistsException());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.post(TestArt.URL_EXTENSION_BULK)
+                .param(TestArt.COMP_ID_KEY, TestCompany.TEST_ID)
+                .content(TestJsonConverter.writeValueAsString(List.of(TestArt.createArtDTO())))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        MockMvcBuilders.standaloneSetup(artController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        verify(artService).addArts(eq(TestCompany.TEST_ID), anyList());
+    }
+
+    /**
+     * {@code createArts_SomeInvalid_ExpectOKCreatedAndErrors} is a test on
+     * {@link ArtController#createArts(String, List)} to verify if the method will
+     * call {@link ArtService#addArts(String, List)} and return the created ART
+     * DTOs and the invalid rows with Http Status Ok(200) and content type of
+     * application/json.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void createArts_SomeInvalid_ExpectOKCreatedAndErrors() throws Exception {
+        ArtDTO artDTO = TestArt.createArtDTO();
+        ArtBulkErrorDTO error = new ArtBulkErrorDTO(2, TestEmployee.TEST_ID, "error");
+        when(artService.addArts(eq(TestCompany.TEST_ID), anyList()))
+                .thenReturn(new ArtBulkResult(List.of(TestArt.createArt()), List.of(error)));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.post(TestArt.URL_EXTENSION_BULK)
+                .param(TestArt.COMP_ID_KEY, TestCompany.TEST_ID)
+                .content(TestJsonConverter.writeValueAsString(List.of(artDTO, artDTO)))
+                .contentType(MediaType.APPLICATION_JSON);
+        ArtBulkResultDTO resultDTO = new ArtBulkResultDTO(List.of(artDTO), List.of(error));
+
+        MockMvcBuilders.standaloneSetup(artController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(resultDTO)));
+
+        verify(artService).addArts(eq(TestCompany.TEST_ID), argThat(artDTOs -> artDTOs.size() == 2));
+    }
+
+    /**
+     * {@code createArtsFromCsv_SomeUnreadable_ExpectOKErrorsByRow} is a test on
+     * {@link ArtController#createArtsFromCsv(String, String)} to verify if the
+     * method will call {@link ArtService#addArts(String, List)} with only the
+     * readable rows, and return the unreadable rows together with the invalid rows
+     * at their line in the CSV with Http Status Ok(200).
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void createArtsFromCsv_SomeUnreadable_ExpectOKErrorsByRow() throws Exception {
+        String otherId = TestEmployee.TEST_ID.substring(1);
+        String csv = "employeeWP,dateOfTest,result\n" + TestEmployee.TEST_ID + ",1970-01-02,negative\n"
+                + otherId + ",not a date,false\n" + otherId + ",1970-01-02,POSITIVE\n";
+        ArtBulkErrorDTO serviceError = new ArtBulkErrorDTO(2, otherId, "error");
+        when(artService.addArts(eq(TestCompany.TEST_ID), anyList()))
+                .thenReturn(new ArtBulkResult(List.of(TestArt.createArt()), new ArrayList<>(List.of(serviceError))));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.post(TestArt.URL_EXTENSION_BULK)
+                .param(TestArt.COMP_ID_KEY, TestCompany.TEST_ID).content(csv).contentType("text/csv");
+
+        MockMvcBuilders.standaloneSetup(artController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created.length()").value(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].row").value(3))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].row").value(4))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[1].message").value("error"));
+
+        verify(artService).addArts(eq(TestCompany.TEST_ID), argThat(artDTOs -> artDTOs.size() == 2
+                && !artDTOs.get(0).isResult() && artDTOs.get(1).isResult()
+                && artDTOs.get(1).getDateOfTest().equals(LocalDate.ofEpochDay(1L))));
+    }
+
     /**
      * {@code deleteArt_NotFound_ExpectNotFound} is a test on
      * {@link ArtController#deleteArt(String)} to verify if the method will call
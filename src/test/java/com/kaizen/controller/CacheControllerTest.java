@@ -0,0 +1,96 @@
+package com.kaizen.controller;
+
+import static org.mockito.Mockito.*;
+
+import com.kaizen.model.TestJsonConverter;
+import com.kaizen.security.jwt.AwsCognitoIdTokenProcessor;
+import com.kaizen.security.jwt.VerifiedTokenCacheStats;
+import com.kaizen.service.company.CompanyCacheStats;
+import com.kaizen.service.company.CompanyService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * {@code CacheControllerTest} is a test class to do unit testing on
+ * {@link CacheController}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-17
+ */
+@ContextConfiguration(classes = { CacheController.class })
+@ExtendWith(SpringExtension.class)
+class CacheControllerTest {
+    /**
+     * The cache's controller used for testing.
+     */
+    @Autowired
+    private CacheController cacheController;
+
+    /**
+     * The mocked id token's processor used for testing.
+     */
+    @MockBean
+    private AwsCognitoIdTokenProcessor awsCognitoIdTokenProcessor;
+
+    /**
+     * The mocked company's service used for testing.
+     */
+    @MockBean
+    private CompanyService companyService;
+
+    /**
+     * {@code getTokenCacheStats_Found_ExpectOKFound} is a test on
+     * {@link CacheController#getTokenCacheStats()} to verify if the method will
+     * call {@link AwsCognitoIdTokenProcessor#getCacheStats()} and return the
+     * counters of the cache with Http Status Ok(200) and content type of
+     * application/json.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getTokenCacheStats_Found_ExpectOKFound() throws Exception {
+        VerifiedTokenCacheStats stats = new VerifiedTokenCacheStats(3, 1, 0, 2);
+        when(awsCognitoIdTokenProcessor.getCacheStats()).thenReturn(stats);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/caches/tokens");
+
+        MockMvcBuilders.standaloneSetup(cacheController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(stats)));
+
+        verify(awsCognitoIdTokenProcessor).getCacheStats();
+    }
+
+    /**
+     * {@code getCompanyCacheStats_Found_ExpectOKFound} is a test on
+     * {@link CacheController#getCompanyCacheStats()} to verify if the method will
+     * call {@link CompanyService#getCacheStats()} and return the counters of the
+     * cache with Http Status Ok(200) and content type of application/json.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getCompanyCacheStats_Found_ExpectOKFound() throws Exception {
+        CompanyCacheStats stats = new CompanyCacheStats(5, 2, 1, 4);
+        when(companyService.getCacheStats()).thenReturn(stats);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get("/api/caches/companies");
+
+        MockMvcBuilders.standaloneSetup(cacheController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(stats)));
+
+        verify(companyService).getCacheStats();
+    }
+}
@@ -3,19 +3,21 @@ package com.kaizen.controller;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kaizen.model.TestDashboardController;
 import com.kaizen.model.entity.News;
 import com.kaizen.model.entity.Updates;
 import com.kaizen.service.datascraper.NewsService;
+import com.kaizen.service.datascraper.ScrapBoxSnapshot;
 import com.kaizen.service.updates.UpdatesService;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -56,45 +58,92 @@ class DashboardControllerTest {
     /**
      * {@code getUpdates_Found_ExpectOKFound} is a test on
      * {@link DashboardController#getUpdates()} to verify if the method will call
-     * {@link UpdatesService#getUpdates()} and return Http Status Ok(200) and
-     * content type of application/json.
+     * {@link UpdatesService#getSnapshot()} and return the JSON of the snapshot with
+     * its ETag, Http Status Ok(200) and content type of application/json.
      * 
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void getUpdates_Found_ExpectOKFound() throws Exception {
-        List<Updates> updates = new ArrayList<>();
-        when(updatesService.getUpdates()).thenReturn(updates);
+        ScrapBoxSnapshot<Updates> snapshot = new ScrapBoxSnapshot<>(
+                List.of(new Updates("header", "url", "date")), new ObjectMapper());
+        when(updatesService.getSnapshot()).thenReturn(snapshot);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
                 .get(TestDashboardController.URL_EXTENSION);
 
         MockMvcBuilders.standaloneSetup(dashboardController).build().perform(requestBuilder)
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(MockMvcResultMatchers.content().bytes(snapshot.getJson()));
 
-        verify(updatesService).getUpdates();
+        verify(updatesService).getSnapshot();
     }
 
     /**
      * {@code getNews_Found_ExpectOKFound} is a test on
      * {@link DashboardController#getNews()} to verify if the method will call
-     * {@link NewsService#getUpdates()} and return Http Status Ok(200) and content
-     * type of application/json.
+     * {@link NewsService#getSnapshot()} and return the JSON of the snapshot with its
+     * ETag, Http Status Ok(200) and content type of application/json.
      * 
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void getNews_Found_ExpectOKFound() throws Exception {
-        List<News> news = new ArrayList<>();
-        when(newsService.getNews()).thenReturn(news);
+        ScrapBoxSnapshot<News> snapshot = new ScrapBoxSnapshot<>(
+                List.of(new News("header", "url", "excerpt", "imageUrl")), new ObjectMapper());
+        when(newsService.getSnapshot()).thenReturn(snapshot);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
                 .get(TestDashboardController.URL_EXTENSION_NEWS);
 
         MockMvcBuilders.standaloneSetup(dashboardController).build().perform(requestBuilder)
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON));
-        ;
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, snapshot.getEtag()))
+                .andExpect(MockMvcResultMatchers.content().bytes(snapshot.getJson()));
 
-        verify(newsService).getNews();
+        verify(newsService).getSnapshot();
+    }
+
+    /**
+     * {@code getNews_MatchingETag_ExpectNotModified} is a test on
+     * {@link DashboardController#getNews()} to verify if the method will return
+     * Http Status Not Modified(304) without a body when the request's
+     * {@code If-None-Match} matches the ETag of the snapshot.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getNews_MatchingETag_ExpectNotModified() throws Exception {
+        ScrapBoxSnapshot<News> snapshot = new ScrapBoxSnapshot<>(
+                List.of(new News("header", "url", "excerpt", "imageUrl")), new ObjectMapper());
+        when(newsService.getSnapshot()).thenReturn(snapshot);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(TestDashboardController.URL_EXTENSION_NEWS).header(HttpHeaders.IF_NONE_MATCH, snapshot.getEtag());
+
+        MockMvcBuilders.standaloneSetup(dashboardController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().bytes(new byte[0]));
+    }
+
+    /**
+     * {@code getUpdates_StaleETag_ExpectOKFound} is a test on
+     * {@link DashboardController#getUpdates()} to verify if the method will return
+     * the snapshot with Http Status Ok(200) when the request's
+     * {@code If-None-Match} does not match the ETag of the snapshot.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getUpdates_StaleETag_ExpectOKFound() throws Exception {
+        ScrapBoxSnapshot<Updates> snapshot = new ScrapBoxSnapshot<>(
+                List.of(new Updates("header", "url", "date")), new ObjectMapper());
+        when(updatesService.getSnapshot()).thenReturn(snapshot);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(TestDashboardController.URL_EXTENSION).header(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+
+        MockMvcBuilders.standaloneSetup(dashboardController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().bytes(snapshot.getJson()));
     }
 }
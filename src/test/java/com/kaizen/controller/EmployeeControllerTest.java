@@ -102,7 +102,7 @@ class EmployeeControllerTest {
      * {@code getEmployees_Found_ExpectOKFound} is a test on
      * {@link EmployeeController#getEmployees(String)} to verify if the method will
      * call {@link EmployeeService#listEmployeesByCompany(String)} and
-     * {@link ImageService#getProfileImageURL(Employee)} and return the list of all
+     * {@link ImageService#getProfileImageURLs(Collection)} and return the list of all
      * employee DTOs of a company with Http Status Ok(200) and content type of
      * application/json.
      * 
@@ -115,7 +115,8 @@ class EmployeeControllerTest {
         List<EmployeeDTO> employeeDTOs = new ArrayList<>();
         employeeDTOs.add(TestEmployee.createEmployeeDTO());
         when(employeeService.listEmployeesByCompany(any(String.class))).thenReturn(employees);
-        when(imageService.getProfileImageURL(any(Employee.class))).thenReturn(TestImage.DEFAULT_IMAGE_URL);
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL)))
+                .thenReturn(Map.of(TestEmployee.TEST_ID, TestImage.DEFAULT_IMAGE_URL));
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployee.URL_EXTENSION)
                 .param(TestEmployee.COMP_ID_KEY, TestCompany.TEST_ID);
 
@@ -125,7 +126,7 @@ class EmployeeControllerTest {
                 .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(employeeDTOs)));
 
         verify(employeeService).listEmployeesByCompany(any(String.class));
-        verify(imageService).getProfileImageURL(any(Employee.class));
+        verify(imageService).getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL));
     }
 
     /**
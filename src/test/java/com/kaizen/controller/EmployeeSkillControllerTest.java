@@ -6,10 +6,13 @@ import com.kaizen.exceptions.ObjectExistsException;
 import com.kaizen.exceptions.ObjectNotExistsException;
 import com.kaizen.model.*;
 import com.kaizen.model.dto.EmployeeSkillDTO;
+import com.kaizen.model.dto.SkillSupplyDTO;
 import com.kaizen.model.entity.*;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.employee.EmployeeService;
 import com.kaizen.service.employeeSkill.EmployeeSkillService;
+import com.kaizen.service.employeeSkill.EmployeeSkillSortOrder;
+import com.kaizen.service.employeeSkill.SkillSupply;
 import com.kaizen.service.image.ImageService;
 import com.kaizen.service.skill.SkillService;
 
@@ -95,8 +98,8 @@ class EmployeeSkillControllerTest {
      * {@code getAllEmployeeSkillsNotFromCompany_Found_ExpectOKFound} is a test on
      * {@link EmployeeSkillController#getAllEmployeeSkillsNotFromCompany(String)} to
      * verify if the method will call
-     * {@link EmployeeSkillService#listEmployeeSkills()},
-     * {@link ImageService#getProfileImageURL(Employee)} and return the list of all
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String)},
+     * {@link ImageService#getProfileImageURLs(Collection)} and return the list of all
      * employee's skills that not of specific companywith Http Status Ok(200) and
      * content type of application/json.
      * 
@@ -106,13 +109,12 @@ class EmployeeSkillControllerTest {
     public void getAllEmployeeSkillsNotFromCompany_Found_ExpectOKFound() throws Exception {
         List<EmployeeSkill> employeeSkills = new ArrayList<>();
         employeeSkills.add(TestEmployeeSkill.createEmployeeSkill());
-        employeeSkills.add(TestEmployeeSkill.createEmployeeSkill());
         String companyId = TestCompany.TEST_ID + "1";
-        employeeSkills.get(1).getCompany().setUEN(companyId);
         List<EmployeeSkillDTO> employeeSkillDTOs = new ArrayList<>();
         employeeSkillDTOs.add(TestEmployeeSkill.createEmployeeSkillDTO());
-        when(employeeSkillService.listEmployeeSkills()).thenReturn(employeeSkills);
-        when(imageService.getProfileImageURL(any(Employee.class))).thenReturn(TestImage.DEFAULT_IMAGE_URL);
+        when(employeeSkillService.listEmployeeSkillsNotFromCompany(companyId)).thenReturn(employeeSkills);
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL)))
+                .thenReturn(Map.of(TestEmployee.TEST_ID, TestImage.DEFAULT_IMAGE_URL));
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployeeSkill.URL_EXTENSION_ALL)
                 .param(TestEmployeeSkill.COMP_ID_KEY, companyId);
 
@@ -122,8 +124,126 @@ class EmployeeSkillControllerTest {
                 .andExpect(MockMvcResultMatchers.content()
                         .string(TestJsonConverter.writeValueAsString(employeeSkillDTOs)));
 
-        verify(employeeSkillService).listEmployeeSkills();
-        verify(imageService).getProfileImageURL(any(Employee.class));
+        verify(employeeSkillService).listEmployeeSkillsNotFromCompany(companyId);
+        verify(imageService).getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL));
+    }
+
+    /**
+     * {@code getEmployeeSkillsPageNotFromCompany_FirstPage_ExpectOKFound} is a test
+     * on
+     * {@link EmployeeSkillController#getEmployeeSkillsPageNotFromCompany(String, int, EmployeeSkillSortOrder, String, String)}
+     * to verify if the method will call
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String, EmployeeSkillSortOrder, EmployeeSkillKey, int)}
+     * without a cursor and return the page of employee's skills with Http Status
+     * Ok(200).
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getEmployeeSkillsPageNotFromCompany_FirstPage_ExpectOKFound() throws Exception {
+        List<EmployeeSkill> employeeSkills = new ArrayList<>();
+        employeeSkills.add(TestEmployeeSkill.createEmployeeSkill());
+        String companyId = TestCompany.TEST_ID + "1";
+        List<EmployeeSkillDTO> employeeSkillDTOs = new ArrayList<>();
+        employeeSkillDTOs.add(TestEmployeeSkill.createEmployeeSkillDTO());
+        when(employeeSkillService.listEmployeeSkillsNotFromCompany(companyId, EmployeeSkillSortOrder.RATING, null, 20))
+                .thenReturn(employeeSkills);
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL)))
+                .thenReturn(Map.of(TestEmployee.TEST_ID, TestImage.DEFAULT_IMAGE_URL));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployeeSkill.URL_EXTENSION_ALL)
+                .param(TestEmployeeSkill.COMP_ID_KEY, companyId).param("size", "20").param("sortBy", "RATING");
+
+        MockMvcBuilders.standaloneSetup(employeeSkillController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(TestJsonConverter.writeValueAsString(employeeSkillDTOs)));
+
+        verify(employeeSkillService).listEmployeeSkillsNotFromCompany(companyId, EmployeeSkillSortOrder.RATING, null,
+                20);
+    }
+
+    /**
+     * {@code getEmployeeSkillsPageNotFromCompany_AfterCursor_ExpectOKFound} is a
+     * test on
+     * {@link EmployeeSkillController#getEmployeeSkillsPageNotFromCompany(String, int, EmployeeSkillSortOrder, String, String)}
+     * to verify if the method will call
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String, EmployeeSkillSortOrder, EmployeeSkillKey, int)}
+     * with the cursor made of the specific skill's id and employee's id, sorted by
+     * cost by default.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getEmployeeSkillsPageNotFromCompany_AfterCursor_ExpectOKFound() throws Exception {
+        String companyId = TestCompany.TEST_ID + "1";
+        when(employeeSkillService.listEmployeeSkillsNotFromCompany(companyId, EmployeeSkillSortOrder.COST,
+                TestEmployeeSkill.TEST_ID, 20)).thenReturn(new ArrayList<>());
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL))).thenReturn(new HashMap<>());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployeeSkill.URL_EXTENSION_ALL)
+                .param(TestEmployeeSkill.COMP_ID_KEY, companyId).param("size", "20")
+                .param("afterSkillId", TestEmployeeSkill.TEST_ID.getSkill())
+                .param("afterEmpId", TestEmployeeSkill.TEST_ID.getEmployee());
+
+        MockMvcBuilders.standaloneSetup(employeeSkillController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("[]"));
+
+        verify(employeeSkillService).listEmployeeSkillsNotFromCompany(companyId, EmployeeSkillSortOrder.COST,
+                TestEmployeeSkill.TEST_ID, 20);
+    }
+
+    /**
+     * {@code getEmployeeSkillsPageNotFromCompany_PartialCursor_ExpectBadRequest} is
+     * a test on
+     * {@link EmployeeSkillController#getEmployeeSkillsPageNotFromCompany(String, int, EmployeeSkillSortOrder, String, String)}
+     * to verify if the method will return Http Status Bad Request(400) when only
+     * the skill's id of the cursor is given.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getEmployeeSkillsPageNotFromCompany_PartialCursor_ExpectBadRequest() throws Exception {
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployeeSkill.URL_EXTENSION_ALL)
+                .param(TestEmployeeSkill.COMP_ID_KEY, TestCompany.TEST_ID).param("size", "20")
+                .param("afterSkillId", TestEmployeeSkill.TEST_ID.getSkill());
+
+        MockMvcBuilders.standaloneSetup(employeeSkillController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    /**
+     * {@code searchEmployeeSkills_Found_ExpectOKFound} is a test on
+     * {@link EmployeeSkillController#searchEmployeeSkills(String, String, Double, Double, Integer, EmployeeSkillSortOrder, int)}
+     * to verify if the method will call
+     * {@link EmployeeSkillService#searchEmployeeSkills(String, String, Double, Double, Integer, EmployeeSkillSortOrder, int)}
+     * with the specific ranges and the default sort order and limit, and return the
+     * found employee's skills with Http Status Ok(200).
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void searchEmployeeSkills_Found_ExpectOKFound() throws Exception {
+        List<EmployeeSkill> employeeSkills = new ArrayList<>();
+        employeeSkills.add(TestEmployeeSkill.createEmployeeSkill());
+        String companyId = TestCompany.TEST_ID + "1";
+        String skillId = TestEmployeeSkill.TEST_ID.getSkill();
+        List<EmployeeSkillDTO> employeeSkillDTOs = new ArrayList<>();
+        employeeSkillDTOs.add(TestEmployeeSkill.createEmployeeSkillDTO());
+        when(employeeSkillService.searchEmployeeSkills(skillId, companyId, 4.0, 200.0, null,
+                EmployeeSkillSortOrder.COST, 20)).thenReturn(employeeSkills);
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL)))
+                .thenReturn(Map.of(TestEmployee.TEST_ID, TestImage.DEFAULT_IMAGE_URL));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .get(TestEmployeeSkill.URL_EXTENSION + "search").param(TestEmployeeSkill.SKILL_ID_KEY, skillId)
+                .param(TestEmployeeSkill.COMP_ID_KEY, companyId).param("minRating", "4").param("maxCost", "200");
+
+        MockMvcBuilders.standaloneSetup(employeeSkillController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content()
+                        .string(TestJsonConverter.writeValueAsString(employeeSkillDTOs)));
+
+        verify(employeeSkillService).searchEmployeeSkills(skillId, companyId, 4.0, 200.0, null,
+                EmployeeSkillSortOrder.COST, 20);
     }
 
     /**
@@ -146,7 +266,7 @@ class EmployeeSkillControllerTest {
      * {@code getEmployeeSkillsByCompany_Found_ExpectOKFound} is a test on
      * {@link EmployeeSkillController#getEmployeeSkillsByCompany(String)} to verify
      * if the method will call {@link EmployeeSkillService#listEmployeeSkills()},
-     * {@link ImageService#getProfileImageURL(Employee)} and return the list of all
+     * {@link ImageService#getProfileImageURLs(Collection)} and return the list of all
      * employee's skills with Http Status Ok(200) and content type of
      * application/json.
      * 
@@ -159,7 +279,8 @@ class EmployeeSkillControllerTest {
         List<EmployeeSkillDTO> employeeSkillDTOs = new ArrayList<>();
         employeeSkillDTOs.add(TestEmployeeSkill.createEmployeeSkillDTO());
         when(employeeSkillService.listEmployeeSkillsByCompany(any(String.class))).thenReturn(employeeSkills);
-        when(imageService.getProfileImageURL(any(Employee.class))).thenReturn(TestImage.DEFAULT_IMAGE_URL);
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL)))
+                .thenReturn(Map.of(TestEmployee.TEST_ID, TestImage.DEFAULT_IMAGE_URL));
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployeeSkill.URL_EXTENSION)
                 .param(TestEmployeeSkill.COMP_ID_KEY, TestCompany.TEST_ID);
 
@@ -170,7 +291,7 @@ class EmployeeSkillControllerTest {
                         .string(TestJsonConverter.writeValueAsString(employeeSkillDTOs)));
 
         verify(employeeSkillService).listEmployeeSkillsByCompany(any(String.class));
-        verify(imageService).getProfileImageURL(any(Employee.class));
+        verify(imageService).getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL));
     }
 
     /**
@@ -236,7 +357,7 @@ class EmployeeSkillControllerTest {
      * {@link EmployeeSkillController#getEmployeeSkillsBySkill(String, String)} to
      * verify if the method will call
      * {@link EmployeeSkillService#getEmployeeSkillsBySkill(String)} and
-     * {@link ImageService#getProfileImageURL(Employee)}and return the list of all
+     * {@link ImageService#getProfileImageURLs(Collection)}and return the list of all
      * employee's skill dtos of the skill of a specific company with specific
      * skill's id with Http Status Ok(200) and content type of application/json.
      * 
@@ -252,7 +373,8 @@ class EmployeeSkillControllerTest {
         List<EmployeeSkillDTO> employeeSkillDTOs = new ArrayList<>();
         employeeSkillDTOs.add(TestEmployeeSkill.createEmployeeSkillDTO());
         when(employeeSkillService.getEmployeeSkillsBySkill(TestSkill.TEST_ID)).thenReturn(employeeSkills);
-        when(imageService.getProfileImageURL(any(Employee.class))).thenReturn(TestImage.DEFAULT_IMAGE_URL);
+        when(imageService.getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL)))
+                .thenReturn(Map.of(TestEmployee.TEST_ID, TestImage.DEFAULT_IMAGE_URL));
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestEmployeeSkill.URL_EXTENSION)
                 .param(TestEmployeeSkill.SKILL_ID_KEY, employeeSkills.get(1).getSkill().getSkill())
                 .param(TestEmployeeSkill.COMP_ID_KEY, companyId);
@@ -264,7 +386,7 @@ class EmployeeSkillControllerTest {
                         .string(TestJsonConverter.writeValueAsString(employeeSkillDTOs)));
 
         verify(employeeSkillService).getEmployeeSkillsBySkill(TestSkill.TEST_ID);
-        verify(imageService).getProfileImageURL(any(Employee.class));
+        verify(imageService).getProfileImageURLs(anyCollection(), eq(ImageSize.ORIGINAL));
     }
 
     /**
@@ -816,7 +938,7 @@ class EmployeeSkillControllerTest {
     /**
      * {@code collate_FoundEmpty_ExpectOK} is a test on
      * {@link EmployeeSkillController#collate(String)} to verify if the method will
-     * return with Http Status Ok(200) and list of hashmap.
+     * return with Http Status Ok(200) and an empty list.
      * 
      * @throws Exception if any exceptions occurs.
      */
@@ -836,32 +958,24 @@ class EmployeeSkillControllerTest {
     /**
      * {@code collate_FoundOne_ExpectOKFound} is a test on
      * {@link EmployeeSkillController#collate(String)} to verify if the method will
-     * return with Http Status Ok(200) and list of hashmap.
+     * return with Http Status Ok(200) and the supply of the skills.
      * 
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void collate_FoundOne_ExpectOKFound() throws Exception {
-        List<List<String>> listOfList = new ArrayList<>();
-        List<String> list = new ArrayList<>();
-        list.add("Name");
-        list.add("Pax");
-        list.add("Min");
-        listOfList.add(list);
-        List<HashMap<String, String>> result = new ArrayList<>();
-        HashMap<String, String> map = new HashMap<>();
-        map.put("name", list.get(0));
-        map.put("pax", list.get(1));
-        map.put("min", list.get(2));
-        result.add(map);
-        when(employeeSkillService.collate(TestCompany.TEST_ID)).thenReturn(listOfList);
+        List<SkillSupply> skillSupplies = new ArrayList<>();
+        skillSupplies.add(new SkillSupply(TestSkill.TEST_ID, 2, 100, 300, 200, 4.5));
+        List<SkillSupplyDTO> skillSupplyDTOs = new ArrayList<>();
+        skillSupplyDTOs.add(new SkillSupplyDTO(TestSkill.TEST_ID, 2, 100, 300, 200, 4.5));
+        when(employeeSkillService.collate(TestCompany.TEST_ID)).thenReturn(skillSupplies);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
                 .get(TestEmployeeSkill.URL_EXTENSION_COLLATE).param(TestEmployeeSkill.COMP_ID_KEY, TestCompany.TEST_ID);
 
         MockMvcBuilders.standaloneSetup(employeeSkillController)
                 .setMessageConverters(TestJsonConverter.messageConverter).build().perform(requestBuilder)
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(result)));
+                .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(skillSupplyDTOs)));
 
         verify(employeeSkillService).collate(TestCompany.TEST_ID);
     }
@@ -2,20 +2,26 @@ package com.kaizen.controller;
 
 import static org.mockito.Mockito.*;
 
-import com.kaizen.client.AmazonClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.kaizen.exceptions.RestExceptionHandler;
 import com.kaizen.model.*;
 import com.kaizen.model.entity.Employee;
-import com.kaizen.model.entity.Image;
 import com.kaizen.service.employee.EmployeeService;
 import com.kaizen.service.image.ImageService;
+import com.kaizen.service.image.ImageUploader;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
@@ -52,10 +58,10 @@ class ImageControllerTest {
     private EmployeeService employeeService;
 
     /**
-     * The mocked amazon's client used for testing.
+     * The mocked image's uploader used for testing.
      */
     @MockBean
-    private AmazonClient amazonClient;
+    private ImageUploader imageUploader;
 
     /**
      * {@code uploadFile_MissingFile_ExpectBadRequest} is a test on
@@ -123,23 +129,28 @@ class ImageControllerTest {
         Employee employee = TestEmployee.createEmployee();
         MockMultipartFile file = TestImage.createMockMultipartFile();
         when(employeeService.getEmployee(employee.getWorkPermitNumber())).thenReturn(employee);
-        when(imageService.addImage(any(Image.class))).thenReturn(TestImage.createImage());
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.multipart(TestImage.URL_EXTENSION)
                 .file(file).param(TestImage.EMP_ID_KEY, TestEmployee.TEST_ID);
 
-        MockMvcBuilders.standaloneSetup(imageController).build().perform(requestBuilder)
+        when(imageUploader.upload(employee, file))
+                .thenReturn(CompletableFuture.completedFuture(TestImage.createImage()));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(imageController).build();
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted()).andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isCreated());
 
         verify(employeeService).getEmployee(employee.getWorkPermitNumber());
-        verify(imageService).addImage(any(Image.class));
+        verify(imageUploader).upload(employee, file);
     }
 
     /**
      * {@code uploadFile_New_ExpectCreatedSaved} is a test on
      * {@link ImageController#uploadFile(String, MultipartFile))} to verify if the
      * method will call {@link EmployeeService#getEmployee(String)} and
-     * {@link ImageService#addImage(Image)} and return the created specific image
-     * with Http Status Created(201) and content type of application/json.
+     * {@link ImageUploader#upload(Employee, MultipartFile)} and return Http
+     * Status Created(201) once the specific image is stored.
      * 
      * @throws Exception if any exceptions occurs.
      */
@@ -148,14 +159,47 @@ class ImageControllerTest {
         Employee employee = TestEmployee.createEmployee();
         MockMultipartFile file = TestImage.createMockMultipartFile();
         when(employeeService.getEmployee(employee.getWorkPermitNumber())).thenReturn(employee);
-        when(imageService.addImage(any(Image.class))).thenReturn(TestImage.createImage());
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.multipart(TestImage.URL_EXTENSION)
                 .file(file).param(TestImage.EMP_ID_KEY, TestEmployee.TEST_ID);
 
-        MockMvcBuilders.standaloneSetup(imageController).build().perform(requestBuilder)
+        when(imageUploader.upload(employee, file))
+                .thenReturn(CompletableFuture.completedFuture(TestImage.createImage()));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(imageController).build();
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted()).andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
                 .andExpect(MockMvcResultMatchers.status().isCreated());
 
         verify(employeeService).getEmployee(employee.getWorkPermitNumber());
-        verify(imageService).addImage(any(Image.class));
+        verify(imageUploader).upload(employee, file);
+    }
+
+    /**
+     * {@code uploadFile_UploadsQueueFull_ExpectServiceUnavailable} is a test on
+     * {@link ImageController#uploadFile(String, MultipartFile)} to verify if the
+     * method will return Http Status Service Unavailable(503) with a Retry-After
+     * header when the upload is rejected because too many uploads are queued.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void uploadFile_UploadsQueueFull_ExpectServiceUnavailable() throws Exception {
+        Employee employee = TestEmployee.createEmployee();
+        MockMultipartFile file = TestImage.createMockMultipartFile();
+        when(employeeService.getEmployee(employee.getWorkPermitNumber())).thenReturn(employee);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.multipart(TestImage.URL_EXTENSION)
+                .file(file).param(TestImage.EMP_ID_KEY, TestEmployee.TEST_ID);
+
+        when(imageUploader.upload(employee, file))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException()));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(imageController)
+                .setControllerAdvice(new RestExceptionHandler()).build();
+        MvcResult result = mockMvc.perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted()).andReturn();
+
+        mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.RETRY_AFTER));
     }
 }
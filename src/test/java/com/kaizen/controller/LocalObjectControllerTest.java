@@ -0,0 +1,226 @@
+package com.kaizen.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.kaizen.client.LocalObjectStore;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * {@code LocalObjectControllerTest} is a test class to do unit testing on
+ * {@link LocalObjectController} with a {@link LocalObjectStore} in a temporary
+ * directory.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-19
+ */
+class LocalObjectControllerTest {
+    /**
+     * Represents the content of the file used for testing.
+     */
+    private static final String CONTENT = "0123456789";
+
+    /**
+     * The directory of the local object store used for testing.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * The local object store used for testing.
+     */
+    private LocalObjectStore localObjectStore;
+
+    /**
+     * The mock MVC of the local object's controller used for testing.
+     */
+    private MockMvc mockMvc;
+
+    /**
+     * The URL of the file stored for testing.
+     */
+    private String fileUrl;
+
+    /**
+     * {@code setUp} is apply before each tests to store a file in the local
+     * object store.
+     * 
+     * @throws Exception if the file could not be stored.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        localObjectStore = new LocalObjectStore(directory.toString(), "/objects");
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalObjectController(localObjectStore)).build();
+        MockMultipartFile file = new MockMultipartFile("file", "worker 1.txt", "text/plain",
+                CONTENT.getBytes(StandardCharsets.UTF_8));
+        fileUrl = localObjectStore.uploadFileAsync(file).get();
+    }
+
+    /**
+     * {@code uploadFileAsync_File_Stored} is a test on
+     * {@link LocalObjectStore#uploadFileAsync} to verify if the file is stored
+     * under a unique name without spaces and no temporary file is left.
+     * 
+     * @throws Exception if the directory could not be listed.
+     */
+    @Test
+    public void uploadFileAsync_File_Stored() throws Exception {
+        assertTrue(fileUrl.startsWith("/objects/"));
+        assertTrue(fileUrl.endsWith("-worker_1.txt"));
+        assertEquals(1, Files.list(directory).count());
+    }
+
+    /**
+     * {@code getObject_Stored_ExpectOkCached} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * the file with Http Status Ok(200) and cache headers.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_Stored_ExpectOkCached() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(CONTENT))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_LENGTH, "10"))
+                .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL,
+                        "max-age=31536000, public, immutable"));
+    }
+
+    /**
+     * {@code getObject_Range_ExpectPartialContent} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * the requested byte range with Http Status Partial Content(206).
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_Range_ExpectPartialContent() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.RANGE, "bytes=2-4"))
+                .andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.content().string("234"))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/10"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.content().string("789"));
+    }
+
+    /**
+     * {@code getObject_RangeOutside_ExpectRangeNotSatisfiable} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * Http Status Range Not Satisfiable(416) for a range outside the file.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_RangeOutside_ExpectRangeNotSatisfiable() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.RANGE, "bytes=20-"))
+                .andExpect(MockMvcResultMatchers.status().isRequestedRangeNotSatisfiable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    /**
+     * {@code getObject_RangeTooLarge_ExpectRangeNotSatisfiable} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * Http Status Range Not Satisfiable(416) for a range whose start does not fit
+     * a long.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_RangeTooLarge_ExpectRangeNotSatisfiable() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.RANGE, "bytes=99999999999999999999-"))
+                .andExpect(MockMvcResultMatchers.status().isRequestedRangeNotSatisfiable())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+    }
+
+    /**
+     * {@code getObject_RangeEndTooLarge_ExpectPartialContent} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * Http Status Partial Content(206) up to the end of the file for a range
+     * whose end does not fit a long.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_RangeEndTooLarge_ExpectPartialContent() throws Exception {
+        mockMvc.perform(
+                MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.RANGE, "bytes=7-99999999999999999999"))
+                .andExpect(MockMvcResultMatchers.status().isPartialContent())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10"));
+    }
+
+    /**
+     * {@code getObject_SameETag_ExpectNotModified} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * Http Status Not Modified(304) when the client has the file.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_SameETag_ExpectNotModified() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(fileUrl)).andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+    }
+
+    /**
+     * {@code getObject_ETagList_ExpectNotModified} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * Http Status Not Modified(304) when the file's ETag is in a list, is sent as
+     * a weak ETag or is matched by {@code *}.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_ETagList_ExpectNotModified() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(fileUrl)).andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.IF_NONE_MATCH,
+                "\"other\", " + eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    /**
+     * {@code getObject_Missing_ExpectNotFound} is a test on
+     * {@link LocalObjectController#getObject} to verify if the method will return
+     * Http Status Not Found(404) for a deleted file or a name outside the store.
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getObject_Missing_ExpectNotFound() throws Exception {
+        localObjectStore.deleteFile(fileUrl);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(fileUrl))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(MockMvcRequestBuilders.get("/objects/..%2Fsecret"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
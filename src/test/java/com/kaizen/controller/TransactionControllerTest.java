@@ -3,9 +3,11 @@ package com.kaizen.controller;
 import static org.mockito.Mockito.*;
 
 import com.kaizen.exceptions.InvalidDateException;
+import com.kaizen.exceptions.InvalidStatusException;
 import com.kaizen.exceptions.ObjectNotExistsException;
 import com.kaizen.model.*;
 import com.kaizen.model.dto.TransactionDTO;
+import com.kaizen.model.dto.TransactionStatusDTO;
 import com.kaizen.model.entity.Transaction;
 import com.kaizen.model.entity.TransactionKey;
 import com.kaizen.service.company.CompanyService;
@@ -64,7 +66,7 @@ class TransactionControllerTest {
 
     /**
      * {@code getIncomingTransactions_MissingCompId_ExpectBadRequest} is a test on
-     * {@link TransactionController#getIncomingTransactions(String)} to verify if the method will
+     * {@link TransactionController#getIncomingTransactions(String, String, LocalDate, LocalDate, Integer, Integer)} to verify if the method will
      * return Http Status Bad Request(400) when the specific company's id is missing
      * in the call.
      * 
@@ -80,24 +82,22 @@ class TransactionControllerTest {
 
     /**
      * {@code getIncomingTransactions_Found_ExpectOKFound} is a test on
-     * {@link TransactionController#getIncomingTransactions(String)} to verify if
-     * the method will call {@link TransactionService#listTransactions()} and
-     * return the list of all transaction DTOs of a loan company with Http Status Ok(200)
-     * and content type of application/json.
+     * {@link TransactionController#getIncomingTransactions(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * to verify if the method will call
+     * {@link TransactionService#listTransactionDTOsByLoanCompany(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * and return the list of all transaction DTOs of a loan company with Http
+     * Status Ok(200) and content type of application/json.
      * 
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void getIncomingTransactions_Found_ExpectOKFound() throws Exception {
         String companyId = TestCompany.TEST_ID + "1";
-        List<Transaction> transactions = new ArrayList<>();
-        transactions.add(TestTransaction.createTransaction());
-        transactions.add(TestTransaction.createTransaction());
-        transactions.get(1).getLoanCompany().setUEN(companyId);
         List<TransactionDTO> transactionDTOs = new ArrayList<>();
         transactionDTOs.add(TestTransaction.createTransactionDTO());
         transactionDTOs.get(0).setLoanCompanyId(companyId);
-        when(transactionService.listTransactions()).thenReturn(transactions);
+        when(transactionService.listTransactionDTOsByLoanCompany(companyId, null, null, null, null, null))
+                .thenReturn(transactionDTOs);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestTransaction.URL_EXTENSION_INCOMING)
                 .param(TestTransaction.COMP_ID_KEY, companyId);
 
@@ -106,12 +106,38 @@ class TransactionControllerTest {
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(transactionDTOs)));
 
-        verify(transactionService).listTransactions();
+        verify(transactionService).listTransactionDTOsByLoanCompany(companyId, null, null, null, null, null);
+    }
+
+    /**
+     * {@code getIncomingTransactions_Filtered_ExpectOKFound} is a test on
+     * {@link TransactionController#getIncomingTransactions(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * to verify if the method will pass the specific status, period and page to
+     * {@link TransactionService#listTransactionDTOsByLoanCompany(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * and return Http Status Ok(200).
+     * 
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void getIncomingTransactions_Filtered_ExpectOKFound() throws Exception {
+        String companyId = TestCompany.TEST_ID + "1";
+        LocalDate from = LocalDate.of(2021, 11, 1);
+        LocalDate to = LocalDate.of(2021, 11, 30);
+        when(transactionService.listTransactionDTOsByLoanCompany(companyId, "Pending", from, to, 1, 20))
+                .thenReturn(new ArrayList<>());
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(TestTransaction.URL_EXTENSION_INCOMING)
+                .param(TestTransaction.COMP_ID_KEY, companyId).param(TestTransaction.STATUS_KEY, "Pending")
+                .param("from", from.toString()).param("to", to.toString()).param("page", "1").param("size", "20");
+
+        MockMvcBuilders.standaloneSetup(transactionController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        verify(transactionService).listTransactionDTOsByLoanCompany(companyId, "Pending", from, to, 1, 20);
     }
 
     /**
      * {@code getOutgoingTransactions_MissingCompId_ExpectBadRequest} is a test on
-     * {@link TransactionController#getOutgoingTransactions(String)} to verify if
+     * {@link TransactionController#getOutgoingTransactions(String, String, LocalDate, LocalDate, Integer, Integer)} to verify if
      * the method will return Http Status Bad Request(400) when the specific
      * company's id is missing in the call.
      * 
@@ -128,24 +154,22 @@ class TransactionControllerTest {
 
     /**
      * {@code getOutgoingTransactions_Found_ExpectOKFound} is a test on
-     * {@link TransactionController#getOutgoingTransactions(String)} to verify if
-     * the method will call {@link TransactionService#listTransactions()} and return
-     * the list of all transaction DTOs of a borrowing company with Http Status Ok(200) and
-     * content type of application/json.
+     * {@link TransactionController#getOutgoingTransactions(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * to verify if the method will call
+     * {@link TransactionService#listTransactionDTOsByBorrowingCompany(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * and return the list of all transaction DTOs of a borrowing company with Http
+     * Status Ok(200) and content type of application/json.
      * 
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void getOutgoingTransactions_Found_ExpectOKFound() throws Exception {
         String companyId = TestCompany.TEST_ID + "1";
-        List<Transaction> transactions = new ArrayList<>();
-        transactions.add(TestTransaction.createTransaction());
-        transactions.add(TestTransaction.createTransaction());
-        transactions.get(1).getBorrowingCompany().setUEN(companyId);
         List<TransactionDTO> transactionDTOs = new ArrayList<>();
         transactionDTOs.add(TestTransaction.createTransactionDTO());
         transactionDTOs.get(0).setBorrowingCompanyId(companyId);
-        when(transactionService.listTransactions()).thenReturn(transactions);
+        when(transactionService.listTransactionDTOsByBorrowingCompany(companyId, null, null, null, null, null))
+                .thenReturn(transactionDTOs);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
                 .get(TestTransaction.URL_EXTENSION_OUTGOING)
                 .param(TestTransaction.COMP_ID_KEY, companyId);
@@ -155,7 +179,7 @@ class TransactionControllerTest {
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON)).andExpect(
                         MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(transactionDTOs)));
 
-        verify(transactionService).listTransactions();
+        verify(transactionService).listTransactionDTOsByBorrowingCompany(companyId, null, null, null, null, null);
     }
 
     /**
@@ -402,61 +426,110 @@ class TransactionControllerTest {
      * on
      * {@link TransactionController#updateTransactionStatus(String, String, String)}
      * to verify if the method will call
-     * {@link TransactionService#getTransactionByEmployeeAndStartDate(String, LocalDate)} and return Http Status Not
-     * Found(404) when the transaction with the specific employee id and start date
-     * is not found.
+     * {@link TransactionService#updateTransactionStatus(String, LocalDate, String)}
+     * and return Http Status Not Found(404) when the transaction with the specific
+     * employee id and start date is not found.
      *
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void updateTransactionStatus_NotFoundTransaction_ExpectNotFound() throws Exception {
         Transaction transaction = TestTransaction.createTransaction();
-        when(transactionService.getTransactionByEmployeeAndStartDate(transaction.getEmployee().getWorkPermitNumber(),
-                transaction.getStartDate())).thenThrow(new ObjectNotExistsException());
+        String employeeId = transaction.getEmployee().getWorkPermitNumber();
+        when(transactionService.updateTransactionStatus(employeeId, transaction.getStartDate(), "Accepted"))
+                .thenThrow(new ObjectNotExistsException());
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.put(TestTransaction.URL_EXTENSION)
-                .param(TestTransaction.EMP_ID_KEY, transaction.getEmployee().getWorkPermitNumber())
+                .param(TestTransaction.EMP_ID_KEY, employeeId)
                 .param(TestTransaction.DATE_KEY, transaction.getStartDate().toString())
-                .param(TestTransaction.STATUS_KEY, transaction.getStatus());
+                .param(TestTransaction.STATUS_KEY, "Accepted");
 
         MockMvcBuilders.standaloneSetup(transactionController).build().perform(requestBuilder)
                 .andExpect(MockMvcResultMatchers.status().isNotFound());
 
-        verify(transactionService).getTransactionByEmployeeAndStartDate(transaction.getEmployee().getWorkPermitNumber(),
-                transaction.getStartDate());
+        verify(transactionService).updateTransactionStatus(employeeId, transaction.getStartDate(), "Accepted");
     }
 
     /**
-     * {@code updateTransactionStatus_NotFoundTransaction_ExpectNotFound} is a test
-     * on
+     * {@code updateTransactionStatus_NotPending_ExpectConflict} is a test on
      * {@link TransactionController#updateTransactionStatus(String, String, String)}
      * to verify if the method will call
-     * {@link TransactionService#getTransactionByEmployeeAndStartDate(String, LocalDate)}
-     * and {@link TransactionService#updateTransaction(Transaction)} and return the
-     * updated specific transaction DTO with Http Status OK(200) and content type of
-     * application/json.
+     * {@link TransactionService#updateTransactionStatus(String, LocalDate, String)}
+     * and return Http Status Conflict(409) when the transaction cannot change to
+     * the specific status.
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void updateTransactionStatus_NotPending_ExpectConflict() throws Exception {
+        Transaction transaction = TestTransaction.createTransaction();
+        String employeeId = transaction.getEmployee().getWorkPermitNumber();
+        when(transactionService.updateTransactionStatus(employeeId, transaction.getStartDate(), "Accepted"))
+                .thenThrow(new InvalidStatusException("Rejected", "Accepted"));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.put(TestTransaction.URL_EXTENSION)
+                .param(TestTransaction.EMP_ID_KEY, employeeId)
+                .param(TestTransaction.DATE_KEY, transaction.getStartDate().toString())
+                .param(TestTransaction.STATUS_KEY, "Accepted");
+
+        MockMvcBuilders.standaloneSetup(transactionController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isConflict());
+    }
+
+    /**
+     * {@code updateTransactionStatus_Updated_ExpectOkUpdated} is a test on
+     * {@link TransactionController#updateTransactionStatus(String, String, String)}
+     * to verify if the method will call
+     * {@link TransactionService#updateTransactionStatus(String, LocalDate, String)}
+     * and return the updated specific transaction DTO with Http Status OK(200) and
+     * content type of application/json.
      *
      * @throws Exception if any exceptions occurs.
      */
     @Test
     public void updateTransactionStatus_Updated_ExpectOkUpdated() throws Exception {
         Transaction transaction = TestTransaction.createTransaction();
+        String employeeId = transaction.getEmployee().getWorkPermitNumber();
+        transaction.setStatus("Accepted");
         TransactionDTO transactionDTO = TestTransaction.createTransactionDTO();
-        when(transactionService.getTransactionByEmployeeAndStartDate(transaction.getEmployee().getWorkPermitNumber(),
-                transaction.getStartDate())).thenReturn(transaction);
-        when(transactionService.updateTransaction(transaction)).thenReturn(transaction);
+        transactionDTO.setStatus("Accepted");
+        when(transactionService.updateTransactionStatus(employeeId, transaction.getStartDate(), "Accepted"))
+                .thenReturn(transaction);
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.put(TestTransaction.URL_EXTENSION)
-                .param(TestTransaction.EMP_ID_KEY, transaction.getEmployee().getWorkPermitNumber())
+                .param(TestTransaction.EMP_ID_KEY, employeeId)
                 .param(TestTransaction.DATE_KEY, transaction.getStartDate().toString())
-                .param(TestTransaction.STATUS_KEY, transaction.getStatus());
+                .param(TestTransaction.STATUS_KEY, "Accepted");
 
         MockMvcBuilders.standaloneSetup(transactionController).build().perform(requestBuilder)
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON)).andExpect(
                         MockMvcResultMatchers.content().string(TestJsonConverter.writeValueAsString(transactionDTO)));
 
-        verify(transactionService).getTransactionByEmployeeAndStartDate(transaction.getEmployee().getWorkPermitNumber(),
-                transaction.getStartDate());
-        verify(transactionService).updateTransaction(transaction);
+        verify(transactionService).updateTransactionStatus(employeeId, transaction.getStartDate(), "Accepted");
+    }
+
+    /**
+     * {@code updateTransactionStatuses_Updated_ExpectNoContent} is a test on
+     * {@link TransactionController#updateTransactionStatuses(List)} to verify if
+     * the method will call
+     * {@link TransactionService#updateTransactionStatuses(List)} with all the
+     * specific status changes and return Http Status No Content(204).
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void updateTransactionStatuses_Updated_ExpectNoContent() throws Exception {
+        LocalDate startDate = TestTransaction.TEST_ID.getStartDate();
+        List<TransactionStatusDTO> transactionStatusDTOs = List.of(
+                new TransactionStatusDTO(TestEmployee.TEST_ID, startDate, "Accepted"),
+                new TransactionStatusDTO(TestEmployee.TEST_ID, startDate.plusDays(40), "Rejected"));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .put(TestTransaction.URL_EXTENSION + "status")
+                .content(TestJsonConverter.writeValueAsString(transactionStatusDTOs))
+                .contentType(MediaType.APPLICATION_JSON);
+
+        MockMvcBuilders.standaloneSetup(transactionController).build().perform(requestBuilder)
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        verify(transactionService).updateTransactionStatuses(transactionStatusDTOs);
     }
 
     /**
@@ -29,6 +29,11 @@ public class TestArt {
      */
     public final static String URL_EXTENSION_LATEST = URL_EXTENSION + "latest";
 
+    /**
+     * Represents the URL extension of the covidTest's API endpoint to create in bulk.
+     */
+    public final static String URL_EXTENSION_BULK = URL_EXTENSION + "bulk";
+
     /**
      * Represents the employee's id key that used in ART's API call.
      */
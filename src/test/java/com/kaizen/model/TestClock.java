@@ -0,0 +1,55 @@
+package com.kaizen.model;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * {@code TestClock} is a clock that only moves when it is advanced, used to do
+ * testing on the caches that expire their entries.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-14
+ */
+public class TestClock extends Clock {
+    /**
+     * Represents the current instant of the clock.
+     */
+    private Instant instant;
+
+    /**
+     * Create a clock at the specific instant.
+     *
+     * @param instant the instant of the clock.
+     */
+    public TestClock(Instant instant) {
+        this.instant = instant;
+    }
+
+    /**
+     * Move the clock forward by the specific duration.
+     *
+     * @param duration the duration to move.
+     */
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -10,6 +10,8 @@ import javax.transaction.Transactional;
 import com.kaizen.model.TestArt;
 import com.kaizen.model.TestCompany;
 import com.kaizen.model.TestEmployee;
+import com.kaizen.model.dto.ArtDueEntry;
+import com.kaizen.model.dto.ArtDTO;
 import com.kaizen.model.entity.Art;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
@@ -79,4 +81,75 @@ public class ArtRepositoryTest {
         assertEquals(1, found.size());
         assertEquals(artNew.getId(), found.get(0).getId());
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code findLatestArtDTOsByCompany_Found_ReturnFound} is a test on
+     * {@link ArtRepository#findLatestArtDTOsByCompany(String)} to verify if the
+     * method will find the DTOs of the latest ARTs of each employee that are done
+     * within the company, leaving out the employees whose latest ART is done in
+     * another company.
+     */
+    @Test
+    public void findLatestArtDTOsByCompany_Found_ReturnFound() {
+        Company company = testEntityManager.merge(TestCompany.createCompany());
+        Company otherCompany = TestCompany.createCompany();
+        otherCompany.setUEN(TestCompany.TEST_ID.substring(1));
+        otherCompany = testEntityManager.merge(otherCompany);
+        Employee employee = testEntityManager.merge(TestEmployee.createEmployee());
+        Employee movedEmployee = TestEmployee.createEmployee();
+        movedEmployee.setWorkPermitNumber(TestEmployee.TEST_ID.substring(1));
+        movedEmployee = testEntityManager.merge(movedEmployee);
+        mergeArt(employee, company, LocalDate.ofEpochDay(1L));
+        Art latest = mergeArt(employee, company, LocalDate.ofEpochDay(2L));
+        mergeArt(movedEmployee, company, LocalDate.ofEpochDay(1L));
+        mergeArt(movedEmployee, otherCompany, LocalDate.ofEpochDay(3L));
+        testEntityManager.flush();
+
+        List<ArtDTO> found = artRepository.findLatestArtDTOsByCompany(company.getUEN());
+
+        assertEquals(List.of(new ArtDTO(latest.getId(), latest.getDateOfTest(), latest.getExpiryDate(),
+                latest.isResult(), employee.getWorkPermitNumber(), employee.getName(), company.getUEN())), found);
+    }
+
+    /**
+     * {@code findLatestDueEntries_Found_ReturnFound} is a test on
+     * {@link ArtRepository#findLatestDueEntries()} and
+     * {@link ArtRepository#findLatestDueEntriesByEmployee(String)} to verify if the
+     * methods will find the due date's fields of the latest ART of each employee.
+     */
+    @Test
+    public void findLatestDueEntries_Found_ReturnFound() {
+        Company company = testEntityManager.merge(TestCompany.createCompany());
+        Employee employee = testEntityManager.merge(TestEmployee.createEmployee());
+        mergeArt(employee, company, LocalDate.ofEpochDay(1L));
+        Art latest = mergeArt(employee, company, LocalDate.ofEpochDay(2L));
+        testEntityManager.flush();
+        ArtDueEntry expected = new ArtDueEntry(latest.getId(), employee.getWorkPermitNumber(), employee.getName(),
+                company.getUEN(), latest.getDateOfTest(), latest.getExpiryDate());
+
+        List<ArtDueEntry> found = artRepository.findLatestDueEntries();
+        List<ArtDueEntry> foundByEmployee = artRepository.findLatestDueEntriesByEmployee(employee.getWorkPermitNumber());
+
+        assertEquals(List.of(expected), found);
+        assertEquals(List.of(expected), foundByEmployee);
+    }
+
+    /**
+     * Save a new ART of the specific employee done within the specific company on
+     * the specific date.
+     * 
+     * @param employee   the employee of the ART.
+     * @param company    the company of the ART.
+     * @param dateOfTest the date of the ART.
+     * @return the saved ART.
+     */
+    private Art mergeArt(Employee employee, Company company, LocalDate dateOfTest) {
+        Art art = TestArt.createArt();
+        art.setId(null);
+        art.setEmployee(employee);
+        art.setCompany(company);
+        art.setDateOfTest(dateOfTest);
+        art.setExpiryDate(dateOfTest.plusDays(7));
+        return testEntityManager.merge(art);
+    }
+}
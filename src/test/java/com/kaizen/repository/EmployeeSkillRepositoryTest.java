@@ -1,6 +1,7 @@
 package com.kaizen.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 
@@ -10,18 +11,23 @@ import com.kaizen.model.TestCompany;
 import com.kaizen.model.TestEmployee;
 import com.kaizen.model.TestEmployeeSkill;
 import com.kaizen.model.TestSkill;
+import com.kaizen.model.dto.EmployeeSkillEntry;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.entity.EmployeeSkill;
+import com.kaizen.model.entity.EmployeeSkillKey;
 import com.kaizen.model.entity.Skill;
 import com.kaizen.security.jwt.JwtConfiguration;
+import com.kaizen.service.employeeSkill.EmployeeSkillSortOrder;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 
 /**
  * {@code EmployeeSkillRepositoryTest} is a test class to do integration testing from
@@ -57,33 +63,77 @@ public class EmployeeSkillRepositoryTest {
     }
 
     /**
-     * {@code findEmployeeSkillCountAndMinCost_Found_ReturnFound} is a test on
-     * {@link EmployeeSkillRepository#findLatestResultsforAllEmployee()} to verify
-     * if the method will find the latest results for all employee in the
-     * repository.
+     * {@code findNotFromCompany_Paged_ReturnPagesInOrder} is a test on
+     * {@link EmployeeSkillRepository#findNotFromCompany(String, Pageable)} and
+     * {@link EmployeeSkillRepository#findNotFromCompanyAfterCost(String, double, String, String, Pageable)}
+     * to verify if the methods will exclude the employee's skills of the company
+     * and page through the rest by cost without skipping or repeating any.
      */
     @Test
-    public void findEmployeeSkillCountAndMinCost_Found_ReturnFound() {
-        Company company = TestCompany.createCompany();
-        company = testEntityManager.merge(company);
-        Employee employee = TestEmployee.createEmployee();
-        employee = testEntityManager.merge(employee);
-        Skill skill = TestSkill.createSkill();
-        skill = testEntityManager.merge(skill);
+    public void findNotFromCompany_Paged_ReturnPagesInOrder() {
+        Company company = testEntityManager.merge(TestCompany.createCompany());
+        Company otherCompany = TestCompany.createCompany();
+        otherCompany.setUEN(TestCompany.TEST_ID.substring(1));
+        otherCompany = testEntityManager.merge(otherCompany);
+        Skill skill = testEntityManager.merge(TestSkill.createSkill());
+        double[] costs = { 3.0, 1.0, 2.0, 1.0 };
+        for (int i = 0; i < costs.length; i++) {
+            Employee employee = TestEmployee.createEmployee();
+            employee.setWorkPermitNumber(TestEmployee.TEST_ID + i);
+            employee.setCompany(i == 0 ? company : otherCompany);
+            employee = testEntityManager.merge(employee);
+            EmployeeSkill employeeSkill = TestEmployeeSkill.createEmployeeSkill();
+            employeeSkill.setId(new EmployeeSkillKey(employee.getWorkPermitNumber(), skill.getSkill()));
+            employeeSkill.setEmployee(employee);
+            employeeSkill.setSkill(skill);
+            employeeSkill.setCompany(employee.getCompany());
+            employeeSkill.setCost(costs[i]);
+            testEntityManager.merge(employeeSkill);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<EmployeeSkill> firstPage = employeeSkillRepository.findNotFromCompany(company.getUEN(),
+                PageRequest.of(0, 2, EmployeeSkillSortOrder.COST.getSort()));
+        EmployeeSkill last = firstPage.get(firstPage.size() - 1);
+        List<EmployeeSkill> secondPage = employeeSkillRepository.findNotFromCompanyAfterCost(company.getUEN(),
+                last.getCost(), last.getId().getSkill(), last.getId().getEmployee(), PageRequest.of(0, 2));
+
+        assertEquals(2, firstPage.size());
+        assertEquals(TestEmployee.TEST_ID + 1, firstPage.get(0).getId().getEmployee());
+        assertEquals(TestEmployee.TEST_ID + 3, firstPage.get(1).getId().getEmployee());
+        assertEquals(1, secondPage.size());
+        assertEquals(TestEmployee.TEST_ID + 2, secondPage.get(0).getId().getEmployee());
+        assertTrue(Hibernate.isInitialized(secondPage.get(0).getEmployee().getCompany()));
+    }
+
+    /**
+     * {@code findAllEntries_Found_ReturnFound} is a test on
+     * {@link EmployeeSkillRepository#findAllEntries()} and
+     * {@link EmployeeSkillRepository#findBySkillAndEmployeeIds(String, java.util.Collection)}
+     * to verify if the methods will find the searchable fields of the employee's
+     * skills and load the employee's skills back by their ids.
+     */
+    @Test
+    public void findAllEntries_Found_ReturnFound() {
+        testEntityManager.merge(TestCompany.createCompany());
+        testEntityManager.merge(TestEmployee.createEmployee());
+        testEntityManager.merge(TestSkill.createSkill());
         EmployeeSkill employeeSkill = TestEmployeeSkill.createEmployeeSkill();
-        employeeSkill.setCost(1.0);
-        EmployeeSkill employeeSkillMin = TestEmployeeSkill.createEmployeeSkill();
-        employeeSkill.setCost(0.5);
-        employeeSkill = testEntityManager.merge(employeeSkill);
-        employeeSkillMin = testEntityManager.merge(employeeSkillMin);
+        employeeSkill.setCost(12.5);
+        employeeSkill.setRating(4);
+        employeeSkill.setExperience(3);
+        testEntityManager.merge(employeeSkill);
         testEntityManager.flush();
+        testEntityManager.clear();
 
-        List<List<String>> found = employeeSkillRepository.findEmployeeSkillCountAndMinCost(company.getUEN().substring(1));
+        List<EmployeeSkillEntry> entries = employeeSkillRepository.findAllEntries();
+        List<EmployeeSkill> found = employeeSkillRepository.findBySkillAndEmployeeIds(
+                TestEmployeeSkill.TEST_ID.getSkill(), List.of(TestEmployeeSkill.TEST_ID.getEmployee()));
 
+        assertEquals(List.of(new EmployeeSkillEntry(TestEmployeeSkill.TEST_ID.getEmployee(),
+                TestEmployeeSkill.TEST_ID.getSkill(), TestCompany.TEST_ID, 12.5, 4, 3)), entries);
         assertEquals(1, found.size());
-        assertEquals(3, found.get(0).size());
-        assertEquals(employeeSkillMin.getSkill().getSkill(), found.get(0).get(0));
-        assertEquals("1", found.get(0).get(1));
-        assertEquals(employeeSkillMin.getCost(), Double.parseDouble(found.get(0).get(2)));
+        assertEquals(TestEmployeeSkill.TEST_ID, found.get(0).getId());
     }
-}
\ No newline at end of file
+}
@@ -9,7 +9,9 @@ import javax.transaction.Transactional;
 import com.kaizen.model.TestCompany;
 import com.kaizen.model.TestEmployee;
 import com.kaizen.model.TestProject;
+import com.kaizen.model.dto.ProjectCompanyEntry;
 import com.kaizen.model.dto.ProjectCompanyDTO;
+import com.kaizen.model.dto.ProjectEmployeeEntry;
 import com.kaizen.model.dto.ProjectEmployeeDTO;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
@@ -200,4 +202,79 @@ public class ProjectRepositoryTest {
             assertEquals(company.getUEN(), projectCompanyDTO.getUen());
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code getProjectEntries_Found_Success} is a test on
+     * {@link ProjectRepository#getProjectEmployeeEntries(java.util.Collection)}
+     * and {@link ProjectRepository#getProjectCompanyEntries(java.util.Collection)}
+     * to verify if the methods will return the employee and company entries of
+     * every requested project, keyed by the project's id, in the repository.
+     */
+    @Test
+    public void getProjectEntries_Found_Success() {
+        Company company = TestCompany.createCompany();
+        company = testEntityManager.merge(company);
+        Employee employee = TestEmployee.createEmployee();
+        employee.setCompany(company);
+        employee = testEntityManager.merge(employee);
+        Project project = TestProject.createProject();
+        project.setEmployees(null);
+        project = testEntityManager.merge(project);
+        Project otherProject = TestProject.createProject();
+        otherProject.setEmployees(null);
+        otherProject = testEntityManager.merge(otherProject);
+        Project emptyProject = TestProject.createProject();
+        emptyProject.setEmployees(null);
+        emptyProject = testEntityManager.merge(emptyProject);
+        testEntityManager.flush();
+        projectRepository.addProjectEmployee(project.getId(), employee.getWorkPermitNumber());
+        projectRepository.addProjectEmployee(otherProject.getId(), employee.getWorkPermitNumber());
+        List<Long> projectIds = List.of(project.getId(), otherProject.getId(), emptyProject.getId());
+
+        List<ProjectEmployeeEntry> foundEmployees = projectRepository.getProjectEmployeeEntries(projectIds);
+        List<ProjectCompanyEntry> foundCompanies = projectRepository.getProjectCompanyEntries(projectIds);
+
+        assertEquals(List.of(
+                new ProjectEmployeeEntry(project.getId(), employee.getWorkPermitNumber(), employee.getName(), null),
+                new ProjectEmployeeEntry(otherProject.getId(), employee.getWorkPermitNumber(), employee.getName(),
+                        null)),
+                foundEmployees);
+        assertEquals(List.of(new ProjectCompanyEntry(project.getId(), company.getUEN(), company.getName()),
+                new ProjectCompanyEntry(otherProject.getId(), company.getUEN(), company.getName())),
+                foundCompanies);
+    }
+
+    /**
+     * {@code addAndDeleteProjectEmployees_Updated_Success} is a test on
+     * {@link ProjectRepository#addProjectEmployees(Long, java.util.Collection)} and
+     * {@link ProjectRepository#deleteProjectEmployees(Long, java.util.Collection)}
+     * to verify if the methods will add and delete only the mappings of the
+     * specific employees of the project in the repository.
+     */
+    @Test
+    public void addAndDeleteProjectEmployees_Updated_Success() {
+        Company company = TestCompany.createCompany();
+        company = testEntityManager.merge(company);
+        Employee employee = TestEmployee.createEmployee();
+        employee.setCompany(company);
+        employee = testEntityManager.merge(employee);
+        Employee otherEmployee = TestEmployee.createEmployee();
+        otherEmployee.setWorkPermitNumber(TestEmployee.TEST_ID.substring(1));
+        otherEmployee.setCompany(company);
+        otherEmployee = testEntityManager.merge(otherEmployee);
+        Project project = TestProject.createProject();
+        project.setEmployees(null);
+        project = testEntityManager.merge(project);
+        testEntityManager.flush();
+
+        int added = projectRepository.addProjectEmployees(project.getId(),
+                List.of(employee.getWorkPermitNumber(), otherEmployee.getWorkPermitNumber()));
+        int deleted = projectRepository.deleteProjectEmployees(project.getId(),
+                List.of(employee.getWorkPermitNumber()));
+        List<String> found = projectRepository.getProjectEmployeeIds(project.getId());
+
+        assertEquals(2, added);
+        assertEquals(1, deleted);
+        assertEquals(List.of(otherEmployee.getWorkPermitNumber()), found);
+    }
+}
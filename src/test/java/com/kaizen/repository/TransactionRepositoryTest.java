@@ -0,0 +1,175 @@
+package com.kaizen.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.TestTransaction;
+import com.kaizen.model.dto.TransactionDTO;
+import com.kaizen.model.entity.Company;
+import com.kaizen.model.entity.Transaction;
+import com.kaizen.security.jwt.JwtConfiguration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@code TransactionRepositoryTest} is a test class to do integration testing
+ * from {@link TransactionRepository} using H2 embeded database.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@Import(JwtConfiguration.class) // For jwtConfiguration in KaizenApplication.java
+@DataJpaTest
+@Transactional
+public class TransactionRepositoryTest {
+    /**
+     * The test entity manager used for testing.
+     */
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    /**
+     * The transaction's repository used for testing.
+     */
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    /**
+     * Represents the start date of the stored transaction.
+     */
+    private LocalDate startDate;
+
+    /**
+     * Represents the end date of the stored transaction.
+     */
+    private LocalDate endDate;
+
+    /**
+     * {@code setUp} is apply before each tests to store a transaction of the test
+     * employee.
+     */
+    @BeforeEach
+    public void setUp() {
+        testEntityManager.merge(TestCompany.createCompany());
+        Company loanCompany = TestCompany.createCompany();
+        loanCompany.setUEN(TestTransaction.TEST_ID.getLoanCompany());
+        testEntityManager.merge(loanCompany);
+        Company borrowingCompany = TestCompany.createCompany();
+        borrowingCompany.setUEN(TestTransaction.TEST_ID.getBorrowingCompany());
+        testEntityManager.merge(borrowingCompany);
+        testEntityManager.merge(TestEmployee.createEmployee());
+        Transaction transaction = testEntityManager.merge(TestTransaction.createTransaction());
+        testEntityManager.flush();
+        startDate = transaction.getStartDate();
+        endDate = transaction.getEndDate();
+    }
+
+    /**
+     * {@code tearDown} is apply after each tests to clear database.
+     */
+    @AfterEach
+    public void tearDown() {
+        testEntityManager.clear();
+        testEntityManager.flush();
+    }
+
+    /**
+     * {@code existsOverlappingTransaction_Overlap_ReturnTrue} is a test on
+     * {@link TransactionRepository#existsOverlappingTransaction(String, LocalDate, LocalDate)}
+     * to verify if the method will find the stored transaction colliding with
+     * periods that overlap, contain, are contained by or start with it.
+     */
+    @Test
+    public void existsOverlappingTransaction_Overlap_ReturnTrue() {
+        assertTrue(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, startDate.minusDays(1),
+                startDate.plusDays(1)));
+        assertTrue(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, endDate.minusDays(1),
+                endDate.plusDays(1)));
+        assertTrue(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, startDate.minusDays(1),
+                endDate.plusDays(1)));
+        assertTrue(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, startDate.plusDays(1),
+                endDate.minusDays(1)));
+        assertTrue(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, startDate, startDate));
+    }
+
+    /**
+     * {@code existsOverlappingTransaction_NoOverlap_ReturnFalse} is a test on
+     * {@link TransactionRepository#existsOverlappingTransaction(String, LocalDate, LocalDate)}
+     * to verify if the method will not find a collision for periods that only
+     * share a boundary with the stored transaction, or for another employee.
+     */
+    @Test
+    public void existsOverlappingTransaction_NoOverlap_ReturnFalse() {
+        assertFalse(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, endDate,
+                endDate.plusDays(1)));
+        assertFalse(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID, startDate.minusDays(1),
+                startDate));
+        assertFalse(transactionRepository.existsOverlappingTransaction(TestEmployee.TEST_ID + "1", startDate,
+                endDate));
+    }
+
+    /**
+     * {@code findTransactionDTOsByLoanCompany_Filtered_ReturnFound} is a test on
+     * {@link TransactionRepository#findTransactionDTOsByLoanCompany(String, String, LocalDate, LocalDate, Pageable)}
+     * and
+     * {@link TransactionRepository#findTransactionDTOsByBorrowingCompany(String, String, LocalDate, LocalDate, Pageable)}
+     * to verify if the methods will find the transaction DTOs of the company with
+     * the specific status and period.
+     */
+    @Test
+    public void findTransactionDTOsByLoanCompany_Filtered_ReturnFound() {
+        String loanCompanyId = TestTransaction.TEST_ID.getLoanCompany();
+        String borrowingCompanyId = TestTransaction.TEST_ID.getBorrowingCompany();
+        TransactionDTO expected = new TransactionDTO(startDate, endDate, 2000, loanCompanyId, borrowingCompanyId,
+                TestEmployee.TEST_ID, "Pending");
+
+        assertEquals(List.of(expected), transactionRepository.findTransactionDTOsByLoanCompany(loanCompanyId, null,
+                null, null, Pageable.unpaged()));
+        assertEquals(List.of(expected), transactionRepository.findTransactionDTOsByLoanCompany(loanCompanyId,
+                "Pending", endDate, endDate.plusDays(1), PageRequest.of(0, 10)));
+        assertEquals(List.of(expected), transactionRepository.findTransactionDTOsByBorrowingCompany(
+                borrowingCompanyId, "Pending", null, startDate, PageRequest.of(0, 10)));
+        assertTrue(transactionRepository.findTransactionDTOsByLoanCompany(loanCompanyId, "Accepted", null, null,
+                Pageable.unpaged()).isEmpty());
+        assertTrue(transactionRepository.findTransactionDTOsByLoanCompany(loanCompanyId, null,
+                endDate.plusDays(1), null, Pageable.unpaged()).isEmpty());
+        assertTrue(transactionRepository.findTransactionDTOsByBorrowingCompany(loanCompanyId, null, null, null,
+                Pageable.unpaged()).isEmpty());
+    }
+
+    /**
+     * {@code updateStatus_ExpectedStatus_ReturnUpdated} is a test on
+     * {@link TransactionRepository#updateStatus(String, LocalDate, String, String)}
+     * to verify if the method will change the status only when the transaction is
+     * in the expected status.
+     */
+    @Test
+    public void updateStatus_ExpectedStatus_ReturnUpdated() {
+        assertEquals(0, transactionRepository.updateStatus(TestEmployee.TEST_ID, startDate, "Accepted",
+                "Rejected"));
+        assertEquals(1, transactionRepository.updateStatus(TestEmployee.TEST_ID, startDate, "Pending",
+                "Accepted"));
+        assertEquals(0, transactionRepository.updateStatus(TestEmployee.TEST_ID, startDate, "Pending",
+                "Rejected"));
+
+        assertEquals("Accepted", transactionRepository
+                .findTransactionByIdEmployeeAndStartDate(TestEmployee.TEST_ID, startDate).getStatus());
+    }
+}
@@ -0,0 +1,113 @@
+package com.kaizen.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+
+/**
+ * {@code AwsCognitoJwtAuthFilterTest} is a test class to do unit testing on
+ * {@link AwsCognitoJwtAuthFilter}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-18
+ */
+public class AwsCognitoJwtAuthFilterTest {
+    /**
+     * The mocked cognito id token processor used for testing.
+     */
+    private AwsCognitoIdTokenProcessor cognitoIdTokenProcessor;
+
+    /**
+     * The filter used for testing.
+     */
+    private AwsCognitoJwtAuthFilter filter;
+
+    /**
+     * {@code setUp} is apply before each tests to create the filter with a mocked
+     * cognito id token processor.
+     */
+    @BeforeEach
+    public void setUp() {
+        cognitoIdTokenProcessor = mock(AwsCognitoIdTokenProcessor.class);
+        filter = new AwsCognitoJwtAuthFilter(cognitoIdTokenProcessor);
+    }
+
+    /**
+     * {@code tearDown} is apply after each tests to clear the authentication.
+     */
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * {@code doFilter_StaticAsset_NotAuthenticated} is a test on
+     * {@link AwsCognitoJwtAuthFilter#doFilter} to verify if the filter will pass
+     * on a static asset's request without processing the id token.
+     * 
+     * @throws Exception if the filter failed.
+     */
+    @Test
+    public void doFilter_StaticAsset_NotAuthenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/static/js/main.chunk.js");
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        verifyNoInteractions(cognitoIdTokenProcessor);
+        assertSame(request, filterChain.getRequest());
+    }
+
+    /**
+     * {@code doFilter_Api_Authenticated} is a test on
+     * {@link AwsCognitoJwtAuthFilter#doFilter} to verify if the filter will set
+     * the authentication of an api endpoint's request.
+     * 
+     * @throws Exception if the filter failed.
+     */
+    @Test
+    public void doFilter_Api_Authenticated() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/companies");
+        JwtAuthentication authentication = new JwtAuthentication("user", new JWTClaimsSet.Builder().build(),
+                List.of());
+        when(cognitoIdTokenProcessor.authenticate(request)).thenReturn(authentication);
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+        assertSame(request, filterChain.getRequest());
+    }
+
+    /**
+     * {@code doFilter_InvalidToken_ClearContext} is a test on
+     * {@link AwsCognitoJwtAuthFilter#doFilter} to verify if the filter will clear
+     * the authentication and pass on the request when the id token is invalid.
+     * 
+     * @throws Exception if the filter failed.
+     */
+    @Test
+    public void doFilter_InvalidToken_ClearContext() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/companies");
+        when(cognitoIdTokenProcessor.authenticate(request)).thenThrow(new IllegalStateException("bad token"));
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), filterChain);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertSame(request, filterChain.getRequest());
+    }
+}
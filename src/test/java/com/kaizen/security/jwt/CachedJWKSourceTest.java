@@ -0,0 +1,258 @@
+package com.kaizen.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import com.kaizen.model.TestClock;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * {@code CachedJWKSourceTest} is a test class to do unit testing on
+ * {@link CachedJWKSource}, serving the JWK set from a local file or a local
+ * HTTP server.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-18
+ */
+public class CachedJWKSourceTest {
+    /**
+     * Represents the minimum interval between two refreshes triggered by unknown
+     * keys used for testing.
+     */
+    private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    /**
+     * The directory of the JWK set's file used for testing.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * The JWK set's file used for testing.
+     */
+    private Path jwkSetFile;
+
+    /**
+     * The clock of the JWK source used for testing.
+     */
+    private TestClock clock;
+
+    /**
+     * The JWK source used for testing.
+     */
+    private CachedJWKSource jwkSource;
+
+    /**
+     * {@code setUp} is apply before each tests to create a JWK source that reads
+     * the JWK set's file.
+     * 
+     * @throws Exception if the JWK source could not be created.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        jwkSetFile = directory.resolve("jwks.json");
+        clock = new TestClock(Instant.parse("2021-11-18T00:00:00Z"));
+        jwkSource = new CachedJWKSource(jwkSetFile.toUri().toURL(), new DefaultResourceRetriever(),
+                MIN_REFRESH_INTERVAL, clock);
+    }
+
+    /**
+     * {@code refresh_File_ServeFromMemory} is a test on
+     * {@link CachedJWKSource#refresh()} to verify if the keys are served from
+     * memory after the JWK set's file was loaded.
+     * 
+     * @throws Exception if the JWK set could not be loaded.
+     */
+    @Test
+    public void refresh_File_ServeFromMemory() throws Exception {
+        RSAKey key = writeJWKSet("first");
+        jwkSource.refresh();
+        Files.delete(jwkSetFile);
+
+        List<JWK> keys = jwkSource.get(selectKey("first"), null);
+
+        assertEquals(List.of(key.toPublicJWK()), keys);
+    }
+
+    /**
+     * {@code refresh_Failed_KeepLastJWKSet} is a test on
+     * {@link CachedJWKSource#refresh()} to verify if the last loaded JWK set keeps
+     * being served when a refresh fails.
+     * 
+     * @throws Exception if the JWK set could not be loaded.
+     */
+    @Test
+    public void refresh_Failed_KeepLastJWKSet() throws Exception {
+        writeJWKSet("first");
+        jwkSource.refresh();
+        Files.writeString(jwkSetFile, "not a JWK set");
+
+        assertThrows(Exception.class, jwkSource::refresh);
+
+        assertEquals(1, jwkSource.get(selectKey("first"), null).size());
+    }
+
+    /**
+     * {@code get_NeverLoaded_RefreshInBackground} is a test on
+     * {@link CachedJWKSource#get(JWKSelector, com.nimbusds.jose.proc.SecurityContext)}
+     * to verify if the method will return no keys without loading the JWK set on
+     * the calling thread if it was never loaded, and load it in the background.
+     * 
+     * @throws Exception if the JWK set could not be written.
+     */
+    @Test
+    public void get_NeverLoaded_RefreshInBackground() throws Exception {
+        writeJWKSet("first");
+
+        List<JWK> keys = jwkSource.get(selectKey("first"), null);
+
+        assertTrue(keys.isEmpty());
+        for (int i = 0; i < 100 && jwkSource.getJWKSet() == null; i++) {
+            Thread.sleep(50);
+        }
+        awaitKey("first");
+        assertEquals(1, jwkSource.get(selectKey("first"), null).size());
+    }
+
+    /**
+     * {@code get_UnknownKey_RefreshInBackground} is a test on
+     * {@link CachedJWKSource#get(JWKSelector, com.nimbusds.jose.proc.SecurityContext)}
+     * to verify if an unknown key triggers a background refresh that loads the
+     * rotated key.
+     * 
+     * @throws Exception if the JWK set could not be loaded.
+     */
+    @Test
+    public void get_UnknownKey_RefreshInBackground() throws Exception {
+        writeJWKSet("first");
+        jwkSource.refresh();
+        writeJWKSet("second");
+
+        List<JWK> keys = jwkSource.get(selectKey("second"), null);
+
+        assertTrue(keys.isEmpty());
+        awaitKey("second");
+        assertTrue(jwkSource.get(selectKey("first"), null).isEmpty());
+    }
+
+    /**
+     * {@code get_UnknownKeyTwice_RefreshOnce} is a test on
+     * {@link CachedJWKSource#get(JWKSelector, com.nimbusds.jose.proc.SecurityContext)}
+     * to verify if unknown keys trigger at most one refresh per minimum interval.
+     * 
+     * @throws Exception if the JWK set could not be loaded.
+     */
+    @Test
+    public void get_UnknownKeyTwice_RefreshOnce() throws Exception {
+        writeJWKSet("first");
+        jwkSource.refresh();
+        jwkSource.get(selectKey("unknown"), null);
+        awaitIdle();
+        writeJWKSet("second");
+
+        jwkSource.get(selectKey("second"), null);
+        awaitIdle();
+
+        assertNull(jwkSource.getJWKSet().getKeyByKeyId("second"));
+        clock.advance(MIN_REFRESH_INTERVAL);
+        jwkSource.get(selectKey("second"), null);
+        awaitKey("second");
+    }
+
+    /**
+     * {@code refresh_Http_FetchJWKSet} is a test on
+     * {@link CachedJWKSource#refresh()} to verify if the JWK set is fetched from a
+     * local HTTP server.
+     * 
+     * @throws Exception if the JWK set could not be fetched.
+     */
+    @Test
+    public void refresh_Http_FetchJWKSet() throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("first").generate();
+        byte[] body = new JWKSet(key.toPublicJWK()).toString().getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/jwks.json", exchange -> {
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        try {
+            URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/jwks.json");
+            CachedJWKSource httpSource = new CachedJWKSource(url, new DefaultResourceRetriever(1000, 1000),
+                    MIN_REFRESH_INTERVAL, clock);
+
+            httpSource.refresh();
+
+            assertEquals(List.of(key.toPublicJWK()), httpSource.get(selectKey("first"), null));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Write a JWK set of one new key with the specific id to the JWK set's file.
+     * 
+     * @param keyId the id of the key.
+     * @return the new key.
+     * @throws Exception if the file could not be written.
+     */
+    private RSAKey writeJWKSet(String keyId) throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID(keyId).generate();
+        Files.writeString(jwkSetFile, new JWKSet(key.toPublicJWK()).toString());
+        return key;
+    }
+
+    /**
+     * Create a selector of the key with the specific id.
+     * 
+     * @param keyId the id of the key.
+     * @return the selector of the key.
+     */
+    private static JWKSelector selectKey(String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    /**
+     * Wait until the JWK set served has the key with the specific id.
+     * 
+     * @param keyId the id of the key.
+     * @throws InterruptedException if the wait was interrupted.
+     */
+    private void awaitKey(String keyId) throws InterruptedException {
+        for (int i = 0; i < 100 && jwkSource.getJWKSet().getKeyByKeyId(keyId) == null; i++) {
+            Thread.sleep(50);
+        }
+        assertNotNull(jwkSource.getJWKSet().getKeyByKeyId(keyId));
+    }
+
+    /**
+     * Wait until the background refreshes queued so far have finished.
+     * 
+     * @throws InterruptedException if the wait was interrupted.
+     */
+    private void awaitIdle() throws InterruptedException {
+        Thread.sleep(200);
+    }
+}
@@ -0,0 +1,153 @@
+package com.kaizen.security.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import com.kaizen.model.TestClock;
+import com.nimbusds.jwt.JWTClaimsSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code VerifiedTokenCacheTest} is a test class to do unit testing on
+ * {@link VerifiedTokenCache}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-17
+ */
+public class VerifiedTokenCacheTest {
+    /**
+     * Represents the id of the key that signs the tokens used for testing.
+     */
+    private static final String KEY_ID = "key";
+
+    /**
+     * Represents how long the tokens used for testing are valid.
+     */
+    private static final Duration VALIDITY = Duration.ofHours(1);
+
+    /**
+     * The clock of the cache used for testing.
+     */
+    private TestClock clock;
+
+    /**
+     * The cache used for testing.
+     */
+    private VerifiedTokenCache verifiedTokenCache;
+
+    /**
+     * The claims cached for testing.
+     */
+    private JWTClaimsSet claims;
+
+    /**
+     * {@code setUp} is apply before each tests to create a cache of two tokens.
+     */
+    @BeforeEach
+    public void setUp() {
+        clock = new TestClock(Instant.parse("2021-11-17T00:00:00Z"));
+        verifiedTokenCache = new VerifiedTokenCache(2, clock);
+        claims = new JWTClaimsSet.Builder().subject("user").build();
+    }
+
+    /**
+     * {@code get_Cached_ReturnCached} is a test on
+     * {@link VerifiedTokenCache#get(String, java.util.function.Predicate)} to
+     * verify if the method will return the cached claims and count a hit.
+     */
+    @Test
+    public void get_Cached_ReturnCached() {
+        verifiedTokenCache.put("token", claims, KEY_ID, clock.instant().plus(VALIDITY));
+
+        Optional<JWTClaimsSet> found = verifiedTokenCache.get("token", keyId -> true);
+
+        assertSame(claims, found.get());
+        assertEquals(new VerifiedTokenCacheStats(1, 0, 0, 1), verifiedTokenCache.getStats());
+    }
+
+    /**
+     * {@code get_NotCached_ReturnEmpty} is a test on
+     * {@link VerifiedTokenCache#get(String, java.util.function.Predicate)} to
+     * verify if the method will count a miss for a token that was not cached.
+     */
+    @Test
+    public void get_NotCached_ReturnEmpty() {
+        Optional<JWTClaimsSet> found = verifiedTokenCache.get("token", keyId -> true);
+
+        assertTrue(found.isEmpty());
+        assertEquals(new VerifiedTokenCacheStats(0, 1, 0, 0), verifiedTokenCache.getStats());
+        assertEquals(0, verifiedTokenCache.getStats().getHitRate());
+    }
+
+    /**
+     * {@code get_Expired_ReturnEmpty} is a test on
+     * {@link VerifiedTokenCache#get(String, java.util.function.Predicate)} to
+     * verify if the method will evict the claims once their token expired.
+     */
+    @Test
+    public void get_Expired_ReturnEmpty() {
+        verifiedTokenCache.put("token", claims, KEY_ID, clock.instant().plus(VALIDITY));
+        clock.advance(VALIDITY);
+
+        Optional<JWTClaimsSet> found = verifiedTokenCache.get("token", keyId -> true);
+
+        assertTrue(found.isEmpty());
+        assertEquals(new VerifiedTokenCacheStats(0, 1, 1, 0), verifiedTokenCache.getStats());
+    }
+
+    /**
+     * {@code get_KeyRotated_ReturnEmpty} is a test on
+     * {@link VerifiedTokenCache#get(String, java.util.function.Predicate)} to
+     * verify if the method will evict the claims once the key that signed their
+     * token is no longer in the JWK set.
+     */
+    @Test
+    public void get_KeyRotated_ReturnEmpty() {
+        verifiedTokenCache.put("token", claims, KEY_ID, clock.instant().plus(VALIDITY));
+
+        Optional<JWTClaimsSet> found = verifiedTokenCache.get("token", keyId -> false);
+
+        assertTrue(found.isEmpty());
+        assertEquals(new VerifiedTokenCacheStats(0, 1, 1, 0), verifiedTokenCache.getStats());
+    }
+
+    /**
+     * {@code put_Full_EvictLeastRecentlyUsed} is a test on
+     * {@link VerifiedTokenCache#put(String, JWTClaimsSet, String, Instant)}
+     * to verify if the method will evict the least recently used claims when the
+     * cache is full.
+     */
+    @Test
+    public void put_Full_EvictLeastRecentlyUsed() {
+        Instant expiresAt = clock.instant().plus(VALIDITY);
+        verifiedTokenCache.put("first", claims, KEY_ID, expiresAt);
+        verifiedTokenCache.put("second", claims, KEY_ID, expiresAt);
+        verifiedTokenCache.get("first", keyId -> true);
+
+        verifiedTokenCache.put("third", claims, KEY_ID, expiresAt);
+
+        assertTrue(verifiedTokenCache.get("first", keyId -> true).isPresent());
+        assertTrue(verifiedTokenCache.get("second", keyId -> true).isEmpty());
+        assertTrue(verifiedTokenCache.get("third", keyId -> true).isPresent());
+        assertEquals(new VerifiedTokenCacheStats(3, 1, 1, 2), verifiedTokenCache.getStats());
+    }
+
+    /**
+     * {@code put_WithoutKeyId_NotCached} is a test on
+     * {@link VerifiedTokenCache#put(String, JWTClaimsSet, String, Instant)}
+     * to verify if the method will not cache a token that has no key id, as its
+     * key cannot be checked for rotation.
+     */
+    @Test
+    public void put_WithoutKeyId_NotCached() {
+        verifiedTokenCache.put("token", claims, null, clock.instant().plus(VALIDITY));
+
+        assertEquals(new VerifiedTokenCacheStats(0, 0, 0, 0), verifiedTokenCache.getStats());
+    }
+}
@@ -0,0 +1,304 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import com.kaizen.model.TestArt;
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.dto.ArtDueEntry;
+import com.kaizen.model.entity.Art;
+import com.kaizen.repository.ArtRepository;
+import com.kaizen.service.art.ArtDueDateTracker;
+import com.kaizen.service.art.RetestNotice;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * {@code ArtDueDateTrackerTest} is a test class to do unit testing on
+ * {@link ArtDueDateTracker}.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@ContextConfiguration(classes = { ArtDueDateTracker.class })
+@ExtendWith(SpringExtension.class)
+public class ArtDueDateTrackerTest {
+    /**
+     * Represents the id of another employee used for testing.
+     */
+    private final static String OTHER_EMPLOYEE_ID = TestEmployee.TEST_ID.substring(1);
+
+    /**
+     * The mocked ART's repository used for testing.
+     */
+    @MockBean
+    private ArtRepository artRepository;
+
+    /**
+     * The tracker used for testing.
+     */
+    @Autowired
+    private ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * {@code setUp} is apply before each tests to empty the tracker.
+     */
+    @BeforeEach
+    public void setUp() {
+        when(artRepository.findLatestDueEntries()).thenReturn(new ArrayList<>());
+        artDueDateTracker.rebuild(LocalDate.ofEpochDay(0L));
+    }
+
+    /**
+     * {@code sweep_BeforeDue_ReturnEmpty} is a test on
+     * {@link ArtDueDateTracker#peek(LocalDate)} to verify if the method will not
+     * take a retest before it is due.
+     */
+    @Test
+    public void sweep_BeforeDue_ReturnEmpty() {
+        ArtDueEntry entry = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        artDueDateTracker.put(createArt(entry));
+
+        List<RetestNotice> notices = sweep(dueDate(entry).minusDays(1));
+
+        assertTrue(notices.isEmpty());
+    }
+
+    /**
+     * {@code sweep_DueThenOverdue_ReturnEachOnce} is a test on
+     * {@link ArtDueDateTracker#peek(LocalDate)} to verify if the method will take
+     * the due retest once when it is due and the overdue retest once after the ART
+     * expired.
+     */
+    @Test
+    public void sweep_DueThenOverdue_ReturnEachOnce() {
+        ArtDueEntry entry = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        artDueDateTracker.put(createArt(entry));
+
+        List<RetestNotice> due = sweep(dueDate(entry));
+        List<RetestNotice> dueAgain = sweep(entry.getExpiryDate());
+        List<RetestNotice> overdue = sweep(entry.getExpiryDate().plusDays(1));
+        List<RetestNotice> overdueAgain = sweep(entry.getExpiryDate().plusDays(2));
+
+        assertEquals(List.of(new RetestNotice(entry, false)), due);
+        assertTrue(dueAgain.isEmpty());
+        assertEquals(List.of(new RetestNotice(entry, true)), overdue);
+        assertTrue(overdueAgain.isEmpty());
+    }
+
+    /**
+     * {@code sweep_AlreadyExpired_ReturnOverdueOnly} is a test on
+     * {@link ArtDueDateTracker#peek(LocalDate)} to verify if the method will take
+     * only the overdue retest of an ART that already expired before the sweep.
+     */
+    @Test
+    public void sweep_AlreadyExpired_ReturnOverdueOnly() {
+        ArtDueEntry entry = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        artDueDateTracker.put(createArt(entry));
+
+        List<RetestNotice> notices = sweep(entry.getExpiryDate().plusDays(5));
+
+        assertEquals(List.of(new RetestNotice(entry, true)), notices);
+    }
+
+    /**
+     * {@code put_NewerArt_ReplaceOlder} is a test on
+     * {@link ArtDueDateTracker#put(Art)} to verify if a newer ART of the employee
+     * replaces the retests of the older ART, and an older ART is ignored.
+     */
+    @Test
+    public void put_NewerArt_ReplaceOlder() {
+        ArtDueEntry older = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        ArtDueEntry newer = createEntry(TestEmployee.TEST_ID, 2L, 15L);
+        ArtDueEntry oldest = createEntry(TestEmployee.TEST_ID, 3L, 5L);
+        artDueDateTracker.put(createArt(older));
+
+        artDueDateTracker.put(createArt(newer));
+        artDueDateTracker.put(createArt(oldest));
+
+        assertEquals(Optional.of(newer), artDueDateTracker.getLatest(TestEmployee.TEST_ID));
+        assertTrue(sweep(older.getExpiryDate().plusDays(1)).isEmpty());
+        assertEquals(List.of(new RetestNotice(newer, false)), sweep(dueDate(newer)));
+    }
+
+    /**
+     * {@code removeEmployee_Deleted_NotReturned} is a test on
+     * {@link ArtDueDateTracker#removeEmployee(String)} to verify if the retests of
+     * a deleted employee are no longer taken, while those of other employees are.
+     */
+    @Test
+    public void removeEmployee_Deleted_NotReturned() {
+        ArtDueEntry deleted = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        ArtDueEntry other = createEntry(OTHER_EMPLOYEE_ID, 2L, 10L);
+        artDueDateTracker.put(createArt(deleted));
+        artDueDateTracker.put(createArt(other));
+
+        artDueDateTracker.removeEmployee(TestEmployee.TEST_ID);
+
+        assertEquals(Optional.empty(), artDueDateTracker.getLatest(TestEmployee.TEST_ID));
+        assertEquals(List.of(new RetestNotice(other, false)), sweep(dueDate(other)));
+    }
+
+    /**
+     * {@code removeCompany_Deleted_NotReturned} is a test on
+     * {@link ArtDueDateTracker#removeCompany(String)} to verify if the retests of
+     * the ARTs of a company deleted after they were tracked are no longer taken.
+     */
+    @Test
+    public void removeCompany_Deleted_NotReturned() {
+        ArtDueEntry entry = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        artDueDateTracker.put(createArt(entry));
+
+        artDueDateTracker.removeCompany(TestCompany.TEST_ID);
+
+        assertEquals(Optional.empty(), artDueDateTracker.getLatest(TestEmployee.TEST_ID));
+        assertTrue(sweep(entry.getExpiryDate().plusDays(1)).isEmpty());
+    }
+
+    /**
+     * {@code refresh_LatestDeleted_TrackPrevious} is a test on
+     * {@link ArtDueDateTracker#refresh(String)} to verify if the method will call
+     * {@link ArtRepository#findLatestDueEntriesByEmployee(String)} and track the
+     * previous ART of the employee after the latest ART is deleted.
+     */
+    @Test
+    public void refresh_LatestDeleted_TrackPrevious() {
+        ArtDueEntry previous = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        ArtDueEntry deleted = createEntry(TestEmployee.TEST_ID, 2L, 15L);
+        artDueDateTracker.put(createArt(previous));
+        artDueDateTracker.put(createArt(deleted));
+        when(artRepository.findLatestDueEntriesByEmployee(TestEmployee.TEST_ID)).thenReturn(List.of(previous));
+
+        artDueDateTracker.refresh(TestEmployee.TEST_ID);
+
+        assertEquals(Optional.of(previous), artDueDateTracker.getLatest(TestEmployee.TEST_ID));
+        assertEquals(List.of(new RetestNotice(previous, false)), sweep(dueDate(previous)));
+        verify(artRepository).findLatestDueEntriesByEmployee(TestEmployee.TEST_ID);
+    }
+
+    /**
+     * {@code rebuild_PastDates_NotReturned} is a test on
+     * {@link ArtDueDateTracker#rebuild(LocalDate)} to verify if the method will
+     * call {@link ArtRepository#findLatestDueEntries()} and treat the retests
+     * whose dates are before the rebuild as already taken.
+     */
+    @Test
+    public void rebuild_PastDates_NotReturned() {
+        ArtDueEntry overdue = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        ArtDueEntry due = createEntry(OTHER_EMPLOYEE_ID, 2L, 14L);
+        LocalDate today = dueDate(due).plusDays(1);
+        when(artRepository.findLatestDueEntries()).thenReturn(List.of(overdue, due));
+
+        artDueDateTracker.rebuild(today);
+        List<RetestNotice> notices = sweep(due.getExpiryDate().plusDays(1));
+
+        assertEquals(List.of(new RetestNotice(due, true)), notices);
+    }
+
+    /**
+     * {@code peek_Restored_ReturnAgain} is a test on
+     * {@link ArtDueDateTracker#restore()} to verify if the retests taken by a
+     * peek are taken again after they are put back, and are not taken again
+     * once they are acknowledged.
+     */
+    @Test
+    public void peek_Restored_ReturnAgain() {
+        ArtDueEntry entry = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        artDueDateTracker.put(createArt(entry));
+        LocalDate today = dueDate(entry);
+
+        List<RetestNotice> taken = artDueDateTracker.peek(today);
+        artDueDateTracker.restore();
+        List<RetestNotice> takenAgain = artDueDateTracker.peek(today);
+        artDueDateTracker.acknowledge(today);
+
+        assertEquals(List.of(new RetestNotice(entry, false)), taken);
+        assertEquals(taken, takenAgain);
+        assertTrue(artDueDateTracker.peek(today).isEmpty());
+    }
+
+    /**
+     * {@code refresh_DueEmitted_NotReturnedAgain} is a test on
+     * {@link ArtDueDateTracker#refresh(String)} to verify if the previous ART of
+     * the employee tracked again after the latest ART is deleted does not queue
+     * the due retest that was already emitted, but only its overdue retest.
+     */
+    @Test
+    public void refresh_DueEmitted_NotReturnedAgain() {
+        ArtDueEntry previous = createEntry(TestEmployee.TEST_ID, 1L, 10L);
+        ArtDueEntry deleted = createEntry(TestEmployee.TEST_ID, 2L, 15L);
+        artDueDateTracker.put(createArt(previous));
+        sweep(dueDate(previous));
+        artDueDateTracker.put(createArt(deleted));
+        when(artRepository.findLatestDueEntriesByEmployee(TestEmployee.TEST_ID)).thenReturn(List.of(previous));
+
+        artDueDateTracker.refresh(TestEmployee.TEST_ID);
+
+        assertTrue(sweep(previous.getExpiryDate()).isEmpty());
+        assertEquals(List.of(new RetestNotice(previous, true)), sweep(previous.getExpiryDate().plusDays(1)));
+    }
+
+    /**
+     * Take and acknowledge the retests that become due or overdue on or before
+     * the specific day.
+     *
+     * @param today the day of the sweep.
+     * @return the due and overdue retests, in the order of their dates.
+     */
+    private List<RetestNotice> sweep(LocalDate today) {
+        List<RetestNotice> notices = artDueDateTracker.peek(today);
+        artDueDateTracker.acknowledge(today);
+        return notices;
+    }
+
+    /**
+     * Create an entry of an ART of the specific employee that expires 7 days after
+     * the test.
+     *
+     * @param employeeId the id of the employee.
+     * @param artId      the id of the ART.
+     * @param testDay    the epoch day of the test.
+     * @return the entry of the ART.
+     */
+    private static ArtDueEntry createEntry(String employeeId, Long artId, long testDay) {
+        LocalDate dateOfTest = LocalDate.ofEpochDay(testDay);
+        return new ArtDueEntry(artId, employeeId, TestEmployee.createEmployee().getName(), TestCompany.TEST_ID,
+                dateOfTest, dateOfTest.plusDays(7));
+    }
+
+    /**
+     * Create an ART of the specific entry.
+     *
+     * @param entry the entry of the ART.
+     * @return the ART of the entry.
+     */
+    private static Art createArt(ArtDueEntry entry) {
+        Art art = TestArt.createArt();
+        art.setId(entry.getArtId());
+        art.getEmployee().setWorkPermitNumber(entry.getEmployeeId());
+        art.setDateOfTest(entry.getDateOfTest());
+        art.setExpiryDate(entry.getExpiryDate());
+        return art;
+    }
+
+    /**
+     * Get the date that the retest of the specific entry becomes due.
+     *
+     * @param entry the entry of the ART.
+     * @return the due date of the retest.
+     */
+    private static LocalDate dueDate(ArtDueEntry entry) {
+        return entry.getExpiryDate().minusDays(ArtDueDateTracker.DUE_LEAD_DAYS);
+    }
+}
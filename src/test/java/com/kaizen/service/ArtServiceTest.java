@@ -3,17 +3,29 @@ package com.kaizen.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import com.kaizen.exceptions.*;
 import com.kaizen.model.TestArt;
 import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.dto.ArtDueEntry;
+import com.kaizen.model.dto.ArtDTO;
 import com.kaizen.model.entity.Art;
 import com.kaizen.model.entity.Company;
+import com.kaizen.model.entity.Employee;
 import com.kaizen.repository.ArtRepository;
+import com.kaizen.model.entity.Notification;
+import com.kaizen.service.art.ArtBulkResult;
+import com.kaizen.service.art.ArtDueDateTracker;
 import com.kaizen.service.art.ArtService;
 import com.kaizen.service.art.ArtServiceImpl;
+import com.kaizen.service.art.RetestNotice;
 import com.kaizen.service.company.CompanyService;
+import com.kaizen.service.employee.EmployeeService;
+import com.kaizen.service.notification.NotificationService;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,6 +58,24 @@ public class ArtServiceTest {
     @MockBean
     private CompanyService companyService;
 
+    /**
+     * The mocked employee's service used for testing.
+     */
+    @MockBean
+    private EmployeeService employeeService;
+
+    /**
+     * The mocked tracker of the retest's due dates used for testing.
+     */
+    @MockBean
+    private ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * The mocked notification's service used for testing.
+     */
+    @MockBean
+    private NotificationService notificationService;
+
     /**
      * The art's service used for testing.
      */
@@ -85,6 +115,44 @@ public class ArtServiceTest {
         verify(artRepository).findLatestResultsforAllEmployee();
     }
 
+    /**
+     * {@code listLatestArtDTOsByCompany_MissingCompany_ThrowObjectNotExistsException}
+     * is a test on {@link ArtService#listLatestArtDTOsByCompany(String)} to verify
+     * if the method will call {@link CompanyService#getCompany(String)} and throw
+     * {@link ObjectNotExistsException} when the company is not in the repository.
+     */
+    @Test
+    void listLatestArtDTOsByCompany_MissingCompany_ThrowObjectNotExistsException() {
+        when(companyService.getCompany(TestCompany.TEST_ID)).thenThrow(new ObjectNotExistsException());
+
+        assertThrows(ObjectNotExistsException.class, () -> {
+            artService.listLatestArtDTOsByCompany(TestCompany.TEST_ID);
+        });
+
+        verify(companyService).getCompany(TestCompany.TEST_ID);
+        verify(artRepository, never()).findLatestArtDTOsByCompany(any(String.class));
+    }
+
+    /**
+     * {@code listLatestArtDTOsByCompany_Found_ReturnFound} is a test on
+     * {@link ArtService#listLatestArtDTOsByCompany(String)} to verify if the method
+     * will call {@link CompanyService#getCompany(String)} and
+     * {@link ArtRepository#findLatestArtDTOsByCompany(String)} and return the
+     * latest ART DTOs of the company.
+     */
+    @Test
+    void listLatestArtDTOsByCompany_Found_ReturnFound() {
+        List<ArtDTO> artDTOs = List.of(TestArt.createArtDTO());
+        when(companyService.getCompany(TestCompany.TEST_ID)).thenReturn(TestCompany.createCompany());
+        when(artRepository.findLatestArtDTOsByCompany(TestCompany.TEST_ID)).thenReturn(artDTOs);
+
+        List<ArtDTO> foundArtDTOs = artService.listLatestArtDTOsByCompany(TestCompany.TEST_ID);
+
+        assertSame(artDTOs, foundArtDTOs);
+        verify(companyService).getCompany(TestCompany.TEST_ID);
+        verify(artRepository).findLatestArtDTOsByCompany(TestCompany.TEST_ID);
+    }
+
     /**
      * {@code listArtsByCompany_Null_ThrowNullValueException} is a test on
      * {@link ArtService##listArtsByCompany(String)} to verify if the method will
@@ -153,8 +221,9 @@ public class ArtServiceTest {
 
     /**
      * {@code addArt_New_ReturnSaved} is a test on {@link ArtService#addArt(Art)} to
-     * verify if the method will call {@link ArtRepository#findById(String)} and
-     * {@link ArtRepository#save(Art)} and save and return the specific art.
+     * verify if the method will call {@link ArtRepository#save(Art)} and
+     * {@link ArtDueDateTracker#put(Art)} and save, track and return the specific
+     * art.
      */
     @Test
     void addArt_New_ReturnSaved() {
@@ -165,6 +234,7 @@ public class ArtServiceTest {
 
         assertSame(art, savedArt);
         verify(artRepository).save(art);
+        verify(artDueDateTracker).put(art);
     }
 
     /**
@@ -199,17 +269,198 @@ public class ArtServiceTest {
 
     /**
      * {@code deleteArt_Deleted} is a test on {@link ArtService#deleteArt(String)}
-     * to verify if the method will call {@link ArtRepository#findById(String)} and
-     * {@link ArtRepository#deleteById(String)} and delete the art with specific id.
+     * to verify if the method will call {@link ArtRepository#findById(String)},
+     * {@link ArtRepository#deleteById(String)} and
+     * {@link ArtDueDateTracker#refresh(String)} and delete the art with specific
+     * id.
      */
     @Test
     void deleteArt_Deleted() {
-        when(artRepository.findById(TestArt.TEST_ID)).thenReturn(Optional.of(TestArt.createArt()));
+        Art art = TestArt.createArt();
+        when(artRepository.findById(TestArt.TEST_ID)).thenReturn(Optional.of(art));
         doNothing().when(artRepository).deleteById(TestArt.TEST_ID);
 
         artService.deleteArt(TestArt.TEST_ID);
 
         verify(artRepository).findById(TestArt.TEST_ID);
         verify(artRepository).deleteById(TestArt.TEST_ID);
+        verify(artDueDateTracker).refresh(art.getEmployee().getWorkPermitNumber());
+    }
+
+    /**
+     * {@code notifyRetests_Swept_AddNotifications} is a test on
+     * {@link ArtService#notifyRetests(LocalDate)} to verify if the method will call
+     * {@link ArtDueDateTracker#peek(LocalDate)} and
+     * {@link NotificationService#addNotifications(List)} with one notification to
+     * the company of each due or overdue retest, and then
+     * {@link ArtDueDateTracker#acknowledge(LocalDate)}.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void notifyRetests_Swept_AddNotifications() {
+        LocalDate today = LocalDate.ofEpochDay(8L);
+        ArtDueEntry entry = new ArtDueEntry(TestArt.createArt());
+        ArtDueEntry noCompanyEntry = new ArtDueEntry(entry.getArtId(), entry.getEmployeeId(),
+                entry.getEmployeeName(), null, entry.getDateOfTest(), entry.getExpiryDate());
+        Company company = TestCompany.createCompany();
+        when(artDueDateTracker.peek(today))
+                .thenReturn(List.of(new RetestNotice(entry, true), new RetestNotice(noCompanyEntry, false)));
+        when(employeeService.findEmployees(anyCollection())).thenReturn(List.of(TestEmployee.createEmployee()));
+        when(companyService.getCompany(entry.getCompanyId())).thenReturn(company);
+        when(notificationService.addNotifications(anyList())).thenAnswer(invocation -> {
+            return ((List<Notification>) invocation.getArgument(0)).size();
+        });
+
+        int notified = artService.notifyRetests(today);
+
+        assertEquals(1, notified);
+        verify(artDueDateTracker).peek(today);
+        verify(notificationService).addNotifications(argThat(notifications -> {
+            Notification notification = notifications.get(0);
+            return notifications.size() == 1 && notification.getCompany() == company
+                    && notification.getMessage().contains(entry.getEmployeeId()) && !notification.isRead();
+        }));
+        verify(artDueDateTracker).acknowledge(today);
+        verify(artDueDateTracker, never()).restore();
+    }
+
+    /**
+     * {@code notifyRetests_CompanyDeletedAfterPut_DropAndAcknowledge} is a test on
+     * {@link ArtService#notifyRetests(LocalDate)} to verify if the method will
+     * drop the retests of a company deleted after its ART was tracked, by calling
+     * {@link ArtDueDateTracker#removeCompany(String)}, and still notify the other
+     * companies and acknowledge the sweep instead of failing it.
+     */
+    @Test
+    void notifyRetests_CompanyDeletedAfterPut_DropAndAcknowledge() {
+        LocalDate today = LocalDate.ofEpochDay(8L);
+        ArtDueEntry deletedEntry = new ArtDueEntry(TestArt.createArt());
+        Company other = TestCompany.createCompany();
+        other.setUEN("OTHER_UEN");
+        ArtDueEntry otherEntry = new ArtDueEntry(deletedEntry.getArtId() + 1, deletedEntry.getEmployeeId(),
+                deletedEntry.getEmployeeName(), other.getUEN(), deletedEntry.getDateOfTest(),
+                deletedEntry.getExpiryDate());
+        when(artDueDateTracker.peek(today))
+                .thenReturn(List.of(new RetestNotice(deletedEntry, true), new RetestNotice(otherEntry, true)));
+        when(employeeService.findEmployees(anyCollection())).thenReturn(List.of(TestEmployee.createEmployee()));
+        when(companyService.getCompany(deletedEntry.getCompanyId()))
+                .thenThrow(new ObjectNotExistsException("Company", deletedEntry.getCompanyId()));
+        when(companyService.getCompany(other.getUEN())).thenReturn(other);
+        when(notificationService.addNotifications(anyList())).thenReturn(1);
+
+        int notified = artService.notifyRetests(today);
+
+        assertEquals(1, notified);
+        verify(artDueDateTracker).removeCompany(deletedEntry.getCompanyId());
+        verify(notificationService).addNotifications(argThat(notifications -> notifications.size() == 1
+                && notifications.get(0).getCompany() == other));
+        verify(artDueDateTracker).acknowledge(today);
+        verify(artDueDateTracker, never()).restore();
+    }
+
+    /**
+     * {@code notifyRetests_EmployeeDeleted_Drop} is a test on
+     * {@link ArtService#notifyRetests(LocalDate)} to verify if the method will
+     * drop the retests of a deleted employee, by calling
+     * {@link ArtDueDateTracker#removeEmployee(String)}, instead of notifying its
+     * company.
+     */
+    @Test
+    void notifyRetests_EmployeeDeleted_Drop() {
+        LocalDate today = LocalDate.ofEpochDay(8L);
+        ArtDueEntry entry = new ArtDueEntry(TestArt.createArt());
+        when(artDueDateTracker.peek(today)).thenReturn(List.of(new RetestNotice(entry, true)));
+        when(employeeService.findEmployees(anyCollection())).thenReturn(new ArrayList<>());
+        when(notificationService.addNotifications(anyList())).thenReturn(0);
+
+        int notified = artService.notifyRetests(today);
+
+        assertEquals(0, notified);
+        verify(artDueDateTracker).removeEmployee(entry.getEmployeeId());
+        verify(companyService, never()).getCompany(anyString());
+        verify(artDueDateTracker).acknowledge(today);
+    }
+
+    /**
+     * {@code notifyRetests_AddFailed_Restore} is a test on
+     * {@link ArtService#notifyRetests(LocalDate)} to verify if the method will call
+     * {@link ArtDueDateTracker#restore()} instead of
+     * {@link ArtDueDateTracker#acknowledge(LocalDate)} and throw when the
+     * notifications could not be created.
+     */
+    @Test
+    void notifyRetests_AddFailed_Restore() {
+        LocalDate today = LocalDate.ofEpochDay(8L);
+        ArtDueEntry entry = new ArtDueEntry(TestArt.createArt());
+        when(artDueDateTracker.peek(today)).thenReturn(List.of(new RetestNotice(entry, true)));
+        when(employeeService.findEmployees(anyCollection())).thenReturn(List.of(TestEmployee.createEmployee()));
+        when(companyService.getCompany(entry.getCompanyId())).thenReturn(TestCompany.createCompany());
+        when(notificationService.addNotifications(anyList())).thenThrow(new IllegalStateException());
+
+        assertThrows(IllegalStateException.class, () -> {
+            artService.notifyRetests(today);
+        });
+
+        verify(artDueDateTracker).restore();
+        verify(artDueDateTracker, never()).acknowledge(any(LocalDate.class));
+    }
+
+    /**
+     * {@code addArts_MissingCompany_ThrowObjectNotExistsException} is a test on
+     * {@link ArtService#addArts(String, List)} to verify if the method will call
+     * {@link CompanyService#getCompany(String)} and throw
+     * {@link ObjectNotExistsException} without saving any ART when the company
+     * with the specific id is not found.
+     */
+    @Test
+    void addArts_MissingCompany_ThrowObjectNotExistsException() {
+        List<ArtDTO> artDTOs = List.of(TestArt.createArtDTO());
+        when(companyService.getCompany(TestCompany.TEST_ID)).thenThrow(new ObjectNotExistsException());
+
+        assertThrows(ObjectNotExistsException.class, () -> {
+            artService.addArts(TestCompany.TEST_ID, artDTOs);
+        });
+
+        verify(companyService).getCompany(TestCompany.TEST_ID);
+        verify(artRepository, never()).saveAll(anyList());
+    }
+
+    /**
+     * {@code addArts_SomeInvalid_SaveValidReportInvalid} is a test on
+     * {@link ArtService#addArts(String, List)} to verify if the method will call
+     * {@link EmployeeService#findEmployees(Collection)} once and
+     * {@link ArtRepository#saveAll(Iterable)} with only the valid ARTs, track each
+     * saved ART and report the invalid rows.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void addArts_SomeInvalid_SaveValidReportInvalid() {
+        Company company = TestCompany.createCompany();
+        Employee employee = TestEmployee.createEmployee();
+        String missingId = TestEmployee.TEST_ID.substring(1);
+        ArtDTO valid = TestArt.createArtDTO();
+        ArtDTO missingEmployee = TestArt.createArtDTO();
+        missingEmployee.setEmployeeWP(missingId);
+        ArtDTO futureDate = TestArt.createArtDTO();
+        futureDate.setDateOfTest(LocalDate.now().plusDays(1));
+        ArtDTO missingDate = TestArt.createArtDTO();
+        missingDate.setDateOfTest(null);
+        List<ArtDTO> artDTOs = Arrays.asList(valid, missingEmployee, null, futureDate, missingDate);
+        when(companyService.getCompany(TestCompany.TEST_ID)).thenReturn(company);
+        when(employeeService.findEmployees(anyCollection())).thenReturn(List.of(employee));
+        when(artRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ArtBulkResult result = artService.addArts(TestCompany.TEST_ID, artDTOs);
+
+        assertEquals(1, result.getCreated().size());
+        Art created = result.getCreated().get(0);
+        assertSame(employee, created.getEmployee());
+        assertSame(company, created.getCompany());
+        assertEquals(valid.getDateOfTest().plusDays(ArtService.ART_VALID_DAYS), created.getExpiryDate());
+        assertEquals(List.of(2, 3, 4, 5), result.getErrors().stream().map(error -> error.getRow()).collect(Collectors.toList()));
+        assertEquals(missingId, result.getErrors().get(0).getEmployeeWP());
+        verify(employeeService).findEmployees(anyCollection());
+        verify(artRepository).saveAll(anyList());
+        verify(artDueDateTracker).put(created);
     }
 }
@@ -0,0 +1,189 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+
+import com.kaizen.model.TestClock;
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.entity.Company;
+import com.kaizen.service.company.CompanyCache;
+import com.kaizen.service.company.CompanyCacheStats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code CompanyCacheTest} is a test class to do unit testing on
+ * {@link CompanyCache}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-14
+ */
+public class CompanyCacheTest {
+    /**
+     * Represents how long a company stays in the cache used for testing.
+     */
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    /**
+     * The clock of the cache used for testing.
+     */
+    private TestClock clock;
+
+    /**
+     * The cache used for testing.
+     */
+    private CompanyCache companyCache;
+
+    /**
+     * The ids of the companies loaded by {@link #loader}.
+     */
+    private List<String> loadedIds;
+
+    /**
+     * The loader that finds every company and records its id.
+     */
+    private Function<String, Optional<Company>> loader;
+
+    /**
+     * {@code setUp} is apply before each tests to create a cache of two companies.
+     */
+    @BeforeEach
+    public void setUp() {
+        clock = new TestClock(Instant.parse("2021-11-14T00:00:00Z"));
+        companyCache = new CompanyCache(2, TIME_TO_LIVE, clock);
+        loadedIds = new ArrayList<>();
+        loader = id -> {
+            loadedIds.add(id);
+            Company company = TestCompany.createCompany();
+            company.setUEN(id);
+            return Optional.of(company);
+        };
+    }
+
+    /**
+     * {@code get_Cached_ReturnCached} is a test on
+     * {@link CompanyCache#get(String, Function)} to verify if the method will load
+     * the company once and count a miss then a hit.
+     */
+    @Test
+    public void get_Cached_ReturnCached() {
+        Company loaded = companyCache.get(TestCompany.TEST_ID, loader).get();
+
+        Company found = companyCache.get(TestCompany.TEST_ID, loader).get();
+
+        assertNotSame(loaded, found);
+        assertEquals(loaded.getUEN(), found.getUEN());
+        assertEquals(loaded.getName(), found.getName());
+        assertEquals(List.of(TestCompany.TEST_ID), loadedIds);
+        assertEquals(new CompanyCacheStats(1, 1, 0, 1), companyCache.getStats());
+    }
+
+    /**
+     * {@code get_CachedChanged_ReturnUnchanged} is a test on
+     * {@link CompanyCache#get(String, Function)} to verify if changing the loaded
+     * or a returned company does not change the cached company.
+     */
+    @Test
+    public void get_CachedChanged_ReturnUnchanged() {
+        Company loaded = companyCache.get(TestCompany.TEST_ID, loader).get();
+        String name = loaded.getName();
+        loaded.setName("Changed Name");
+        companyCache.get(TestCompany.TEST_ID, loader).get().setName("Changed Name");
+
+        Company found = companyCache.get(TestCompany.TEST_ID, loader).get();
+
+        assertEquals(name, found.getName());
+        assertNull(found.getEmployees());
+    }
+
+    /**
+     * {@code get_NotFound_NotCached} is a test on
+     * {@link CompanyCache#get(String, Function)} to verify if the method will not
+     * cache a company that the loader did not find.
+     */
+    @Test
+    public void get_NotFound_NotCached() {
+        Optional<Company> found = companyCache.get(TestCompany.TEST_ID, id -> Optional.empty());
+
+        assertTrue(found.isEmpty());
+        assertEquals(new CompanyCacheStats(0, 1, 0, 0), companyCache.getStats());
+    }
+
+    /**
+     * {@code get_Expired_Reload} is a test on
+     * {@link CompanyCache#get(String, Function)} to verify if the method will
+     * evict and reload the company once its time to live passed.
+     */
+    @Test
+    public void get_Expired_Reload() {
+        companyCache.get(TestCompany.TEST_ID, loader);
+        clock.advance(TIME_TO_LIVE);
+
+        companyCache.get(TestCompany.TEST_ID, loader);
+
+        assertEquals(List.of(TestCompany.TEST_ID, TestCompany.TEST_ID), loadedIds);
+        assertEquals(new CompanyCacheStats(0, 2, 1, 1), companyCache.getStats());
+    }
+
+    /**
+     * {@code get_Full_EvictLeastRecentlyUsed} is a test on
+     * {@link CompanyCache#get(String, Function)} to verify if the method will
+     * evict the least recently used company when the cache is full.
+     */
+    @Test
+    public void get_Full_EvictLeastRecentlyUsed() {
+        String firstId = TestCompany.TEST_ID;
+        String secondId = TestCompany.TEST_ID.substring(1);
+        String thirdId = TestCompany.TEST_ID.substring(0, 9);
+        companyCache.get(firstId, loader);
+        companyCache.get(secondId, loader);
+        companyCache.get(firstId, loader);
+
+        companyCache.get(thirdId, loader);
+        companyCache.get(firstId, loader);
+        companyCache.get(secondId, loader);
+
+        assertEquals(List.of(firstId, secondId, thirdId, secondId), loadedIds);
+        assertEquals(new CompanyCacheStats(2, 4, 2, 2), companyCache.getStats());
+    }
+
+    /**
+     * {@code invalidate_Cached_Reload} is a test on
+     * {@link CompanyCache#invalidate(String)} to verify if the method will remove
+     * the company so that the next lookup loads it again.
+     */
+    @Test
+    public void invalidate_Cached_Reload() {
+        companyCache.get(TestCompany.TEST_ID, loader);
+
+        companyCache.invalidate(TestCompany.TEST_ID);
+        companyCache.get(TestCompany.TEST_ID, loader);
+
+        assertEquals(List.of(TestCompany.TEST_ID, TestCompany.TEST_ID), loadedIds);
+        assertEquals(new CompanyCacheStats(0, 2, 0, 1), companyCache.getStats());
+    }
+
+    /**
+     * {@code invalidate_DuringLoad_NotCached} is a test on
+     * {@link CompanyCache#invalidate(String)} to verify if a company loaded before
+     * a concurrent invalidation is not cached.
+     */
+    @Test
+    public void invalidate_DuringLoad_NotCached() {
+        companyCache.get(TestCompany.TEST_ID, id -> {
+            companyCache.invalidate(id);
+            return loader.apply(id);
+        });
+
+        companyCache.get(TestCompany.TEST_ID, loader);
+
+        assertEquals(List.of(TestCompany.TEST_ID, TestCompany.TEST_ID), loadedIds);
+        assertEquals(new CompanyCacheStats(0, 2, 0, 1), companyCache.getStats());
+    }
+}
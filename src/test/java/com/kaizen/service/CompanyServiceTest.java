@@ -9,13 +9,20 @@ import com.kaizen.exceptions.*;
 import com.kaizen.model.TestCompany;
 import com.kaizen.model.entity.Company;
 import com.kaizen.repository.CompanyRepository;
+import com.kaizen.service.art.ArtDueDateTracker;
+import com.kaizen.service.company.CompanyCacheStats;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.company.CompanyServiceImpl;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
+import com.kaizen.service.image.ImagePruner;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -29,6 +36,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  */
 @ContextConfiguration(classes = { CompanyServiceImpl.class })
 @ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD) // For a fresh company's cache in each test
 public class CompanyServiceTest {
     /**
      * The mocked company's repository used for testing.
@@ -36,6 +44,24 @@ public class CompanyServiceTest {
     @MockBean
     private CompanyRepository companyRepository;
 
+    /**
+     * The mocked tracker of the retest's due dates used for testing.
+     */
+    @MockBean
+    private ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * The mocked index of the employee's skills used for testing.
+     */
+    @MockBean
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    /**
+     * The mocked image's pruner used for testing.
+     */
+    @MockBean
+    private ImagePruner imagePruner;
+
     /**
      * The company's service used for testing.
      */
@@ -105,6 +131,25 @@ public class CompanyServiceTest {
         verify(companyRepository).findById(company.getUEN());
     }
 
+    /**
+     * {@code getCompany_FoundTwice_ReturnCached} is a test on
+     * {@link CompanyService#getCompany(String)} to verify if the method will call
+     * {@link CompanyRepository#findById(String)} only once and return the cached
+     * company on the next lookups.
+     */
+    @Test
+    void getCompany_FoundTwice_ReturnCached() {
+        Company company = TestCompany.createCompany();
+        when(companyRepository.findById(company.getUEN())).thenReturn(Optional.of(company));
+
+        companyService.getCompany(company.getUEN());
+        Company foundCompany = companyService.getCompany(company.getUEN());
+
+        assertSame(company, foundCompany);
+        assertEquals(new CompanyCacheStats(1, 1, 0, 1), companyService.getCacheStats());
+        verify(companyRepository).findById(company.getUEN());
+    }
+
     /**
      * {@code getCompanyByName_Found_ReturnFound} is a test on
      * {@link CompanyService#getCompanyByName(String)} to verify if the method will
@@ -234,6 +279,29 @@ public class CompanyServiceTest {
         verify(companyRepository).save(company);
     }
 
+    /**
+     * {@code updateCompany_Cached_ReturnUpdatedOnNextGet} is a test on
+     * {@link CompanyService#updateCompany(String, Company)} to verify if the method
+     * will remove the company from the cache so that the next
+     * {@link CompanyService#getCompany(String)} returns the updated company.
+     */
+    @Test
+    void updateCompany_Cached_ReturnUpdatedOnNextGet() {
+        Company company = TestCompany.createCompany();
+        Company updated = TestCompany.createCompany();
+        updated.setName(company.getName() + " Updated");
+        when(companyRepository.findById(company.getUEN())).thenReturn(Optional.of(company));
+        companyService.getCompany(company.getUEN());
+        when(companyRepository.findById(company.getUEN())).thenReturn(Optional.of(updated));
+        when(companyRepository.save(updated)).thenReturn(updated);
+
+        companyService.updateCompany(company.getUEN(), updated);
+        Company foundCompany = companyService.getCompany(company.getUEN());
+
+        assertSame(updated, foundCompany);
+        verify(companyRepository, times(3)).findById(company.getUEN());
+    }
+
     /**
      * {@code deleteCompany_NullId_ThrowNullValueException} is a test on
      * {@link CompanyService#deleteCompany(String)} to verify if the method will
@@ -267,9 +335,12 @@ public class CompanyServiceTest {
     /**
      * {@code deleteCompany_Deleted} is a test on
      * {@link CompanyService#deleteCompany(String)} to verify if the method will
-     * call {@link CompanyRepository#findById(String)} and
+     * call {@link CompanyRepository#findById(String)},
+     * {@link ImagePruner#deleteCompanyImages(String)} before
      * {@link CompanyRepository#deleteById(String)} and delete the company with
-     * specific id.
+     * specific id, and {@link ArtDueDateTracker#removeCompany(String)} and
+     * {@link EmployeeSkillIndex#removeCompany(String)} to stop tracking its ARTs
+     * and employee's skills.
      */
     @Test
     void deleteCompany_Deleted() {
@@ -279,6 +350,31 @@ public class CompanyServiceTest {
         companyService.deleteCompany(TestCompany.TEST_ID);
 
         verify(companyRepository).findById(TestCompany.TEST_ID);
+        InOrder inOrder = inOrder(imagePruner, companyRepository);
+        inOrder.verify(imagePruner).deleteCompanyImages(TestCompany.TEST_ID);
+        inOrder.verify(companyRepository).deleteById(TestCompany.TEST_ID);
+        verify(artDueDateTracker).removeCompany(TestCompany.TEST_ID);
+        verify(employeeSkillIndex).removeCompany(TestCompany.TEST_ID);
+    }
+
+    /**
+     * {@code deleteCompany_Cached_ThrowObjectNotExistsExceptionOnNextGet} is a
+     * test on {@link CompanyService#deleteCompany(String)} to verify if the method
+     * will remove the company from the cache so that the next
+     * {@link CompanyService#getCompany(String)} throws
+     * {@link ObjectNotExistsException}.
+     */
+    @Test
+    void deleteCompany_Cached_ThrowObjectNotExistsExceptionOnNextGet() {
+        when(companyRepository.findById(TestCompany.TEST_ID)).thenReturn(Optional.of(TestCompany.createCompany()));
+        companyService.getCompany(TestCompany.TEST_ID);
+
+        companyService.deleteCompany(TestCompany.TEST_ID);
+        when(companyRepository.findById(TestCompany.TEST_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ObjectNotExistsException.class, () -> {
+            companyService.getCompany(TestCompany.TEST_ID);
+        });
         verify(companyRepository).deleteById(TestCompany.TEST_ID);
     }
 }
@@ -11,12 +11,16 @@ import com.kaizen.model.TestEmployee;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.service.art.ArtDueDateTracker;
 import com.kaizen.service.company.CompanyService;
 import com.kaizen.service.employee.EmployeeService;
 import com.kaizen.service.employee.EmployeeServiceImpl;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
+import com.kaizen.service.image.ImagePruner;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
@@ -46,6 +50,24 @@ public class EmployeeServiceTest {
     @MockBean
     private CompanyService companyService;
 
+    /**
+     * The mocked index of the employee's skills used for testing.
+     */
+    @MockBean
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    /**
+     * The mocked tracker of the retest's due dates used for testing.
+     */
+    @MockBean
+    private ArtDueDateTracker artDueDateTracker;
+
+    /**
+     * The mocked image's pruner used for testing.
+     */
+    @MockBean
+    private ImagePruner imagePruner;
+
     /**
      * The employee's service used for testing.
      */
@@ -153,6 +175,93 @@ public class EmployeeServiceTest {
         verify(employeeRepository).findById(employee.getWorkPermitNumber());
     }
 
+    /**
+     * {@code getEmployees_NullId_ThrowNullValueException} is a test on
+     * {@link EmployeeService#getEmployees(Collection)} to verify if the method
+     * will throw {@link NullValueException} when any of the specific ids is null.
+     */
+    @Test
+    void getEmployees_NullId_ThrowNullValueException() {
+        List<String> ids = Arrays.asList(TestEmployee.TEST_ID, null);
+
+        assertThrows(NullValueException.class, () -> {
+            employeeService.getEmployees(ids);
+        });
+
+        verify(employeeRepository, never()).findAllById(anyIterable());
+    }
+
+    /**
+     * {@code getEmployees_NotFound_ThrowObjectNotExistsException} is a test on
+     * {@link EmployeeService#getEmployees(Collection)} to verify if the method
+     * will call {@link EmployeeRepository#findAllById(Iterable)} and throw
+     * {@link ObjectNotExistsException} when any of the employees with the specific
+     * ids does not exists.
+     */
+    @Test
+    void getEmployees_NotFound_ThrowObjectNotExistsException() {
+        Employee employee = TestEmployee.createEmployee();
+        Set<String> ids = Set.of(employee.getWorkPermitNumber(), TestEmployee.TEST_ID.substring(1));
+        when(employeeRepository.findAllById(ids)).thenReturn(List.of(employee));
+
+        assertThrows(ObjectNotExistsException.class, () -> {
+            employeeService.getEmployees(ids);
+        });
+
+        verify(employeeRepository).findAllById(ids);
+    }
+
+    /**
+     * {@code getEmployees_Found_ReturnFound} is a test on
+     * {@link EmployeeService#getEmployees(Collection)} to verify if the method
+     * will call {@link EmployeeRepository#findAllById(Iterable)} once and return
+     * the employees with the specific ids.
+     */
+    @Test
+    void getEmployees_Found_ReturnFound() {
+        List<Employee> employees = List.of(TestEmployee.createEmployee());
+        Set<String> ids = Set.of(TestEmployee.TEST_ID);
+        when(employeeRepository.findAllById(ids)).thenReturn(employees);
+
+        List<Employee> foundEmployees = employeeService.getEmployees(List.of(TestEmployee.TEST_ID, TestEmployee.TEST_ID));
+
+        assertSame(employees, foundEmployees);
+        verify(employeeRepository).findAllById(ids);
+        verify(employeeRepository, never()).findById(any(String.class));
+    }
+
+    /**
+     * {@code findEmployees_SomeMissing_ReturnFound} is a test on
+     * {@link EmployeeService#findEmployees(Collection)} to verify if the method
+     * will call {@link EmployeeRepository#findAllById(Iterable)} once without the
+     * null ids and return only the employees that are found.
+     */
+    @Test
+    void findEmployees_SomeMissing_ReturnFound() {
+        List<Employee> employees = List.of(TestEmployee.createEmployee());
+        Set<String> ids = Set.of(TestEmployee.TEST_ID, TestEmployee.TEST_ID.substring(1));
+        when(employeeRepository.findAllById(ids)).thenReturn(employees);
+
+        List<Employee> foundEmployees = employeeService
+                .findEmployees(Arrays.asList(TestEmployee.TEST_ID, null, TestEmployee.TEST_ID.substring(1)));
+
+        assertSame(employees, foundEmployees);
+        verify(employeeRepository).findAllById(ids);
+    }
+
+    /**
+     * {@code findEmployees_Empty_ReturnEmpty} is a test on
+     * {@link EmployeeService#findEmployees(Collection)} to verify if the method
+     * will not query the repository when there is no id.
+     */
+    @Test
+    void findEmployees_Empty_ReturnEmpty() {
+        List<Employee> foundEmployees = employeeService.findEmployees(Arrays.asList((String) null));
+
+        assertTrue(foundEmployees.isEmpty());
+        verify(employeeRepository, never()).findAllById(anyIterable());
+    }
+
     /**
      * {@code addEmployee_Null_ThrowNullValueException} is a test on
      * {@link EmployeeService#addEmployee(Employee)} to verify if the method will throw
@@ -299,9 +408,12 @@ public class EmployeeServiceTest {
     /**
      * {@code deleteEmployee_Deleted} is a test on
      * {@link EmployeeService#deleteEmployee(String)} to verify if the method will
-     * call {@link EmployeeRepository#findById(String)} and
-     * {@link EmployeeRepository#deleteById(String)} and delete the employee with
-     * specific id.
+     * call {@link EmployeeRepository#findById(String)},
+     * {@link ImagePruner#deleteEmployeeImages(String)} before
+     * {@link EmployeeRepository#deleteById(String)} and
+     * {@link EmployeeSkillIndex#removeEmployee(String)} and
+     * {@link ArtDueDateTracker#removeEmployee(String)} and delete the employee
+     * with specific id.
      */
     @Test
     void deleteEmployee_Deleted() {
@@ -311,6 +423,10 @@ public class EmployeeServiceTest {
         employeeService.deleteEmployee(TestEmployee.TEST_ID);
 
         verify(employeeRepository).findById(TestEmployee.TEST_ID);
-        verify(employeeRepository).deleteById(TestEmployee.TEST_ID);
+        InOrder inOrder = inOrder(imagePruner, employeeRepository);
+        inOrder.verify(imagePruner).deleteEmployeeImages(TestEmployee.TEST_ID);
+        inOrder.verify(employeeRepository).deleteById(TestEmployee.TEST_ID);
+        verify(employeeSkillIndex).removeEmployee(TestEmployee.TEST_ID);
+        verify(artDueDateTracker).removeEmployee(TestEmployee.TEST_ID);
     }
 }
@@ -0,0 +1,308 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployeeSkill;
+import com.kaizen.model.dto.EmployeeSkillEntry;
+import com.kaizen.model.entity.EmployeeSkill;
+import com.kaizen.model.entity.EmployeeSkillKey;
+import com.kaizen.repository.EmployeeSkillRepository;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
+import com.kaizen.service.employeeSkill.EmployeeSkillSortOrder;
+import com.kaizen.service.employeeSkill.SkillSupply;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * {@code EmployeeSkillIndexTest} is a test class to do unit testing on
+ * {@link EmployeeSkillIndex}.
+ *
+ * @author Chong Zhan Han
+ * @version 1.0
+ * @since 2021-11-12
+ */
+@ContextConfiguration(classes = { EmployeeSkillIndex.class })
+@ExtendWith(SpringExtension.class)
+public class EmployeeSkillIndexTest {
+    /**
+     * Represents the skill's id used for testing.
+     */
+    private final static String SKILL_ID = "Welder";
+
+    /**
+     * Represents the id of another company used for testing.
+     */
+    private final static String OTHER_COMPANY_ID = TestCompany.TEST_ID.substring(1);
+
+    /**
+     * The mocked employee's skill's repository used for testing.
+     */
+    @MockBean
+    private EmployeeSkillRepository employeeSkillRepository;
+
+    /**
+     * The employee's skill's index used for testing.
+     */
+    @Autowired
+    private EmployeeSkillIndex employeeSkillIndex;
+
+    /**
+     * {@code setUp} is apply before each tests to build the index from five
+     * employee's skills of the same skill.
+     */
+    @BeforeEach
+    public void setUp() {
+        List<EmployeeSkillEntry> entries = new ArrayList<>();
+        entries.add(new EmployeeSkillEntry("A", SKILL_ID, OTHER_COMPANY_ID, 150, 4.5, 3));
+        entries.add(new EmployeeSkillEntry("B", SKILL_ID, OTHER_COMPANY_ID, 100, 3.5, 8));
+        entries.add(new EmployeeSkillEntry("C", SKILL_ID, TestCompany.TEST_ID, 90, 5, 10));
+        entries.add(new EmployeeSkillEntry("D", SKILL_ID, OTHER_COMPANY_ID, 250, 5, 1));
+        entries.add(new EmployeeSkillEntry("E", SKILL_ID, OTHER_COMPANY_ID, 120, 4, 5));
+        entries.add(new EmployeeSkillEntry("F", "Plumber", OTHER_COMPANY_ID, 10, 5, 10));
+        when(employeeSkillRepository.findAllEntries()).thenReturn(entries);
+        employeeSkillIndex.rebuild();
+    }
+
+    /**
+     * {@code search_ByCost_ReturnCheapestInRange} is a test on
+     * {@link EmployeeSkillIndex#search(String, String, double, double, int, EmployeeSkillSortOrder, int)}
+     * to verify if the method will return the cheapest employee's skills of the
+     * skill within the rating and cost, excluding the specific company.
+     */
+    @Test
+    void search_ByCost_ReturnCheapestInRange() {
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, TestCompany.TEST_ID, 4, 200,
+                Integer.MIN_VALUE, EmployeeSkillSortOrder.COST, 20);
+
+        assertEquals(List.of("E", "A"), employeeIds(found));
+    }
+
+    /**
+     * {@code search_ByRating_ReturnTopK} is a test on
+     * {@link EmployeeSkillIndex#search(String, String, double, double, int, EmployeeSkillSortOrder, int)}
+     * to verify if the method will return at most the limit of highest rated
+     * employee's skills.
+     */
+    @Test
+    void search_ByRating_ReturnTopK() {
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, null, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Integer.MIN_VALUE, EmployeeSkillSortOrder.RATING, 3);
+
+        assertEquals(List.of("C", "D", "A"), employeeIds(found));
+    }
+
+    /**
+     * {@code search_ByExperience_ReturnInRange} is a test on
+     * {@link EmployeeSkillIndex#search(String, String, double, double, int, EmployeeSkillSortOrder, int)}
+     * to verify if the method will return the most experienced employee's skills
+     * with at least the minimum experience.
+     */
+    @Test
+    void search_ByExperience_ReturnInRange() {
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, TestCompany.TEST_ID,
+                Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 5, EmployeeSkillSortOrder.EXPERIENCE, 20);
+
+        assertEquals(List.of("B", "E"), employeeIds(found));
+    }
+
+    /**
+     * {@code search_UnknownSkill_ReturnEmpty} is a test on
+     * {@link EmployeeSkillIndex#search(String, String, double, double, int, EmployeeSkillSortOrder, int)}
+     * to verify if the method will return an empty list for a skill that is not
+     * indexed.
+     */
+    @Test
+    void search_UnknownSkill_ReturnEmpty() {
+        assertTrue(employeeSkillIndex.search("Unknown", null, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Integer.MIN_VALUE, EmployeeSkillSortOrder.COST, 20).isEmpty());
+    }
+
+    /**
+     * {@code put_Updated_ReplaceEntry} is a test on
+     * {@link EmployeeSkillIndex#put(EmployeeSkill)} to verify if the method will
+     * replace the indexed employee's skill with the same id.
+     */
+    @Test
+    void put_Updated_ReplaceEntry() {
+        EmployeeSkill employeeSkill = TestEmployeeSkill.createEmployeeSkill();
+        employeeSkill.setId(new EmployeeSkillKey("A", SKILL_ID));
+        employeeSkill.getCompany().setUEN(OTHER_COMPANY_ID);
+        employeeSkill.setCost(50);
+        employeeSkill.setRating(4);
+
+        employeeSkillIndex.put(employeeSkill);
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, TestCompany.TEST_ID, 4, 200,
+                Integer.MIN_VALUE, EmployeeSkillSortOrder.COST, 20);
+
+        assertEquals(List.of("A", "E"), employeeIds(found));
+        assertEquals(50, found.get(0).getCost());
+    }
+
+    /**
+     * {@code remove_Deleted_RemoveEntry} is a test on
+     * {@link EmployeeSkillIndex#remove(EmployeeSkillKey)} to verify if the method
+     * will remove the indexed employee's skill with the specific id.
+     */
+    @Test
+    void remove_Deleted_RemoveEntry() {
+        employeeSkillIndex.remove(new EmployeeSkillKey("E", SKILL_ID));
+
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, TestCompany.TEST_ID, 4, 200,
+                Integer.MIN_VALUE, EmployeeSkillSortOrder.COST, 20);
+
+        assertEquals(List.of("A"), employeeIds(found));
+    }
+
+    /**
+     * {@code removeEmployee_Deleted_RemoveEntries} is a test on
+     * {@link EmployeeSkillIndex#removeEmployee(String)} to verify if the method
+     * will remove the indexed employee's skills of the employee with the
+     * specific id.
+     */
+    @Test
+    void removeEmployee_Deleted_RemoveEntries() {
+        employeeSkillIndex.removeEmployee("E");
+
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, TestCompany.TEST_ID, 4, 200,
+                Integer.MIN_VALUE, EmployeeSkillSortOrder.COST, 20);
+
+        assertEquals(List.of("A"), employeeIds(found));
+    }
+
+    /**
+     * {@code removeSkill_Deleted_RemoveEntries} is a test on
+     * {@link EmployeeSkillIndex#removeSkill(String)} to verify if the method will
+     * remove the indexed employee's skills of the skill with the specific id and
+     * keep those of the other skills.
+     */
+    @Test
+    void removeSkill_Deleted_RemoveEntries() {
+        employeeSkillIndex.removeSkill(SKILL_ID);
+
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, null, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Integer.MIN_VALUE, EmployeeSkillSortOrder.RATING, 3);
+        List<EmployeeSkillEntry> other = employeeSkillIndex.search("Plumber", null, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Integer.MIN_VALUE, EmployeeSkillSortOrder.RATING, 3);
+
+        assertTrue(found.isEmpty());
+        assertEquals(List.of("F"), employeeIds(other));
+    }
+
+    /**
+     * {@code removeCompany_Deleted_RemoveEntries} is a test on
+     * {@link EmployeeSkillIndex#removeCompany(String)} to verify if the method
+     * will remove the indexed employee's skills of the company with the specific
+     * id, so that a top-k search is filled by the other companies.
+     */
+    @Test
+    void removeCompany_Deleted_RemoveEntries() {
+        employeeSkillIndex.removeCompany(OTHER_COMPANY_ID);
+
+        List<EmployeeSkillEntry> found = employeeSkillIndex.search(SKILL_ID, null, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Integer.MIN_VALUE, EmployeeSkillSortOrder.RATING, 3);
+        List<EmployeeSkillEntry> other = employeeSkillIndex.search("Plumber", null, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, Integer.MIN_VALUE, EmployeeSkillSortOrder.RATING, 3);
+
+        assertEquals(List.of("C"), employeeIds(found));
+        assertTrue(other.isEmpty());
+    }
+
+    /**
+     * Get the employee's ids of the specific entries.
+     * 
+     * @param entries the entries.
+     * @return the employee's ids of the entries in order.
+     */
+    private static List<String> employeeIds(List<EmployeeSkillEntry> entries) {
+        List<String> employeeIds = new ArrayList<>();
+        for (EmployeeSkillEntry entry : entries) {
+            employeeIds.add(entry.getEmployeeId());
+        }
+        return employeeIds;
+    }
+
+    /**
+     * {@code collate_ExcludeCompany_ReturnOthersSupply} is a test on
+     * {@link EmployeeSkillIndex#collate(String)} to verify if the method will
+     * return the supply of each skill without the employee's skills of the
+     * specific company.
+     */
+    @Test
+    void collate_ExcludeCompany_ReturnOthersSupply() {
+        List<SkillSupply> found = employeeSkillIndex.collate(TestCompany.TEST_ID);
+
+        assertEquals(List.of(new SkillSupply("Plumber", 1, 10, 10, 10, 5),
+                new SkillSupply(SKILL_ID, 4, 100, 250, 155, 4.25)), found);
+    }
+
+    /**
+     * {@code collate_ExcludeAllOfSkill_ReturnWithoutSkill} is a test on
+     * {@link EmployeeSkillIndex#collate(String)} to verify if the method will
+     * leave out the skills held only by the specific company.
+     */
+    @Test
+    void collate_ExcludeAllOfSkill_ReturnWithoutSkill() {
+        List<SkillSupply> found = employeeSkillIndex.collate(OTHER_COMPANY_ID);
+
+        assertEquals(List.of(new SkillSupply(SKILL_ID, 1, 90, 90, 90, 5)), found);
+    }
+
+    /**
+     * {@code collate_AfterPutAndRemove_ReturnUpdatedSupply} is a test on
+     * {@link EmployeeSkillIndex#collate(String)} to verify if the method will
+     * reflect the employee's skills replaced and removed after the index is
+     * built.
+     */
+    @Test
+    void collate_AfterPutAndRemove_ReturnUpdatedSupply() {
+        EmployeeSkill employeeSkill = TestEmployeeSkill.createEmployeeSkill();
+        employeeSkill.setId(new EmployeeSkillKey("B", SKILL_ID));
+        employeeSkill.getCompany().setUEN(OTHER_COMPANY_ID);
+        employeeSkill.setCost(300);
+        employeeSkill.setRating(4.5);
+
+        employeeSkillIndex.put(employeeSkill);
+        employeeSkillIndex.remove(new EmployeeSkillKey("D", SKILL_ID));
+        employeeSkillIndex.remove(new EmployeeSkillKey("F", "Plumber"));
+        List<SkillSupply> found = employeeSkillIndex.collate(TestCompany.TEST_ID);
+
+        assertEquals(List.of(new SkillSupply(SKILL_ID, 3, 120, 300, 190, 4.333333333333333)), found);
+    }
+
+    /**
+     * {@code collate_AfterRemoveSkill_ReturnWithoutSkill} is a test on
+     * {@link EmployeeSkillIndex#collate(String)} to verify if the method will
+     * leave out a skill once it is removed from the index.
+     */
+    @Test
+    void collate_AfterRemoveSkill_ReturnWithoutSkill() {
+        employeeSkillIndex.removeSkill(SKILL_ID);
+        List<SkillSupply> found = employeeSkillIndex.collate(TestCompany.TEST_ID);
+
+        assertEquals(List.of(new SkillSupply("Plumber", 1, 10, 10, 10, 5)), found);
+    }
+
+    /**
+     * {@code collate_AfterRemoveCompany_ReturnWithoutCompany} is a test on
+     * {@link EmployeeSkillIndex#collate(String)} to verify if the method will
+     * subtract the contribution of a company once it is removed from the index,
+     * including its cost extremes, and leave out the skills only it held.
+     */
+    @Test
+    void collate_AfterRemoveCompany_ReturnWithoutCompany() {
+        employeeSkillIndex.removeCompany(OTHER_COMPANY_ID);
+        List<SkillSupply> found = employeeSkillIndex.collate(null);
+
+        assertEquals(List.of(new SkillSupply(SKILL_ID, 1, 90, 90, 90, 5)), found);
+    }
+}
@@ -8,18 +8,24 @@ import java.util.*;
 import com.kaizen.exceptions.*;
 import com.kaizen.model.TestCompany;
 import com.kaizen.model.TestEmployeeSkill;
+import com.kaizen.model.dto.EmployeeSkillEntry;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.EmployeeSkill;
 import com.kaizen.model.entity.EmployeeSkillKey;
 import com.kaizen.repository.EmployeeSkillRepository;
 import com.kaizen.service.company.CompanyService;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
 import com.kaizen.service.employeeSkill.EmployeeSkillService;
 import com.kaizen.service.employeeSkill.EmployeeSkillServiceImpl;
+import com.kaizen.service.employeeSkill.EmployeeSkillSortOrder;
+import com.kaizen.service.employeeSkill.SkillSupply;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -46,6 +52,12 @@ public class EmployeeSkillServiceTest {
     @MockBean
     private CompanyService companyService;
 
+    /**
+     * The mocked employee's skill's index used for testing.
+     */
+    @MockBean
+    private EmployeeSkillIndex employeeSkillIndex;
+
     /**
      * The employee's skill's service used for testing.
      */
@@ -324,6 +336,7 @@ public class EmployeeSkillServiceTest {
         assertSame(employeeSkill, savedEmployeeSkill);
         verify(employeeSkillRepository).findById(employeeSkill.getId());
         verify(employeeSkillRepository).save(employeeSkill);
+        verify(employeeSkillIndex).put(employeeSkill);
     }
 
     /**
@@ -446,23 +459,36 @@ public class EmployeeSkillServiceTest {
 
         verify(employeeSkillRepository).findById(TestEmployeeSkill.TEST_ID);
         verify(employeeSkillRepository).deleteById(TestEmployeeSkill.TEST_ID);
+        verify(employeeSkillIndex).remove(TestEmployeeSkill.TEST_ID);
     }
 
     /**
      * {@code collate_Found_ReturnFound} is a test on
      * {@link EmployeeSkillService#collate(String)} to verify if the method will
-     * call {@link EmployeeSkillRepository#findEmployeeSkillCountAndMinCost()} and
-     * return the list of records.
+     * call {@link EmployeeSkillIndex#collate(String)} and return the supply of the
+     * skills.
      */
     @Test
     void collate_Found_ReturnFound() {
-        List<List<String>> list = new ArrayList<>();
-        when(employeeSkillRepository.findEmployeeSkillCountAndMinCost(TestCompany.TEST_ID)).thenReturn(list);
+        List<SkillSupply> list = new ArrayList<>();
+        when(employeeSkillIndex.collate(TestCompany.TEST_ID)).thenReturn(list);
 
-        List<List<String>> found = employeeSkillService.collate(TestCompany.TEST_ID);
+        List<SkillSupply> found = employeeSkillService.collate(TestCompany.TEST_ID);
 
         assertSame(list, found);
-        verify(employeeSkillRepository).findEmployeeSkillCountAndMinCost(TestCompany.TEST_ID);
+        verify(employeeSkillIndex).collate(TestCompany.TEST_ID);
+    }
+
+    /**
+     * {@code collate_CompanyNull_ThrowNullValueException} is a test on
+     * {@link EmployeeSkillService#collate(String)} to verify if the method will
+     * throw {@link NullValueException} when the specific company id is null.
+     */
+    @Test
+    void collate_CompanyNull_ThrowNullValueException() {
+        assertThrows(NullValueException.class, () -> employeeSkillService.collate(null));
+
+        verify(employeeSkillIndex, never()).collate(any());
     }
 
     /**
@@ -519,4 +545,161 @@ public class EmployeeSkillServiceTest {
         verify(companyService).getCompany(any(String.class));
         verify(employeeSkillRepository).findByCompany(any(Company.class));
     }
+
+    /**
+     * {@code listEmployeeSkillsNotFromCompany_Null_ThrowNullValueException} is a
+     * test on {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String)}
+     * to verify if the method will throw {@link NullValueException} when the
+     * specific company's id is null.
+     */
+    @Test
+    void listEmployeeSkillsNotFromCompany_Null_ThrowNullValueException() {
+        assertThrows(NullValueException.class, () -> {
+            employeeSkillService.listEmployeeSkillsNotFromCompany(null);
+        });
+    }
+
+    /**
+     * {@code listEmployeeSkillsNotFromCompany_Found_ReturnFound} is a test on
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String)} to
+     * verify if the method will call
+     * {@link EmployeeSkillRepository#findNotFromCompany(String, Pageable)} and
+     * return the list of employee's skills not from the company.
+     */
+    @Test
+    void listEmployeeSkillsNotFromCompany_Found_ReturnFound() {
+        List<EmployeeSkill> employeeSkills = new ArrayList<>();
+        when(employeeSkillRepository.findNotFromCompany(TestCompany.TEST_ID, Pageable.unpaged()))
+                .thenReturn(employeeSkills);
+
+        List<EmployeeSkill> found = employeeSkillService.listEmployeeSkillsNotFromCompany(TestCompany.TEST_ID);
+
+        assertSame(employeeSkills, found);
+        verify(employeeSkillRepository).findNotFromCompany(TestCompany.TEST_ID, Pageable.unpaged());
+    }
+
+    /**
+     * {@code listEmployeeSkillsNotFromCompanyPage_FirstPage_ReturnFound} is a test
+     * on
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String, EmployeeSkillSortOrder, EmployeeSkillKey, int)}
+     * to verify if the method will call
+     * {@link EmployeeSkillRepository#findNotFromCompany(String, Pageable)} with the
+     * sort of the sort order and the page size clamped to the maximum page size.
+     */
+    @Test
+    void listEmployeeSkillsNotFromCompanyPage_FirstPage_ReturnFound() {
+        List<EmployeeSkill> employeeSkills = new ArrayList<>();
+        Pageable pageable = PageRequest.of(0, EmployeeSkillServiceImpl.MAX_PAGE_SIZE,
+                EmployeeSkillSortOrder.RATING.getSort());
+        when(employeeSkillRepository.findNotFromCompany(TestCompany.TEST_ID, pageable)).thenReturn(employeeSkills);
+
+        List<EmployeeSkill> found = employeeSkillService.listEmployeeSkillsNotFromCompany(TestCompany.TEST_ID,
+                EmployeeSkillSortOrder.RATING, null, Integer.MAX_VALUE);
+
+        assertSame(employeeSkills, found);
+        verify(employeeSkillRepository).findNotFromCompany(TestCompany.TEST_ID, pageable);
+    }
+
+    /**
+     * {@code listEmployeeSkillsNotFromCompanyPage_CursorNotFound_ThrowObjectNotExistsException}
+     * is a test on
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String, EmployeeSkillSortOrder, EmployeeSkillKey, int)}
+     * to verify if the method will throw {@link ObjectNotExistsException} when the
+     * employee's skill of the cursor does not exists.
+     */
+    @Test
+    void listEmployeeSkillsNotFromCompanyPage_CursorNotFound_ThrowObjectNotExistsException() {
+        when(employeeSkillRepository.findById(TestEmployeeSkill.TEST_ID)).thenReturn(Optional.empty());
+
+        assertThrows(ObjectNotExistsException.class, () -> {
+            employeeSkillService.listEmployeeSkillsNotFromCompany(TestCompany.TEST_ID, EmployeeSkillSortOrder.COST,
+                    TestEmployeeSkill.TEST_ID, 10);
+        });
+
+        verify(employeeSkillRepository).findById(TestEmployeeSkill.TEST_ID);
+    }
+
+    /**
+     * {@code listEmployeeSkillsNotFromCompanyPage_AfterCursor_ReturnFound} is a
+     * test on
+     * {@link EmployeeSkillService#listEmployeeSkillsNotFromCompany(String, EmployeeSkillSortOrder, EmployeeSkillKey, int)}
+     * to verify if the method will call
+     * {@link EmployeeSkillRepository#findNotFromCompanyAfterCost(String, double, String, String, Pageable)}
+     * with the cost, skill's id and employee's id of the cursor.
+     */
+    @Test
+    void listEmployeeSkillsNotFromCompanyPage_AfterCursor_ReturnFound() {
+        EmployeeSkill cursor = TestEmployeeSkill.createEmployeeSkill();
+        cursor.setCost(42);
+        List<EmployeeSkill> employeeSkills = new ArrayList<>();
+        when(employeeSkillRepository.findById(TestEmployeeSkill.TEST_ID)).thenReturn(Optional.of(cursor));
+        when(employeeSkillRepository.findNotFromCompanyAfterCost(TestCompany.TEST_ID, 42,
+                TestEmployeeSkill.TEST_ID.getSkill(), TestEmployeeSkill.TEST_ID.getEmployee(), PageRequest.of(0, 10)))
+                .thenReturn(employeeSkills);
+
+        List<EmployeeSkill> found = employeeSkillService.listEmployeeSkillsNotFromCompany(TestCompany.TEST_ID,
+                EmployeeSkillSortOrder.COST, TestEmployeeSkill.TEST_ID, 10);
+
+        assertSame(employeeSkills, found);
+        verify(employeeSkillRepository).findNotFromCompanyAfterCost(TestCompany.TEST_ID, 42,
+                TestEmployeeSkill.TEST_ID.getSkill(), TestEmployeeSkill.TEST_ID.getEmployee(), PageRequest.of(0, 10));
+    }
+
+    /**
+     * {@code searchEmployeeSkills_NullSkillId_ThrowNullValueException} is a test on
+     * {@link EmployeeSkillService#searchEmployeeSkills(String, String, Double, Double, Integer, EmployeeSkillSortOrder, int)}
+     * to verify if the method will throw {@link NullValueException} when the
+     * specific skill's id is null.
+     */
+    @Test
+    void searchEmployeeSkills_NullSkillId_ThrowNullValueException() {
+        assertThrows(NullValueException.class, () -> {
+            employeeSkillService.searchEmployeeSkills(null, TestCompany.TEST_ID, null, null, null,
+                    EmployeeSkillSortOrder.COST, 10);
+        });
+    }
+
+    /**
+     * {@code searchEmployeeSkills_Found_ReturnInIndexOrder} is a test on
+     * {@link EmployeeSkillService#searchEmployeeSkills(String, String, Double, Double, Integer, EmployeeSkillSortOrder, int)}
+     * to verify if the method will call
+     * {@link EmployeeSkillIndex#search(String, String, double, double, int, EmployeeSkillSortOrder, int)}
+     * with open bounds for the missing ranges, load only the found employee's
+     * skills and return them in the order of the index.
+     */
+    @Test
+    void searchEmployeeSkills_Found_ReturnInIndexOrder() {
+        String skillId = TestEmployeeSkill.TEST_ID.getSkill();
+        EmployeeSkill first = TestEmployeeSkill.createEmployeeSkill();
+        first.setId(new EmployeeSkillKey("A", skillId));
+        EmployeeSkill second = TestEmployeeSkill.createEmployeeSkill();
+        second.setId(new EmployeeSkillKey("B", skillId));
+        List<EmployeeSkillEntry> entries = List.of(new EmployeeSkillEntry(second), new EmployeeSkillEntry(first));
+        when(employeeSkillIndex.search(skillId, TestCompany.TEST_ID, 4.0, Double.POSITIVE_INFINITY,
+                Integer.MIN_VALUE, EmployeeSkillSortOrder.RATING, 10)).thenReturn(entries);
+        when(employeeSkillRepository.findBySkillAndEmployeeIds(skillId, List.of("B", "A")))
+                .thenReturn(List.of(first, second));
+
+        List<EmployeeSkill> found = employeeSkillService.searchEmployeeSkills(skillId, TestCompany.TEST_ID, 4.0,
+                null, null, EmployeeSkillSortOrder.RATING, 10);
+
+        assertEquals(List.of(second, first), found);
+        verify(employeeSkillRepository).findBySkillAndEmployeeIds(skillId, List.of("B", "A"));
+    }
+
+    /**
+     * {@code searchEmployeeSkills_NotFound_ReturnEmptyWithoutRepository} is a test
+     * on
+     * {@link EmployeeSkillService#searchEmployeeSkills(String, String, Double, Double, Integer, EmployeeSkillSortOrder, int)}
+     * to verify if the method will return an empty list without calling the
+     * repository when the index finds nothing.
+     */
+    @Test
+    void searchEmployeeSkills_NotFound_ReturnEmptyWithoutRepository() {
+        List<EmployeeSkill> found = employeeSkillService.searchEmployeeSkills(TestEmployeeSkill.TEST_ID.getSkill(),
+                TestCompany.TEST_ID, null, 200.0, null, EmployeeSkillSortOrder.COST, 10);
+
+        assertTrue(found.isEmpty());
+        verifyNoInteractions(employeeSkillRepository);
+    }
 }
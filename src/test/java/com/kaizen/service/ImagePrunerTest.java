@@ -0,0 +1,316 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import com.kaizen.client.ObjectStore;
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.TestImage;
+import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ImageFile;
+import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.repository.ImageFileRepository;
+import com.kaizen.repository.ImageRepository;
+import com.kaizen.service.image.ImagePruner;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@code ImagePrunerTest} is a test class to do unit testing on
+ * {@link ImagePruner}.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-21
+ */
+public class ImagePrunerTest {
+    /**
+     * The mocked image's repository used for testing.
+     */
+    private ImageRepository imageRepository;
+
+    /**
+     * The mocked employee's repository used for testing.
+     */
+    private EmployeeRepository employeeRepository;
+
+    /**
+     * The mocked image file's repository used for testing.
+     */
+    private ImageFileRepository imageFileRepository;
+
+    /**
+     * The mocked object store used for testing.
+     */
+    private ObjectStore objectStore;
+
+    /**
+     * The mocked transaction manager used for testing.
+     */
+    private PlatformTransactionManager transactionManager;
+
+    /**
+     * The image's pruner used for testing.
+     */
+    private ImagePruner imagePruner;
+
+    /**
+     * {@code setUp} is apply before each tests to create a pruner with a queue of
+     * one employee and a batch of two images.
+     */
+    @BeforeEach
+    public void setUp() {
+        imageRepository = mock(ImageRepository.class);
+        employeeRepository = mock(EmployeeRepository.class);
+        imageFileRepository = mock(ImageFileRepository.class);
+        objectStore = mock(ObjectStore.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        imagePruner = new ImagePruner(imageRepository, employeeRepository, imageFileRepository, objectStore,
+                transactionManager, 1, 2);
+    }
+
+    /**
+     * {@code tearDown} is apply after each tests to stop the pruner.
+     */
+    @AfterEach
+    public void tearDown() {
+        imagePruner.shutdown();
+    }
+
+    /**
+     * {@code prune_Replaced_DeleteRowsThenFiles} is a test on
+     * {@link ImagePruner#prune(String)} to verify if the method will delete the
+     * replaced images from the repository in a committed transaction before
+     * deleting each of their distinct files from the object store.
+     */
+    @Test
+    public void prune_Replaced_DeleteRowsThenFiles() {
+        Image image = TestImage.createImage();
+        image.setSmallURL("small_url");
+        image.setMediumURL("profile_url");
+        image.setLargeURL("profile_url");
+        List<Image> images = List.of(image);
+        when(imageRepository.findReplacedByEmployeeId(TestEmployee.TEST_ID)).thenReturn(images);
+
+        int deleted = imagePruner.prune(TestEmployee.TEST_ID);
+
+        assertEquals(1, deleted);
+        InOrder inOrder = inOrder(imageRepository, transactionManager, objectStore);
+        inOrder.verify(imageRepository).deleteAllInBatch(images);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(objectStore).deleteFile("profile_url");
+        inOrder.verify(objectStore).deleteFile("small_url");
+        verifyNoMoreInteractions(objectStore);
+    }
+
+    /**
+     * {@code prune_DeleteFileFailed_DeleteOtherFiles} is a test on
+     * {@link ImagePruner#prune(String)} to verify if the method will keep deleting
+     * the other files when a file could not be deleted.
+     */
+    @Test
+    public void prune_DeleteFileFailed_DeleteOtherFiles() {
+        Image image = TestImage.createImage();
+        image.setSmallURL("small_url");
+        when(imageRepository.findReplacedByEmployeeId(TestEmployee.TEST_ID)).thenReturn(List.of(image));
+        doThrow(new IllegalStateException()).when(objectStore).deleteFile("profile_url");
+
+        int deleted = imagePruner.prune(TestEmployee.TEST_ID);
+
+        assertEquals(1, deleted);
+        verify(objectStore).deleteFile("small_url");
+    }
+
+    /**
+     * {@code deleteImages_StillReferenced_KeepFiles} is a test on
+     * {@link ImagePruner#deleteImages(List)} to verify if the method will release
+     * the stored file of an image's content and keep its files while another
+     * image references it.
+     */
+    @Test
+    public void deleteImages_StillReferenced_KeepFiles() {
+        Image image = TestImage.createImage();
+        image.setContentHash("hash");
+        when(imageFileRepository.findByContentHash("hash")).thenReturn(Optional.of(new ImageFile("hash", "url")));
+        when(imageFileRepository.deleteUnreferenced("hash")).thenReturn(0);
+
+        int deleted = imagePruner.deleteImages(List.of(image));
+
+        assertEquals(1, deleted);
+        verify(imageFileRepository).release("hash");
+        verifyNoInteractions(objectStore);
+    }
+
+    /**
+     * {@code deleteImages_LastReference_DeleteStoredFiles} is a test on
+     * {@link ImagePruner#deleteImages(List)} to verify if the method will delete
+     * the files of the stored file, including its variants, once the last image
+     * that references it is deleted.
+     */
+    @Test
+    public void deleteImages_LastReference_DeleteStoredFiles() {
+        Image image = TestImage.createImage();
+        image.setContentHash("hash");
+        ImageFile imageFile = new ImageFile("hash", "url");
+        imageFile.setSmallURL("small_url");
+        when(imageFileRepository.findByContentHash("hash")).thenReturn(Optional.of(imageFile));
+        when(imageFileRepository.deleteUnreferenced("hash")).thenReturn(1);
+
+        imagePruner.deleteImages(List.of(image));
+
+        InOrder inOrder = inOrder(imageFileRepository, objectStore);
+        inOrder.verify(imageFileRepository).release("hash");
+        inOrder.verify(imageFileRepository).deleteUnreferenced("hash");
+        inOrder.verify(objectStore).deleteFile("url");
+        inOrder.verify(objectStore).deleteFile("small_url");
+        verifyNoMoreInteractions(objectStore);
+    }
+
+    /**
+     * {@code deleteImages_ReleaseFailed_RollbackKeepFiles} is a test on
+     * {@link ImagePruner#deleteImages(List)} to verify if the method will roll
+     * back the deleted rows and keep the files when a stored file could not be
+     * released.
+     */
+    @Test
+    public void deleteImages_ReleaseFailed_RollbackKeepFiles() {
+        Image image = TestImage.createImage();
+        image.setContentHash("hash");
+        when(imageFileRepository.release("hash")).thenThrow(new IllegalStateException());
+
+        assertThrows(IllegalStateException.class, () -> imagePruner.deleteImages(List.of(image)));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verifyNoInteractions(objectStore);
+    }
+
+    /**
+     * {@code deleteImages_InTransaction_DeleteFilesAfterCommit} is a test on
+     * {@link ImagePruner#deleteImages(List)} to verify if the method will only
+     * delete the files once the surrounding transaction is committed.
+     */
+    @Test
+    public void deleteImages_InTransaction_DeleteFilesAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            imagePruner.deleteImages(List.of(TestImage.createImage()));
+
+            verify(imageRepository).deleteAllInBatch(anyIterable());
+            verifyNoInteractions(objectStore);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+                    .getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+            verify(objectStore).deleteFile("profile_url");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * {@code deleteEmployeeImages_Shared_ReleaseStoredFile} is a test on
+     * {@link ImagePruner#deleteEmployeeImages(String)} to verify if the method
+     * will delete every image of the employee and release the stored file of
+     * their content, so that it can be reclaimed once no image references it.
+     */
+    @Test
+    public void deleteEmployeeImages_Shared_ReleaseStoredFile() {
+        Image image = TestImage.createImage();
+        image.setContentHash("hash");
+        List<Image> images = List.of(image);
+        when(imageRepository.findByEmployeeId(TestEmployee.TEST_ID)).thenReturn(images);
+        when(imageFileRepository.findByContentHash("hash")).thenReturn(Optional.of(new ImageFile("hash", "url")));
+        when(imageFileRepository.deleteUnreferenced("hash")).thenReturn(1);
+
+        int deleted = imagePruner.deleteEmployeeImages(TestEmployee.TEST_ID);
+
+        assertEquals(1, deleted);
+        verify(imageRepository).deleteAllInBatch(images);
+        verify(imageFileRepository).release("hash");
+        verify(objectStore).deleteFile("url");
+    }
+
+    /**
+     * {@code deleteCompanyImages_Found_DeleteImages} is a test on
+     * {@link ImagePruner#deleteCompanyImages(String)} to verify if the method
+     * will delete every image of the employees of the company.
+     */
+    @Test
+    public void deleteCompanyImages_Found_DeleteImages() {
+        List<Image> images = List.of(TestImage.createImage());
+        when(imageRepository.findByCompanyId(TestCompany.TEST_ID)).thenReturn(images);
+
+        int deleted = imagePruner.deleteCompanyImages(TestCompany.TEST_ID);
+
+        assertEquals(1, deleted);
+        verify(imageRepository).deleteAllInBatch(images);
+    }
+
+    /**
+     * {@code pruneUnreferenced_Found_DeleteFiles} is a test on
+     * {@link ImagePruner#pruneUnreferenced()} to verify if the method will delete
+     * the files of the unreferenced stored files, but not of those referenced
+     * again since they were found.
+     */
+    @Test
+    public void pruneUnreferenced_Found_DeleteFiles() {
+        when(imageFileRepository.findUnreferenced(any(Pageable.class)))
+                .thenReturn(List.of(new ImageFile("hash", "url"), new ImageFile("other_hash", "other_url")));
+        when(imageFileRepository.deleteUnreferenced("hash")).thenReturn(1);
+        when(imageFileRepository.deleteUnreferenced("other_hash")).thenReturn(0);
+
+        int deleted = imagePruner.pruneUnreferenced();
+
+        assertEquals(1, deleted);
+        verify(objectStore).deleteFile("url");
+        verify(objectStore, never()).deleteFile("other_url");
+    }
+
+    /**
+     * {@code pruneReplaced_None_DeleteNothing} is a test on
+     * {@link ImagePruner#pruneReplaced()} to verify if the method will find at
+     * most a batch of replaced images and delete nothing when there are none.
+     */
+    @Test
+    public void pruneReplaced_None_DeleteNothing() {
+        when(imageRepository.findReplaced(any(Pageable.class))).thenReturn(new ArrayList<>());
+
+        int deleted = imagePruner.pruneReplaced();
+
+        assertEquals(0, deleted);
+        verify(imageRepository).findReplaced(argThat(pageable -> pageable.getPageSize() == 2));
+        verify(imageRepository, never()).deleteAllInBatch(anyIterable());
+        verifyNoInteractions(objectStore);
+    }
+
+    /**
+     * {@code backfillProfileImages_Backfill} is a test on
+     * {@link ImagePruner#backfillProfileImages()} to verify if the method will
+     * point the employees to their newest images before copying the images'
+     * URLs.
+     */
+    @Test
+    public void backfillProfileImages_Backfill() {
+        when(employeeRepository.backfillProfileImageURLs()).thenReturn(3);
+
+        int backfilled = imagePruner.backfillProfileImages();
+
+        assertEquals(3, backfilled);
+        InOrder inOrder = inOrder(employeeRepository);
+        inOrder.verify(employeeRepository).backfillProfileImageIds();
+        inOrder.verify(employeeRepository).backfillProfileImageURLs();
+    }
+}
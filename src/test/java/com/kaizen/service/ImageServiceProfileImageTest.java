@@ -0,0 +1,118 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.transaction.Transactional;
+
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.entity.Employee;
+import com.kaizen.model.entity.Image;
+import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.security.jwt.JwtConfiguration;
+import com.kaizen.service.image.ImagePruner;
+import com.kaizen.service.image.ImageService;
+import com.kaizen.service.image.ImageServiceImpl;
+import com.kaizen.service.image.ImageThumbnailer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * {@code ImageServiceProfileImageTest} is a test class to verify that
+ * {@link ImageServiceImpl} keeps the created images and the employees' profile
+ * images in the same transaction, using H2 embeded database.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-23
+ */
+@Import({ JwtConfiguration.class, ImageServiceImpl.class })
+@DataJpaTest
+@Transactional
+public class ImageServiceProfileImageTest {
+    /**
+     * The test entity manager used for testing.
+     */
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    /**
+     * The image's service used for testing.
+     */
+    @Autowired
+    private ImageService imageService;
+
+    /**
+     * The employee's repository used for testing.
+     */
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    /**
+     * The mocked image's thumbnailer used for testing.
+     */
+    @MockBean
+    private ImageThumbnailer imageThumbnailer;
+
+    /**
+     * The mocked image's pruner used for testing.
+     */
+    @MockBean
+    private ImagePruner imagePruner;
+
+    /**
+     * {@code addImage_New_SaveImageAndPointEmployee} is a test on
+     * {@link ImageService#addImage(Image)} to verify if the method will keep the
+     * created image when it points the employee's profile image to it, as the
+     * pending insert must be flushed before the persistence context is cleared.
+     */
+    @Test
+    public void addImage_New_SaveImageAndPointEmployee() {
+        testEntityManager.merge(TestCompany.createCompany());
+        Employee employee = testEntityManager.merge(TestEmployee.createEmployee());
+        testEntityManager.flush();
+
+        Image saved = imageService.addImage(new Image("profile_url", employee));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Image foundImage = testEntityManager.find(Image.class, saved.getId());
+        Employee foundEmployee = testEntityManager.find(Employee.class, employee.getWorkPermitNumber());
+        assertNotNull(foundImage);
+        assertEquals("profile_url", foundImage.getProfileURL());
+        assertNotNull(foundEmployee.getProfileImage());
+        assertEquals(saved.getId(), foundEmployee.getProfileImage().getImageId());
+        assertEquals("profile_url", foundEmployee.getProfileImage().getUrl());
+        assertEquals("profile_url", imageService.getProfileImageURL(foundEmployee));
+    }
+
+    /**
+     * {@code save_EmployeeWithoutProfileImage_KeepProfileImage} is a test on
+     * {@link EmployeeRepository#save(Object)} to verify if saving an employee
+     * from a request body, which has no profile image, will keep the profile
+     * image of the employee in the repository.
+     */
+    @Test
+    public void save_EmployeeWithoutProfileImage_KeepProfileImage() {
+        testEntityManager.merge(TestCompany.createCompany());
+        Employee employee = testEntityManager.merge(TestEmployee.createEmployee());
+        testEntityManager.flush();
+        Image saved = imageService.addImage(new Image("profile_url", employee));
+
+        Employee fromRequest = TestEmployee.createEmployee();
+        fromRequest.setName("New Name");
+        employeeRepository.save(fromRequest);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Employee foundEmployee = testEntityManager.find(Employee.class, employee.getWorkPermitNumber());
+        assertEquals("New Name", foundEmployee.getName());
+        assertEquals(saved.getId(), foundEmployee.getProfileImage().getImageId());
+        assertEquals("profile_url", foundEmployee.getProfileImage().getUrl());
+    }
+}
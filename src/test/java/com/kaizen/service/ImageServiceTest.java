@@ -6,13 +6,18 @@ import static org.mockito.Mockito.*;
 import java.util.*;
 
 import com.kaizen.exceptions.*;
+import com.kaizen.model.ImageSize;
 import com.kaizen.model.TestEmployee;
 import com.kaizen.model.TestImage;
 import com.kaizen.model.entity.Employee;
 import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ProfileImage;
+import com.kaizen.repository.EmployeeRepository;
 import com.kaizen.repository.ImageRepository;
 import com.kaizen.service.image.ImageService;
+import com.kaizen.service.image.ImagePruner;
 import com.kaizen.service.image.ImageServiceImpl;
+import com.kaizen.service.image.ImageThumbnailer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +43,24 @@ public class ImageServiceTest {
     @MockBean
     private ImageRepository imageRepository;
 
+    /**
+     * The mocked employee's repository used for testing.
+     */
+    @MockBean
+    private EmployeeRepository employeeRepository;
+
+    /**
+     * The mocked image's thumbnailer used for testing.
+     */
+    @MockBean
+    private ImageThumbnailer imageThumbnailer;
+
+    /**
+     * The mocked image's pruner used for testing.
+     */
+    @MockBean
+    private ImagePruner imagePruner;
+
     /**
      * The image's service used for testing.
      */
@@ -76,7 +99,9 @@ public class ImageServiceTest {
      * {@code addImage_New_ReturnSaved} is a test on
      * {@link ImageService#addImage(Image)} to verify if the method will call
      * {@link ImageRepository#findById(String)} and
-     * {@link ImageRepository#save(Image)} and save and return the specific image.
+     * {@link ImageRepository#save(Image)} and save and return the specific image,
+     * point its employee's profile image to it, queue it to be resized and queue
+     * the images it replaced to be pruned.
      */
     @Test
     void addImage_New_ReturnSaved() {
@@ -87,6 +112,10 @@ public class ImageServiceTest {
 
         assertSame(image, savedImage);
         verify(imageRepository).save(image);
+        verify(employeeRepository).updateProfileImage(TestEmployee.TEST_ID, TestImage.TEST_ID, "profile_url", null,
+                null, null);
+        verify(imageThumbnailer).enqueue(TestImage.TEST_ID);
+        verify(imagePruner).enqueue(TestEmployee.TEST_ID);
     }
 
     /**
@@ -123,18 +152,41 @@ public class ImageServiceTest {
      * {@code deleteImage_Deleted} is a test on
      * {@link ImageService#deleteImage(String)} to verify if the method will call
      * {@link ImageRepository#findById(String)} and
-     * {@link ImageRepository#deleteById(String)} and delete the image with specific
-     * id.
+     * {@link ImagePruner#deleteImages(List)} and delete the image with specific
+     * id, its file and the profile images that point to it.
      */
     @Test
     void deleteImage_Deleted() {
-        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(TestImage.createImage()));
-        doNothing().when(imageRepository).deleteById(TestImage.TEST_ID);
+        Image image = TestImage.createImage();
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
 
         imageService.deleteImage(TestImage.TEST_ID);
 
         verify(imageRepository).findById(TestImage.TEST_ID);
-        verify(imageRepository).deleteById(TestImage.TEST_ID);
+        verify(employeeRepository).clearProfileImage(TestImage.TEST_ID);
+        verify(imagePruner).deleteImages(List.of(image));
+    }
+
+    /**
+     * {@code addImage_Resized_NotQueued} is a test on
+     * {@link ImageService#addImage(Image)} to verify if the method will point the
+     * employee's profile image to the variants of the specific image and not
+     * queue it to be resized when it reuses the variants of a stored file.
+     */
+    @Test
+    void addImage_Resized_NotQueued() {
+        Image image = TestImage.createImage();
+        image.setSmallURL("small_url");
+        image.setMediumURL("medium_url");
+        image.setLargeURL("large_url");
+        when(imageRepository.save(image)).thenReturn(image);
+
+        imageService.addImage(image);
+
+        verify(employeeRepository).updateProfileImage(TestEmployee.TEST_ID, TestImage.TEST_ID, "profile_url",
+                "small_url", "medium_url", "large_url");
+        verify(imageThumbnailer, never()).enqueue(anyLong());
+        verify(imagePruner).enqueue(TestEmployee.TEST_ID);
     }
 
     /**
@@ -150,38 +202,102 @@ public class ImageServiceTest {
     }
 
     /**
-     * {@code getProfileImageURL_NotFound_ThrowObjectNotExistsException} is a test
-     * on {@link ImageService#getProfileImageURL(Employee)} to verify if the method
-     * will call {@link ImageRepository#findByEmployee(Employee)} and return a
-     * default image url.
+     * {@code getProfileImageURL_NotFound_ReturnDefault} is a test on
+     * {@link ImageService#getProfileImageURL(Employee)} to verify if the method
+     * will return a default image url without querying the repository when the
+     * employee has no profile image.
      */
     @Test
     void getProfileImageURL_NotFound_ReturnDefault() {
         Employee employee = TestEmployee.createEmployee();
-        when(imageRepository.findByEmployee(employee)).thenReturn(new ArrayList<>());
 
         String foundImageURL = imageService.getProfileImageURL(employee);
 
         assertSame(TestImage.DEFAULT_IMAGE_URL, foundImageURL);
-        verify(imageRepository).findByEmployee(employee);
+        verifyNoInteractions(imageRepository);
     }
 
     /**
      * {@code getProfileImageURL_Found_ReturnFound} is a test on
      * {@link ImageService#getProfileImageURL(Employee)} to verify if the method
-     * will call {@link ImageRepository#findByEmployee(Employee)} and return the
-     * image with the specific id.
+     * will return the url of the employee's profile image without querying the
+     * repository.
      */
     @Test
     void getProfileImageURL_Found_ReturnFound() {
-        Image image = TestImage.createImage();
-        List<Image> images = new ArrayList<>();
-        images.add(image);
-        when(imageRepository.findByEmployee(image.getEmployee())).thenReturn(images);
+        Employee employee = TestEmployee.createEmployee();
+        employee.setProfileImage(new ProfileImage(TestImage.TEST_ID, "profile_url", null, null, null));
+
+        String foundImageURL = imageService.getProfileImageURL(employee);
+
+        assertEquals("profile_url", foundImageURL);
+        verifyNoInteractions(imageRepository);
+    }
+
+    /**
+     * {@code getProfileImageURLs_Null_ThrowNullValueException} is a test on
+     * {@link ImageService#getProfileImageURLs(Collection)} to verify if the method
+     * will throw {@link NullValueException} when the specific employees is null.
+     */
+    @Test
+    void getProfileImageURLs_Null_ThrowNullValueException() {
+        assertThrows(NullValueException.class, () -> {
+            imageService.getProfileImageURLs(null);
+        });
+    }
+
+    /**
+     * {@code getProfileImageURLs_Empty_ReturnEmpty} is a test on
+     * {@link ImageService#getProfileImageURLs(Collection)} to verify if the method
+     * will return an empty map when there are no employees.
+     */
+    @Test
+    void getProfileImageURLs_Empty_ReturnEmpty() {
+        Map<String, String> foundImageURLs = imageService.getProfileImageURLs(new ArrayList<>());
+
+        assertTrue(foundImageURLs.isEmpty());
+    }
+
+    /**
+     * {@code getProfileImageURLs_Found_ReturnFoundOrDefault} is a test on
+     * {@link ImageService#getProfileImageURLs(Collection)} to verify if the method
+     * will return the profile image url of each employee, or the default image url
+     * if the employee has no image, without querying the repository.
+     */
+    @Test
+    void getProfileImageURLs_Found_ReturnFoundOrDefault() {
+        Employee employeeWithImage = TestEmployee.createEmployee();
+        employeeWithImage.setProfileImage(new ProfileImage(TestImage.TEST_ID, "profile_url", null, null, null));
+        Employee employeeWithoutImage = TestEmployee.createEmployee();
+        employeeWithoutImage.setWorkPermitNumber(TestEmployee.TEST_ID + "1");
+
+        Map<String, String> foundImageURLs = imageService
+                .getProfileImageURLs(List.of(employeeWithImage, employeeWithoutImage));
+
+        assertEquals(2, foundImageURLs.size());
+        assertEquals("profile_url", foundImageURLs.get(employeeWithImage.getWorkPermitNumber()));
+        assertEquals(TestImage.DEFAULT_IMAGE_URL, foundImageURLs.get(employeeWithoutImage.getWorkPermitNumber()));
+        verifyNoInteractions(imageRepository);
+    }
+
+    /**
+     * {@code getProfileImageURLs_Size_ReturnVariantOrOriginal} is a test on
+     * {@link ImageService#getProfileImageURLs(Collection, ImageSize)} to verify if
+     * the method will return the URL of the specific size of each profile image,
+     * or the original URL if the image is not resized yet.
+     */
+    @Test
+    void getProfileImageURLs_Size_ReturnVariantOrOriginal() {
+        Employee resized = TestEmployee.createEmployee();
+        resized.setProfileImage(new ProfileImage(TestImage.TEST_ID, "profile_url", "small_url", null, null));
+        Employee notResized = TestEmployee.createEmployee();
+        notResized.setWorkPermitNumber(TestEmployee.TEST_ID + "1");
+        notResized.setProfileImage(new ProfileImage(TestImage.TEST_ID + 1, "other_url", null, null, null));
 
-        String foundImageURL = imageService.getProfileImageURL(image.getEmployee());
+        Map<String, String> foundImageURLs = imageService.getProfileImageURLs(List.of(resized, notResized),
+                ImageSize.SMALL);
 
-        assertEquals(image.getProfileURL(), foundImageURL);
-        verify(imageRepository).findByEmployee(image.getEmployee());
+        assertEquals("small_url", foundImageURLs.get(resized.getWorkPermitNumber()));
+        assertEquals("other_url", foundImageURLs.get(notResized.getWorkPermitNumber()));
     }
 }
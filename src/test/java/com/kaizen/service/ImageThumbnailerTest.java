@@ -0,0 +1,297 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+
+import javax.imageio.ImageIO;
+
+import com.kaizen.client.LocalObjectStore;
+import com.kaizen.model.TestImage;
+import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ImageFile;
+import com.kaizen.repository.EmployeeRepository;
+import com.kaizen.repository.ImageFileRepository;
+import com.kaizen.repository.ImageRepository;
+import com.kaizen.service.image.ImageThumbnailer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+/**
+ * {@code ImageThumbnailerTest} is a test class to do unit testing on
+ * {@link ImageThumbnailer} with a {@link LocalObjectStore} in a temporary
+ * directory.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-20
+ */
+public class ImageThumbnailerTest {
+    /**
+     * The directory of the local object store used for testing.
+     */
+    @TempDir
+    Path directory;
+
+    /**
+     * The mocked image's repository used for testing.
+     */
+    private ImageRepository imageRepository;
+
+    /**
+     * The mocked employee's repository used for testing.
+     */
+    private EmployeeRepository employeeRepository;
+
+    /**
+     * The mocked image file's repository used for testing.
+     */
+    private ImageFileRepository imageFileRepository;
+
+    /**
+     * The local object store used for testing.
+     */
+    private LocalObjectStore localObjectStore;
+
+    /**
+     * The image's thumbnailer used for testing.
+     */
+    private ImageThumbnailer imageThumbnailer;
+
+    /**
+     * {@code setUp} is apply before each tests to create a thumbnailer with one
+     * thread and a queue of one image.
+     * 
+     * @throws Exception if the local object store could not be created.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        imageRepository = mock(ImageRepository.class);
+        employeeRepository = mock(EmployeeRepository.class);
+        imageFileRepository = mock(ImageFileRepository.class);
+        localObjectStore = new LocalObjectStore(directory.toString(), "/objects");
+        imageThumbnailer = new ImageThumbnailer(imageRepository, employeeRepository, imageFileRepository,
+                localObjectStore, 1, 1);
+    }
+
+    /**
+     * {@code tearDown} is apply after each tests to stop the thumbnailer.
+     */
+    @AfterEach
+    public void tearDown() {
+        imageThumbnailer.shutdown();
+    }
+
+    /**
+     * {@code resize_Large_WriteEachVariant} is a test on
+     * {@link ImageThumbnailer#resize(Long)} to verify if the method will write a
+     * variant of each size that keeps the aspect ratio, and use the original for
+     * the sizes it already fits.
+     * 
+     * @throws Exception if the images could not be read or written.
+     */
+    @Test
+    public void resize_Large_WriteEachVariant() throws Exception {
+        Image image = storeImage(new BufferedImage(512, 256, BufferedImage.TYPE_INT_RGB));
+
+        imageThumbnailer.resize(TestImage.TEST_ID);
+
+        ArgumentCaptor<String> small = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> medium = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> large = ArgumentCaptor.forClass(String.class);
+        verify(imageRepository).updateVariantURLs(eq(TestImage.TEST_ID), small.capture(), medium.capture(),
+                large.capture());
+        assertEquals("/objects/worker-small.jpg", small.getValue());
+        assertEquals(64, readImage(small.getValue()).getWidth());
+        assertEquals(32, readImage(small.getValue()).getHeight());
+        assertEquals(256, readImage(medium.getValue()).getWidth());
+        assertEquals(image.getProfileURL(), large.getValue());
+        verify(employeeRepository).updateProfileImageVariantURLs(TestImage.TEST_ID, small.getValue(),
+                medium.getValue(), large.getValue());
+    }
+
+    /**
+     * {@code resize_NotImage_UseOriginal} is a test on
+     * {@link ImageThumbnailer#resize(Long)} to verify if the method will use the
+     * original for every size when the original is not a readable image.
+     * 
+     * @throws Exception if the file could not be written.
+     */
+    @Test
+    public void resize_NotImage_UseOriginal() throws Exception {
+        byte[] content = "not an image".getBytes();
+        String url = localObjectStore.putFile("worker.jpg", new ByteArrayInputStream(content), content.length,
+                "image/jpeg");
+        Image image = TestImage.createImage();
+        image.setProfileURL(url);
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
+
+        imageThumbnailer.resize(TestImage.TEST_ID);
+
+        verify(imageRepository).updateVariantURLs(TestImage.TEST_ID, url, url, url);
+    }
+
+    /**
+     * {@code resize_MissingOriginal_LeaveWithoutVariants} is a test on
+     * {@link ImageThumbnailer#resize(Long)} to verify if the method will leave the
+     * image without variants when the original could not be read, so that the
+     * sweep retries it.
+     */
+    @Test
+    public void resize_MissingOriginal_LeaveWithoutVariants() {
+        Image image = TestImage.createImage();
+        image.setProfileURL("/objects/missing.jpg");
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
+
+        imageThumbnailer.resize(TestImage.TEST_ID);
+
+        verify(imageRepository, never()).updateVariantURLs(any(), any(), any(), any());
+    }
+
+    /**
+     * {@code resize_FailedRepeatedly_UseOriginal} is a test on
+     * {@link ImageThumbnailer#resize(Long)} to verify if the method will use the
+     * original for every size once the image failed to be resized
+     * {@link ImageThumbnailer#MAX_RESIZE_ATTEMPTS} times, so that it is no longer
+     * found by the sweep.
+     */
+    @Test
+    public void resize_FailedRepeatedly_UseOriginal() {
+        Image image = TestImage.createImage();
+        image.setProfileURL("/objects/missing.jpg");
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
+
+        for (int i = 0; i < ImageThumbnailer.MAX_RESIZE_ATTEMPTS; i++) {
+            imageThumbnailer.resize(TestImage.TEST_ID);
+        }
+
+        verify(imageRepository).updateVariantURLs(TestImage.TEST_ID, "/objects/missing.jpg",
+                "/objects/missing.jpg", "/objects/missing.jpg");
+    }
+
+    /**
+     * {@code resize_TooManyPixels_UseOriginalWithoutDecoding} is a test on
+     * {@link ImageThumbnailer#resize(Long)} to verify if the method will use the
+     * original for every size without decoding it when its header declares more
+     * than {@link ImageThumbnailer#MAX_PIXELS} pixels.
+     * 
+     * @throws Exception if the file could not be written.
+     */
+    @Test
+    public void resize_TooManyPixels_UseOriginalWithoutDecoding() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), "png", png);
+        byte[] content = png.toByteArray();
+        // the width and height of the IHDR chunk follow the signature and the
+        // chunk's length and type
+        ByteBuffer.wrap(content).putInt(16, 100_000).putInt(20, 100_000);
+        String url = localObjectStore.putFile("worker.png", new ByteArrayInputStream(content), content.length,
+                "image/png");
+        Image image = TestImage.createImage();
+        image.setProfileURL(url);
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
+
+        imageThumbnailer.resize(TestImage.TEST_ID);
+
+        verify(imageRepository).updateVariantURLs(TestImage.TEST_ID, url, url, url);
+    }
+
+    /**
+     * {@code enqueueMissing_Found_ResizeInBackground} is a test on
+     * {@link ImageThumbnailer#enqueueMissing()} to verify if the method will queue
+     * the images without variants, which are then resized in the background.
+     * 
+     * @throws Exception if the images could not be written.
+     */
+    @Test
+    public void enqueueMissing_Found_ResizeInBackground() throws Exception {
+        storeImage(new BufferedImage(128, 128, BufferedImage.TYPE_INT_ARGB));
+        when(imageRepository.findIdsWithoutVariants(any())).thenReturn(List.of(TestImage.TEST_ID));
+
+        int queued = imageThumbnailer.enqueueMissing();
+
+        assertEquals(1, queued);
+        verify(imageRepository, timeout(5000)).updateVariantURLs(eq(TestImage.TEST_ID),
+                eq("/objects/worker-small.png"), any(), any());
+    }
+
+    /**
+     * {@code resize_StoredFileResized_ReuseVariants} is a test on
+     * {@link ImageThumbnailer#resize(Long)} to verify if the method will reuse
+     * the variants of the stored file of the image's content without reading the
+     * original.
+     */
+    @Test
+    public void resize_StoredFileResized_ReuseVariants() {
+        Image image = TestImage.createImage();
+        image.setContentHash("hash");
+        ImageFile imageFile = new ImageFile("hash", "profile_url");
+        imageFile.setSmallURL("small_url");
+        imageFile.setMediumURL("medium_url");
+        imageFile.setLargeURL("large_url");
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
+        when(imageFileRepository.findByContentHash("hash")).thenReturn(Optional.of(imageFile));
+
+        imageThumbnailer.resize(TestImage.TEST_ID);
+
+        verify(imageRepository).updateVariantURLs(TestImage.TEST_ID, "small_url", "medium_url", "large_url");
+        verify(employeeRepository).updateProfileImageVariantURLs(TestImage.TEST_ID, "small_url", "medium_url",
+                "large_url");
+        verify(imageFileRepository, never()).updateVariantURLs(any(), any(), any(), any());
+    }
+
+    /**
+     * {@code scaleToFit_Small_ReturnSame} is a test on
+     * {@link ImageThumbnailer#scaleToFit(BufferedImage, int)} to verify if the
+     * method will not enlarge an image that already fits.
+     */
+    @Test
+    public void scaleToFit_Small_ReturnSame() {
+        BufferedImage image = new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB);
+
+        assertSame(image, ImageThumbnailer.scaleToFit(image, 64));
+    }
+
+    /**
+     * Write the specific image to the local object store as the original of the
+     * image used for testing, which the mocked repository finds.
+     * 
+     * @param original the original image.
+     * @return the image used for testing.
+     * @throws Exception if the image could not be written.
+     */
+    private Image storeImage(BufferedImage original) throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        ImageIO.write(original, "png", content);
+        String url = localObjectStore.putFile("worker.png", new ByteArrayInputStream(content.toByteArray()),
+                content.size(), "image/png");
+        Image image = TestImage.createImage();
+        image.setProfileURL(url);
+        when(imageRepository.findById(TestImage.TEST_ID)).thenReturn(Optional.of(image));
+        return image;
+    }
+
+    /**
+     * Read the image with the specific URL from the local object store.
+     * 
+     * @param url the URL of the image.
+     * @return the image.
+     * @throws Exception if the image could not be read.
+     */
+    private BufferedImage readImage(String url) throws Exception {
+        try (InputStream inputStream = localObjectStore.openFile(url)) {
+            return ImageIO.read(inputStream);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import com.kaizen.client.ObjectStore;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.TestImage;
+import com.kaizen.model.entity.Employee;
+import com.kaizen.model.entity.Image;
+import com.kaizen.model.entity.ImageFile;
+import com.kaizen.repository.ImageFileRepository;
+import com.kaizen.service.image.ImageService;
+import com.kaizen.service.image.ImageUploader;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * {@code ImageUploaderTest} is a test class to do unit testing on
+ * {@link ImageUploader}.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-22
+ */
+public class ImageUploaderTest {
+    /**
+     * The mocked image file's repository used for testing.
+     */
+    private ImageFileRepository imageFileRepository;
+
+    /**
+     * The mocked object store used for testing.
+     */
+    private ObjectStore objectStore;
+
+    /**
+     * The mocked image's service used for testing.
+     */
+    private ImageService imageService;
+
+    /**
+     * The image's uploader used for testing.
+     */
+    private ImageUploader imageUploader;
+
+    /**
+     * The employee used for testing.
+     */
+    private Employee employee;
+
+    /**
+     * The image file used for testing.
+     */
+    private MockMultipartFile file;
+
+    /**
+     * The content hash of the image file used for testing.
+     */
+    private String contentHash;
+
+    /**
+     * {@code setUp} is apply before each tests to create an uploader whose
+     * image's service returns the images it is given.
+     *
+     * @throws Exception if the image file could not be hashed.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        imageFileRepository = mock(ImageFileRepository.class);
+        objectStore = mock(ObjectStore.class);
+        imageService = mock(ImageService.class);
+        imageUploader = new ImageUploader(imageFileRepository, objectStore, imageService);
+        employee = TestEmployee.createEmployee();
+        file = TestImage.createMockMultipartFile();
+        contentHash = ObjectStore.hashContent(file);
+        when(imageService.addImage(any(Image.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    /**
+     * {@code upload_Stored_ReferenceWithoutUpload} is a test on
+     * {@link ImageUploader#upload(Employee, MultipartFile)} to verify if the method
+     * will reference the stored file and its variants without uploading the file
+     * when its content is already stored.
+     */
+    @Test
+    public void upload_Stored_ReferenceWithoutUpload() {
+        ImageFile imageFile = new ImageFile(contentHash, "stored_url");
+        imageFile.setLargeURL("large_url");
+        when(imageFileRepository.acquire(contentHash)).thenReturn(1);
+        when(imageFileRepository.findByContentHash(contentHash)).thenReturn(Optional.of(imageFile));
+
+        Image image = imageUploader.upload(employee, file).join();
+
+        assertEquals("stored_url", image.getProfileURL());
+        assertEquals("large_url", image.getLargeURL());
+        assertEquals(contentHash, image.getContentHash());
+        assertSame(employee, image.getEmployee());
+        verify(objectStore, never()).uploadFileAsync(any());
+    }
+
+    /**
+     * {@code upload_New_UploadAndRecord} is a test on
+     * {@link ImageUploader#upload(Employee, MultipartFile)} to verify if the method
+     * will upload the file and record it under its content hash when its content
+     * is not stored.
+     */
+    @Test
+    public void upload_New_UploadAndRecord() {
+        when(imageFileRepository.acquire(contentHash)).thenReturn(0);
+        when(objectStore.uploadFileAsync(file)).thenReturn(CompletableFuture.completedFuture("uploaded_url"));
+        when(imageFileRepository.save(any(ImageFile.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Image image = imageUploader.upload(employee, file).join();
+
+        assertEquals("uploaded_url", image.getProfileURL());
+        assertEquals(contentHash, image.getContentHash());
+        verify(imageFileRepository).save(argThat(imageFile -> imageFile.getReferenceCount() == 1));
+    }
+
+    /**
+     * {@code upload_RecordedConcurrently_DeleteUploaded} is a test on
+     * {@link ImageUploader#upload(Employee, MultipartFile)} to verify if the method
+     * will delete the uploaded file and reference the recorded one when a
+     * concurrent upload of the same content was recorded first.
+     */
+    @Test
+    public void upload_RecordedConcurrently_DeleteUploaded() {
+        when(imageFileRepository.acquire(contentHash)).thenReturn(0, 1);
+        when(objectStore.uploadFileAsync(file)).thenReturn(CompletableFuture.completedFuture("uploaded_url"));
+        when(imageFileRepository.save(any(ImageFile.class)))
+                .thenThrow(new DataIntegrityViolationException("content_hash"));
+        when(imageFileRepository.findByContentHash(contentHash))
+                .thenReturn(Optional.of(new ImageFile(contentHash, "stored_url")));
+
+        Image image = imageUploader.upload(employee, file).join();
+
+        assertEquals("stored_url", image.getProfileURL());
+        verify(objectStore).deleteFile("uploaded_url");
+    }
+
+    /**
+     * {@code upload_AddFailed_Release} is a test on
+     * {@link ImageUploader#upload(Employee, MultipartFile)} to verify if the method
+     * will release the reference to the stored file and fail when the image
+     * could not be created.
+     */
+    @Test
+    public void upload_AddFailed_Release() {
+        when(imageFileRepository.acquire(contentHash)).thenReturn(1);
+        when(imageFileRepository.findByContentHash(contentHash))
+                .thenReturn(Optional.of(new ImageFile(contentHash, "stored_url")));
+        when(imageService.addImage(any(Image.class))).thenThrow(new IllegalStateException());
+
+        CompletableFuture<Image> upload = imageUploader.upload(employee, file);
+
+        assertTrue(upload.isCompletedExceptionally());
+        verify(imageFileRepository).release(contentHash);
+    }
+}
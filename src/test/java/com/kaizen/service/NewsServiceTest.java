@@ -5,15 +5,22 @@ import static org.mockito.Mockito.*;
 
 import java.util.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kaizen.model.entity.News;
 import com.kaizen.repository.NewsRepository;
 import com.kaizen.service.datascraper.NewsService;
 import com.kaizen.service.datascraper.NewsServiceImpl;
+import com.kaizen.service.datascraper.ScrapBoxRefresher;
+import com.kaizen.service.datascraper.ScrapBoxSnapshot;
+import com.kaizen.service.datascraper.WebpageFetcher;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -25,8 +32,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  * @version 1.0
  * @since 2021-10-19
  */
-@ContextConfiguration(classes = { NewsServiceImpl.class })
+@ContextConfiguration(classes = { NewsServiceImpl.class, ObjectMapper.class })
 @ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD) // For a fresh snapshot in each test
 public class NewsServiceTest {
     /**
      * The mocked news's repository used for testing.
@@ -34,6 +42,18 @@ public class NewsServiceTest {
     @MockBean
     private NewsRepository newsRepository;
 
+    /**
+     * The mocked scrap box's refresher used for testing.
+     */
+    @MockBean
+    private ScrapBoxRefresher scrapBoxRefresher;
+
+    /**
+     * The mocked webpage's fetcher used for testing.
+     */
+    @MockBean
+    private WebpageFetcher webpageFetcher;
+
     /**
      * The news's service used for testing.
      */
@@ -43,33 +63,68 @@ public class NewsServiceTest {
     /**
      * {@code getNews_Found_ReturnFound} is a test on
      * {@link NewsService#getNews()} to verify if the method will call
-     * {@link NewsRepository#findAll()} and return the list of news.
+     * {@link NewsRepository#findAll(Sort)} and return the list of news.
      */
     @Test
     void getNews_Found_ReturnFound() {
         List<News> news = new ArrayList<>();
-        when(newsRepository.findAll()).thenReturn(news);
+        when(newsRepository.findAll(Sort.by("position"))).thenReturn(news);
 
         List<News> foundNewss = newsService.getNews();
 
         assertSame(news, foundNewss);
-        verify(newsRepository).findAll();
+        verify(newsRepository).findAll(Sort.by("position"));
     }
 
     /**
-     * {@code updateRepository_Updated} is a test on
-     * {@link NewsService#updateRepository()} to verify if the method will call
-     * {@link NewsRepository#deleteAll()} and
-     * {@link NewsRepository#saveAllAndFlush(Iterable)}.
+     * {@code updateRepository_ScrapeFailed_NotRefreshed} is a test on
+     * {@link NewsService#updateRepository()} to verify if the method will not call
+     * {@link ScrapBoxRefresher#refresh(org.springframework.data.jpa.repository.JpaRepository, List)}
+     * and keep the news in the repository when no news could be scraped.
      */
     @Test
-    void updateRepository_Updated() {
-        doNothing().when(newsRepository).deleteAll();
-        when(newsRepository.saveAllAndFlush(anyIterable())).thenReturn(null);
-
+    void updateRepository_ScrapeFailed_NotRefreshed() {
         newsService.updateRepository();
 
-        verify(newsRepository).deleteAll();
-        verify(newsRepository).saveAllAndFlush(anyIterable());
+        verify(scrapBoxRefresher, never()).refresh(any(), anyList());
+        verify(newsRepository, never()).deleteAll();
+    }
+
+    /**
+     * {@code getSnapshot_NotPublished_PublishFromRepository} is a test on
+     * {@link NewsService#getSnapshot()} to verify if the method will call
+     * {@link NewsRepository#findAll(Sort)} once to publish the first snapshot
+     * and return the same snapshot after.
+     */
+    @Test
+    void getSnapshot_NotPublished_PublishFromRepository() {
+        List<News> news = List.of(new News("header", "url", "excerpt", "imageUrl"));
+        when(newsRepository.findAll(Sort.by("position"))).thenReturn(news);
+
+        ScrapBoxSnapshot<News> snapshot = newsService.getSnapshot();
+
+        assertEquals(news, snapshot.getItems());
+        assertSame(snapshot, newsService.getSnapshot());
+        verify(newsRepository).findAll(Sort.by("position"));
+    }
+
+    /**
+     * {@code publishSnapshot_Changed_ReplaceSnapshot} is a test on
+     * {@link NewsService#publishSnapshot()} to verify if the method will
+     * replace the snapshot with the news in the repository and change its
+     * ETag.
+     */
+    @Test
+    void publishSnapshot_Changed_ReplaceSnapshot() {
+        when(newsRepository.findAll(Sort.by("position"))).thenReturn(new ArrayList<>());
+        ScrapBoxSnapshot<News> before = newsService.getSnapshot();
+        List<News> news = List.of(new News("header", "url", "excerpt", "imageUrl"));
+        when(newsRepository.findAll(Sort.by("position"))).thenReturn(news);
+
+        newsService.publishSnapshot();
+
+        ScrapBoxSnapshot<News> after = newsService.getSnapshot();
+        assertEquals(news, after.getItems());
+        assertNotEquals(before.getEtag(), after.getEtag());
     }
 }
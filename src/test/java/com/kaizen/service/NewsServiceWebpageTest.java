@@ -0,0 +1,148 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kaizen.model.entity.News;
+import com.kaizen.repository.NewsRepository;
+import com.kaizen.service.datascraper.NewsServiceImpl;
+import com.kaizen.service.datascraper.ScrapBoxRefresher;
+import com.kaizen.service.datascraper.WebpageFetcher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code NewsServiceWebpageTest} is a test class to do unit testing on the
+ * scraping of {@link NewsServiceImpl} against a {@link TestWebServer} serving
+ * the fixtures of CNA.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+public class NewsServiceWebpageTest {
+    /**
+     * Represents the delay in milliseconds of the slow news page.
+     */
+    private static final long SLOW_DELAY_MILLIS = 3000L;
+
+    /**
+     * The local web server used for testing.
+     */
+    private TestWebServer webServer;
+
+    /**
+     * The fetcher used for testing.
+     */
+    private WebpageFetcher webpageFetcher;
+
+    /**
+     * The spied scrap box's refresher used for testing.
+     */
+    private ScrapBoxRefresher scrapBoxRefresher;
+
+    /**
+     * The news's service used for testing.
+     */
+    private NewsServiceImpl newsService;
+
+    /**
+     * {@code setUp} is apply before each tests to start the web server and create
+     * the news's service with a fetcher that times out well before the slow news
+     * page.
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        webServer = new TestWebServer();
+        webpageFetcher = new WebpageFetcher(4, 4, 0L, 300, 1, 10L);
+        scrapBoxRefresher = spy(new ScrapBoxRefresher());
+        newsService = new NewsServiceImpl(mock(NewsRepository.class), webpageFetcher, scrapBoxRefresher,
+                new ObjectMapper(), webServer.getUrl());
+    }
+
+    /**
+     * {@code tearDown} is apply after each tests to stop the web server and the
+     * fetcher.
+     */
+    @AfterEach
+    public void tearDown() {
+        webServer.close();
+        webpageFetcher.shutdown();
+    }
+
+    /**
+     * {@code getNewsFromWebpage_SlowAndBrokenNews_SkippedInListingOrder} is a test
+     * on {@link NewsServiceImpl#getNewsFromWebpage()} to verify if the method will
+     * skip the news pages that are slow or cannot be read without waiting for the
+     * slow page, keep the news in the order of the news page, and not fetch more
+     * news pages than needed.
+     */
+    @Test
+    public void getNewsFromWebpage_SlowAndBrokenNews_SkippedInListingOrder() {
+        serveNews();
+        String article = TestWebServer.readFixture("cna/article.html");
+        webServer.serve("article-2", article.replace("{id}", "2"), SLOW_DELAY_MILLIS);
+        webServer.serve("article-4", TestWebServer.readFixture("cna/broken-article.html"));
+        long start = System.nanoTime();
+
+        List<News> news = newsService.getNewsFromWebpage();
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < SLOW_DELAY_MILLIS);
+        assertEquals(List.of("Article 1", "Article 3", "Article 5", "Article 6", "Article 7"),
+                news.stream().map(item -> item.getHeader()).collect(Collectors.toList()));
+        assertEquals(webServer.getUrl() + "article-3", news.get(1).getUrl());
+        assertEquals("Excerpt of article 3.", news.get(1).getExcerpt());
+        assertEquals("https://example.com/images/3.jpg", news.get(1).getImageUrl());
+        assertTrue(webServer.getRequestTimes("article-8").isEmpty());
+    }
+
+    /**
+     * {@code getNewsFromWebpage_MissingTopic_ReturnEmpty} is a test on
+     * {@link NewsServiceImpl#getNewsFromWebpage()} to verify if the method will
+     * return no news when the news page cannot be fetched.
+     */
+    @Test
+    public void getNewsFromWebpage_MissingTopic_ReturnEmpty() {
+        List<News> news = newsService.getNewsFromWebpage();
+
+        assertTrue(news.isEmpty());
+    }
+
+    /**
+     * {@code updateRepository_SameContent_NotRefreshedAgain} is a test on
+     * {@link NewsServiceImpl#updateRepository()} to verify if the method will only
+     * call {@link ScrapBoxRefresher#refresh(org.springframework.data.jpa.repository.JpaRepository, List)}
+     * again when the scraped news changed.
+     */
+    @Test
+    public void updateRepository_SameContent_NotRefreshedAgain() {
+        serveNews();
+
+        newsService.updateRepository();
+        newsService.updateRepository();
+        webServer.serve("article-1", TestWebServer.readFixture("cna/article.html").replace("{id}", "changed"));
+        newsService.updateRepository();
+
+        verify(scrapBoxRefresher, times(2)).refresh(any(), anyList());
+    }
+
+    /**
+     * Serve the CNA COVID-19 news page and its news pages.
+     */
+    private void serveNews() {
+        webServer.serve("topic/covid-19", TestWebServer.readFixture("cna/topic.html"));
+        String article = TestWebServer.readFixture("cna/article.html");
+        for (int i = 1; i <= 8; i++) {
+            webServer.serve("article-" + i, article.replace("{id}", String.valueOf(i)));
+        }
+    }
+}
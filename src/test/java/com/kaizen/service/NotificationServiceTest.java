@@ -0,0 +1,79 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.*;
+
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.entity.Notification;
+import com.kaizen.repository.NotificationRepository;
+import com.kaizen.service.notification.NotificationService;
+import com.kaizen.service.notification.NotificationServiceImpl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * {@code NotificationServiceTest} is a test class to do unit testing on
+ * {@link NotificationService} using {@link NotificationServiceImpl}.
+ *
+ * @author Teo Keng Swee
+ * @version 1.0
+ * @since 2021-11-15
+ */
+@ContextConfiguration(classes = { NotificationServiceImpl.class })
+@ExtendWith(SpringExtension.class)
+public class NotificationServiceTest {
+    /**
+     * The mocked notification's repository used for testing.
+     */
+    @MockBean
+    private NotificationRepository notificationRepository;
+
+    /**
+     * The notification's service used for testing.
+     */
+    @Autowired
+    private NotificationService notificationService;
+
+    /**
+     * {@code addNotifications_Empty_NothingSaved} is a test on
+     * {@link NotificationService#addNotifications(List)} to verify if the method
+     * will not call {@link NotificationRepository#saveAllAndFlush(Iterable)} when
+     * there are no notifications.
+     */
+    @Test
+    void addNotifications_Empty_NothingSaved() {
+        int added = notificationService.addNotifications(new ArrayList<>());
+
+        assertEquals(0, added);
+        verify(notificationRepository, never()).saveAllAndFlush(anyIterable());
+    }
+
+    /**
+     * {@code addNotifications_ManyNotifications_SavedInBatches} is a test on
+     * {@link NotificationService#addNotifications(List)} to verify if the method
+     * will call {@link NotificationRepository#saveAllAndFlush(Iterable)} once for
+     * each batch of notifications.
+     */
+    @Test
+    void addNotifications_ManyNotifications_SavedInBatches() {
+        int batchSize = NotificationServiceImpl.NOTIFICATION_BATCH_SIZE;
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 2 * batchSize + 1; i++) {
+            notifications.add(new Notification("Message " + i, new Date(), TestCompany.createCompany()));
+        }
+
+        int added = notificationService.addNotifications(notifications);
+
+        assertEquals(notifications.size(), added);
+        verify(notificationRepository).saveAllAndFlush(notifications.subList(0, batchSize));
+        verify(notificationRepository).saveAllAndFlush(notifications.subList(batchSize, 2 * batchSize));
+        verify(notificationRepository).saveAllAndFlush(notifications.subList(2 * batchSize, 2 * batchSize + 1));
+    }
+}
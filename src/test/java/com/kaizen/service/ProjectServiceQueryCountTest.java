@@ -0,0 +1,162 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+
+import com.kaizen.model.TestCompany;
+import com.kaizen.model.TestEmployee;
+import com.kaizen.model.TestProject;
+import com.kaizen.model.dto.ProjectDTO;
+import com.kaizen.model.entity.Company;
+import com.kaizen.model.entity.Employee;
+import com.kaizen.model.entity.Project;
+import com.kaizen.repository.ProjectRepository;
+import com.kaizen.security.jwt.JwtConfiguration;
+import com.kaizen.service.company.CompanyService;
+import com.kaizen.service.employee.EmployeeService;
+import com.kaizen.service.project.ProjectService;
+import com.kaizen.service.project.ProjectServiceImpl;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * {@code ProjectServiceQueryCountTest} is a test class to verify that
+ * {@link ProjectServiceImpl} assembles the project's DTOs with a fixed number of
+ * statements regardless of the number of projects, using H2 embeded database.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-07
+ */
+@Import({ JwtConfiguration.class, ProjectServiceImpl.class })
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+public class ProjectServiceQueryCountTest {
+    /**
+     * The number of projects created for testing.
+     */
+    private static final int PROJECT_COUNT = 10;
+
+    /**
+     * The test entity manager used for testing.
+     */
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    /**
+     * The entity manager's factory used to read the statistics.
+     */
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * The project's repository used for testing.
+     */
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    /**
+     * The project's services used for testing.
+     */
+    @Autowired
+    private ProjectService projectService;
+
+    /**
+     * The mocked company's services used for testing.
+     */
+    @MockBean
+    private CompanyService companyService;
+
+    /**
+     * The mocked employee's services used for testing.
+     */
+    @MockBean
+    private EmployeeService employeeService;
+
+    /**
+     * The company of the employees in the projects.
+     */
+    private Company company;
+
+    /**
+     * {@code setUp} is apply before each tests to create the projects with an
+     * employee each.
+     */
+    @BeforeEach
+    public void setUp() {
+        company = testEntityManager.merge(TestCompany.createCompany());
+        Employee employee = TestEmployee.createEmployee();
+        employee.setCompany(company);
+        employee = testEntityManager.merge(employee);
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = TestProject.createProject();
+            project.setEmployees(null);
+            project = testEntityManager.merge(project);
+            testEntityManager.flush();
+            projectRepository.addProjectEmployee(project.getId(), employee.getWorkPermitNumber());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    /**
+     * {@code listProjects_ManyProjects_ConstantStatements} is a test on
+     * {@link ProjectServiceImpl#listProjects()} to verify if the method will load
+     * all the projects with their employees and companies in three statements.
+     */
+    @Test
+    public void listProjects_ManyProjects_ConstantStatements() {
+        Statistics statistics = getStatistics();
+
+        List<ProjectDTO> found = projectService.listProjects();
+
+        assertEquals(PROJECT_COUNT, found.size());
+        for (ProjectDTO projectDTO : found) {
+            assertEquals(1, projectDTO.getEmployeeDTOs().size());
+            assertEquals(1, projectDTO.getCompanyDTOs().size());
+        }
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * {@code getCompanyProjects_ManyProjects_ConstantStatements} is a test on
+     * {@link ProjectServiceImpl#getCompanyProjects(String)} to verify if the method
+     * will load the company's projects with their employees and companies in four
+     * statements.
+     */
+    @Test
+    public void getCompanyProjects_ManyProjects_ConstantStatements() throws Exception {
+        Statistics statistics = getStatistics();
+
+        List<ProjectDTO> found = projectService.getCompanyProjects(company.getUEN());
+
+        assertEquals(PROJECT_COUNT, found.size());
+        for (ProjectDTO projectDTO : found) {
+            assertEquals(company.getUEN(), projectDTO.getCompanyDTOs().get(0).getUen());
+        }
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Get the cleared Hibernate's statistics.
+     *
+     * @return the cleared statistics.
+     */
+    private Statistics getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -9,8 +9,10 @@ import com.kaizen.exceptions.*;
 import com.kaizen.model.TestCompany;
 import com.kaizen.model.TestEmployee;
 import com.kaizen.model.TestProject;
+import com.kaizen.model.dto.ProjectCompanyEntry;
 import com.kaizen.model.dto.ProjectCompanyDTO;
 import com.kaizen.model.dto.ProjectDTO;
+import com.kaizen.model.dto.ProjectEmployeeEntry;
 import com.kaizen.model.dto.ProjectEmployeeDTO;
 import com.kaizen.model.entity.Company;
 import com.kaizen.model.entity.Project;
@@ -86,27 +88,39 @@ public class ProjectServiceTest {
      * {@code listProjects_Found_ReturnFound} is a test on
      * {@link ProjectService#listCompanies()} to verify if the method will call
      * {@link ProjectRepository#findAll()},
-     * {@link ProjectRepository#getProjectEmployeeDTOs(Long)} and
-     * {@link ProjectRepository#getProjectCompanyDTOs(Long)} and return the list of
-     * all projects.
+     * {@link ProjectRepository#getProjectEmployeeEntries(java.util.Collection)} and
+     * {@link ProjectRepository#getProjectCompanyEntries(java.util.Collection)} once
+     * each for all projects and return the list of all projects.
      */
     @Test
     void listProjects_Found_ReturnFound() {
         List<Project> projects = new ArrayList<>();
         projects.add(TestProject.createProject());
+        Project otherProject = TestProject.createProject();
+        otherProject.setId(TestProject.TEST_ID + 1);
+        projects.add(otherProject);
         List<ProjectDTO> projectDTOs = new ArrayList<>();
         projectDTOs.add(TestProject.createProjectDTO());
+        ProjectDTO otherProjectDTO = TestProject.createProjectDTO();
+        otherProjectDTO.setId(otherProject.getId());
+        otherProjectDTO.setEmployeeDTOs(new ArrayList<>());
+        otherProjectDTO.setCompanyDTOs(new ArrayList<>());
+        projectDTOs.add(otherProjectDTO);
+        Set<Long> projectIds = Set.of(TestProject.TEST_ID, otherProject.getId());
         when(projectRepository.findAll()).thenReturn(projects);
-        when(projectRepository.getProjectEmployeeDTOs(any(Long.class))).thenReturn(new ArrayList<ProjectEmployeeDTO>(projectDTOs.get(0).getEmployeeDTOs()));
-        when(projectRepository.getProjectCompanyDTOs(any(Long.class))).thenReturn(
-                new ArrayList<ProjectCompanyDTO>(projectDTOs.get(0).getCompanyDTOs()));
+        when(projectRepository.getProjectEmployeeEntries(projectIds))
+                .thenReturn(createProjectEmployeeEntries(TestProject.TEST_ID));
+        when(projectRepository.getProjectCompanyEntries(projectIds))
+                .thenReturn(createProjectCompanyEntries(TestProject.TEST_ID));
 
         List<ProjectDTO> foundProjectDTOs = projectService.listProjects();
 
         assertEquals(projectDTOs, foundProjectDTOs);
         verify(projectRepository).findAll();
-        verify(projectRepository).getProjectEmployeeDTOs(any(Long.class));
-        verify(projectRepository).getProjectCompanyDTOs(any(Long.class));
+        verify(projectRepository).getProjectEmployeeEntries(projectIds);
+        verify(projectRepository).getProjectCompanyEntries(projectIds);
+        verify(projectRepository, never()).getProjectEmployeeDTOs(any());
+        verify(projectRepository, never()).getProjectCompanyDTOs(any());
     }
 
     /**
@@ -149,8 +163,8 @@ public class ProjectServiceTest {
      * {@link ProjectService#getCompanyProjects(String)} to verify if the method
      * will call {@link CompanyService#getCompany(String)},
      * {@link ProjectRepository#getProjectIds(String)} and
-     * {@link ProjectRepository#getById(Long)} and throw
-     * {@link ObjectNotExistsException} when the project is null in the
+     * {@link ProjectRepository#findAllById(Iterable)} and throw
+     * {@link NullValueException} when the project is not found in the
      * repository.
      */
     @Test
@@ -164,7 +178,7 @@ public class ProjectServiceTest {
         projectDTOs.add(projectDTO);
         when(companyService.getCompany(companyId)).thenReturn(company);
         when(projectRepository.getProjectIds(companyId)).thenReturn(projectIds);
-        when(projectRepository.getById(projectDTO.getId())).thenReturn(null);
+        when(projectRepository.findAllById(projectIds)).thenReturn(new ArrayList<>());
 
         assertThrows(NullValueException.class, () -> {
             projectService.getCompanyProjects(companyId);
@@ -172,7 +186,7 @@ public class ProjectServiceTest {
 
         verify(companyService).getCompany(companyId);
         verify(projectRepository).getProjectIds(companyId);
-        verify(projectRepository).getById(projectDTO.getId());
+        verify(projectRepository).findAllById(projectIds);
     }
 
     /**
@@ -180,10 +194,10 @@ public class ProjectServiceTest {
      * {@link ProjectService#getCompanyProjects(String)} to verify if the method
      * will call {@link CompanyService#getCompany(String)},
      * {@link ProjectRepository#getProjectIds(String)},
-     * {@link ProjectRepository#getById(Long)},
-     * {@link ProjectRepository#getProjectCompanyDTOs(Long)},
-     * {@link ProjectRepository#getProjectEmployeeDTOs(Long)} and return the list of
-     * all projects.
+     * {@link ProjectRepository#findAllById(Iterable)},
+     * {@link ProjectRepository#getProjectCompanyEntries(java.util.Collection)},
+     * {@link ProjectRepository#getProjectEmployeeEntries(java.util.Collection)} and
+     * return the list of all projects.
      */
     @Test
     void getCompanyProjects_Found_ReturnFound() {
@@ -197,20 +211,21 @@ public class ProjectServiceTest {
         projectDTOs.add(projectDTO);
         when(companyService.getCompany(companyId)).thenReturn(company);
         when(projectRepository.getProjectIds(companyId)).thenReturn(projectIds);
-        when(projectRepository.getById(projectDTO.getId())).thenReturn(project);
-        when(projectRepository.getProjectCompanyDTOs(project.getId()))
-                .thenReturn(TestProject.createProjectCompanyDTOs());
-        when(projectRepository.getProjectEmployeeDTOs(project.getId()))
-                .thenReturn(TestProject.createProjectEmmployeeDTOs());
+        when(projectRepository.findAllById(projectIds)).thenReturn(List.of(project));
+        when(projectRepository.getProjectCompanyEntries(Set.of(project.getId())))
+                .thenReturn(createProjectCompanyEntries(project.getId()));
+        when(projectRepository.getProjectEmployeeEntries(Set.of(project.getId())))
+                .thenReturn(createProjectEmployeeEntries(project.getId()));
 
         List<ProjectDTO> foundProjectDTOs = projectService.getCompanyProjects(companyId);
 
         assertEquals(projectDTOs, foundProjectDTOs);
         verify(companyService).getCompany(companyId);
         verify(projectRepository).getProjectIds(companyId);
-        verify(projectRepository).getById(projectDTO.getId());
-        verify(projectRepository).getProjectCompanyDTOs(project.getId());
-        verify(projectRepository).getProjectEmployeeDTOs(project.getId());
+        verify(projectRepository).findAllById(projectIds);
+        verify(projectRepository).getProjectCompanyEntries(Set.of(project.getId()));
+        verify(projectRepository).getProjectEmployeeEntries(Set.of(project.getId()));
+        verify(projectRepository, never()).getById(any());
     }
 
     /**
@@ -228,25 +243,27 @@ public class ProjectServiceTest {
     /**
      * {@code addProject_EmployeeNotFound_ThrowObjectNotExistsException} is a test
      * on {@link ProjectService#addProject(Project)} to verify if the method will
-     * call {@link EmployeeService#getEmployee(String)} and throw
+     * call {@link EmployeeService#getEmployees(Collection)} and throw
      * {@link ObjectNotExistsException} when the employee is missing in the
      * repository.
      */
     @Test
     void addProject_EmployeeNotFound_ThrowObjectNotExistsException() {
-        when(employeeService.getEmployee(any(String.class))).thenThrow(new ObjectNotExistsException());
+        when(employeeService.getEmployees(anyCollection())).thenThrow(new ObjectNotExistsException());
 
         assertThrows(ObjectNotExistsException.class, () -> {
             projectService.addProject(TestProject.createProjectDTO());
         });
 
-        verify(employeeService).getEmployee(any(String.class));
+        verify(employeeService).getEmployees(anyCollection());
+        verify(projectRepository, never()).save(any(Project.class));
     }
 
     /**
      * {@code addProject_New_ReturnSaved} is a test on
      * {@link ProjectService#addProject(Project)} to verify if the method will call
-     * {@link EmployeeService#getEmployee(String)},{@link ProjectRepository#save(Project)},
+     * {@link EmployeeService#getEmployees(Collection)},{@link ProjectRepository#save(Project)},
+     * {@link ProjectRepository#addProjectEmployees(Long, Collection)},
      * {@link ProjectRepository#findById(Long)},
      * {@link ProjectRepository#getProjectCompanyDTOs(Long)},
      * {@link ProjectRepository#getProjectEmployeeDTOs(Long)} and save and return
@@ -256,8 +273,10 @@ public class ProjectServiceTest {
     void addProject_New_ReturnSaved() {
         ProjectDTO projectDTO = TestProject.createProjectDTO();
         Project project = TestProject.createProject();
-        when(employeeService.getEmployee(any(String.class))).thenReturn(TestEmployee.createEmployee());
+        Set<String> employeeIds = Set.of(TestEmployee.TEST_ID);
+        when(employeeService.getEmployees(employeeIds)).thenReturn(List.of(TestEmployee.createEmployee()));
         when(projectRepository.save(any(Project.class))).thenReturn(project);
+        when(projectRepository.addProjectEmployees(project.getId(), employeeIds)).thenReturn(1);
         when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
         when(projectRepository.getProjectCompanyDTOs(project.getId()))
                 .thenReturn(TestProject.createProjectCompanyDTOs());
@@ -267,8 +286,10 @@ public class ProjectServiceTest {
         ProjectDTO savedProjectDTO = projectService.addProject(projectDTO);
 
         assertEquals(projectDTO, savedProjectDTO);
-        verify(employeeService).getEmployee(any(String.class));
+        verify(employeeService).getEmployees(employeeIds);
         verify(projectRepository).save(any(Project.class));
+        verify(projectRepository).addProjectEmployees(project.getId(), employeeIds);
+        verify(projectRepository, never()).addProjectEmployee(any(), any());
         verify(projectRepository).findById(project.getId());
         verify(projectRepository).getProjectCompanyDTOs(project.getId());
         verify(projectRepository).getProjectEmployeeDTOs(project.getId());
@@ -320,7 +341,7 @@ public class ProjectServiceTest {
      * {@code updateProject_EmployeeNotFound_ThrowObjectNotExistsException} is a
      * test on {@link ProjectService#updateProject(Project)} to verify if the method
      * will call {@link ProjectRepository#findById(Long)} and
-     * {@link EmployeeService#getEmployee(String)} and throw
+     * {@link EmployeeService#getEmployees(Collection)} and throw
      * {@link ObjectNotExistsException} when the employee is missing in the
      * repository.
      */
@@ -328,37 +349,43 @@ public class ProjectServiceTest {
     void updateProject_EmployeeNotFound_ThrowObjectNotExistsException() {
         ProjectDTO projectDTO = TestProject.createProjectDTO();
         when(projectRepository.findById(TestProject.TEST_ID)).thenReturn(Optional.of(TestProject.createProject()));
-        when(employeeService.getEmployee(any(String.class))).thenThrow(new ObjectNotExistsException());
+        when(employeeService.getEmployees(anyCollection())).thenThrow(new ObjectNotExistsException());
 
         assertThrows(ObjectNotExistsException.class, () -> {
             projectService.updateProject(projectDTO.getId(), projectDTO);
         });
 
         verify(projectRepository).findById(TestProject.TEST_ID);
-        verify(employeeService).getEmployee(any(String.class));
+        verify(employeeService).getEmployees(anyCollection());
+        verify(projectRepository, never()).deleteProjectEmployees(any(), anyCollection());
     }
 
     /**
      * {@code updateProject_Updated_ReturnUpdated} is a test on
      * {@link ProjectService#updateProject(Long, Project)} to verify if the method
      * will call {@link ProjectRepository#findById(Long)},
-     * {@link EmployeeService#getEmployee(String)},
-     * {@link ProjectRepository#deleteProjectEmployees(Long)},
-     * {@link ProjectRepository#save(Project)},
-     * {@link ProjectRepository#getProjectCompanyDTOs(Long)} and
-     * {@link ProjectRepository#getProjectEmployeeDTOs(Long)} and save and return
-     * the specific project.
+     * {@link EmployeeService#getEmployees(Collection)},
+     * {@link ProjectRepository#updateProject(Long, int, String, java.time.LocalDate, java.time.LocalDate, String, double)},
+     * {@link ProjectRepository#getProjectEmployeeIds(Long)},
+     * {@link ProjectRepository#deleteProjectEmployees(Long, Collection)} with only
+     * the removed employees,
+     * {@link ProjectRepository#addProjectEmployees(Long, Collection)} with only the
+     * added employees and save and return the specific project.
      */
     @Test
     void updateProject_Updated_ReturnUpdated() {
         Project project = TestProject.createProject();
         ProjectDTO projectDTO = TestProject.createProjectDTO();
+        String removedId = TestEmployee.TEST_ID.substring(1);
+        Set<String> employeeIds = Set.of(TestEmployee.TEST_ID);
         when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
-        when(employeeService.getEmployee(any(String.class))).thenReturn(TestEmployee.createEmployee());
-        doNothing().when(projectRepository).deleteProjectEmployees(project.getId());
+        when(employeeService.getEmployees(employeeIds)).thenReturn(List.of(TestEmployee.createEmployee()));
         doNothing().when(projectRepository).updateProject(project.getId(), project.getVersion(),
                 project.getProjectName(), project.getStartDate(), project.getCompletionDate(), project.getBudget(),
                 project.getProgress());
+        when(projectRepository.getProjectEmployeeIds(project.getId())).thenReturn(List.of(removedId));
+        when(projectRepository.deleteProjectEmployees(project.getId(), Set.of(removedId))).thenReturn(1);
+        when(projectRepository.addProjectEmployees(project.getId(), employeeIds)).thenReturn(1);
         when(projectRepository.getProjectCompanyDTOs(project.getId()))
                 .thenReturn(TestProject.createProjectCompanyDTOs());
         when(projectRepository.getProjectEmployeeDTOs(project.getId()))
@@ -368,14 +395,43 @@ public class ProjectServiceTest {
 
         assertEquals(projectDTO, updatedProjectDTO);
         verify(projectRepository, times(2)).findById(project.getId());
-        verify(employeeService).getEmployee(any(String.class));
-        verify(projectRepository).deleteProjectEmployees(TestProject.TEST_ID);
+        verify(employeeService).getEmployees(employeeIds);
         verify(projectRepository).updateProject(project.getId(), project.getVersion(), project.getProjectName(),
                 project.getStartDate(), project.getCompletionDate(), project.getBudget(), project.getProgress());
+        verify(projectRepository).getProjectEmployeeIds(project.getId());
+        verify(projectRepository).deleteProjectEmployees(project.getId(), Set.of(removedId));
+        verify(projectRepository).addProjectEmployees(project.getId(), employeeIds);
+        verify(projectRepository, never()).deleteProjectEmployees(project.getId());
         verify(projectRepository).getProjectCompanyDTOs(project.getId());
         verify(projectRepository).getProjectEmployeeDTOs(project.getId());
     }
 
+    /**
+     * {@code updateProject_SameEmployees_NoMembershipChanged} is a test on
+     * {@link ProjectService#updateProject(Long, Project)} to verify if the method
+     * will not add or delete any mapping of the project and its employees when the
+     * employees are unchanged.
+     */
+    @Test
+    void updateProject_SameEmployees_NoMembershipChanged() {
+        Project project = TestProject.createProject();
+        ProjectDTO projectDTO = TestProject.createProjectDTO();
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        when(employeeService.getEmployees(anyCollection())).thenReturn(List.of(TestEmployee.createEmployee()));
+        when(projectRepository.getProjectEmployeeIds(project.getId())).thenReturn(List.of(TestEmployee.TEST_ID));
+        when(projectRepository.getProjectCompanyDTOs(project.getId()))
+                .thenReturn(TestProject.createProjectCompanyDTOs());
+        when(projectRepository.getProjectEmployeeDTOs(project.getId()))
+                .thenReturn(TestProject.createProjectEmmployeeDTOs());
+
+        ProjectDTO updatedProjectDTO = projectService.updateProject(project.getId(), projectDTO);
+
+        assertEquals(projectDTO, updatedProjectDTO);
+        verify(projectRepository).getProjectEmployeeIds(project.getId());
+        verify(projectRepository, never()).deleteProjectEmployees(any(), anyCollection());
+        verify(projectRepository, never()).addProjectEmployees(any(), anyCollection());
+    }
+
     /**
      * {@code deleteProject_NullId_ThrowNullValueException} is a test on
      * {@link ProjectService#deleteProject(String)} to verify if the method will
@@ -426,4 +482,35 @@ public class ProjectServiceTest {
         verify(projectRepository).deleteProjectEmployees(TestProject.TEST_ID);
         verify(projectRepository).deleteById(TestProject.TEST_ID);
     }
+
+    /**
+     * Create the project's employee entries of the test project's employee DTOs
+     * for the specific project.
+     * 
+     * @param projectId the id of the project.
+     * @return the project's employee entries.
+     */
+    private static List<ProjectEmployeeEntry> createProjectEmployeeEntries(Long projectId) {
+        List<ProjectEmployeeEntry> entries = new ArrayList<>();
+        for (ProjectEmployeeDTO employeeDTO : TestProject.createProjectEmmployeeDTOs()) {
+            entries.add(new ProjectEmployeeEntry(projectId, employeeDTO.getWorkPermitNumber(), employeeDTO.getName(),
+                    employeeDTO.getImageUrl()));
+        }
+        return entries;
+    }
+
+    /**
+     * Create the project's company entries of the test project's company DTOs for
+     * the specific project.
+     * 
+     * @param projectId the id of the project.
+     * @return the project's company entries.
+     */
+    private static List<ProjectCompanyEntry> createProjectCompanyEntries(Long projectId) {
+        List<ProjectCompanyEntry> entries = new ArrayList<>();
+        for (ProjectCompanyDTO companyDTO : TestProject.createProjectCompanyDTOs()) {
+            entries.add(new ProjectCompanyEntry(projectId, companyDTO.getUen(), companyDTO.getName()));
+        }
+        return entries;
+    }
 }
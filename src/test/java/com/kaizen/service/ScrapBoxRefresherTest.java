@@ -0,0 +1,124 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import com.kaizen.model.entity.News;
+import com.kaizen.repository.NewsRepository;
+import com.kaizen.security.jwt.JwtConfiguration;
+import com.kaizen.service.datascraper.ScrapBoxRefresher;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+/**
+ * {@code ScrapBoxRefresherTest} is a test class to do unit testing on
+ * {@link ScrapBoxRefresher} with {@link NewsRepository}, using H2 embeded
+ * database.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+@Import({ JwtConfiguration.class, ScrapBoxRefresher.class })
+@DataJpaTest
+@Transactional
+public class ScrapBoxRefresherTest {
+    /**
+     * The test entity manager used for testing.
+     */
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    /**
+     * The news's repository used for testing.
+     */
+    @Autowired
+    private NewsRepository newsRepository;
+
+    /**
+     * The refresher used for testing.
+     */
+    @Autowired
+    private ScrapBoxRefresher scrapBoxRefresher;
+
+    /**
+     * {@code refresh_Changed_WriteOnlyDifference} is a test on
+     * {@link ScrapBoxRefresher#refresh(org.springframework.data.jpa.repository.JpaRepository, List)}
+     * to verify if the method will keep the unchanged news, update the changed
+     * news in place, insert the new news, delete the news no longer scraped, and
+     * keep the scraped order.
+     */
+    @Test
+    public void refresh_Changed_WriteOnlyDifference() {
+        scrapBoxRefresher.refresh(newsRepository,
+                List.of(createNews("a", "excerpt"), createNews("b", "excerpt"), createNews("c", "excerpt")));
+        testEntityManager.flush();
+        Map<String, Long> ids = newsRepository.findAll().stream()
+                .collect(Collectors.toMap(News::getUrl, News::getId));
+
+        int written = scrapBoxRefresher.refresh(newsRepository,
+                List.of(createNews("d", "excerpt"), createNews("a", "excerpt"), createNews("b", "changed")));
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        List<News> news = newsRepository.findAll(Sort.by("position"));
+        assertEquals(List.of("d", "a", "b"), news.stream().map(News::getUrl).collect(Collectors.toList()));
+        assertEquals(ids.get("a"), news.get(1).getId());
+        assertEquals(ids.get("b"), news.get(2).getId());
+        assertEquals("changed", news.get(2).getExcerpt());
+        assertEquals(4, written);
+    }
+
+    /**
+     * {@code refresh_Unchanged_WriteNothing} is a test on
+     * {@link ScrapBoxRefresher#refresh(org.springframework.data.jpa.repository.JpaRepository, List)}
+     * to verify if the method will not write when the scraped news are the same
+     * as the news in the repository.
+     */
+    @Test
+    public void refresh_Unchanged_WriteNothing() {
+        scrapBoxRefresher.refresh(newsRepository, List.of(createNews("a", "excerpt"), createNews("b", "excerpt")));
+        testEntityManager.flush();
+
+        int written = scrapBoxRefresher.refresh(newsRepository,
+                List.of(createNews("a", "excerpt"), createNews("b", "excerpt")));
+
+        assertEquals(0, written);
+        assertEquals(2, newsRepository.count());
+    }
+
+    /**
+     * {@code hashContent_DifferentOrder_DifferentHash} is a test on
+     * {@link ScrapBoxRefresher#hashContent(List)} to verify if the method will
+     * return the same hash for the same news and a different hash when the news
+     * are reordered or changed.
+     */
+    @Test
+    public void hashContent_DifferentOrder_DifferentHash() {
+        String hash = scrapBoxRefresher.hashContent(List.of(createNews("a", "x"), createNews("b", "y")));
+
+        assertEquals(hash, scrapBoxRefresher.hashContent(List.of(createNews("a", "x"), createNews("b", "y"))));
+        assertNotEquals(hash, scrapBoxRefresher.hashContent(List.of(createNews("b", "y"), createNews("a", "x"))));
+        assertNotEquals(hash, scrapBoxRefresher.hashContent(List.of(createNews("a", "x"), createNews("b", "z"))));
+    }
+
+    /**
+     * Create a news with the specific url and excerpt.
+     *
+     * @param url     the url of the news.
+     * @param excerpt the excerpt of the news.
+     * @return the news.
+     */
+    private static News createNews(String url, String excerpt) {
+        return new News("Header " + url, url, excerpt, "https://example.com/" + url + ".jpg");
+    }
+}
@@ -9,6 +9,7 @@ import com.kaizen.exceptions.*;
 import com.kaizen.model.TestSkill;
 import com.kaizen.model.entity.Skill;
 import com.kaizen.repository.SkillRepository;
+import com.kaizen.service.employeeSkill.EmployeeSkillIndex;
 import com.kaizen.service.skill.SkillService;
 import com.kaizen.service.skill.SkillServiceImpl;
 
@@ -36,6 +37,12 @@ public class SkillServiceTest {
     @MockBean
     private SkillRepository skillRepository;
 
+    /**
+     * The mocked index of the employee's skills used for testing.
+     */
+    @MockBean
+    private EmployeeSkillIndex employeeSkillIndex;
+
     /**
      * The skill's service used for testing.
      */
@@ -253,7 +260,8 @@ public class SkillServiceTest {
      * {@link SkillService#deleteSkill(String)} to verify if the method will
      * call {@link SkillRepository#findById(String)} and
      * {@link SkillRepository#deleteById(String)} and delete the skill with
-     * specific id.
+     * specific id, and {@link EmployeeSkillIndex#removeSkill(String)} to remove
+     * its employee's skills from the index.
      */
     @Test
     void deleteSkill_Deleted() {
@@ -264,5 +272,6 @@ public class SkillServiceTest {
 
         verify(skillRepository).findById(TestSkill.TEST_ID);
         verify(skillRepository).deleteById(TestSkill.TEST_ID);
+        verify(employeeSkillIndex).removeSkill(TestSkill.TEST_ID);
     }
 }
@@ -0,0 +1,239 @@
+package com.kaizen.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * {@code TestWebServer} is a local HTTP server that stands in for the websites
+ * scraped by the application, serving fixture HTML for testing.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+class TestWebServer implements AutoCloseable {
+    /**
+     * The HTTP server listening on a free local port.
+     */
+    private final HttpServer server;
+
+    /**
+     * The threads that answer the requests, so that requests run concurrently.
+     */
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * Represents the route of each path.
+     */
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Represents the times in nanoseconds that the requests of each path arrived.
+     */
+    private final Map<String, List<Long>> requestTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Represents the number of requests being answered.
+     */
+    private final AtomicInteger concurrentRequests = new AtomicInteger();
+
+    /**
+     * Represents the highest number of requests answered at the same time.
+     */
+    private final AtomicInteger maxConcurrentRequests = new AtomicInteger();
+
+    /**
+     * Create and start a web server on a free local port.
+     *
+     * @throws IOException if the server could not be started.
+     */
+    TestWebServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Get the URL of the server, ending with a slash.
+     *
+     * @return the URL of the server.
+     */
+    String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Serve the specific body at the specific path.
+     *
+     * @param path the path to serve, without the leading slash.
+     * @param body the body to serve.
+     */
+    void serve(String path, String body) {
+        serve(path, body, 0L);
+    }
+
+    /**
+     * Serve the specific body at the specific path after the specific delay.
+     *
+     * @param path        the path to serve, without the leading slash.
+     * @param body        the body to serve.
+     * @param delayMillis the delay in milliseconds before answering.
+     */
+    void serve(String path, String body, long delayMillis) {
+        routes.put("/" + path, new Route(body, delayMillis, new int[0]));
+    }
+
+    /**
+     * Answer the requests of the specific path with the specific statuses in
+     * order, and then serve the specific body.
+     *
+     * @param path     the path to serve, without the leading slash.
+     * @param body     the body to serve after the statuses.
+     * @param statuses the statuses to answer first.
+     */
+    void serveStatuses(String path, String body, int... statuses) {
+        routes.put("/" + path, new Route(body, 0L, statuses));
+    }
+
+    /**
+     * Get the times in nanoseconds that the requests of the specific path arrived.
+     *
+     * @param path the path, without the leading slash.
+     * @return the times of the requests, in order.
+     */
+    List<Long> getRequestTimes(String path) {
+        return requestTimes.getOrDefault("/" + path, List.of());
+    }
+
+    /**
+     * Get the highest number of requests answered at the same time.
+     *
+     * @return the highest number of concurrent requests.
+     */
+    int getMaxConcurrentRequests() {
+        return maxConcurrentRequests.get();
+    }
+
+    /**
+     * Read the specific fixture from the classpath.
+     *
+     * @param name the name of the fixture under {@code fixtures/}.
+     * @return the content of the fixture.
+     */
+    static String readFixture(String name) {
+        try (InputStream input = TestWebServer.class.getResourceAsStream("/fixtures/" + name)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Answer the specific request with the route of its path, or Not Found(404).
+     *
+     * @param exchange the request and its response.
+     * @throws IOException if the response could not be written.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requestTimes.computeIfAbsent(path, key -> new CopyOnWriteArrayList<>()).add(System.nanoTime());
+        maxConcurrentRequests.accumulateAndGet(concurrentRequests.incrementAndGet(), Math::max);
+        try {
+            Route route = routes.get(path);
+            if (route == null) {
+                respond(exchange, 404, "");
+                return;
+            }
+            Thread.sleep(route.delayMillis);
+            int attempt = route.attempts.getAndIncrement();
+            if (attempt < route.statuses.length) {
+                respond(exchange, route.statuses[attempt], "");
+            } else {
+                respond(exchange, 200, route.body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // the client stopped waiting for the response
+        } finally {
+            concurrentRequests.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    /**
+     * Write the specific status and HTML body to the specific response.
+     *
+     * @param exchange the request and its response.
+     * @param status   the status of the response.
+     * @param body     the HTML body of the response.
+     * @throws IOException if the response could not be written.
+     */
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    /**
+     * {@code Route} is how the server answers the requests of a path.
+     */
+    private static class Route {
+        /**
+         * Represents the body to serve.
+         */
+        private final String body;
+
+        /**
+         * Represents the delay in milliseconds before answering.
+         */
+        private final long delayMillis;
+
+        /**
+         * Represents the statuses to answer before serving the body.
+         */
+        private final int[] statuses;
+
+        /**
+         * Represents the number of requests of the path.
+         */
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        /**
+         * Create a route with the specific body, delay and statuses.
+         *
+         * @param body        the body to serve.
+         * @param delayMillis the delay in milliseconds before answering.
+         * @param statuses    the statuses to answer before serving the body.
+         */
+        private Route(String body, long delayMillis, int[] statuses) {
+            this.body = body;
+            this.delayMillis = delayMillis;
+            this.statuses = statuses;
+        }
+    }
+}
@@ -5,9 +5,12 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.*;
 
 import com.kaizen.exceptions.*;
 import com.kaizen.model.TestTransaction;
+import com.kaizen.model.dto.TransactionDTO;
+import com.kaizen.model.dto.TransactionStatusDTO;
 import com.kaizen.model.entity.Transaction;
 import com.kaizen.model.entity.TransactionKey;
 import com.kaizen.repository.TransactionRepository;
@@ -18,6 +21,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -73,140 +78,171 @@ public class TransactionServiceTest {
     }
 
     /**
-     * {@code addTransaction_SameDateCollide_InvalidDateException} is a test on
+     * {@code addTransaction_Collide_InvalidDateException} is a test on
      * {@link TransactionService#addTransaction(Transaction)} to verify if the
      * method will call
-     * {@link TransactionRepository#findTransactionsByIdEmployee(String)} and throw
-     * {@link InvalidDateException} when the employee have collide dates.
+     * {@link TransactionRepository#existsOverlappingTransaction(String, LocalDate, LocalDate)}
+     * and throw {@link InvalidDateException} when the employee have collide dates.
      */
     @Test
-    void addTransaction_SameDateCollide_InvalidDateException() {
-        List<Transaction> transactions = new ArrayList<>();
+    void addTransaction_Collide_InvalidDateException() {
         Transaction transaction = TestTransaction.createTransaction();
-        transactions.add(transaction);
-        when(transactionRepository.findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber()))
-                .thenReturn(transactions);
+        String employeeId = transaction.getEmployee().getWorkPermitNumber();
+        when(transactionRepository.existsOverlappingTransaction(employeeId, transaction.getStartDate(),
+                transaction.getEndDate())).thenReturn(true);
 
         assertThrows(InvalidDateException.class, () -> {
             transactionService.addTransaction(transaction);
         });
 
-        verify(transactionRepository).findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber());
+        verify(transactionRepository).existsOverlappingTransaction(employeeId, transaction.getStartDate(),
+                transaction.getEndDate());
+        verify(transactionRepository, never()).save(any());
     }
 
     /**
-     * {@code addTransaction_StartDateCollide_InvalidDateException} is a test on
+     * {@code addTransaction_EndBeforeStart_InvalidDateException} is a test on
      * {@link TransactionService#addTransaction(Transaction)} to verify if the
-     * method will call
-     * {@link TransactionRepository#findTransactionsByIdEmployee(String)} and throw
-     * {@link InvalidDateException} when the employee have collide start date.
+     * method will throw {@link InvalidDateException} when the end date is before
+     * the start date.
      */
     @Test
-    void addTransaction_StartDateCollide_InvalidDateException() {
-        List<Transaction> transactions = new ArrayList<>();
+    void addTransaction_EndBeforeStart_InvalidDateException() {
         Transaction transaction = TestTransaction.createTransaction();
-        transactions.add(transaction);
-        when(transactionRepository.findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber()))
-                .thenReturn(transactions);
-        LocalDate startDate = transaction.getStartDate().plusDays(1);
-        transaction.setStartDate(startDate);
-        transaction.getId().setStartDate(startDate);
+        transaction.setEndDate(transaction.getStartDate().minusDays(1));
 
         assertThrows(InvalidDateException.class, () -> {
             transactionService.addTransaction(transaction);
         });
 
-        verify(transactionRepository).findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber());
+        verify(transactionRepository, never()).existsOverlappingTransaction(any(), any(), any());
+        verify(transactionRepository, never()).save(any());
     }
 
     /**
-     * {@code addTransaction_EndDateCollide_InvalidDateException} is a test on
+     * {@code addTransaction_NullEndDate_ThrowNullValueException} is a test on
      * {@link TransactionService#addTransaction(Transaction)} to verify if the
-     * method will call
-     * {@link TransactionRepository#findTransactionsByIdEmployee(String)} and throw
-     * {@link InvalidDateException} when the employee have collide end date.
+     * method will throw {@link NullValueException} when the end date is null.
      */
     @Test
-    void addTransaction_EndDateCollide_InvalidDateException() {
-        List<Transaction> transactions = new ArrayList<>();
+    void addTransaction_NullEndDate_ThrowNullValueException() {
         Transaction transaction = TestTransaction.createTransaction();
-        transactions.add(transaction);
-        when(transactionRepository.findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber()))
-                .thenReturn(transactions);
-        LocalDate startDate = transaction.getStartDate().minusDays(1);
-        transaction.setStartDate(startDate);
-        transaction.getId().setStartDate(startDate);
-        LocalDate endDate = transaction.getEndDate().minusDays(1);
-        transaction.setEndDate(endDate);
+        transaction.setEndDate(null);
 
-        assertThrows(InvalidDateException.class, () -> {
+        assertThrows(NullValueException.class, () -> {
             transactionService.addTransaction(transaction);
         });
 
-        verify(transactionRepository).findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber());
+        verify(transactionRepository, never()).save(any());
     }
 
     /**
-     * {@code addTransaction_NewBeforeDates_ReturnSaved} is a test on
+     * {@code addTransaction_NoCollision_ReturnSaved} is a test on
      * {@link TransactionService#addTransaction(Transaction)} to verify if the
      * method will call
-     * {@link TransactionRepository#findTransactionsByIdEmployee(String)} and
-     * {@link TransactionRepository#save(Transaction)} and save and return the
+     * {@link TransactionRepository#existsOverlappingTransaction(String, LocalDate, LocalDate)}
+     * and {@link TransactionRepository#save(Transaction)} and save and return the
      * specific transaction.
      */
     @Test
-    void addTransaction_NewBeforeDates_ReturnSaved() {
-        List<Transaction> transactions = new ArrayList<>();
+    void addTransaction_NoCollision_ReturnSaved() {
         Transaction transaction = TestTransaction.createTransaction();
-        LocalDate startDate = transaction.getEndDate().plusDays(1);
-        transaction.setStartDate(startDate);
-        TransactionKey key = transaction.getId();
-        transaction.getId().setStartDate(startDate);
-        LocalDate endDate = startDate.plusDays(1);
-        transaction.setEndDate(endDate);
-        transactions.add(transaction);
-        when(transactionRepository.findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber()))
-                .thenReturn(transactions);
-        transaction.setId(new TransactionKey(key.getLoanCompany(), key.getBorrowingCompany(), key.getEmployee(),
-                LocalDate.now().plusDays(1)));
-        transaction = TestTransaction.createTransaction();
-                transaction.setStartDate(LocalDate.now().plusDays(1));
+        String employeeId = transaction.getEmployee().getWorkPermitNumber();
+        when(transactionRepository.existsOverlappingTransaction(employeeId, transaction.getStartDate(),
+                transaction.getEndDate())).thenReturn(false);
         when(transactionRepository.save(transaction)).thenReturn(transaction);
 
         Transaction savedTransaction = transactionService.addTransaction(transaction);
 
         assertSame(transaction, savedTransaction);
-        verify(transactionRepository).findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber());
+        verify(transactionRepository).existsOverlappingTransaction(employeeId, transaction.getStartDate(),
+                transaction.getEndDate());
         verify(transactionRepository).save(transaction);
     }
 
     /**
-     * {@code addTransaction_NewAfterDates_ReturnSaved} is a test on
-     * {@link TransactionService#addTransaction(Transaction)} to verify if the
-     * method will call
-     * {@link TransactionRepository#findTransactionsByIdEmployee(String)} and
-     * {@link TransactionRepository#save(Transaction)} and save and return the
-     * specific transaction.
+     * {@code addTransaction_ConcurrentConflictingBookings_NoOverlapSaved} is a
+     * stress test on {@link TransactionService#addTransaction(Transaction)} to
+     * verify if the method will not save colliding transactions of an employee
+     * when thousands of conflicting bookings for a few employees are made
+     * concurrently.
+     *
+     * @throws Exception if any exceptions occurs.
      */
     @Test
-    void addTransaction_NewAfterDates_ReturnSaved() {
-        List<Transaction> transactions = new ArrayList<>();
-        transactions.add(TestTransaction.createTransaction());
-        Transaction transaction = TestTransaction.createTransaction();
-        LocalDate startDate = transaction.getEndDate();
-        transaction.setStartDate(startDate);
-        transaction.getId().setStartDate(startDate);
-        LocalDate endDate = startDate.plusDays(1);
-        transaction.setEndDate(endDate);
-        when(transactionRepository.findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber()))
-                .thenReturn(transactions);
-        when(transactionRepository.save(transaction)).thenReturn(transaction);
-
-        Transaction savedTransaction = transactionService.addTransaction(transaction);
+    void addTransaction_ConcurrentConflictingBookings_NoOverlapSaved() throws Exception {
+        int bookings = 4000;
+        String[] employeeIds = { "G0000001A", "G0000002A", "G0000003A", "G0000004A" };
+        List<Transaction> saved = Collections.synchronizedList(new ArrayList<>());
+        when(transactionRepository.existsOverlappingTransaction(any(), any(), any())).thenAnswer(invocation -> {
+            String employeeId = invocation.getArgument(0);
+            LocalDate startDate = invocation.getArgument(1);
+            LocalDate endDate = invocation.getArgument(2);
+            synchronized (saved) {
+                return saved.stream().anyMatch(other -> other.getEmployee().getWorkPermitNumber().equals(employeeId)
+                        && overlaps(startDate, endDate, other.getStartDate(), other.getEndDate()));
+            }
+        });
+        when(transactionRepository.save(any())).thenAnswer(invocation -> {
+            // Widen the window between the collision check and the save
+            Thread.yield();
+            saved.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        LocalDate today = LocalDate.now();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        Random random = new Random(201);
+        for (int i = 0; i < bookings; i++) {
+            Transaction transaction = TestTransaction.createTransaction();
+            transaction.getEmployee().setWorkPermitNumber(employeeIds[i % employeeIds.length]);
+            LocalDate startDate = today.plusDays(random.nextInt(60));
+            transaction.setStartDate(startDate);
+            transaction.setEndDate(startDate.plusDays(1 + random.nextInt(10)));
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    transactionService.addTransaction(transaction);
+                } catch (InvalidDateException e) {
+                    // Expected for the conflicting bookings
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertFalse(saved.isEmpty());
+        for (int i = 0; i < saved.size(); i++) {
+            for (int j = i + 1; j < saved.size(); j++) {
+                Transaction first = saved.get(i);
+                Transaction second = saved.get(j);
+                assertFalse(first.getEmployee().getWorkPermitNumber()
+                        .equals(second.getEmployee().getWorkPermitNumber())
+                        && overlaps(first.getStartDate(), first.getEndDate(), second.getStartDate(),
+                                second.getEndDate()));
+            }
+        }
+    }
 
-        assertSame(transaction, savedTransaction);
-        verify(transactionRepository).findTransactionsByIdEmployee(transaction.getEmployee().getWorkPermitNumber());
-        verify(transactionRepository).save(transaction);
+    /**
+     * Check whether two loan periods collide, where a loan may start on the day
+     * another ends.
+     *
+     * @param startDate      the start date of the first period.
+     * @param endDate        the end date of the first period.
+     * @param otherStartDate the start date of the second period.
+     * @param otherEndDate   the end date of the second period.
+     * @return true if the periods collide.
+     */
+    private static boolean overlaps(LocalDate startDate, LocalDate endDate, LocalDate otherStartDate,
+            LocalDate otherEndDate) {
+        return startDate.isEqual(otherStartDate)
+                || (otherStartDate.isBefore(endDate) && otherEndDate.isAfter(startDate));
     }
 
     /**
@@ -280,6 +316,67 @@ public class TransactionServiceTest {
         verify(transactionRepository).findTransactionsByIdLoanCompany(TestTransaction.TEST_ID.getLoanCompany());
     }
 
+    /**
+     * {@code listTransactionDTOsByLoanCompany_NullCompId_ThrowNullValueException}
+     * is a test on
+     * {@link TransactionService#listTransactionDTOsByLoanCompany(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * to verify if the method will throw {@link NullValueException} when the
+     * specific company id is null.
+     */
+    @Test
+    void listTransactionDTOsByLoanCompany_NullCompId_ThrowNullValueException() {
+        assertThrows(NullValueException.class, () -> {
+            transactionService.listTransactionDTOsByLoanCompany(null, null, null, null, null, null);
+        });
+    }
+
+    /**
+     * {@code listTransactionDTOsByLoanCompany_Unpaged_ReturnFound} is a test on
+     * {@link TransactionService#listTransactionDTOsByLoanCompany(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * to verify if the method will call
+     * {@link TransactionRepository#findTransactionDTOsByLoanCompany(String, String, LocalDate, LocalDate, Pageable)}
+     * unpaged when the size is null and return the found transaction DTOs.
+     */
+    @Test
+    void listTransactionDTOsByLoanCompany_Unpaged_ReturnFound() {
+        List<TransactionDTO> transactionDTOs = new ArrayList<>();
+        String companyId = TestTransaction.TEST_ID.getLoanCompany();
+        when(transactionRepository.findTransactionDTOsByLoanCompany(companyId, "Pending", null, null,
+                Pageable.unpaged())).thenReturn(transactionDTOs);
+
+        List<TransactionDTO> found = transactionService.listTransactionDTOsByLoanCompany(companyId, "Pending", null,
+                null, null, null);
+
+        assertSame(transactionDTOs, found);
+        verify(transactionRepository).findTransactionDTOsByLoanCompany(companyId, "Pending", null, null,
+                Pageable.unpaged());
+    }
+
+    /**
+     * {@code listTransactionDTOsByBorrowingCompany_SizeTooLarge_ReturnClampedPage}
+     * is a test on
+     * {@link TransactionService#listTransactionDTOsByBorrowingCompany(String, String, LocalDate, LocalDate, Integer, Integer)}
+     * to verify if the method will call
+     * {@link TransactionRepository#findTransactionDTOsByBorrowingCompany(String, String, LocalDate, LocalDate, Pageable)}
+     * with the size clamped to {@link TransactionServiceImpl#MAX_PAGE_SIZE}.
+     */
+    @Test
+    void listTransactionDTOsByBorrowingCompany_SizeTooLarge_ReturnClampedPage() {
+        List<TransactionDTO> transactionDTOs = new ArrayList<>();
+        String companyId = TestTransaction.TEST_ID.getBorrowingCompany();
+        LocalDate from = LocalDate.of(2021, 11, 1);
+        LocalDate to = LocalDate.of(2021, 11, 30);
+        Pageable pageable = PageRequest.of(2, TransactionServiceImpl.MAX_PAGE_SIZE);
+        when(transactionRepository.findTransactionDTOsByBorrowingCompany(companyId, null, from, to, pageable))
+                .thenReturn(transactionDTOs);
+
+        List<TransactionDTO> found = transactionService.listTransactionDTOsByBorrowingCompany(companyId, null, from,
+                to, 2, Integer.MAX_VALUE);
+
+        assertSame(transactionDTOs, found);
+        verify(transactionRepository).findTransactionDTOsByBorrowingCompany(companyId, null, from, to, pageable);
+    }
+
     /**
      * {@code getTransactionsByBorrowingCompany_NullCompId_ThrowNullValueException}
      * is a test on
@@ -404,46 +501,122 @@ public class TransactionServiceTest {
      * {@code updateTransaction_NotExist_ThrowObjectNotExistsException} is a test on
      * {@link TransactionService#updateTransaction(Transaction)} to verify if the
      * method will call
-     * {@link TransactionRepository#findTransactionByIdEmployeeAndStartDate(String, java.time.LocalDate)}
+     * {@link TransactionRepository#updateStatus(String, LocalDate, String, String)}
+     * and {@link TransactionRepository#findTransactionByIdEmployeeAndStartDate(String, LocalDate)}
      * and throw {@link ObjectNotExistsException} when the transaction does not
      * exists in the repository.
      */
     @Test
     void updateTransaction_NotExist_ThrowObjectNotExistsException() {
+        Transaction transaction = TestTransaction.createTransaction();
+        transaction.setStatus("Accepted");
+        when(transactionRepository.updateStatus(TestTransaction.TEST_ID.getEmployee(),
+                TestTransaction.TEST_ID.getStartDate(), "Pending", "Accepted")).thenReturn(0);
         when(transactionRepository.findTransactionByIdEmployeeAndStartDate(TestTransaction.TEST_ID.getEmployee(),
                 TestTransaction.TEST_ID.getStartDate())).thenReturn(null);
 
         assertThrows(ObjectNotExistsException.class, () -> {
-            transactionService.updateTransaction(TestTransaction.createTransaction());
+            transactionService.updateTransaction(transaction);
         });
 
         verify(transactionRepository).findTransactionByIdEmployeeAndStartDate(TestTransaction.TEST_ID.getEmployee(),
                 TestTransaction.TEST_ID.getStartDate());
     }
 
+    /**
+     * {@code updateTransactionStatus_NotPending_ThrowInvalidStatusException} is a
+     * test on
+     * {@link TransactionService#updateTransactionStatus(String, LocalDate, String)}
+     * to verify if the method will throw {@link InvalidStatusException} when the
+     * transaction is no longer pending.
+     */
+    @Test
+    void updateTransactionStatus_NotPending_ThrowInvalidStatusException() {
+        Transaction transaction = TestTransaction.createTransaction();
+        transaction.setStatus("Rejected");
+        when(transactionRepository.updateStatus(TestTransaction.TEST_ID.getEmployee(),
+                TestTransaction.TEST_ID.getStartDate(), "Pending", "Accepted")).thenReturn(0);
+        when(transactionRepository.findTransactionByIdEmployeeAndStartDate(TestTransaction.TEST_ID.getEmployee(),
+                TestTransaction.TEST_ID.getStartDate())).thenReturn(transaction);
+
+        assertThrows(InvalidStatusException.class, () -> {
+            transactionService.updateTransactionStatus(TestTransaction.TEST_ID.getEmployee(),
+                    TestTransaction.TEST_ID.getStartDate(), "Accepted");
+        });
+    }
+
+    /**
+     * {@code updateTransactionStatus_InvalidStatus_ThrowInvalidStatusException} is
+     * a test on
+     * {@link TransactionService#updateTransactionStatus(String, LocalDate, String)}
+     * to verify if the method will throw {@link InvalidStatusException} without
+     * calling the repository when the specific status is not Accepted or Rejected.
+     */
+    @Test
+    void updateTransactionStatus_InvalidStatus_ThrowInvalidStatusException() {
+        assertThrows(InvalidStatusException.class, () -> {
+            transactionService.updateTransactionStatus(TestTransaction.TEST_ID.getEmployee(),
+                    TestTransaction.TEST_ID.getStartDate(), "Pending");
+        });
+
+        verify(transactionRepository, never()).updateStatus(any(), any(), any(), any());
+    }
+
     /**
      * {@code updateTransaction_Updated_ReturnUpdated} is a test on
      * {@link TransactionService#updateTransaction(Transaction)} to verify if the
      * method will call
-     * {@link TransactionRepository#findTransactionByIdEmployeeAndStartDate(String, java.time.LocalDate)},
-     * {@link TransactionRepository#deleteById(TransactionKey)} and
-     * {@link TransactionRepository#save(Transaction)} and return updated
+     * {@link TransactionRepository#updateStatus(String, LocalDate, String, String)}
+     * once, without deleting or saving the transaction, and return the updated
      * transaction.
      */
     @Test
     void updateTransaction_Updated_ReturnUpdated() {
         Transaction transaction = TestTransaction.createTransaction();
+        transaction.setStatus("Accepted");
+        when(transactionRepository.updateStatus(TestTransaction.TEST_ID.getEmployee(),
+                TestTransaction.TEST_ID.getStartDate(), "Pending", "Accepted")).thenReturn(1);
         when(transactionRepository.findTransactionByIdEmployeeAndStartDate(TestTransaction.TEST_ID.getEmployee(),
                 TestTransaction.TEST_ID.getStartDate())).thenReturn(transaction);
-        doNothing().when(transactionRepository).deleteById(transaction.getId());
-        when(transactionRepository.save(transaction)).thenReturn(transaction);
 
         Transaction updated = transactionService.updateTransaction(transaction);
 
         assertSame(transaction, updated);
-        verify(transactionRepository).findTransactionByIdEmployeeAndStartDate(TestTransaction.TEST_ID.getEmployee(),
-                TestTransaction.TEST_ID.getStartDate());
-        verify(transactionRepository).deleteById(transaction.getId());
-        verify(transactionRepository).save(transaction);
+        verify(transactionRepository).updateStatus(TestTransaction.TEST_ID.getEmployee(),
+                TestTransaction.TEST_ID.getStartDate(), "Pending", "Accepted");
+        verify(transactionRepository, never()).deleteById(any());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    /**
+     * {@code updateTransactionStatuses_OneNotPending_ThrowInvalidStatusException}
+     * is a test on {@link TransactionService#updateTransactionStatuses(List)} to
+     * verify if the method will change the status of each transaction in order and
+     * throw {@link InvalidStatusException} at the first one that is no longer
+     * pending.
+     */
+    @Test
+    void updateTransactionStatuses_OneNotPending_ThrowInvalidStatusException() {
+        String employeeId = TestTransaction.TEST_ID.getEmployee();
+        LocalDate startDate = TestTransaction.TEST_ID.getStartDate();
+        Transaction transaction = TestTransaction.createTransaction();
+        transaction.setStatus("Accepted");
+        List<TransactionStatusDTO> transactionStatusDTOs = List.of(
+                new TransactionStatusDTO(employeeId, startDate.plusDays(40), "Rejected"),
+                new TransactionStatusDTO(employeeId, startDate, "Accepted"),
+                new TransactionStatusDTO(employeeId, startDate.plusDays(80), "Accepted"));
+        when(transactionRepository.updateStatus(employeeId, startDate.plusDays(40), "Pending", "Rejected"))
+                .thenReturn(1);
+        when(transactionRepository.updateStatus(employeeId, startDate, "Pending", "Accepted")).thenReturn(0);
+        when(transactionRepository.findTransactionByIdEmployeeAndStartDate(employeeId, startDate))
+                .thenReturn(transaction);
+
+        assertThrows(InvalidStatusException.class, () -> {
+            transactionService.updateTransactionStatuses(transactionStatusDTOs);
+        });
+
+        verify(transactionRepository).updateStatus(employeeId, startDate.plusDays(40), "Pending", "Rejected");
+        verify(transactionRepository, never()).updateStatus(employeeId, startDate.plusDays(80), "Pending",
+                "Accepted");
     }
 }
@@ -5,15 +5,21 @@ import static org.mockito.Mockito.*;
 
 import java.util.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kaizen.model.entity.Updates;
 import com.kaizen.repository.UpdatesRepository;
+import com.kaizen.service.datascraper.ScrapBoxRefresher;
+import com.kaizen.service.datascraper.ScrapBoxSnapshot;
 import com.kaizen.service.updates.UpdatesService;
 import com.kaizen.service.updates.UpdatesServiceImpl;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.annotation.DirtiesContext.ClassMode;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -25,8 +31,9 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
  * @version 1.0
  * @since 2021-10-19
  */
-@ContextConfiguration(classes = { UpdatesServiceImpl.class })
+@ContextConfiguration(classes = { UpdatesServiceImpl.class, ObjectMapper.class })
 @ExtendWith(SpringExtension.class)
+@DirtiesContext(classMode = ClassMode.AFTER_EACH_TEST_METHOD) // For a fresh snapshot in each test
 public class UpdatesServiceTest {
     /**
      * The mocked updates's repository used for testing.
@@ -34,6 +41,12 @@ public class UpdatesServiceTest {
     @MockBean
     private UpdatesRepository updatesRepository;
 
+    /**
+     * The mocked scrap box's refresher used for testing.
+     */
+    @MockBean
+    private ScrapBoxRefresher scrapBoxRefresher;
+
     /**
      * The updates's service used for testing.
      */
@@ -43,33 +56,68 @@ public class UpdatesServiceTest {
     /**
      * {@code getUpdates_Found_ReturnFound} is a test on
      * {@link UpdatesService#getUpdates()} to verify if the method will call
-     * {@link UpdatesRepository#findAll()} and return the list of updates.
+     * {@link UpdatesRepository#findAll(Sort)} and return the list of updates.
      */
     @Test
     void getUpdates_Found_ReturnFound() {
         List<Updates> updates = new ArrayList<>();
-        when(updatesRepository.findAll()).thenReturn(updates);
+        when(updatesRepository.findAll(Sort.by("position"))).thenReturn(updates);
 
         List<Updates> foundUpdatess = updatesService.getUpdates();
 
         assertSame(updates, foundUpdatess);
-        verify(updatesRepository).findAll();
+        verify(updatesRepository).findAll(Sort.by("position"));
     }
 
     /**
-     * {@code updateRepository_Updated} is a test on
-     * {@link UpdatesService#updateRepository()} to verify if the method will call
-     * {@link UpdatesRepository#deleteAll()} and
-     * {@link UpdatesRepository#saveAllAndFlush(Iterable)}.
+     * {@code updateRepository_ScrapeFailed_NotRefreshed} is a test on
+     * {@link UpdatesService#updateRepository()} to verify if the method will not call
+     * {@link ScrapBoxRefresher#refresh(org.springframework.data.jpa.repository.JpaRepository, List)}
+     * and keep the updates in the repository when no updates could be scraped.
      */
     @Test
-    void updateRepository_Updated() {
-        doNothing().when(updatesRepository).deleteAll();
-        when(updatesRepository.saveAllAndFlush(anyIterable())).thenReturn(null);
-
+    void updateRepository_ScrapeFailed_NotRefreshed() {
         updatesService.updateRepository();
 
-        verify(updatesRepository).deleteAll();
-        verify(updatesRepository).saveAllAndFlush(anyIterable());
+        verify(scrapBoxRefresher, never()).refresh(any(), anyList());
+        verify(updatesRepository, never()).deleteAll();
+    }
+
+    /**
+     * {@code getSnapshot_NotPublished_PublishFromRepository} is a test on
+     * {@link UpdatesService#getSnapshot()} to verify if the method will call
+     * {@link UpdatesRepository#findAll(Sort)} once to publish the first snapshot
+     * and return the same snapshot after.
+     */
+    @Test
+    void getSnapshot_NotPublished_PublishFromRepository() {
+        List<Updates> updates = List.of(new Updates("header", "url", "date"));
+        when(updatesRepository.findAll(Sort.by("position"))).thenReturn(updates);
+
+        ScrapBoxSnapshot<Updates> snapshot = updatesService.getSnapshot();
+
+        assertEquals(updates, snapshot.getItems());
+        assertSame(snapshot, updatesService.getSnapshot());
+        verify(updatesRepository).findAll(Sort.by("position"));
+    }
+
+    /**
+     * {@code publishSnapshot_Changed_ReplaceSnapshot} is a test on
+     * {@link UpdatesService#publishSnapshot()} to verify if the method will
+     * replace the snapshot with the updates in the repository and change its
+     * ETag.
+     */
+    @Test
+    void publishSnapshot_Changed_ReplaceSnapshot() {
+        when(updatesRepository.findAll(Sort.by("position"))).thenReturn(new ArrayList<>());
+        ScrapBoxSnapshot<Updates> before = updatesService.getSnapshot();
+        List<Updates> updates = List.of(new Updates("header", "url", "date"));
+        when(updatesRepository.findAll(Sort.by("position"))).thenReturn(updates);
+
+        updatesService.publishSnapshot();
+
+        ScrapBoxSnapshot<Updates> after = updatesService.getSnapshot();
+        assertEquals(updates, after.getItems());
+        assertNotEquals(before.getEtag(), after.getEtag());
     }
 }
@@ -0,0 +1,169 @@
+package com.kaizen.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.SocketTimeoutException;
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.kaizen.service.datascraper.WebpageFetcher;
+
+import org.jsoup.HttpStatusException;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code WebpageFetcherTest} is a test class to do unit testing on
+ * {@link WebpageFetcher} against a {@link TestWebServer}.
+ *
+ * @author Gregory Koh
+ * @version 1.0
+ * @since 2021-11-16
+ */
+public class WebpageFetcherTest {
+    /**
+     * Represents the HTML served for testing.
+     */
+    private static final String BODY = "<html><body><p>page</p></body></html>";
+
+    /**
+     * The local web server used for testing.
+     */
+    private TestWebServer webServer;
+
+    /**
+     * The fetcher used for testing.
+     */
+    private WebpageFetcher webpageFetcher;
+
+    /**
+     * {@code setUp} is apply before each tests to start the web server.
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        webServer = new TestWebServer();
+    }
+
+    /**
+     * {@code tearDown} is apply after each tests to stop the web server and the
+     * fetcher.
+     */
+    @AfterEach
+    public void tearDown() {
+        webServer.close();
+        if (webpageFetcher != null) {
+            webpageFetcher.shutdown();
+        }
+    }
+
+    /**
+     * {@code fetch_ServerErrorThenOk_Retried} is a test on
+     * {@link WebpageFetcher#fetch(String)} to verify if the method will retry the
+     * request after server errors and return the webpage.
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void fetch_ServerErrorThenOk_Retried() throws Exception {
+        webpageFetcher = new WebpageFetcher(1, 1, 0L, 1000, 3, 10L);
+        webServer.serveStatuses("page", BODY, 503, 500);
+
+        Document document = webpageFetcher.fetch(webServer.getUrl() + "page");
+
+        assertEquals("page", document.select("p").text());
+        assertEquals(3, webServer.getRequestTimes("page").size());
+    }
+
+    /**
+     * {@code fetch_NotFound_NotRetried} is a test on
+     * {@link WebpageFetcher#fetch(String)} to verify if the method will throw
+     * {@link HttpStatusException} without retrying when the webpage is not found.
+     */
+    @Test
+    public void fetch_NotFound_NotRetried() {
+        webpageFetcher = new WebpageFetcher(1, 1, 0L, 1000, 3, 10L);
+
+        assertThrows(HttpStatusException.class, () -> {
+            webpageFetcher.fetch(webServer.getUrl() + "missing");
+        });
+
+        assertEquals(1, webServer.getRequestTimes("missing").size());
+    }
+
+    /**
+     * {@code fetch_Slow_ThrowSocketTimeoutException} is a test on
+     * {@link WebpageFetcher#fetch(String)} to verify if the method will stop
+     * waiting for a slow webpage after the timeout of each attempt and throw
+     * {@link SocketTimeoutException}.
+     */
+    @Test
+    public void fetch_Slow_ThrowSocketTimeoutException() {
+        webpageFetcher = new WebpageFetcher(1, 1, 0L, 200, 2, 10L);
+        webServer.serve("slow", BODY, 2000L);
+        long start = System.nanoTime();
+
+        assertThrows(SocketTimeoutException.class, () -> {
+            webpageFetcher.fetch(webServer.getUrl() + "slow");
+        });
+
+        assertEquals(2, webServer.getRequestTimes("slow").size());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000L);
+    }
+
+    /**
+     * {@code submit_ManyPages_LimitedPerHost} is a test on
+     * {@link WebpageFetcher#submit(String)} to verify if the webpages are fetched
+     * in parallel but with no more concurrent requests to a host than its limit.
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void submit_ManyPages_LimitedPerHost() throws Exception {
+        webpageFetcher = new WebpageFetcher(6, 2, 0L, 1000, 1, 10L);
+        List<Future<Document>> documents = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            webServer.serve("page-" + i, BODY, 100L);
+            documents.add(webpageFetcher.submit(webServer.getUrl() + "page-" + i));
+        }
+
+        for (Future<Document> document : documents) {
+            assertEquals("page", document.get().select("p").text());
+        }
+
+        assertEquals(2, webServer.getMaxConcurrentRequests());
+    }
+
+    /**
+     * {@code submit_ManyPages_SpacedPerHost} is a test on
+     * {@link WebpageFetcher#submit(String)} to verify if the requests to a host
+     * start at least the interval of the host apart.
+     *
+     * @throws Exception if any exceptions occurs.
+     */
+    @Test
+    public void submit_ManyPages_SpacedPerHost() throws Exception {
+        long intervalMillis = 100L;
+        webpageFetcher = new WebpageFetcher(3, 3, intervalMillis, 1000, 1, 10L);
+        webServer.serve("page", BODY);
+        List<Future<Document>> documents = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            documents.add(webpageFetcher.submit(webServer.getUrl() + "page"));
+        }
+
+        for (Future<Document> document : documents) {
+            document.get();
+        }
+
+        List<Long> requestTimes = new ArrayList<>(webServer.getRequestTimes("page"));
+        Collections.sort(requestTimes);
+        for (int i = 1; i < requestTimes.size(); i++) {
+            long gapMillis = TimeUnit.NANOSECONDS.toMillis(requestTimes.get(i) - requestTimes.get(i - 1));
+            assertTrue(gapMillis >= intervalMillis - 10L, "gap of " + gapMillis + "ms");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.kaizen.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@code Sha256Test} is a test class to do unit testing on {@link Sha256}.
+ *
+ * @author Tan Jie En
+ * @version 1.0
+ * @since 2021-11-24
+ */
+public class Sha256Test {
+    /**
+     * {@code hash_Bytes_ExpectLowercaseHex} is a test on
+     * {@link Sha256#hash(byte[])} to verify if the method will return the
+     * SHA-256 hash of the bytes in lowercase hexadecimal.
+     */
+    @Test
+    public void hash_Bytes_ExpectLowercaseHex() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                Sha256.hash("abc".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * {@code toHex_Bytes_ExpectTwoDigitsEach} is a test on
+     * {@link Sha256#toHex(byte[])} to verify if the method will write each byte,
+     * including the negative ones, as two hexadecimal digits.
+     */
+    @Test
+    public void toHex_Bytes_ExpectTwoDigitsEach() {
+        assertEquals("000fff80", Sha256.toHex(new byte[] { 0, 15, -1, -128 }));
+        assertEquals("", Sha256.toHex(new byte[0]));
+    }
+}